@@ -0,0 +1,309 @@
+package com.wb.edutask.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 수강신청 오픈 스파이크 부하 테스트
+ * 가상 사용자 수를 단계적으로 늘리며(기본 100 → 1,000 → 5,000 → 10,000)
+ * 소수의 인기 강의에 수강신청과 신청자순 목록 조회를 동시에 발생시킵니다
+ *
+ * 실행: ./gradlew loadTest -PloadTest.baseUrl=http://localhost:8080 -PloadTest.stages=100,1000,5000,10000
+ * 결과: 단계별 p50/p99/p999 지연시간, 처리량, 상태코드 분포, 정원 초과(oversell) 건수
+ *
+ * @author WB Development Team
+ * @version 1.0.0
+ * @since 2025-09-24
+ */
+public class EnrollmentSpikeLoadTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final String baseUrl;
+    private final int[] stages;
+    private final int hotCourses;
+    private final int courseCapacity;
+    private final double listRatio;
+    private final String enrollPath;
+    private final HttpClient httpClient;
+    private final long runId = System.currentTimeMillis() % 100_000;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+
+    /**
+     * EnrollmentSpikeLoadTest 생성자 (시스템 프로퍼티로 설정)
+     */
+    public EnrollmentSpikeLoadTest() {
+        this.baseUrl = System.getProperty("loadTest.baseUrl", "http://localhost:8080");
+        this.stages = Arrays.stream(System.getProperty("loadTest.stages", "100,1000,5000,10000").split(","))
+                .map(String::trim)
+                .mapToInt(Integer::parseInt)
+                .toArray();
+        this.hotCourses = Integer.getInteger("loadTest.hotCourses", 3);
+        this.courseCapacity = Integer.getInteger("loadTest.courseCapacity", 100);
+        this.listRatio = Double.parseDouble(System.getProperty("loadTest.listRatio", "0.5"));
+        this.enrollPath = System.getProperty("loadTest.enrollPath", "/api/v1/enrollments");
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    /**
+     * 부하 테스트 진입점
+     *
+     * @param args 사용하지 않음 (시스템 프로퍼티 사용)
+     * @throws Exception 준비 단계 실패 시
+     */
+    public static void main(String[] args) throws Exception {
+        new EnrollmentSpikeLoadTest().run();
+    }
+
+    /**
+     * 준비(강사/학생 등록) 후 단계별 스파이크를 실행합니다
+     *
+     * @throws Exception 준비 단계 실패 시
+     */
+    public void run() throws Exception {
+        int maxUsers = Arrays.stream(stages).max().orElse(0);
+        System.out.printf("=== 수강신청 스파이크 부하 테스트 (runId=%d, target=%s%s) ===%n", runId, baseUrl, enrollPath);
+
+        long instructorId = registerMember("loadtest-instructor-" + runId, "INSTRUCTOR", 0);
+        List<Long> studentIds = registerStudents(maxUsers);
+        System.out.printf("준비 완료 - 강사 ID: %d, 학생: %d명%n%n", instructorId, studentIds.size());
+
+        for (int stage = 0; stage < stages.length; stage++) {
+            // 단계마다 새 인기 강의를 만들어 같은 학생 풀로 반복 신청할 수 있도록 함
+            List<Long> courseIds = new ArrayList<>();
+            for (int i = 0; i < hotCourses; i++) {
+                courseIds.add(createCourse(instructorId, "부하테스트 " + runId + "-" + stage + "-" + i));
+            }
+            runStage(stages[stage], studentIds.subList(0, stages[stage]), courseIds);
+        }
+    }
+
+    /**
+     * 한 단계를 실행하고 결과를 출력합니다
+     *
+     * @param virtualUsers 동시 가상 사용자 수
+     * @param studentIds 사용할 학생 ID 목록
+     * @param courseIds 인기 강의 ID 목록
+     * @throws InterruptedException 대기 중 인터럽트 발생 시
+     */
+    private void runStage(int virtualUsers, List<Long> studentIds, List<Long> courseIds) throws InterruptedException {
+        LatencyStats enrollLatency = new LatencyStats(virtualUsers);
+        LatencyStats listLatency = new LatencyStats(virtualUsers);
+        Map<String, LongAdder> statusCounts = new ConcurrentHashMap<>();
+        Map<Long, AtomicInteger> acceptedPerCourse = new ConcurrentHashMap<>();
+        CountDownLatch startGate = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(virtualUsers);
+        peakInFlight.set(0);
+
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < virtualUsers; i++) {
+                long studentId = studentIds.get(i);
+                long courseId = courseIds.get(i % courseIds.size());
+                boolean alsoList = ThreadLocalRandom.current().nextDouble() < listRatio;
+                users.submit(() -> {
+                    try {
+                        startGate.await();
+                        if (alsoList) {
+                            timed(get("/api/v1/courses/available?sortBy=applicants&page=0&size=20"),
+                                    listLatency, statusCounts, "list");
+                        }
+                        int status = timed(post(enrollPath, String.format(
+                                "{\"studentId\":%d,\"courseId\":%d}", studentId, courseId)),
+                                enrollLatency, statusCounts, "enroll");
+                        if (status == 201) {
+                            acceptedPerCourse.computeIfAbsent(courseId, key -> new AtomicInteger()).incrementAndGet();
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+
+            long startNanos = System.nanoTime();
+            startGate.countDown();
+            done.await();
+            double elapsedSeconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+
+            printStageReport(virtualUsers, elapsedSeconds, enrollLatency, listLatency, statusCounts,
+                    acceptedPerCourse, courseIds);
+        }
+    }
+
+    /**
+     * 요청을 실행하고 지연시간과 상태코드를 기록합니다
+     *
+     * @return HTTP 상태코드 (I/O 오류 시 -1)
+     */
+    private int timed(HttpRequest request, LatencyStats stats, Map<String, LongAdder> statusCounts, String kind) {
+        long start = System.nanoTime();
+        int status;
+        peakInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        try {
+            status = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException e) {
+            status = -1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            status = -1;
+        }
+        inFlight.decrementAndGet();
+        stats.record(System.nanoTime() - start);
+        statusCounts.computeIfAbsent(kind + ":" + (status == -1 ? "IO_ERROR" : status), key -> new LongAdder())
+                .increment();
+        return status;
+    }
+
+    /**
+     * 단계 결과를 출력합니다 (정원 초과는 응답 기준과 DB 기준을 모두 확인)
+     */
+    private void printStageReport(int virtualUsers, double elapsedSeconds, LatencyStats enrollLatency,
+                                  LatencyStats listLatency, Map<String, LongAdder> statusCounts,
+                                  Map<Long, AtomicInteger> acceptedPerCourse, List<Long> courseIds) {
+        int totalRequests = enrollLatency.count() + listLatency.count();
+        int oversell = 0;
+        StringBuilder perCourse = new StringBuilder();
+        for (Long courseId : courseIds) {
+            int accepted = acceptedPerCourse.getOrDefault(courseId, new AtomicInteger()).get();
+            long persisted = countEnrollments(courseId);
+            oversell += Math.max(0, Math.max(accepted, (int) persisted) - courseCapacity);
+            perCourse.append(String.format("    course %d: 201 응답 %d건, DB 저장 %d건 (정원 %d)%n",
+                    courseId, accepted, persisted, courseCapacity));
+        }
+
+        Map<String, Long> statuses = new TreeMap<>();
+        statusCounts.forEach((key, value) -> statuses.put(key, value.sum()));
+
+        System.out.printf("--- 가상 사용자 %,d명 ---%n", virtualUsers);
+        System.out.printf("  소요 시간: %.2fs, 총 요청: %,d, 처리량: %,.1f req/s%n",
+                elapsedSeconds, totalRequests, totalRequests / elapsedSeconds);
+        System.out.printf("  최대 동시 처리 중 요청: %,d (클라이언트 기준)%n", peakInFlight.get());
+        System.out.printf("  수강신청 지연(ms)  p50=%.1f p99=%.1f p999=%.1f (n=%d)%n",
+                enrollLatency.percentileMillis(50), enrollLatency.percentileMillis(99),
+                enrollLatency.percentileMillis(99.9), enrollLatency.count());
+        System.out.printf("  목록 조회 지연(ms) p50=%.1f p99=%.1f p999=%.1f (n=%d)%n",
+                listLatency.percentileMillis(50), listLatency.percentileMillis(99),
+                listLatency.percentileMillis(99.9), listLatency.count());
+        System.out.printf("  상태코드: %s%n", statuses);
+        System.out.print(perCourse);
+        System.out.printf("  정원 초과(oversell): %d건%n%n", oversell);
+    }
+
+    /**
+     * 학생을 병렬로 등록합니다
+     *
+     * @param count 등록할 학생 수
+     * @return 등록된 학생 ID 목록 (요청 순서 유지)
+     * @throws InterruptedException 대기 중 인터럽트 발생 시
+     */
+    private List<Long> registerStudents(int count) throws InterruptedException {
+        Long[] ids = new Long[count];
+        Semaphore inFlight = new Semaphore(200);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < count; i++) {
+                int index = i;
+                inFlight.acquire();
+                executor.submit(() -> {
+                    try {
+                        ids[index] = registerMember("loadtest-student-" + runId + "-" + index, "STUDENT", index + 1);
+                    } catch (Exception e) {
+                        throw new IllegalStateException("학생 등록 실패: " + index, e);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+        return Arrays.asList(ids);
+    }
+
+    /**
+     * 회원을 등록하고 ID를 반환합니다
+     */
+    private long registerMember(String name, String memberType, int sequence) throws IOException, InterruptedException {
+        // 휴대폰 번호는 runId와 순번으로 고유하게 생성 (010-XXXX-XXXX)
+        long unique = (runId * 100_000L + sequence) % 100_000_000L;
+        String body = String.format(
+                "{\"name\":\"%s\",\"email\":\"%s@loadtest.wb.com\",\"phoneNumber\":\"010-%04d-%04d\","
+                        + "\"password\":\"Load123\",\"memberType\":\"%s\"}",
+                name.length() > 50 ? name.substring(0, 50) : name, name, unique / 10_000, unique % 10_000, memberType);
+        return sendForId(post("/api/v1/members/register", body));
+    }
+
+    /**
+     * 인기 강의를 생성하고 ID를 반환합니다
+     */
+    private long createCourse(long instructorId, String courseName) throws IOException, InterruptedException {
+        LocalDate startDate = LocalDate.now().plusDays(7);
+        String body = String.format(
+                "{\"courseName\":\"%s\",\"description\":\"부하 테스트용 인기 강의\",\"instructorId\":%d,"
+                        + "\"maxStudents\":%d,\"price\":0,\"startDate\":\"%s\",\"endDate\":\"%s\"}",
+                courseName, instructorId, courseCapacity, startDate, startDate.plusDays(30));
+        return sendForId(post("/api/v1/courses", body));
+    }
+
+    /**
+     * 강의의 DB 저장된 수강신청 건수를 조회합니다
+     */
+    private long countEnrollments(long courseId) {
+        try {
+            HttpResponse<String> response = httpClient.send(
+                    get("/api/v1/enrollments/course/" + courseId + "?size=1"), HttpResponse.BodyHandlers.ofString());
+            return OBJECT_MAPPER.readTree(response.body()).path("totalElements").asLong(-1);
+        } catch (IOException e) {
+            return -1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return -1;
+        }
+    }
+
+    private long sendForId(HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException("요청 실패 (" + response.statusCode() + "): " + response.body());
+        }
+        JsonNode json = OBJECT_MAPPER.readTree(response.body());
+        return json.path("id").asLong();
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+    }
+
+    private HttpRequest post(String path, String json) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+}
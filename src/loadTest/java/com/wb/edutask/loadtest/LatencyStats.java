@@ -0,0 +1,65 @@
+package com.wb.edutask.loadtest;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 부하 테스트 지연시간 기록기
+ * 미리 할당한 배열에 나노초 단위 지연시간을 기록하고 백분위수를 계산합니다
+ *
+ * @author WB Development Team
+ * @version 1.0.0
+ * @since 2025-09-24
+ */
+public class LatencyStats {
+
+    private final long[] samples;
+    private final AtomicInteger count = new AtomicInteger();
+
+    /**
+     * LatencyStats 생성자
+     *
+     * @param capacity 최대 기록 개수
+     */
+    public LatencyStats(int capacity) {
+        this.samples = new long[capacity];
+    }
+
+    /**
+     * 지연시간을 기록합니다 (용량 초과분은 무시)
+     *
+     * @param elapsedNanos 지연시간 (나노초)
+     */
+    public void record(long elapsedNanos) {
+        int index = count.getAndIncrement();
+        if (index < samples.length) {
+            samples[index] = elapsedNanos;
+        }
+    }
+
+    /**
+     * 기록된 개수를 반환합니다
+     *
+     * @return 기록 개수
+     */
+    public int count() {
+        return Math.min(count.get(), samples.length);
+    }
+
+    /**
+     * 백분위수 지연시간을 밀리초로 반환합니다
+     *
+     * @param percentile 백분위수 (예: 99.9)
+     * @return 지연시간 (밀리초), 기록이 없으면 0
+     */
+    public double percentileMillis(double percentile) {
+        int size = count();
+        if (size == 0) {
+            return 0.0;
+        }
+        long[] sorted = Arrays.copyOf(samples, size);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * size) - 1;
+        return sorted[Math.max(0, Math.min(index, size - 1))] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,102 @@
+package com.wb.edutask.loadtest;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+import com.wb.edutask.enums.EnrollmentRejectionCode;
+import com.wb.edutask.exception.EnrollmentRejectedException;
+
+/**
+ * 수강신청 거절 경로 마이크로 벤치마크
+ * 컨트롤러 → 트랜잭션 프록시 → 서비스까지의 호출 깊이를 재귀로 흉내 내고, 가장 안쪽에서 거절 예외를 던져 바깥에서 잡는 비용을 잽니다
+ *
+ * - before: new RuntimeException(메시지) - 호출 깊이만큼 스택 트레이스를 채움
+ * - after: EnrollmentRejectedException.of(코드) - 미리 만든 스택 없는 인스턴스 재사용
+ * - after(detail): EnrollmentRejectedException.of(코드, 상세) - 스택 없이 새로 생성
+ *
+ * 실행: ./gradlew rejectionBenchmark -PloadTest.depth=120 -PloadTest.iterations=200000
+ * 결과: 방식별 라운드 중앙값(ns/op)과 before 대비 배율
+ *
+ * @author WB Development Team
+ * @version 1.0.0
+ * @since 2025-09-24
+ */
+public class RejectionPathBenchmark {
+
+    private static final String DUPLICATE_MESSAGE = "이미 수강신청한 강의입니다";
+
+    private final int depth;
+    private final int iterations;
+    private final int rounds;
+    private long sink;
+
+    /**
+     * RejectionPathBenchmark 생성자 (시스템 프로퍼티로 설정)
+     */
+    public RejectionPathBenchmark() {
+        this.depth = Integer.getInteger("loadTest.depth", 120);
+        this.iterations = Integer.getInteger("loadTest.iterations", 200_000);
+        this.rounds = Integer.getInteger("loadTest.rounds", 7);
+    }
+
+    /**
+     * 벤치마크 진입점
+     *
+     * @param args 사용하지 않음 (시스템 프로퍼티 사용)
+     */
+    public static void main(String[] args) {
+        new RejectionPathBenchmark().run();
+    }
+
+    private void run() {
+        System.out.printf("거절 경로 벤치마크 - 호출 깊이: %d, 라운드당 반복: %,d, 라운드: %d%n", depth, iterations, rounds);
+
+        Supplier<RuntimeException> before = () -> new RuntimeException(DUPLICATE_MESSAGE);
+        Supplier<RuntimeException> after = () -> EnrollmentRejectedException.of(EnrollmentRejectionCode.ALREADY_ENROLLED);
+        Supplier<RuntimeException> afterWithDetail =
+            () -> EnrollmentRejectedException.of(EnrollmentRejectionCode.COURSE_NOT_ENROLLABLE, "종료");
+
+        // JIT 워밍업 (결과 미사용)
+        measure(before);
+        measure(after);
+        measure(afterWithDetail);
+
+        double beforeNanos = median(before);
+        double afterNanos = median(after);
+        double afterWithDetailNanos = median(afterWithDetail);
+
+        System.out.printf("%-28s %10.1f ns/op%n", "before (RuntimeException)", beforeNanos);
+        System.out.printf("%-28s %10.1f ns/op  (x%.1f 빠름)%n", "after (preallocated)", afterNanos, beforeNanos / afterNanos);
+        System.out.printf("%-28s %10.1f ns/op  (x%.1f 빠름)%n", "after (detail, stackless)", afterWithDetailNanos,
+                beforeNanos / afterWithDetailNanos);
+        System.out.println("(sink: " + sink + ")");
+    }
+
+    private double median(Supplier<RuntimeException> factory) {
+        double[] results = new double[rounds];
+        for (int i = 0; i < rounds; i++) {
+            results[i] = measure(factory);
+        }
+        Arrays.sort(results);
+        return results[rounds / 2];
+    }
+
+    private double measure(Supplier<RuntimeException> factory) {
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            try {
+                descend(depth, factory);
+            } catch (RuntimeException e) {
+                // 예외 처리기가 메시지를 읽어 응답을 만드는 것을 흉내 냄
+                sink += e.getMessage().length();
+            }
+        }
+        return (double) (System.nanoTime() - start) / iterations;
+    }
+
+    private int descend(int remaining, Supplier<RuntimeException> factory) {
+        if (remaining == 0) {
+            throw factory.get();
+        }
+        return descend(remaining - 1, factory) + 1;
+    }
+}
@@ -2,8 +2,10 @@ package com.wb.edutask.config;
 
 import java.util.concurrent.Executor;
 import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
@@ -20,21 +22,28 @@ public class AsyncConfig {
 
     /**
      * 수강신청 처리를 위한 비동기 Executor
+     * 최대 스레드 수는 DB 커넥션 풀 크기와 함께 조정합니다 (PoolSizeConsistencyChecker에서 시작 시 확인)
      * 
+     * @param corePoolSize 기본 스레드 수
+     * @param maxPoolSize 최대 스레드 수
+     * @param queueCapacity 큐 용량
      * @return ThreadPoolTaskExecutor
      */
     @Bean(name = "enrollmentTaskExecutor")
-    public Executor enrollmentTaskExecutor() {
+    public Executor enrollmentTaskExecutor(
+            @Value("${wb.async.enrollment.core-pool-size:5}") int corePoolSize,
+            @Value("${wb.async.enrollment.max-pool-size:20}") int maxPoolSize,
+            @Value("${wb.async.enrollment.queue-capacity:100}") int queueCapacity) {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         
         // 기본 스레드 수
-        executor.setCorePoolSize(5);
+        executor.setCorePoolSize(corePoolSize);
         
         // 최대 스레드 수
-        executor.setMaxPoolSize(20);
+        executor.setMaxPoolSize(maxPoolSize);
         
         // 큐 용량
-        executor.setQueueCapacity(100);
+        executor.setQueueCapacity(queueCapacity);
         
         // 스레드 이름 접두사
         executor.setThreadNamePrefix("enrollment-async-");
@@ -50,18 +59,69 @@ public class AsyncConfig {
         return executor;
     }
     
+    /**
+     * /api/v2 수강신청 처리를 위한 가상 스레드 Executor
+     * Redis/JDBC 대기 중에는 가상 스레드만 park 되므로 Tomcat 스레드 수와 무관하게 많은 요청을 동시에 처리할 수 있습니다
+     * 동시 실행 수를 넘으면 제출한 스레드가 대기하므로 DB 커넥션 풀 앞의 배압(backpressure) 역할도 합니다
+     * 
+     * @param maxInFlight 최대 동시 실행 수
+     * @return SimpleAsyncTaskExecutor (가상 스레드)
+     */
+    @Bean(name = "enrollmentVirtualThreadExecutor")
+    public Executor enrollmentVirtualThreadExecutor(
+            @Value("${wb.enrollment.v2.max-in-flight:2000}") int maxInFlight) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("enrollment-vt-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(maxInFlight);
+        executor.setTaskTerminationTimeout(30_000);
+        return executor;
+    }
+    
+    /**
+     * 수강인원 실시간 전송(SSE)을 위한 Executor
+     * 느린 브라우저 연결에 쓰기가 막혀도 스케줄러 스레드가 아닌 이 풀의 스레드만 대기합니다
+     * 구독자마다 진행 중인 전송은 하나뿐이므로 큐는 노드당 최대 구독자 수로 제한됩니다
+     * 
+     * @param sendThreads 전송 스레드 수
+     * @param maxSubscribers 노드당 최대 구독자 수 (큐 용량)
+     * @return ThreadPoolTaskExecutor
+     */
+    @Bean(name = "seatBroadcastExecutor")
+    public Executor seatBroadcastExecutor(
+            @Value("${wb.course-seats.push.send-threads:4}") int sendThreads,
+            @Value("${wb.course-seats.push.max-subscribers:5000}") int maxSubscribers) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        
+        executor.setCorePoolSize(sendThreads);
+        executor.setMaxPoolSize(sendThreads);
+        executor.setQueueCapacity(maxSubscribers);
+        executor.setThreadNamePrefix("seat-push-");
+        // 큐가 가득 차면 거부 (호출한 스케줄러 스레드에서 실행하지 않고 다음 전송 주기에 다시 시도)
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        
+        executor.initialize();
+        return executor;
+    }
+    
     /**
      * 일반적인 비동기 작업을 위한 Executor
      * 
+     * @param corePoolSize 기본 스레드 수
+     * @param maxPoolSize 최대 스레드 수
+     * @param queueCapacity 큐 용량
      * @return ThreadPoolTaskExecutor
      */
     @Bean(name = "taskExecutor")
-    public Executor taskExecutor() {
+    public Executor taskExecutor(
+            @Value("${wb.async.task.core-pool-size:3}") int corePoolSize,
+            @Value("${wb.async.task.max-pool-size:10}") int maxPoolSize,
+            @Value("${wb.async.task.queue-capacity:50}") int queueCapacity) {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         
-        executor.setCorePoolSize(3);
-        executor.setMaxPoolSize(10);
-        executor.setQueueCapacity(50);
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
         executor.setThreadNamePrefix("async-task-");
         executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
         executor.setWaitForTasksToCompleteOnShutdown(true);
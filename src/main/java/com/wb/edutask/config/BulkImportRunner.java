@@ -0,0 +1,47 @@
+package com.wb.edutask.config;
+
+import java.nio.file.Path;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import com.wb.edutask.dto.BulkImportResultDto;
+import com.wb.edutask.service.BulkImportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 애플리케이션 시작 시 지정한 디렉터리의 파일로 대량 적재를 실행하는 컴포넌트
+ * wb.bulk-import.enabled=true 일 때만 등록되며, DataInitializer보다 먼저 실행되어
+ * 적재된 회원이 있으면 샘플 데이터 생성은 건너뛰게 됩니다
+ *
+ * @author WB Development Team
+ * @version 1.0.0
+ * @since 2025-09-24
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(prefix = "wb.bulk-import", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class BulkImportRunner implements CommandLineRunner {
+
+    private final BulkImportService bulkImportService;
+
+    @Value("${wb.bulk-import.directory:./import}")
+    private String directory;
+
+    @Override
+    public void run(String... args) throws Exception {
+        Path path = Path.of(directory).toAbsolutePath();
+        log.info("대량 적재를 시작합니다 - 디렉터리: {}", path);
+
+        long startMillis = System.currentTimeMillis();
+        List<BulkImportResultDto> results = bulkImportService.importDirectory(path);
+
+        log.info("대량 적재가 완료되었습니다 - {} ({}ms)", results, System.currentTimeMillis() - startMillis);
+    }
+}
@@ -0,0 +1,129 @@
+package com.wb.edutask.config;
+
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 읽기/쓰기 분리 DataSource 설정 클래스
+ * wb.datasource.replica.enabled=true 일 때만 적용되며, 주 DB(spring.datasource)와
+ * 복제본(wb.datasource.replica) 커넥션 풀을 분리해 목록/랭킹 조회가 수강신청 INSERT와
+ * 같은 풀을 두고 경쟁하지 않도록 합니다
+ *
+ * 로컬에서는 H2ServerConfig의 TCP 서버(jdbc:h2:tcp://localhost:9092/mem:testdb)를 복제본 대용으로 사용합니다
+ *
+ * @author WB Development Team
+ * @version 1.0.0
+ * @since 2025-09-24
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "wb.datasource.replica", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    /**
+     * 주 DB 커넥션 풀 (spring.datasource, spring.datasource.hikari 설정 사용)
+     *
+     * @param properties spring.datasource 설정
+     * @return 주 DB DataSource
+     */
+    @Bean
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary-pool");
+        return dataSource;
+    }
+
+    /**
+     * 복제본 커넥션 풀 (읽기 전용)
+     *
+     * @param url 복제본 JDBC URL
+     * @param username 사용자명
+     * @param password 비밀번호
+     * @param maximumPoolSize 최대 커넥션 수
+     * @param leakDetectionThreshold 커넥션 누수 경고 기준 (ms, 주 DB 설정과 동일)
+     * @return 복제본 DataSource
+     */
+    @Bean
+    @DependsOn("h2TcpServer")
+    public HikariDataSource replicaDataSource(
+            @Value("${wb.datasource.replica.url:jdbc:h2:tcp://localhost:9092/mem:testdb}") String url,
+            @Value("${wb.datasource.replica.username:sa}") String username,
+            @Value("${wb.datasource.replica.password:}") String password,
+            @Value("${wb.datasource.replica.maximum-pool-size:10}") int maximumPoolSize,
+            @Value("${spring.datasource.hikari.leak-detection-threshold:0}") long leakDetectionThreshold) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica-pool");
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        dataSource.setMaximumPoolSize(maximumPoolSize);
+        dataSource.setReadOnly(true);
+        dataSource.setLeakDetectionThreshold(leakDetectionThreshold);
+        log.info("복제본 커넥션 풀 구성 - URL: {}, 최대 커넥션: {}", url, maximumPoolSize);
+        return dataSource;
+    }
+
+    /**
+     * 복제 지연 모니터
+     *
+     * @param primaryDataSource 주 DB
+     * @param replicaDataSource 복제본
+     * @param maxLagMillis 허용 복제 지연 (ms)
+     * @return 복제 지연 모니터
+     */
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            @Value("${wb.datasource.replica.max-lag-ms:2000}") long maxLagMillis) {
+        return new ReplicaLagMonitor(primaryDataSource, replicaDataSource, maxLagMillis);
+    }
+
+    /**
+     * 읽기/쓰기 라우팅 DataSource
+     *
+     * @param primaryDataSource 주 DB
+     * @param replicaDataSource 복제본
+     * @param replicaLagMonitor 복제 지연 모니터
+     * @return 라우팅 DataSource
+     */
+    @Bean
+    public ReplicationRoutingDataSource routingDataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            ReplicaLagMonitor replicaLagMonitor) {
+        ReplicationRoutingDataSource routingDataSource = new ReplicationRoutingDataSource(replicaLagMonitor);
+        routingDataSource.setTargetDataSources(Map.of(
+            ReplicationRoutingDataSource.PRIMARY, primaryDataSource,
+            ReplicationRoutingDataSource.REPLICA, replicaDataSource
+        ));
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        return routingDataSource;
+    }
+
+    /**
+     * JPA/JdbcTemplate이 사용하는 기본 DataSource
+     * 트랜잭션의 readOnly 속성이 정해진 뒤 실제 연결을 얻도록 지연 프록시로 감쌉니다
+     *
+     * @param routingDataSource 라우팅 DataSource
+     * @return 기본 DataSource
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("routingDataSource") DataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
@@ -0,0 +1,50 @@
+package com.wb.edutask.config;
+
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wb.edutask.filter.IdempotencyFilter;
+import com.wb.edutask.service.IdempotencyService;
+import jakarta.servlet.DispatcherType;
+
+/**
+ * Idempotency-Key 설정 클래스
+ * wb.idempotency.enabled=true 일 때만 필터를 등록하며,
+ * 재시도 요청이 속도 제한 한도를 소모하지 않도록 속도 제한 필터보다 앞에 둡니다
+ *
+ * @author WB Development Team
+ * @version 1.0.0
+ * @since 2025-09-24
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "wb.idempotency", name = "enabled", havingValue = "true")
+public class IdempotencyConfig {
+
+    /**
+     * Idempotency-Key 필터 등록
+     *
+     * @param idempotencyService Idempotency-Key 응답 저장소
+     * @param objectMapper ObjectMapper
+     * @param paths 적용할 POST 경로 패턴
+     * @param waitTimeoutMs 처리 중인 첫 요청을 기다리는 최대 시간
+     * @return 필터 등록 빈
+     */
+    @Bean
+    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilter(
+            IdempotencyService idempotencyService,
+            ObjectMapper objectMapper,
+            @Value("${wb.idempotency.paths:/api/v*/enrollments,/api/v*/enrollments/bulk}") List<String> paths,
+            @Value("${wb.idempotency.wait-timeout-ms:3000}") long waitTimeoutMs) {
+        FilterRegistrationBean<IdempotencyFilter> registration = new FilterRegistrationBean<>(
+            new IdempotencyFilter(idempotencyService, objectMapper, paths, waitTimeoutMs));
+        registration.addUrlPatterns("/api/*");
+        registration.setDispatcherTypes(DispatcherType.REQUEST, DispatcherType.ASYNC);
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 20);
+        return registration;
+    }
+}
@@ -0,0 +1,94 @@
+package com.wb.edutask.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 시작 시 스레드 풀 / 커넥션 풀 크기 일관성을 점검하는 컴포넌트
+ * 수강신청은 Tomcat 요청 스레드(또는 비동기 스레드)에서 Redis 커넥션으로 정원을 확인한 뒤
+ * DB 커넥션으로 저장하므로, 한쪽 풀만 크면 나머지 풀 앞에서 대기열이 생깁니다
+ *
+ * 점검 결과는 경고 로그로만 남기고 기동을 막지는 않습니다
+ * 커넥션 획득 시간은 Actuator 지표(hikaricp.connections.acquire)로 확인합니다
+ *
+ * @author WB Development Team
+ * @version 1.0.0
+ * @since 2025-09-24
+ */
+@Slf4j
+@Component
+public class PoolSizeConsistencyChecker {
+
+    @Value("${server.tomcat.threads.max:200}")
+    private int tomcatMaxThreads;
+
+    @Value("${spring.datasource.hikari.maximum-pool-size:10}")
+    private int dbMaxPoolSize;
+
+    @Value("${spring.datasource.hikari.connection-timeout:30000}")
+    private long dbConnectionTimeoutMillis;
+
+    @Value("${spring.datasource.hikari.leak-detection-threshold:0}")
+    private long leakDetectionThresholdMillis;
+
+    @Value("${spring.data.redis.jedis.pool.max-active:8}")
+    private int redisMaxActive;
+
+    @Value("${wb.async.enrollment.max-pool-size:20}")
+    private int enrollmentMaxPoolSize;
+
+    @Value("${wb.datasource.pool-check.min-pool-ratio:0.25}")
+    private double minPoolRatio;
+
+    /**
+     * 애플리케이션 기동 완료 후 풀 크기를 점검합니다
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void checkOnStartup() {
+        log.info("풀 크기 설정 - Tomcat 스레드: {}, 수강신청 비동기 스레드: {}, DB 커넥션: {}, Redis 커넥션: {}",
+                tomcatMaxThreads, enrollmentMaxPoolSize, dbMaxPoolSize, redisMaxActive);
+
+        int warnings = 0;
+
+        // 1. 비동기 후처리 스레드가 모두 DB를 쓰면 커넥션이 모자람
+        if (dbMaxPoolSize < enrollmentMaxPoolSize) {
+            log.warn("⚠️ DB 커넥션 풀({})이 수강신청 비동기 스레드 수({})보다 작습니다. 비동기 후처리가 커넥션 대기로 밀립니다",
+                    dbMaxPoolSize, enrollmentMaxPoolSize);
+            warnings++;
+        }
+
+        // 2. DB를 사용할 수 있는 스레드 수 대비 커넥션 비율
+        int dbCallers = tomcatMaxThreads + enrollmentMaxPoolSize;
+        int recommendedPoolSize = (int) Math.ceil(dbCallers * minPoolRatio);
+        if (dbMaxPoolSize < recommendedPoolSize) {
+            log.warn("⚠️ DB 커넥션 풀({})이 요청/비동기 스레드 합계({})의 {}% 미만입니다. 권장 최소값: {}",
+                    dbMaxPoolSize, dbCallers, Math.round(minPoolRatio * 100), recommendedPoolSize);
+            warnings++;
+        }
+
+        // 3. Redis 커넥션이 요청 스레드보다 적으면 정원 확인 단계에서 대기
+        if (redisMaxActive < tomcatMaxThreads) {
+            log.warn("⚠️ Redis 커넥션 풀({})이 Tomcat 요청 스레드 수({})보다 작습니다. 정원 확인이 Redis 커넥션 대기로 밀립니다",
+                    redisMaxActive, tomcatMaxThreads);
+            warnings++;
+        }
+
+        // 4. 커넥션 획득 대기 한도가 너무 길면 대기 중 요청 스레드가 묶임
+        if (dbConnectionTimeoutMillis > 10_000) {
+            log.warn("⚠️ DB 커넥션 획득 대기 한도({}ms)가 깁니다. 풀이 고갈되면 요청 스레드가 오래 묶입니다",
+                    dbConnectionTimeoutMillis);
+            warnings++;
+        }
+
+        if (leakDetectionThresholdMillis <= 0) {
+            log.info("DB 커넥션 누수 감지가 비활성화되어 있습니다 (spring.datasource.hikari.leak-detection-threshold)");
+        }
+
+        if (warnings == 0) {
+            log.info("✅ 풀 크기 설정 점검 완료 - 불일치 없음");
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.wb.edutask.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wb.edutask.filter.RateLimitFilter;
+import com.wb.edutask.service.RateLimitService;
+
+/**
+ * 요청 속도 제한 설정 클래스
+ * wb.rate-limit.enabled=true 일 때만 필터를 등록하며,
+ * 제한된 요청이 Security 필터 체인과 컨트롤러까지 가지 않도록 Security 필터보다 앞에 둡니다
+ *
+ * @author WB Development Team
+ * @version 1.0.0
+ * @since 2025-09-24
+ */
+@Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
+@ConditionalOnProperty(prefix = "wb.rate-limit", name = "enabled", havingValue = "true")
+public class RateLimitConfig {
+
+    /**
+     * 속도 제한 필터 등록
+     *
+     * @param properties 속도 제한 설정
+     * @param rateLimitService 속도 제한 서비스
+     * @param objectMapper ObjectMapper
+     * @return 필터 등록 빈
+     */
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilter(RateLimitProperties properties,
+                                                                   RateLimitService rateLimitService,
+                                                                   ObjectMapper objectMapper) {
+        FilterRegistrationBean<RateLimitFilter> registration =
+            new FilterRegistrationBean<>(new RateLimitFilter(properties, rateLimitService, objectMapper));
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 10);
+        return registration;
+    }
+}
@@ -0,0 +1,75 @@
+package com.wb.edutask.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import com.wb.edutask.enums.RateLimitKeyType;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 요청 속도 제한 설정 (wb.rate-limit)
+ * 경로별 규칙 목록을 바인딩하며, 하나의 요청에 여러 규칙이 적용될 수 있습니다
+ *
+ * @author WB Development Team
+ * @version 1.0.0
+ * @since 2025-09-24
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "wb.rate-limit")
+public class RateLimitProperties {
+
+    /**
+     * 속도 제한 필터 사용 여부
+     */
+    private boolean enabled = false;
+
+    /**
+     * 경로별 규칙 목록
+     */
+    private List<Rule> rules = new ArrayList<>();
+
+    /**
+     * 경로별 속도 제한 규칙
+     */
+    @Getter
+    @Setter
+    public static class Rule {
+
+        /**
+         * 규칙 이름 (Redis 키와 지표 태그에 사용)
+         */
+        private String name;
+
+        /**
+         * 적용 경로 (Ant 패턴, 예: /api/v1/enrollments/**)
+         */
+        private String path;
+
+        /**
+         * 적용 HTTP 메서드 (비어 있으면 모든 메서드)
+         */
+        private List<String> methods = new ArrayList<>();
+
+        /**
+         * 집계 기준
+         */
+        private RateLimitKeyType key = RateLimitKeyType.IP;
+
+        /**
+         * 윈도우당 전체 노드 합산 허용 요청 수 (Redis 슬라이딩 윈도우, 0이면 미적용)
+         */
+        private int limit;
+
+        /**
+         * 윈도우당 노드별 허용 요청 수 (로컬 카운터, 0이면 미적용)
+         */
+        private int localLimit;
+
+        /**
+         * 윈도우 크기 (초)
+         */
+        private int windowSeconds = 10;
+    }
+}
@@ -0,0 +1,44 @@
+package com.wb.edutask.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import com.wb.edutask.service.CourseSeatBroadcaster;
+import com.wb.edutask.service.CourseSyncNotifier;
+
+/**
+ * Redis Pub/Sub 설정 클래스
+ * 노드 간 알림 채널 구독을 위한 메시지 리스너 컨테이너를 구성
+ *
+ * @author WB Development Team
+ * @version 1.0.0
+ * @since 2025-09-24
+ */
+@Configuration
+public class RedisConfig {
+
+    /**
+     * Redis 메시지 리스너 컨테이너
+     * 강의 Hash 재동기화 완료 채널과 수강인원 변경 채널을 구독합니다
+     *
+     * @param connectionFactory Redis 연결 팩토리
+     * @param courseSyncNotifier 재동기화 완료 알림 수신기
+     * @param courseSeatBroadcaster 수강인원 실시간 전송기
+     * @return 메시지 리스너 컨테이너
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                       CourseSyncNotifier courseSyncNotifier,
+                                                                       CourseSeatBroadcaster courseSeatBroadcaster) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        // 수강인원 변경이 발행 순서대로 병합되도록 구독 스레드에서 바로 처리 (두 수신기 모두 맵 갱신만 하므로 블로킹 없음)
+        container.setTaskExecutor(new SyncTaskExecutor());
+        container.addMessageListener(courseSyncNotifier, new ChannelTopic(CourseSyncNotifier.CHANNEL));
+        container.addMessageListener(courseSeatBroadcaster, new ChannelTopic(CourseSeatBroadcaster.CHANNEL));
+        return container;
+    }
+}
@@ -0,0 +1,103 @@
+package com.wb.edutask.config;
+
+import javax.sql.DataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 복제 지연(replica lag) 모니터
+ * 주 DB의 heartbeat 행을 주기적으로 갱신하고 복제본에서 읽어 지연 시간을 계산합니다
+ * 지연이 허용치를 넘거나 복제본 조회가 실패하면 읽기 요청을 주 DB로 되돌립니다
+ *
+ * @author WB Development Team
+ * @version 1.0.0
+ * @since 2025-09-24
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final String CREATE_TABLE_SQL =
+        "CREATE TABLE IF NOT EXISTS replica_heartbeat (id INT PRIMARY KEY, beat_at BIGINT NOT NULL)";
+    private static final String WRITE_HEARTBEAT_SQL =
+        "MERGE INTO replica_heartbeat (id, beat_at) KEY (id) VALUES (1, ?)";
+    private static final String READ_HEARTBEAT_SQL =
+        "SELECT beat_at FROM replica_heartbeat WHERE id = 1";
+
+    private final JdbcTemplate primaryJdbcTemplate;
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final long maxLagMillis;
+
+    // 첫 확인 전에는 주 DB만 사용
+    private volatile boolean replicaAvailable = false;
+    private volatile long lastLagMillis = -1;
+    private boolean tableReady = false;
+
+    /**
+     * ReplicaLagMonitor 생성자
+     *
+     * @param primaryDataSource 주 DB
+     * @param replicaDataSource 복제본
+     * @param maxLagMillis 허용 복제 지연 (ms)
+     */
+    public ReplicaLagMonitor(DataSource primaryDataSource, DataSource replicaDataSource, long maxLagMillis) {
+        this.primaryJdbcTemplate = new JdbcTemplate(primaryDataSource);
+        this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        this.maxLagMillis = maxLagMillis;
+    }
+
+    /**
+     * 복제본으로 읽기 요청을 보내도 되는지 반환합니다
+     *
+     * @return 복제본 사용 가능 여부
+     */
+    public boolean isReplicaAvailable() {
+        return replicaAvailable;
+    }
+
+    /**
+     * 마지막으로 측정한 복제 지연을 반환합니다
+     *
+     * @return 복제 지연 (ms, 측정 실패 시 -1)
+     */
+    public long getLastLagMillis() {
+        return lastLagMillis;
+    }
+
+    /**
+     * heartbeat를 기록하고 복제 지연을 확인합니다
+     */
+    @Scheduled(fixedDelayString = "${wb.datasource.replica.lag-check-interval-ms:1000}")
+    public void checkLag() {
+        try {
+            if (!tableReady) {
+                primaryJdbcTemplate.execute(CREATE_TABLE_SQL);
+                tableReady = true;
+            }
+
+            long beatAt = System.currentTimeMillis();
+            primaryJdbcTemplate.update(WRITE_HEARTBEAT_SQL, beatAt);
+
+            Long replicaBeatAt = replicaJdbcTemplate.query(READ_HEARTBEAT_SQL,
+                rs -> rs.next() ? rs.getLong(1) : null);
+
+            long lag = replicaBeatAt != null ? Math.max(0, beatAt - replicaBeatAt) : -1;
+            updateState(lag >= 0 && lag <= maxLagMillis, lag);
+        } catch (Exception e) {
+            log.debug("복제 지연 확인 실패 - Error: {}", e.getMessage());
+            updateState(false, -1);
+        }
+    }
+
+    private void updateState(boolean available, long lag) {
+        this.lastLagMillis = lag;
+        if (available != replicaAvailable) {
+            replicaAvailable = available;
+            if (available) {
+                log.info("✅ 복제본 읽기 라우팅 활성화 - 복제 지연: {}ms", lag);
+            } else {
+                log.warn("⚠️ 복제본 읽기 라우팅 중지, 주 DB로 전환 - 복제 지연: {}ms (허용: {}ms)", lag, maxLagMillis);
+            }
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.wb.edutask.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 읽기/쓰기 라우팅 DataSource
+ * 읽기 전용 트랜잭션(@Transactional(readOnly = true))은 복제본으로, 그 외에는 주 DB로 보냅니다
+ * 복제 지연이 허용치를 넘거나 복제본에 연결할 수 없으면 읽기 요청도 주 DB로 보냅니다
+ *
+ * 트랜잭션 속성이 결정된 뒤 연결을 얻어야 하므로 LazyConnectionDataSourceProxy로 감싸서 사용합니다
+ *
+ * @author WB Development Team
+ * @version 1.0.0
+ * @since 2025-09-24
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+    static final String REPLICA = "replica";
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+
+    /**
+     * ReplicationRoutingDataSource 생성자
+     *
+     * @param replicaLagMonitor 복제 지연 모니터
+     */
+    public ReplicationRoutingDataSource(ReplicaLagMonitor replicaLagMonitor) {
+        this.replicaLagMonitor = replicaLagMonitor;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && replicaLagMonitor.isReplicaAvailable()) {
+            return REPLICA;
+        }
+        return PRIMARY;
+    }
+}
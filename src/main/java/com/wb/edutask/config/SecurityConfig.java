@@ -1,23 +1,41 @@
 package com.wb.edutask.config;
 
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.util.StringUtils;
+import lombok.extern.slf4j.Slf4j;
 
 /**
  * Spring Security 설정 클래스
  * H2 콘솔 접근 및 개발 환경을 위한 보안 설정
+ * 관리자 API(/api/v1/admin/**)는 HTTP Basic 인증과 ADMIN 권한이 필요합니다
  * 
  * @author WB Development Team
  * @version 1.0.0
  * @since 2025-09-22
  */
+@Slf4j
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
 
+    @Value("${wb.admin.username:admin}")
+    private String adminUsername;
+
+    @Value("${wb.admin.password:}")
+    private String adminPassword;
+
     /**
      * Spring Security 필터 체인 설정
      * H2 콘솔 접근을 위한 CSRF 및 Frame Options 설정
@@ -35,11 +53,44 @@ public class SecurityConfig {
             .headers(h -> h.frameOptions(f -> f.sameOrigin()))
             // 인증 설정
             .authorizeHttpRequests(auth -> auth
+                .requestMatchers("/api/v1/admin/**").hasRole("ADMIN")  // 관리자 API (전체 수강신청 내보내기 등)
                 .requestMatchers("/h2-console/**").permitAll()  // H2 콘솔 접근 허용
                 .requestMatchers("/api/**").permitAll()         // API 엔드포인트 허용
                 .requestMatchers("/actuator/**").permitAll()    // 액추에이터 엔드포인트 허용
                 .anyRequest().permitAll()                       // 모든 요청 허용 (개발용)
-            );
+            )
+            // 관리자 API 인증
+            .httpBasic(Customizer.withDefaults());
         return http.build();
     }
+
+    /**
+     * 관리자 계정 설정
+     * 비밀번호(wb.admin.password)가 없으면 실행마다 임의 비밀번호를 만들어 로그로 알립니다
+     *
+     * @param passwordEncoder 비밀번호 인코더
+     * @return 관리자 계정 조회 서비스
+     */
+    @Bean
+    UserDetailsService userDetailsService(PasswordEncoder passwordEncoder) {
+        String password = adminPassword;
+        if (!StringUtils.hasText(password)) {
+            password = UUID.randomUUID().toString();
+            log.warn("관리자 비밀번호(wb.admin.password)가 설정되지 않아 임의 비밀번호를 사용합니다: {}", password);
+        }
+        return new InMemoryUserDetailsManager(User.withUsername(adminUsername)
+                .password(passwordEncoder.encode(password))
+                .roles("ADMIN")
+                .build());
+    }
+
+    /**
+     * 비밀번호 인코더 (기본 bcrypt, {id} 접두사로 다른 방식도 허용)
+     *
+     * @return 비밀번호 인코더
+     */
+    @Bean
+    PasswordEncoder passwordEncoder() {
+        return PasswordEncoderFactories.createDelegatingPasswordEncoder();
+    }
 }
@@ -0,0 +1,55 @@
+package com.wb.edutask.controller;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import com.wb.edutask.enums.EnrollmentStatus;
+import com.wb.edutask.service.EnrollmentExportService;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 관리자용 REST API 컨트롤러
+ *
+ * @author WB Development Team
+ * @version 1.0.0
+ * @since 2025-09-24
+ */
+@RestController
+@RequestMapping("/api/v1/admin")
+@Validated
+@RequiredArgsConstructor
+public class AdminApiController {
+
+    private final EnrollmentExportService enrollmentExportService;
+
+    /**
+     * 전체 수강신청을 CSV로 내려받습니다
+     * 행 수와 관계없이 커서로 읽은 행을 응답 스트림에 바로 써 힙 사용량이 일정합니다
+     *
+     * @param status 수강신청 상태 필터 (생략 시 전체)
+     * @param response HTTP 응답
+     * @throws IOException 출력 실패 시
+     */
+    @GetMapping("/enrollments/export.csv")
+    public void exportAllEnrollments(
+            @RequestParam(required = false) EnrollmentStatus status,
+            HttpServletResponse response) throws IOException {
+
+        String filename = "enrollments-" + (status != null ? status.name().toLowerCase() + "-" : "")
+                + LocalDate.now() + ".csv";
+        response.setContentType("text/csv; charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(filename, StandardCharsets.UTF_8)
+                .build()
+                .toString());
+        enrollmentExportService.writeAllEnrollments(status, response.getOutputStream());
+    }
+}
@@ -1,11 +1,18 @@
 package com.wb.edutask.controller;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -17,11 +24,15 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import com.wb.edutask.dto.CourseRequestDto;
 import com.wb.edutask.dto.CourseResponseDto;
 import com.wb.edutask.enums.CourseStatus;
 import com.wb.edutask.service.CourseRankingService;
+import com.wb.edutask.service.CourseSeatBroadcaster;
 import com.wb.edutask.service.CourseService;
+import com.wb.edutask.service.EnrollmentExportService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
@@ -41,6 +52,8 @@ public class CourseApiController {
 
     private final CourseService courseService;
     private final CourseRankingService courseRankingService;
+    private final EnrollmentExportService enrollmentExportService;
+    private final CourseSeatBroadcaster courseSeatBroadcaster;
     
     
     /**
@@ -213,4 +226,66 @@ public class CourseApiController {
             return ResponseEntity.badRequest().build();
         }
     }
+    
+    /**
+     * 강의를 추첨 방식으로 전환합니다
+     * 마감 전까지의 수강신청은 응모(202 Accepted)로 접수되고, 마감 후 정원만큼 추첨됩니다
+     * 
+     * @param courseId 강의 ID
+     * @param closesAt 추첨 마감 일시 (ISO-8601, 예: 2025-10-01T10:00:00)
+     * @return 변경된 강의 정보
+     */
+    @PutMapping("/{courseId}/lottery")
+    public ResponseEntity<CourseResponseDto> openLottery(
+            @PathVariable @Positive(message = "강의 ID는 양수여야 합니다") Long courseId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime closesAt) {
+        
+        try {
+            CourseResponseDto course = courseService.openLottery(courseId, closesAt);
+            return ResponseEntity.ok(course);
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
+    /**
+     * 강의 수강인원 변경을 실시간으로 구독합니다 (SSE)
+     * 목록을 다시 조회하지 않아도 "seats" 이벤트로 {"강의ID": 수강인원} 변경분을 받습니다
+     * 
+     * @return SSE 스트림 (노드 구독자 수가 한도에 도달하면 503)
+     */
+    @GetMapping(value = "/seats/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamSeatCounts() {
+        SseEmitter emitter = courseSeatBroadcaster.subscribe();
+        if (emitter == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        return ResponseEntity.ok(emitter);
+    }
+    
+    /**
+     * 강의 수강생 명단을 CSV로 내려받습니다
+     * 페이지 단위 조회 없이 커서로 읽은 행을 응답 스트림에 바로 씁니다
+     * 
+     * @param courseId 강의 ID
+     * @param response HTTP 응답
+     * @throws IOException 출력 실패 시
+     */
+    @GetMapping("/{courseId}/roster.csv")
+    public void exportRoster(
+            @PathVariable @Positive(message = "강의 ID는 양수여야 합니다") Long courseId,
+            HttpServletResponse response) throws IOException {
+        
+        if (!enrollmentExportService.courseExists(courseId)) {
+            response.sendError(HttpStatus.NOT_FOUND.value(), "강의를 찾을 수 없습니다: " + courseId);
+            return;
+        }
+        
+        response.setContentType("text/csv; charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("course-" + courseId + "-roster.csv", StandardCharsets.UTF_8)
+                .build()
+                .toString());
+        enrollmentExportService.writeCourseRoster(courseId, response.getOutputStream());
+    }
 }
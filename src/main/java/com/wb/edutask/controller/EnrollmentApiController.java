@@ -21,8 +21,15 @@ import com.wb.edutask.dto.BulkEnrollmentRequestDto;
 import com.wb.edutask.dto.BulkEnrollmentResponseDto;
 import com.wb.edutask.dto.EnrollmentRequestDto;
 import com.wb.edutask.dto.EnrollmentResponseDto;
+import com.wb.edutask.dto.SeatHoldDto;
+import com.wb.edutask.dto.StudentEnrollmentSummaryDto;
+import com.wb.edutask.dto.WaitlistPositionDto;
 import com.wb.edutask.enums.EnrollmentStatus;
+import com.wb.edutask.exception.EnrollmentPendingException;
+import com.wb.edutask.exception.EnrollmentRejectedException;
 import com.wb.edutask.service.EnrollmentService;
+import com.wb.edutask.service.StudentEnrollmentSummaryService;
+import com.wb.edutask.service.WaitlistService;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
@@ -42,26 +49,131 @@ import lombok.RequiredArgsConstructor;
 public class EnrollmentApiController {
     
     private final EnrollmentService enrollmentService;
+    private final StudentEnrollmentSummaryService studentEnrollmentSummaryService;
+    private final WaitlistService waitlistService;
     
     
     /**
      * 수강신청을 처리합니다
+     * 대기열 등록(정원 초과) 또는 추첨 응모(추첨 기간)인 경우 202 Accepted와 대기 순번/추첨 정보를 반환합니다
+     * 중복 신청/정원 초과는 409, 신청할 수 없는 강의는 422로 거절 사유 코드와 함께 응답합니다
      * 
      * @param enrollmentRequestDto 수강신청 요청 정보
-     * @return 생성된 수강신청 정보
+     * @return 생성된 수강신청 정보 또는 대기 순번/추첨 응모 정보
      */
     @PostMapping
-    public ResponseEntity<EnrollmentResponseDto> enrollCourse(
+    public ResponseEntity<?> enrollCourse(
             @Valid @RequestBody EnrollmentRequestDto enrollmentRequestDto) {
         
         try {
             EnrollmentResponseDto enrollment = enrollmentService.enrollCourse(enrollmentRequestDto);
             return ResponseEntity.status(HttpStatus.CREATED).body(enrollment);
+        } catch (EnrollmentPendingException e) {
+            return ResponseEntity.accepted().body(e.getResponseBody());
+        } catch (EnrollmentRejectedException e) {
+            return ResponseEntity.status(e.getHttpStatus()).body(e.getResponseBody());
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
+    /**
+     * 유료 강의 좌석을 선점합니다 (결제 진행 중 좌석 확보, 좌석 선점 모드 사용 시)
+     * 
+     * @param enrollmentRequestDto 선점 요청 정보
+     * @return 선점 정보 (만료 시각 포함)
+     */
+    @PostMapping("/holds")
+    public ResponseEntity<?> holdSeat(
+            @Valid @RequestBody EnrollmentRequestDto enrollmentRequestDto) {
+        
+        try {
+            SeatHoldDto hold = enrollmentService.holdSeat(enrollmentRequestDto);
+            return ResponseEntity.status(HttpStatus.CREATED).body(hold);
+        } catch (EnrollmentRejectedException e) {
+            return ResponseEntity.status(e.getHttpStatus()).body(e.getResponseBody());
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
+    /**
+     * 결제 확인 후 선점한 좌석을 수강신청으로 확정합니다
+     * 
+     * @param enrollmentRequestDto 확정 요청 정보
+     * @return 생성된 수강신청 정보
+     */
+    @PostMapping("/holds/confirm")
+    public ResponseEntity<?> confirmHold(
+            @Valid @RequestBody EnrollmentRequestDto enrollmentRequestDto) {
+        
+        try {
+            EnrollmentResponseDto enrollment = enrollmentService.confirmHold(enrollmentRequestDto);
+            return ResponseEntity.status(HttpStatus.CREATED).body(enrollment);
+        } catch (EnrollmentRejectedException e) {
+            return ResponseEntity.status(e.getHttpStatus()).body(e.getResponseBody());
         } catch (RuntimeException e) {
             return ResponseEntity.badRequest().build();
         }
     }
     
+    /**
+     * 좌석 선점을 해제합니다 (결제 취소)
+     * 
+     * @param studentId 학생 ID
+     * @param courseId 강의 ID
+     * @return 해제 결과
+     */
+    @DeleteMapping("/holds/student/{studentId}/course/{courseId}")
+    public ResponseEntity<Void> releaseHold(
+            @PathVariable @Positive(message = "학생 ID는 양수여야 합니다") Long studentId,
+            @PathVariable @Positive(message = "강의 ID는 양수여야 합니다") Long courseId) {
+        
+        try {
+            enrollmentService.releaseHold(studentId, courseId);
+            return ResponseEntity.noContent().build();
+        } catch (RuntimeException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+    
+    /**
+     * 수강 대기 순번을 조회합니다
+     * 
+     * @param studentId 학생 ID
+     * @param courseId 강의 ID
+     * @return 대기 순번 (대기 중이 아니면 404 - 승급되었거나 대기열에서 나간 경우)
+     */
+    @GetMapping("/waitlist/student/{studentId}/course/{courseId}")
+    public ResponseEntity<WaitlistPositionDto> getWaitlistPosition(
+            @PathVariable @Positive(message = "학생 ID는 양수여야 합니다") Long studentId,
+            @PathVariable @Positive(message = "강의 ID는 양수여야 합니다") Long courseId) {
+        
+        Long position = waitlistService.getPosition(courseId, studentId);
+        if (position == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(new WaitlistPositionDto(courseId, studentId, position));
+    }
+    
+    /**
+     * 수강 대기열에서 나갑니다
+     * 
+     * @param studentId 학생 ID
+     * @param courseId 강의 ID
+     * @return 처리 결과
+     */
+    @DeleteMapping("/waitlist/student/{studentId}/course/{courseId}")
+    public ResponseEntity<Void> leaveWaitlist(
+            @PathVariable @Positive(message = "학생 ID는 양수여야 합니다") Long studentId,
+            @PathVariable @Positive(message = "강의 ID는 양수여야 합니다") Long courseId) {
+        
+        if (!waitlistService.leave(courseId, studentId)) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.noContent().build();
+    }
+    
     /**
      * 수강신청 ID로 수강신청 정보를 조회합니다
      * 
@@ -96,6 +208,20 @@ public class EnrollmentApiController {
         return ResponseEntity.ok(enrollments);
     }
     
+    /**
+     * 학생별 수강 요약을 조회합니다 ("내 수강 목록" 화면용)
+     * 강의명/강사명을 펼쳐 둔 Redis Hash 하나로 응답하며 페이징 없이 전체 항목을 반환합니다
+     * 
+     * @param studentId 학생 ID
+     * @return 수강 요약 (신청 일시 내림차순)
+     */
+    @GetMapping("/student/{studentId}/summary")
+    public ResponseEntity<StudentEnrollmentSummaryDto> getEnrollmentSummaryByStudent(
+            @PathVariable @Positive(message = "학생 ID는 양수여야 합니다") Long studentId) {
+        
+        return ResponseEntity.ok(studentEnrollmentSummaryService.getSummary(studentId));
+    }
+    
     /**
      * 강의별 수강신청 목록을 조회합니다
      * 
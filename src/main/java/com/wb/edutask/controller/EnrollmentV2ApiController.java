@@ -0,0 +1,74 @@
+package com.wb.edutask.controller;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import com.wb.edutask.dto.EnrollmentRequestDto;
+import com.wb.edutask.exception.EnrollmentPendingException;
+import com.wb.edutask.exception.EnrollmentRejectedException;
+import com.wb.edutask.service.EnrollmentService;
+import jakarta.validation.Valid;
+
+/**
+ * 수강신청 REST API 컨트롤러 (v2, 비동기 서블릿)
+ * /api/v1/enrollments 와 같은 처리(동일한 Lua 스크립트, 검증, 응답)를 수행하지만,
+ * 요청을 가상 스레드에 넘기고 Tomcat 요청 스레드는 즉시 반환하므로
+ * Redis/JDBC 대기 중인 요청이 Tomcat 스레드를 점유하지 않습니다
+ *
+ * @author WB Development Team
+ * @version 1.0.0
+ * @since 2025-09-24
+ */
+@RestController
+@RequestMapping("/api/v2/enrollments")
+@Validated
+public class EnrollmentV2ApiController {
+
+    private final EnrollmentService enrollmentService;
+    private final Executor enrollmentVirtualThreadExecutor;
+
+    /**
+     * EnrollmentV2ApiController 생성자
+     *
+     * @param enrollmentService 수강신청 서비스
+     * @param enrollmentVirtualThreadExecutor 가상 스레드 Executor
+     */
+    public EnrollmentV2ApiController(EnrollmentService enrollmentService,
+                                     @Qualifier("enrollmentVirtualThreadExecutor") Executor enrollmentVirtualThreadExecutor) {
+        this.enrollmentService = enrollmentService;
+        this.enrollmentVirtualThreadExecutor = enrollmentVirtualThreadExecutor;
+    }
+
+    /**
+     * 수강신청을 처리합니다
+     *
+     * @param enrollmentRequestDto 수강신청 요청 정보
+     * @return 생성된 수강신청 정보 (대기열 등록/추첨 응모 시 202, 업무 규칙 거절 시 409/422, 그 외 실패 시 400)
+     */
+    @PostMapping
+    public CompletableFuture<ResponseEntity<?>> enrollCourse(
+            @Valid @RequestBody EnrollmentRequestDto enrollmentRequestDto) {
+
+        return CompletableFuture
+            .supplyAsync(() -> enrollmentService.enrollCourse(enrollmentRequestDto), enrollmentVirtualThreadExecutor)
+            .<ResponseEntity<?>>thenApply(enrollment -> ResponseEntity.status(HttpStatus.CREATED).body(enrollment))
+            .exceptionally(e -> {
+                Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                if (cause instanceof EnrollmentPendingException pending) {
+                    return ResponseEntity.accepted().body(pending.getResponseBody());
+                }
+                if (cause instanceof EnrollmentRejectedException rejected) {
+                    return ResponseEntity.status(rejected.getHttpStatus()).body(rejected.getResponseBody());
+                }
+                return ResponseEntity.badRequest().build();
+            });
+    }
+}
@@ -0,0 +1,84 @@
+package com.wb.edutask.controller;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import com.wb.edutask.dto.WaitingRoomTicketDto;
+import com.wb.edutask.enums.WaitingRoomStatus;
+import com.wb.edutask.service.WaitingRoomService;
+import jakarta.validation.constraints.Positive;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 수강신청 대기실 REST API 컨트롤러
+ * 대기 중이면 202 + Retry-After 헤더를 반환하고, 클라이언트는 해당 간격으로 상태를 조회합니다
+ *
+ * @author WB Development Team
+ * @version 1.0.0
+ * @since 2025-09-24
+ */
+@RestController
+@RequestMapping("/api/v1/waiting-room/courses/{courseId}")
+@Validated
+@RequiredArgsConstructor
+public class WaitingRoomApiController {
+
+    private final WaitingRoomService waitingRoomService;
+
+    /**
+     * 강의 대기열에 입장합니다
+     *
+     * @param courseId 강의 ID
+     * @param studentId 학생 ID
+     * @return 대기열 티켓 (입장 200, 대기 202, 마감 409)
+     */
+    @PostMapping
+    public ResponseEntity<WaitingRoomTicketDto> join(
+            @PathVariable @Positive(message = "강의 ID는 양수여야 합니다") Long courseId,
+            @RequestParam @Positive(message = "학생 ID는 양수여야 합니다") Long studentId) {
+
+        try {
+            return toResponse(waitingRoomService.join(courseId, studentId));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * 대기 상태(순번, 예상 대기 시간)를 조회합니다
+     *
+     * @param courseId 강의 ID
+     * @param studentId 학생 ID
+     * @return 대기열 티켓 (입장 200, 대기 202, 마감 409)
+     */
+    @GetMapping
+    public ResponseEntity<WaitingRoomTicketDto> getTicket(
+            @PathVariable @Positive(message = "강의 ID는 양수여야 합니다") Long courseId,
+            @RequestParam @Positive(message = "학생 ID는 양수여야 합니다") Long studentId) {
+
+        try {
+            return toResponse(waitingRoomService.getTicket(courseId, studentId));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    private ResponseEntity<WaitingRoomTicketDto> toResponse(WaitingRoomTicketDto ticket) {
+        if (ticket.getStatus() == WaitingRoomStatus.WAITING) {
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(ticket.getRetryAfterSeconds()))
+                    .body(ticket);
+        }
+        if (ticket.getStatus() == WaitingRoomStatus.SOLD_OUT) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(ticket);
+        }
+        return ResponseEntity.ok(ticket);
+    }
+}
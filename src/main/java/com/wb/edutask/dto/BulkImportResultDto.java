@@ -0,0 +1,38 @@
+package com.wb.edutask.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 대량 적재 결과 DTO
+ *
+ * @author WB Development Team
+ * @version 1.0.0
+ * @since 2025-09-24
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class BulkImportResultDto {
+
+    /**
+     * 적재 대상 (members, courses, enrollments)
+     */
+    private String target;
+
+    /**
+     * 적재된 레코드 수
+     */
+    private long importedCount;
+
+    /**
+     * 건너뛴 레코드 수 (형식 오류, 참조 대상 없음, 이미 존재)
+     */
+    private long skippedCount;
+
+    /**
+     * 소요 시간 (밀리초)
+     */
+    private long elapsedMillis;
+}
@@ -0,0 +1,41 @@
+package com.wb.edutask.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Redis 강의 캐시(course:{id} Hash, 랭킹 ZSet) 적재를 위한 강의 스냅샷
+ * 
+ * @author WB Development Team
+ * @version 1.0.0
+ * @since 2025-09-24
+ */
+@Getter
+@AllArgsConstructor
+public class CourseCacheSnapshot {
+    
+    /**
+     * 강의 ID
+     */
+    private Long courseId;
+    
+    /**
+     * 강의명
+     */
+    private String courseName;
+    
+    /**
+     * 현재 수강인원 (승인된 수강신청 수)
+     */
+    private int currentStudents;
+    
+    /**
+     * 수강 정원
+     */
+    private int maxStudents;
+    
+    /**
+     * 강사 ID
+     */
+    private Long instructorId;
+}
@@ -0,0 +1,34 @@
+package com.wb.edutask.dto;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 추첨 응모 접수 응답 DTO
+ *
+ * @author WB Development Team
+ * @version 1.0.0
+ * @since 2025-09-24
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class LotteryEntryDto {
+
+    /**
+     * 강의 ID
+     */
+    private Long courseId;
+
+    /**
+     * 학생 ID
+     */
+    private Long studentId;
+
+    /**
+     * 추첨 마감 일시 (이후 추첨 결과가 수강신청 내역에 반영됨)
+     */
+    private LocalDateTime closesAt;
+}
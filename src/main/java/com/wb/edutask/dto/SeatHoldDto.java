@@ -0,0 +1,39 @@
+package com.wb.edutask.dto;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 좌석 선점 응답 DTO
+ *
+ * @author WB Development Team
+ * @version 1.0.0
+ * @since 2025-09-24
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeatHoldDto {
+
+    /**
+     * 강의 ID
+     */
+    private Long courseId;
+
+    /**
+     * 학생 ID
+     */
+    private Long studentId;
+
+    /**
+     * 강의 가격 (결제 금액)
+     */
+    private Integer price;
+
+    /**
+     * 선점 만료 시각 (이 시각 전에 결제 확인을 요청해야 함)
+     */
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,101 @@
+package com.wb.edutask.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.wb.edutask.entity.Course;
+import com.wb.edutask.entity.Enrollment;
+import com.wb.edutask.enums.EnrollmentStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 학생별 수강 요약 응답 DTO ("내 수강 목록" 화면용)
+ * Redis Hash(student:{id}:enrollments)에 미리 펼쳐 둔 항목을 그대로 반환합니다
+ *
+ * @author WB Development Team
+ * @version 1.0.0
+ * @since 2025-09-24
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudentEnrollmentSummaryDto {
+
+    /**
+     * 학생 ID
+     */
+    private Long studentId;
+
+    /**
+     * 전체 수강신청 수
+     */
+    private int totalCount;
+
+    /**
+     * 활성(신청/승인) 수강신청 수
+     */
+    private int activeCount;
+
+    /**
+     * 수강신청 항목 목록 (신청 일시 내림차순)
+     */
+    private List<Item> enrollments;
+
+    /**
+     * 수강 요약 항목 - Hash 필드(수강신청 ID)별로 JSON으로 저장됩니다
+     */
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+        private Long enrollmentId;
+        private Long courseId;
+        private String courseName;
+        private String instructorName;
+        private String description;
+        private LocalDate startDate;
+        private LocalDate endDate;
+        private EnrollmentStatus status;
+        private LocalDateTime appliedAt;
+
+        /**
+         * Enrollment 엔티티로부터 요약 항목을 생성합니다
+         *
+         * @param enrollment Enrollment 엔티티
+         * @return 요약 항목
+         */
+        public static Item from(Enrollment enrollment) {
+            Course course = enrollment.getCourse();
+            return Item.builder()
+                    .enrollmentId(enrollment.getId())
+                    .courseId(course.getId())
+                    .courseName(course.getCourseName())
+                    .instructorName(course.getInstructor().getName())
+                    .description(course.getDescription())
+                    .startDate(course.getStartDate())
+                    .endDate(course.getEndDate())
+                    .status(enrollment.getStatus())
+                    .appliedAt(enrollment.getAppliedAt())
+                    .build();
+        }
+
+        /**
+         * 활성(신청/승인) 상태인지 확인합니다
+         *
+         * @return 활성 여부
+         */
+        @JsonIgnore
+        public boolean isActive() {
+            return status == EnrollmentStatus.APPLIED || status == EnrollmentStatus.APPROVED;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.wb.edutask.dto;
+
+import com.wb.edutask.enums.WaitingRoomStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 수강신청 대기열 티켓 응답 DTO
+ *
+ * @author WB Development Team
+ * @version 1.0.0
+ * @since 2025-09-24
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class WaitingRoomTicketDto {
+
+    /**
+     * 강의 ID
+     */
+    private Long courseId;
+
+    /**
+     * 학생 ID
+     */
+    private Long studentId;
+
+    /**
+     * 대기열 상태
+     */
+    private WaitingRoomStatus status;
+
+    /**
+     * 대기 순번 (1부터 시작, 대기 중이 아니면 0)
+     */
+    private long position;
+
+    /**
+     * 예상 대기 시간 (초)
+     */
+    private long estimatedWaitSeconds;
+
+    /**
+     * 다음 상태 조회까지 권장 간격 (초, 대기 중일 때만 의미 있음)
+     */
+    private long retryAfterSeconds;
+}
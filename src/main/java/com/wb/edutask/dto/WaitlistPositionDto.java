@@ -0,0 +1,33 @@
+package com.wb.edutask.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 수강 대기열 순번 응답 DTO
+ *
+ * @author WB Development Team
+ * @version 1.0.0
+ * @since 2025-09-24
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class WaitlistPositionDto {
+
+    /**
+     * 강의 ID
+     */
+    private Long courseId;
+
+    /**
+     * 학생 ID
+     */
+    private Long studentId;
+
+    /**
+     * 대기 순번 (1부터 시작)
+     */
+    private long position;
+}
@@ -19,6 +19,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
@@ -61,7 +62,8 @@ public class Course {
      * 강의 고유 식별자
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "course_seq")
+    @SequenceGenerator(name = "course_seq", sequenceName = "course_seq", allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long id;
     
     
@@ -133,6 +135,18 @@ public class Course {
     @Column(nullable = false)
     private CourseStatus status = CourseStatus.SCHEDULED;
     
+    /**
+     * 추첨 마감 일시 (설정된 강의는 마감 전까지 선착순 대신 추첨 응모만 받음)
+     */
+    @Column
+    private LocalDateTime lotteryClosesAt;
+    
+    /**
+     * 추첨 완료 일시 (추첨 후에는 남은 좌석을 선착순으로 신청)
+     */
+    @Column
+    private LocalDateTime lotteryDrawnAt;
+    
     /**
      * 생성 일시
      */
@@ -181,6 +195,15 @@ public class Course {
         return status == CourseStatus.SCHEDULED || status == CourseStatus.IN_PROGRESS;
     }
     
+    /**
+     * 추첨이 아직 진행되지 않은 추첨 강의인지 확인합니다
+     * 
+     * @return 추첨 대기 여부 (응모 기간 중이거나 마감 후 추첨 전)
+     */
+    public boolean isLotteryPending() {
+        return lotteryClosesAt != null && lotteryDrawnAt == null;
+    }
+    
     /**
      * 강의 기간이 유효한지 검증합니다
      * 
@@ -0,0 +1,46 @@
+package com.wb.edutask.enums;
+
+/**
+ * Redis 회로 차단기 상태를 나타내는 열거형
+ *
+ * @author WB Development Team
+ * @version 1.0.0
+ * @since 2025-09-24
+ */
+public enum CircuitState {
+
+    /**
+     * 정상 - Redis Lua 스크립트로 정원을 제어하는 상태
+     */
+    CLOSED("정상"),
+
+    /**
+     * 차단 - Redis 장애로 DB 조건부 UPDATE로 정원을 제어하는 상태
+     */
+    OPEN("차단"),
+
+    /**
+     * 전환 중 - 차단 직후 DB 수강생 수를 보정하거나, 복구 시 Redis 응답 확인 후 강의 Hash를 다시 적재하는 상태
+     */
+    HALF_OPEN("전환중");
+
+    private final String description;
+
+    /**
+     * CircuitState 생성자
+     *
+     * @param description 상태 설명
+     */
+    CircuitState(String description) {
+        this.description = description;
+    }
+
+    /**
+     * 상태 설명을 반환합니다
+     *
+     * @return 상태 설명
+     */
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,42 @@
+package com.wb.edutask.enums;
+
+/**
+ * Redis 강의 캐시(course:{id} Hash) TTL 정책을 나타내는 열거형
+ *
+ * @author WB Development Team
+ * @version 1.0.0
+ * @since 2025-09-24
+ */
+public enum CourseCacheTtlPolicy {
+
+    /**
+     * 고정 TTL - 강의 상태와 관계없이 설정한 시간이 지나면 만료
+     */
+    FIXED("고정 TTL"),
+
+    /**
+     * 수강신청 가능 기간 동안 만료 없음 - 개설예정/진행중 강의는 TTL 없이 유지하고,
+     * 수강신청 불가 상태가 되면 고정 TTL을 적용해 자연 만료
+     */
+    PERSIST_WHILE_ENROLLABLE("수강신청 가능 기간 동안 유지");
+
+    private final String description;
+
+    /**
+     * CourseCacheTtlPolicy 생성자
+     *
+     * @param description 정책 설명
+     */
+    CourseCacheTtlPolicy(String description) {
+        this.description = description;
+    }
+
+    /**
+     * 정책 설명을 반환합니다
+     *
+     * @return 정책 설명
+     */
+    public String getDescription() {
+        return description;
+    }
+}
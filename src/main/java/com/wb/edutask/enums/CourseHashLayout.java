@@ -0,0 +1,104 @@
+package com.wb.edutask.enums;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import com.wb.edutask.dto.CourseCacheSnapshot;
+
+/**
+ * Redis 강의 Hash(course:{id}) 필드 구성을 나타내는 열거형
+ *
+ * 수강신청 Lua 스크립트가 읽는 값은 수강생 수와 정원뿐이므로, COMPACT 구성은 두 정수 필드만 짧은 이름으로 저장합니다.
+ * 강의명(한글 3바이트/글자)이 길면 Hash가 listpack 인코딩 한도(hash-max-listpack-value 64바이트)를 넘어
+ * hashtable로 바뀌는데, COMPACT 구성은 항상 작은 listpack으로 유지됩니다
+ *
+ * @author WB Development Team
+ * @version 1.0.0
+ * @since 2025-09-24
+ */
+public enum CourseHashLayout {
+
+    /**
+     * 기존 구성 - currentStudents, maxStudents, courseId, courseName, instructorId
+     */
+    VERBOSE("currentStudents", "maxStudents", "기존 구성"),
+
+    /**
+     * 압축 구성 - c(수강생 수), m(정원) 두 정수 필드만 저장 (강의 ID는 키에 포함)
+     */
+    COMPACT("c", "m", "압축 구성");
+
+    private final String currentField;
+    private final String maxField;
+    private final String description;
+
+    /**
+     * CourseHashLayout 생성자
+     *
+     * @param currentField 수강생 수 필드명
+     * @param maxField 정원 필드명
+     * @param description 구성 설명
+     */
+    CourseHashLayout(String currentField, String maxField, String description) {
+        this.currentField = currentField;
+        this.maxField = maxField;
+        this.description = description;
+    }
+
+    /**
+     * 수강생 수 필드명을 반환합니다
+     *
+     * @return 수강생 수 필드명
+     */
+    public String getCurrentField() {
+        return currentField;
+    }
+
+    /**
+     * 정원 필드명을 반환합니다
+     *
+     * @return 정원 필드명
+     */
+    public String getMaxField() {
+        return maxField;
+    }
+
+    /**
+     * 구성 설명을 반환합니다
+     *
+     * @return 구성 설명
+     */
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * 수강생 수를 제외한 고정 필드(정원 및 부가 정보)를 반환합니다
+     *
+     * @param courseId 강의 ID
+     * @param courseName 강의명
+     * @param maxStudents 정원
+     * @param instructorId 강사 ID
+     * @return 필드 맵 (입력 순서 유지)
+     */
+    public Map<String, String> staticFields(Long courseId, String courseName, int maxStudents, Long instructorId) {
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put(maxField, String.valueOf(maxStudents));
+        if (this == VERBOSE) {
+            fields.put("courseId", courseId.toString());
+            fields.put("courseName", courseName);
+            fields.put("instructorId", instructorId.toString());
+        }
+        return fields;
+    }
+
+    /**
+     * 강의 스냅샷의 고정 필드를 반환합니다
+     *
+     * @param snapshot 강의 스냅샷
+     * @return 필드 맵
+     */
+    public Map<String, String> staticFields(CourseCacheSnapshot snapshot) {
+        return staticFields(snapshot.getCourseId(), snapshot.getCourseName(),
+                snapshot.getMaxStudents(), snapshot.getInstructorId());
+    }
+}
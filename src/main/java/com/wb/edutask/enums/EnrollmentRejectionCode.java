@@ -0,0 +1,79 @@
+package com.wb.edutask.enums;
+
+/**
+ * 수강신청 업무 규칙 거절 사유를 나타내는 열거형
+ * 요청 형식 오류(400)와 구분해, 상태 충돌은 409, 규칙상 신청 불가는 422로 응답합니다
+ *
+ * @author WB Development Team
+ * @version 1.0.0
+ * @since 2025-09-24
+ */
+public enum EnrollmentRejectionCode {
+
+    /**
+     * 이미 수강신청한 강의
+     */
+    ALREADY_ENROLLED(409, "이미 수강신청한 강의입니다"),
+
+    /**
+     * 정원 초과
+     */
+    CAPACITY_EXCEEDED(409, "강의 정원이 초과되었습니다"),
+
+    /**
+     * 학생별 최대 수강 강의 수 초과
+     */
+    STUDENT_QUOTA_EXCEEDED(409, "수강 가능한 최대 강의 수를 초과했습니다"),
+
+    /**
+     * 수강 중인 다른 강의와 기간이 겹침
+     */
+    SCHEDULE_CONFLICT(409, "수강 중인 다른 강의와 일정이 겹칩니다"),
+
+    /**
+     * 종료/취소되어 수강신청할 수 없는 강의
+     */
+    COURSE_NOT_ENROLLABLE(422, "수강신청할 수 없는 강의 상태입니다"),
+
+    /**
+     * 자신이 강사인 강의
+     */
+    OWN_COURSE(422, "자신이 강사인 강의는 수강신청할 수 없습니다"),
+
+    /**
+     * 좌석 선점 모드의 유료 강의를 바로 신청
+     */
+    HOLD_REQUIRED(422, "유료 강의는 좌석 선점 후 결제 확인으로 수강신청해주세요");
+
+    private final int httpStatus;
+    private final String defaultMessage;
+
+    /**
+     * EnrollmentRejectionCode 생성자
+     *
+     * @param httpStatus 응답 HTTP 상태 코드
+     * @param defaultMessage 기본 메시지
+     */
+    EnrollmentRejectionCode(int httpStatus, String defaultMessage) {
+        this.httpStatus = httpStatus;
+        this.defaultMessage = defaultMessage;
+    }
+
+    /**
+     * 응답 HTTP 상태 코드를 반환합니다
+     *
+     * @return HTTP 상태 코드
+     */
+    public int getHttpStatus() {
+        return httpStatus;
+    }
+
+    /**
+     * 기본 메시지를 반환합니다
+     *
+     * @return 기본 메시지
+     */
+    public String getDefaultMessage() {
+        return defaultMessage;
+    }
+}
@@ -0,0 +1,41 @@
+package com.wb.edutask.enums;
+
+/**
+ * 대량 적재 파일 형식을 나타내는 열거형
+ * 
+ * @author WB Development Team
+ * @version 1.0.0
+ * @since 2025-09-24
+ */
+public enum ImportFormat {
+    
+    /**
+     * CSV - 첫 줄은 헤더, 한 줄에 한 레코드
+     */
+    CSV("csv"),
+    
+    /**
+     * NDJSON - 한 줄에 JSON 객체 하나
+     */
+    NDJSON("ndjson");
+    
+    private final String extension;
+    
+    /**
+     * ImportFormat 생성자
+     * 
+     * @param extension 파일 확장자
+     */
+    ImportFormat(String extension) {
+        this.extension = extension;
+    }
+    
+    /**
+     * 파일 확장자를 반환합니다
+     * 
+     * @return 파일 확장자
+     */
+    public String getExtension() {
+        return extension;
+    }
+}
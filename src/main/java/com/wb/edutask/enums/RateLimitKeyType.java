@@ -0,0 +1,42 @@
+package com.wb.edutask.enums;
+
+/**
+ * 요청 속도 제한(rate limit) 집계 기준을 나타내는 열거형
+ *
+ * @author WB Development Team
+ * @version 1.0.0
+ * @since 2025-09-24
+ */
+public enum RateLimitKeyType {
+
+    /**
+     * 클라이언트 IP 기준
+     */
+    IP("IP"),
+
+    /**
+     * 학생 기준 - 인증된 사용자(principal), 인증되지 않은 요청에는 적용하지 않음
+     * (클라이언트가 보낸 studentId는 바꿔 가며 한도를 피할 수 있으므로 사용하지 않음)
+     */
+    STUDENT("학생");
+
+    private final String description;
+
+    /**
+     * RateLimitKeyType 생성자
+     *
+     * @param description 기준 설명
+     */
+    RateLimitKeyType(String description) {
+        this.description = description;
+    }
+
+    /**
+     * 기준 설명을 반환합니다
+     *
+     * @return 기준 설명
+     */
+    public String getDescription() {
+        return description;
+    }
+}
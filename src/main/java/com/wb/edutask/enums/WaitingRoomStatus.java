@@ -0,0 +1,46 @@
+package com.wb.edutask.enums;
+
+/**
+ * 수강신청 대기열 상태를 나타내는 열거형
+ *
+ * @author WB Development Team
+ * @version 1.0.0
+ * @since 2025-09-24
+ */
+public enum WaitingRoomStatus {
+
+    /**
+     * 대기 중 - 대기열에서 입장 순서를 기다리는 상태
+     */
+    WAITING("대기중"),
+
+    /**
+     * 입장 - 수강신청을 진행할 수 있는 상태 (입장 유효 시간 내)
+     */
+    ADMITTED("입장"),
+
+    /**
+     * 마감 - 잔여 좌석이 없어 대기할 필요가 없는 상태
+     */
+    SOLD_OUT("마감");
+
+    private final String description;
+
+    /**
+     * WaitingRoomStatus 생성자
+     *
+     * @param description 상태 설명
+     */
+    WaitingRoomStatus(String description) {
+        this.description = description;
+    }
+
+    /**
+     * 상태 설명을 반환합니다
+     *
+     * @return 상태 설명
+     */
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,28 @@
+package com.wb.edutask.exception;
+
+/**
+ * 수강신청이 거절되지 않고 나중에 결정되는 경우(대기열 등록, 추첨 응모)를 알리는 예외의 공통 부모
+ * 컨트롤러는 이 예외를 202 Accepted와 getResponseBody() 본문으로 응답합니다
+ *
+ * @author WB Development Team
+ * @version 1.0.0
+ * @since 2025-09-24
+ */
+public abstract class EnrollmentPendingException extends RuntimeException {
+
+    /**
+     * EnrollmentPendingException 생성자
+     *
+     * @param message 안내 메시지
+     */
+    protected EnrollmentPendingException(String message) {
+        super(message);
+    }
+
+    /**
+     * 202 응답 본문을 반환합니다
+     *
+     * @return 응답 본문
+     */
+    public abstract Object getResponseBody();
+}
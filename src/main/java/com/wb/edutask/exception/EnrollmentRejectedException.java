@@ -0,0 +1,93 @@
+package com.wb.edutask.exception;
+
+import java.util.EnumMap;
+import java.util.Map;
+import com.wb.edutask.enums.EnrollmentRejectionCode;
+
+/**
+ * 수강신청 업무 규칙 거절(중복, 정원 초과, 신청 불가 강의 등)을 알리는 예외
+ * 스파이크 때 대부분의 요청이 이 경로로 끝나므로 스택 트레이스를 채우지 않고,
+ * 고정 메시지 거절은 미리 만들어 둔 인스턴스를 재사용합니다 (suppressed도 비활성화되어 공유해도 안전)
+ *
+ * @author WB Development Team
+ * @version 1.0.0
+ * @since 2025-09-24
+ */
+public class EnrollmentRejectedException extends RuntimeException {
+
+    private static final Map<EnrollmentRejectionCode, EnrollmentRejectedException> PREALLOCATED =
+        new EnumMap<>(EnrollmentRejectionCode.class);
+
+    static {
+        for (EnrollmentRejectionCode code : EnrollmentRejectionCode.values()) {
+            PREALLOCATED.put(code, new EnrollmentRejectedException(code, code.getDefaultMessage()));
+        }
+    }
+
+    private final EnrollmentRejectionCode code;
+    private final Map<String, Object> responseBody;
+
+    /**
+     * EnrollmentRejectedException 생성자
+     *
+     * @param code 거절 사유
+     * @param message 안내 메시지
+     */
+    private EnrollmentRejectedException(EnrollmentRejectionCode code, String message) {
+        super(message, null, false, false);
+        this.code = code;
+        this.responseBody = Map.of(
+            "errorCode", code.name(),
+            "error", "수강신청 거절",
+            "message", message
+        );
+    }
+
+    /**
+     * 기본 메시지의 거절 예외를 반환합니다 (미리 만든 인스턴스 재사용)
+     *
+     * @param code 거절 사유
+     * @return 거절 예외
+     */
+    public static EnrollmentRejectedException of(EnrollmentRejectionCode code) {
+        return PREALLOCATED.get(code);
+    }
+
+    /**
+     * 상세 메시지를 덧붙인 거절 예외를 만듭니다 (스택 트레이스 없음)
+     *
+     * @param code 거절 사유
+     * @param detail 상세 메시지
+     * @return 거절 예외
+     */
+    public static EnrollmentRejectedException of(EnrollmentRejectionCode code, String detail) {
+        return new EnrollmentRejectedException(code, code.getDefaultMessage() + ": " + detail);
+    }
+
+    /**
+     * 거절 사유를 반환합니다
+     *
+     * @return 거절 사유
+     */
+    public EnrollmentRejectionCode getCode() {
+        return code;
+    }
+
+    /**
+     * 응답 HTTP 상태 코드를 반환합니다
+     *
+     * @return HTTP 상태 코드
+     */
+    public int getHttpStatus() {
+        return code.getHttpStatus();
+    }
+
+    /**
+     * 응답 본문을 반환합니다 (예외와 함께 만들어 둔 불변 Map)
+     *
+     * @return 응답 본문
+     */
+    public Map<String, Object> getResponseBody() {
+        return responseBody;
+    }
+}
@@ -128,6 +128,17 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
     }
     
+    /**
+     * 수강신청 업무 규칙 거절 예외 처리 (중복/정원 초과 409, 신청 불가 422)
+     * 
+     * @param ex 거절 예외
+     * @return 에러 응답
+     */
+    @ExceptionHandler(EnrollmentRejectedException.class)
+    public ResponseEntity<Map<String, Object>> handleEnrollmentRejectedException(EnrollmentRejectedException ex) {
+        return ResponseEntity.status(ex.getHttpStatus()).body(ex.getResponseBody());
+    }
+    
     /**
      * 런타임 예외 처리
      * 
@@ -0,0 +1,40 @@
+package com.wb.edutask.exception;
+
+import java.time.LocalDateTime;
+import com.wb.edutask.dto.LotteryEntryDto;
+import lombok.Getter;
+
+/**
+ * 추첨 강의에 응모가 접수되었음을 알리는 예외
+ * 수강신청 실패가 아니므로 컨트롤러에서 202 Accepted와 추첨 마감 일시로 응답합니다
+ *
+ * @author WB Development Team
+ * @version 1.0.0
+ * @since 2025-09-24
+ */
+@Getter
+public class LotteryEnteredException extends EnrollmentPendingException {
+
+    private final Long courseId;
+    private final Long studentId;
+    private final LocalDateTime closesAt;
+
+    /**
+     * LotteryEnteredException 생성자
+     *
+     * @param courseId 강의 ID
+     * @param studentId 학생 ID
+     * @param closesAt 추첨 마감 일시
+     */
+    public LotteryEnteredException(Long courseId, Long studentId, LocalDateTime closesAt) {
+        super("추첨 응모가 접수되었습니다. 추첨 마감(" + closesAt + ") 후 결과가 수강신청 내역에 반영됩니다");
+        this.courseId = courseId;
+        this.studentId = studentId;
+        this.closesAt = closesAt;
+    }
+
+    @Override
+    public Object getResponseBody() {
+        return new LotteryEntryDto(courseId, studentId, closesAt);
+    }
+}
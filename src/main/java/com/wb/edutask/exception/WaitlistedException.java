@@ -0,0 +1,39 @@
+package com.wb.edutask.exception;
+
+import com.wb.edutask.dto.WaitlistPositionDto;
+import lombok.Getter;
+
+/**
+ * 정원 초과로 대기열에 등록되었음을 알리는 예외
+ * 수강신청 실패가 아니므로 컨트롤러에서 202 Accepted와 대기 순번으로 응답합니다
+ *
+ * @author WB Development Team
+ * @version 1.0.0
+ * @since 2025-09-24
+ */
+@Getter
+public class WaitlistedException extends EnrollmentPendingException {
+
+    private final Long courseId;
+    private final Long studentId;
+    private final long position;
+
+    /**
+     * WaitlistedException 생성자
+     *
+     * @param courseId 강의 ID
+     * @param studentId 학생 ID
+     * @param position 대기 순번 (1부터 시작)
+     */
+    public WaitlistedException(Long courseId, Long studentId, long position) {
+        super("강의 정원이 초과되어 대기열에 등록되었습니다 (대기 순번: " + position + ")");
+        this.courseId = courseId;
+        this.studentId = studentId;
+        this.position = position;
+    }
+
+    @Override
+    public Object getResponseBody() {
+        return new WaitlistPositionDto(courseId, studentId, position);
+    }
+}
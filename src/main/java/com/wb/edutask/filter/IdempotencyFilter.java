@@ -0,0 +1,244 @@
+package com.wb.edutask.filter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.WebUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wb.edutask.service.IdempotencyService;
+import com.wb.edutask.service.IdempotencyService.StoredResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Idempotency-Key 헤더 처리 필터
+ * 같은 키로 다시 들어온 POST는 컨트롤러까지 가지 않고 첫 요청의 응답(상태/본문)을 그대로 돌려줍니다
+ *
+ * - 첫 요청: 키 선점 후 처리하고, 응답을 캐시 (5xx와 429는 저장하지 않아 재시도가 다시 처리됨)
+ * - 처리 중 재시도: 첫 요청이 끝날 때까지 잠시 기다렸다가 같은 응답을 반환 (시간 초과 시 409)
+ * - 같은 키를 다른 본문/경로에 재사용: 422
+ *
+ * 비동기 컨트롤러(V2)는 응답이 async dispatch에서 완성되므로 그 시점에 저장합니다
+ *
+ * @author WB Development Team
+ * @version 1.0.0
+ * @since 2025-09-24
+ */
+@Slf4j
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int MAX_KEY_LENGTH = 128;
+    private static final String KEY_ATTRIBUTE = IdempotencyFilter.class.getName() + ".KEY";
+    private static final String FINGERPRINT_ATTRIBUTE = IdempotencyFilter.class.getName() + ".FINGERPRINT";
+
+    private final IdempotencyService idempotencyService;
+    private final ObjectMapper objectMapper;
+    private final List<String> paths;
+    private final long waitTimeoutMs;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    /**
+     * IdempotencyFilter 생성자
+     *
+     * @param idempotencyService Idempotency-Key 응답 저장소
+     * @param objectMapper 오류 응답 작성용 ObjectMapper
+     * @param paths 적용할 POST 경로 패턴
+     * @param waitTimeoutMs 처리 중인 첫 요청을 기다리는 최대 시간
+     */
+    public IdempotencyFilter(IdempotencyService idempotencyService, ObjectMapper objectMapper,
+                             List<String> paths, long waitTimeoutMs) {
+        this.idempotencyService = idempotencyService;
+        this.objectMapper = objectMapper;
+        this.paths = paths;
+        this.waitTimeoutMs = waitTimeoutMs;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!"POST".equals(request.getMethod()) || request.getHeader(IDEMPOTENCY_KEY_HEADER) == null) {
+            return true;
+        }
+        String path = request.getRequestURI();
+        return paths.stream().noneMatch(pattern -> pathMatcher.match(pattern, path));
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        // V2 비동기 응답은 async dispatch에서 완성되므로 그때 저장
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        if (isAsyncDispatch(request)) {
+            ContentCachingResponseWrapper wrapper =
+                WebUtils.getNativeResponse(response, ContentCachingResponseWrapper.class);
+            String key = (String) request.getAttribute(KEY_ATTRIBUTE);
+            try {
+                filterChain.doFilter(request, response);
+            } catch (IOException | ServletException | RuntimeException e) {
+                abandonQuietly(key);
+                throw e;
+            }
+            if (wrapper != null && key != null && !isAsyncStarted(request)) {
+                finish(key, (String) request.getAttribute(FINGERPRINT_ATTRIBUTE), wrapper);
+            }
+            return;
+        }
+
+        String key = request.getHeader(IDEMPOTENCY_KEY_HEADER).trim();
+        if (key.isEmpty() || key.length() > MAX_KEY_LENGTH) {
+            writeError(response, HttpStatus.BAD_REQUEST, "INVALID_IDEMPOTENCY_KEY",
+                "Idempotency-Key는 1~" + MAX_KEY_LENGTH + "자여야 합니다", request, 0);
+            return;
+        }
+
+        CachedBodyHttpServletRequest cachedRequest = request instanceof CachedBodyHttpServletRequest cached
+            ? cached : new CachedBodyHttpServletRequest(request);
+        String fingerprint = fingerprint(cachedRequest);
+
+        StoredResponse existing;
+        try {
+            existing = idempotencyService.begin(key, fingerprint);
+        } catch (Exception e) {
+            // Redis 장애 시 키 없이 처리 (중복 신청은 기존 검증으로 막힘)
+            log.warn("Idempotency 키 선점 실패, 키 없이 처리합니다 - Error: {}", e.getMessage());
+            filterChain.doFilter(cachedRequest, response);
+            return;
+        }
+
+        if (existing != null) {
+            replay(key, fingerprint, existing, request, response);
+            return;
+        }
+
+        request.setAttribute(KEY_ATTRIBUTE, key);
+        request.setAttribute(FINGERPRINT_ATTRIBUTE, fingerprint);
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        try {
+            filterChain.doFilter(cachedRequest, wrapper);
+        } catch (IOException | ServletException | RuntimeException e) {
+            abandonQuietly(key);
+            throw e;
+        }
+        if (!isAsyncStarted(request)) {
+            finish(key, fingerprint, wrapper);
+        }
+    }
+
+    /**
+     * 이미 기록이 있는 키의 요청에 응답합니다
+     */
+    private void replay(String key, String fingerprint, StoredResponse existing,
+                        HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (!fingerprint.equals(existing.getFingerprint())) {
+            writeError(response, HttpStatus.UNPROCESSABLE_ENTITY, "IDEMPOTENCY_KEY_REUSED",
+                "같은 Idempotency-Key가 다른 요청에 사용되었습니다", request, 0);
+            return;
+        }
+
+        StoredResponse stored = existing.isCompleted() ? existing : awaitQuietly(key);
+        if (stored == null || !stored.isCompleted()) {
+            writeError(response, HttpStatus.CONFLICT, "IDEMPOTENCY_IN_FLIGHT",
+                "같은 요청을 처리 중입니다. 잠시 후 다시 시도해주세요", request, 1);
+            return;
+        }
+
+        log.debug("Idempotency 응답 재사용 - Path: {}, Status: {}", request.getRequestURI(), stored.getStatus());
+        response.setStatus(stored.getStatus());
+        response.setHeader(REPLAYED_HEADER, "true");
+        if (stored.getContentType() != null) {
+            response.setContentType(stored.getContentType());
+        }
+        if (stored.getBody() != null) {
+            byte[] body = stored.getBody().getBytes(StandardCharsets.UTF_8);
+            response.setContentLength(body.length);
+            response.getOutputStream().write(body);
+        }
+    }
+
+    /**
+     * 처리가 끝난 응답을 저장(또는 선점 취소)하고 클라이언트로 내보냅니다
+     */
+    private void finish(String key, String fingerprint, ContentCachingResponseWrapper wrapper) throws IOException {
+        int status = wrapper.getStatus();
+        try {
+            if (status >= 500 || status == HttpStatus.TOO_MANY_REQUESTS.value()) {
+                idempotencyService.abandon(key);
+            } else {
+                idempotencyService.complete(key, new StoredResponse(StoredResponse.COMPLETED, fingerprint, status,
+                    wrapper.getContentType(), new String(wrapper.getContentAsByteArray(), StandardCharsets.UTF_8)));
+            }
+        } catch (Exception e) {
+            log.warn("Idempotency 응답 저장 실패 - Status: {}, Error: {}", status, e.getMessage());
+        }
+        wrapper.copyBodyToResponse();
+    }
+
+    private StoredResponse awaitQuietly(String key) {
+        try {
+            return idempotencyService.awaitCompletion(key, waitTimeoutMs);
+        } catch (Exception e) {
+            log.warn("Idempotency 처리 대기 실패 - Error: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void abandonQuietly(String key) {
+        if (key == null) {
+            return;
+        }
+        try {
+            idempotencyService.abandon(key);
+        } catch (Exception e) {
+            log.warn("Idempotency 선점 취소 실패 - Error: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 메서드, 경로, 본문으로 요청 지문을 만듭니다
+     */
+    private String fingerprint(CachedBodyHttpServletRequest request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((request.getMethod() + " " + request.getRequestURI() + "\n").getBytes(StandardCharsets.UTF_8));
+            digest.update(request.getBody());
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void writeError(HttpServletResponse response, HttpStatus status, String errorCode, String message,
+                            HttpServletRequest request, long retryAfterSeconds) throws IOException {
+        response.setStatus(status.value());
+        if (retryAfterSeconds > 0) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        }
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.getWriter().write(objectMapper.writeValueAsString(Map.of(
+            "errorCode", errorCode,
+            "error", status.getReasonPhrase(),
+            "message", message,
+            "path", request.getRequestURI()
+        )));
+    }
+}
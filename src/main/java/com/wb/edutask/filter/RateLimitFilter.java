@@ -0,0 +1,130 @@
+package com.wb.edutask.filter;
+
+import java.io.IOException;
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wb.edutask.config.RateLimitProperties;
+import com.wb.edutask.config.RateLimitProperties.Rule;
+import com.wb.edutask.enums.RateLimitKeyType;
+import com.wb.edutask.service.RateLimitService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 경로별 요청 속도 제한 필터
+ * 요청에 해당하는 규칙을 모두 확인하고, 하나라도 한도를 넘으면 429와 Retry-After 헤더를 반환합니다
+ *
+ * @author WB Development Team
+ * @version 1.0.0
+ * @since 2025-09-24
+ */
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimitProperties properties;
+    private final RateLimitService rateLimitService;
+    private final ObjectMapper objectMapper;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    /**
+     * RateLimitFilter 생성자
+     *
+     * @param properties 속도 제한 설정
+     * @param rateLimitService 속도 제한 서비스
+     * @param objectMapper 429 응답 직렬화용 ObjectMapper
+     */
+    public RateLimitFilter(RateLimitProperties properties, RateLimitService rateLimitService, ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.rateLimitService = rateLimitService;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        List<Rule> matchedRules = matchRules(request);
+        if (matchedRules.isEmpty()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        for (Rule rule : matchedRules) {
+            String clientKey = rule.getKey() == RateLimitKeyType.STUDENT
+                    ? resolveStudentKey(request)
+                    : "ip:" + request.getRemoteAddr();
+            if (clientKey == null) {
+                continue;
+            }
+
+            long retryAfterSeconds = rateLimitService.tryAcquire(rule, clientKey);
+            if (retryAfterSeconds > 0) {
+                writeTooManyRequests(request, response, retryAfterSeconds);
+                return;
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * 요청 경로/메서드에 해당하는 규칙을 찾습니다
+     *
+     * @param request HTTP 요청
+     * @return 적용할 규칙 목록
+     */
+    private List<Rule> matchRules(HttpServletRequest request) {
+        List<Rule> matched = new ArrayList<>();
+        String path = request.getRequestURI();
+        for (Rule rule : properties.getRules()) {
+            if (!rule.getMethods().isEmpty() && !rule.getMethods().contains(request.getMethod())) {
+                continue;
+            }
+            if (pathMatcher.match(rule.getPath(), path)) {
+                matched.add(rule);
+            }
+        }
+        return matched;
+    }
+
+    /**
+     * 인증된 사용자 기준으로 키를 만듭니다
+     * 요청 파라미터나 본문의 studentId는 클라이언트가 바꿔 가며 한도를 피할 수 있으므로 키로 쓰지 않고,
+     * 인증되지 않은 요청은 IP로 대체하지 않고 규칙을 건너뜁니다 (학생 한 명 한도가 NAT 뒤 전체에 걸리지 않도록, IP 규칙이 따로 적용됨)
+     *
+     * @param request HTTP 요청
+     * @return 클라이언트 키, 인증되지 않은 요청이면 null
+     */
+    private String resolveStudentKey(HttpServletRequest request) {
+        Principal principal = request.getUserPrincipal();
+        return principal != null ? "user:" + principal.getName() : null;
+    }
+
+    private void writeTooManyRequests(HttpServletRequest request, HttpServletResponse response, long retryAfterSeconds)
+            throws IOException {
+        log.debug("요청 속도 제한 - Path: {}, RemoteAddr: {}, RetryAfter: {}s",
+                request.getRequestURI(), request.getRemoteAddr(), retryAfterSeconds);
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.getWriter().write(objectMapper.writeValueAsString(Map.of(
+            "errorCode", "TOO_MANY_REQUESTS",
+            "error", "요청 한도 초과",
+            "message", "요청이 너무 많습니다. " + retryAfterSeconds + "초 후 다시 시도해주세요",
+            "path", request.getRequestURI()
+        )));
+    }
+}
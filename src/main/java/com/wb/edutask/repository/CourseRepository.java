@@ -1,6 +1,7 @@
 package com.wb.edutask.repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
@@ -145,6 +146,18 @@ public interface CourseRepository extends JpaRepository<Course, Long> {
     @Modifying
     @Query("UPDATE Course c SET c.currentStudents = :currentStudents WHERE c.id = :courseId")
     int updateCurrentStudents(@Param("courseId") Long courseId, @Param("currentStudents") Integer currentStudents);
+
+    /**
+     * 정원이 남아 있을 때만 현재 수강인원을 1 증가시킵니다 (Redis 회로 차단 시 DB 정원 제어용)
+     * 행 잠금으로 직렬화되므로 동시에 실행되어도 정원을 넘지 않습니다
+     *
+     * @param courseId 강의 ID
+     * @return 업데이트된 행 수 (1: 좌석 확보, 0: 정원 초과 또는 강의 없음)
+     */
+    @Modifying
+    @Query("UPDATE Course c SET c.currentStudents = c.currentStudents + 1 " +
+           "WHERE c.id = :courseId AND c.currentStudents < c.maxStudents")
+    int incrementCurrentStudentsIfAvailable(@Param("courseId") Long courseId);
     
     /**
      * 지정된 ID 목록으로 강의를 조회합니다 (ZSet 랭킹용)
@@ -167,4 +180,73 @@ public interface CourseRepository extends JpaRepository<Course, Long> {
         GROUP BY c.id
         """)
     List<Object[]> findAllCourseWithEnrollmentCount();
+    
+    /**
+     * 수강신청 가능한 강의의 캐시 적재 정보를 승인된 수강신청 수와 함께 한 번에 조회합니다
+     * 
+     * @return [강의ID, 강의명, 수강신청수, 정원, 강사ID] 배열 리스트
+     */
+    @Query("""
+        SELECT c.id, c.courseName, COALESCE(COUNT(e.id), 0), c.maxStudents, c.instructor.id
+        FROM Course c 
+        LEFT JOIN Enrollment e ON e.course.id = c.id AND e.status = 'APPROVED'
+        WHERE c.status IN ('SCHEDULED', 'IN_PROGRESS')
+        GROUP BY c.id, c.courseName, c.maxStudents, c.instructor.id
+        """)
+    List<Object[]> findEnrollableCoursesWithEnrollmentCount();
+    
+    /**
+     * 시작일이 된 개설 예정 강의를 진행 중으로 일괄 전환합니다 (강의 상태 스케줄러용)
+     * 진행 중 강의도 수강신청 가능 상태이므로 Redis 정리는 필요 없습니다
+     * 
+     * @param today 기준일
+     * @param now 수정 일시
+     * @return 전환된 강의 수
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Course c SET c.status = com.wb.edutask.enums.CourseStatus.IN_PROGRESS, c.updatedAt = :now " +
+           "WHERE c.status = 'SCHEDULED' AND c.startDate <= :today AND c.endDate >= :today")
+    int startScheduledCourses(@Param("today") LocalDate today, @Param("now") LocalDateTime now);
+    
+    /**
+     * 종료일이 지난 수강신청 가능 강의 ID를 조회합니다 (강의 상태 스케줄러용)
+     * 
+     * @param today 기준일
+     * @return 종료 대상 강의 ID 목록
+     */
+    @Query("SELECT c.id FROM Course c WHERE c.status IN ('SCHEDULED', 'IN_PROGRESS') AND c.endDate < :today ORDER BY c.id")
+    List<Long> findIdsDueForCompletion(@Param("today") LocalDate today);
+    
+    /**
+     * 지정된 강의를 종료 상태로 일괄 전환합니다
+     * 조회 이후 취소 등으로 상태가 바뀐 강의는 덮어쓰지 않습니다
+     * 
+     * @param courseIds 강의 ID 목록
+     * @param now 수정 일시
+     * @return 전환된 강의 수
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Course c SET c.status = com.wb.edutask.enums.CourseStatus.COMPLETED, c.updatedAt = :now " +
+           "WHERE c.id IN :courseIds AND c.status IN ('SCHEDULED', 'IN_PROGRESS')")
+    int completeCourses(@Param("courseIds") List<Long> courseIds, @Param("now") LocalDateTime now);
+    
+    /**
+     * 추첨이 진행되지 않은 추첨 강의의 ID와 마감 일시를 조회합니다 (추첨 응모 판별용)
+     * 
+     * @return [강의 ID, 추첨 마감 일시] 목록
+     */
+    @Query("SELECT c.id, c.lotteryClosesAt FROM Course c " +
+           "WHERE c.lotteryClosesAt IS NOT NULL AND c.lotteryDrawnAt IS NULL AND c.status IN ('SCHEDULED', 'IN_PROGRESS')")
+    List<Object[]> findPendingLotteries();
+    
+    /**
+     * 추첨 마감이 지났지만 추첨되지 않은 강의 ID를 조회합니다 (추첨 스케줄러용)
+     * 
+     * @param now 기준 일시
+     * @return 추첨 대상 강의 ID 목록
+     */
+    @Query("SELECT c.id FROM Course c " +
+           "WHERE c.lotteryClosesAt <= :now AND c.lotteryDrawnAt IS NULL AND c.status IN ('SCHEDULED', 'IN_PROGRESS') " +
+           "ORDER BY c.lotteryClosesAt")
+    List<Long> findIdsDueForLottery(@Param("now") LocalDateTime now);
 }
@@ -2,16 +2,20 @@ package com.wb.edutask.repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import com.wb.edutask.entity.Course;
 import com.wb.edutask.entity.Enrollment;
 import com.wb.edutask.entity.Member;
 import com.wb.edutask.enums.EnrollmentStatus;
+import jakarta.persistence.QueryHint;
 
 /**
  * 수강신청 정보 데이터 접근을 위한 Repository 인터페이스
@@ -152,6 +156,26 @@ public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
     @Query("SELECT COUNT(e) FROM Enrollment e WHERE e.student.id = :studentId AND e.status = 'APPROVED'")
     long countApprovedEnrollmentsByStudent(@Param("studentId") Long studentId);
     
+    /**
+     * 여러 학생의 승인된 수강신청 개수를 한 번에 조회합니다 (학생 수강 카운터 보정용)
+     * 
+     * @param studentIds 학생 ID 목록
+     * @return [studentId, count] 형태의 결과 목록 (승인된 수강신청이 없는 학생은 제외)
+     */
+    @Query("SELECT e.student.id, COUNT(e) FROM Enrollment e " +
+           "WHERE e.student.id IN :studentIds AND e.status = 'APPROVED' GROUP BY e.student.id")
+    List<Object[]> countApprovedEnrollmentsByStudentIds(@Param("studentIds") List<Long> studentIds);
+    
+    /**
+     * 학생이 수강 중인 강의의 기간을 조회합니다 (일정 충돌 확인용)
+     * 
+     * @param studentId 학생 ID
+     * @return [startDate, endDate] 형태의 결과 목록
+     */
+    @Query("SELECT c.startDate, c.endDate FROM Enrollment e JOIN e.course c " +
+           "WHERE e.student.id = :studentId AND e.status = 'APPROVED'")
+    List<Object[]> findActiveCourseDatesByStudentId(@Param("studentId") Long studentId);
+    
     /**
      * 강의별 승인된 수강신청 개수를 조회합니다 (승인 상태만)
      * 
@@ -169,4 +193,64 @@ public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
      */
     @Query("SELECT e.course.id, COUNT(e) FROM Enrollment e WHERE e.course.id IN :courseIds AND e.status = 'APPROVED' GROUP BY e.course.id")
     List<Object[]> countActiveEnrollmentsByCourseBatch(@Param("courseIds") List<Long> courseIds);
+    
+    /**
+     * 학생별 수강 요약 재구성용 데이터를 강의/강사와 함께 한 번에 조회합니다
+     * 
+     * @param studentIds 학생 ID 목록
+     * @return [enrollmentId, studentId, courseId, courseName, instructorName, description,
+     *         startDate, endDate, status, appliedAt] 형태의 결과 목록
+     */
+    @Query("SELECT e.id, e.student.id, c.id, c.courseName, i.name, c.description, c.startDate, c.endDate, e.status, e.appliedAt " +
+           "FROM Enrollment e JOIN e.course c JOIN c.instructor i WHERE e.student.id IN :studentIds")
+    List<Object[]> findSummaryRowsByStudentIds(@Param("studentIds") List<Long> studentIds);
+    
+    /**
+     * 수강신청이 있는 학생 ID를 키셋 방식으로 조회합니다 (요약 전체 재구성용)
+     * 
+     * @param afterId 이전 배치의 마지막 학생 ID (처음에는 0)
+     * @param pageable 배치 크기
+     * @return 학생 ID 목록 (오름차순)
+     */
+    @Query("SELECT DISTINCT e.student.id FROM Enrollment e WHERE e.student.id > :afterId ORDER BY e.student.id")
+    List<Long> findStudentIdsWithEnrollmentsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * 강의에 수강신청 이력이 있는 학생 ID를 조회합니다 (추첨 시 중복 당첨 제외용, 상태 무관)
+     *
+     * @param courseId 강의 ID
+     * @return 학생 ID 목록
+     */
+    @Query("SELECT e.student.id FROM Enrollment e WHERE e.course.id = :courseId")
+    List<Long> findStudentIdsByCourseId(@Param("courseId") Long courseId);
+    
+    /**
+     * 강의별 수강생 명단을 커서로 스트리밍 조회합니다 (CSV 내보내기용)
+     * 엔티티 대신 컬럼 값만 읽어 영속성 컨텍스트에 쌓이지 않으며, 호출 측 트랜잭션 안에서 소비해야 합니다
+     * 
+     * @param courseId 강의 ID
+     * @return [enrollmentId, studentId, studentName, email, phoneNumber, status, appliedAt, cancelledAt] 스트림
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT e.id, s.id, s.name, s.email, s.phoneNumber, e.status, e.appliedAt, e.cancelledAt " +
+           "FROM Enrollment e JOIN e.student s WHERE e.course.id = :courseId ORDER BY e.id")
+    Stream<Object[]> streamRosterRowsByCourseId(@Param("courseId") Long courseId);
+    
+    /**
+     * 전체 수강신청을 커서로 스트리밍 조회합니다 (관리자 CSV 내보내기용)
+     * 
+     * @param status 수강신청 상태 (null이면 전체)
+     * @return [enrollmentId, courseId, courseName, studentId, studentName, email, status, appliedAt, cancelledAt] 스트림
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT e.id, c.id, c.courseName, s.id, s.name, s.email, e.status, e.appliedAt, e.cancelledAt " +
+           "FROM Enrollment e JOIN e.course c JOIN e.student s " +
+           "WHERE (:status IS NULL OR e.status = :status) ORDER BY e.id")
+    Stream<Object[]> streamAllEnrollmentRows(@Param("status") EnrollmentStatus status);
 }
@@ -0,0 +1,405 @@
+package com.wb.edutask.service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wb.edutask.dto.BulkImportResultDto;
+import com.wb.edutask.dto.CourseCacheSnapshot;
+import com.wb.edutask.entity.IdSequences;
+import com.wb.edutask.enums.CourseStatus;
+import com.wb.edutask.enums.EnrollmentStatus;
+import com.wb.edutask.enums.ImportFormat;
+import com.wb.edutask.enums.MemberType;
+import com.wb.edutask.repository.CourseRepository;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 회원/강의/수강신청 대량 적재 서비스
+ * 스테이징 환경에 한 학기 규모(학생 10만 명, 수강신청 수백만 건) 데이터를 적재하기 위한 경로로,
+ * JPA 엔티티를 거치지 않고 파일을 스트리밍으로 읽어 JDBC 배치로 기록합니다
+ *
+ * - ID는 엔티티와 같은 시퀀스에서 pooled-lo 블록 단위로 예약하므로 애플리케이션 ID 할당과 충돌하지 않습니다
+ * - CHUNK_SIZE 단위로 트랜잭션을 나눠 커밋합니다
+ * - 이미 존재하는 회원(이메일), 강의(강의명 + 강사), 수강신청(학생 + 강의)은 건너뛰므로 재실행해도 안전합니다
+ * - 적재 후 수강인원을 재계산하고 Redis 강의 캐시와 랭킹 ZSet을 파이프라인으로 워밍합니다
+ *
+ * @author WB Development Team
+ * @version 1.0.0
+ * @since 2025-09-24
+ */
+@Slf4j
+@Service
+public class BulkImportService {
+
+    private static final int CHUNK_SIZE = 1000; // 트랜잭션 1회당 레코드 수
+
+    private static final String INSERT_MEMBER_SQL = """
+        INSERT INTO members (id, name, email, phone_number, password, member_type, created_at, updated_at)
+        SELECT ?, ?, ?, ?, ?, ?, ?, ?
+        WHERE NOT EXISTS (SELECT 1 FROM members WHERE email = ?)
+        """;
+
+    private static final String INSERT_COURSE_SQL = """
+        INSERT INTO courses (id, course_name, description, instructor_id, current_students, max_students,
+                             price, start_date, end_date, status, created_at, updated_at)
+        SELECT ?, ?, ?, ?, 0, ?, ?, ?, ?, ?, ?, ?
+        WHERE NOT EXISTS (SELECT 1 FROM courses WHERE course_name = ? AND instructor_id = ?)
+        """;
+
+    private static final String INSERT_ENROLLMENT_SQL = """
+        INSERT INTO enrollments (id, student_id, course_id, status, applied_at, updated_at)
+        SELECT ?, ?, ?, ?, ?, ?
+        WHERE NOT EXISTS (SELECT 1 FROM enrollments WHERE student_id = ? AND course_id = ?)
+        """;
+
+    private static final String UPDATE_CURRENT_STUDENTS_SQL =
+        "UPDATE courses SET current_students = ?, updated_at = ? WHERE id = ? AND current_students <> ?";
+
+    private static final String SELECT_ENROLLABLE_COURSES_SQL = """
+        SELECT id, course_name, current_students, max_students, instructor_id
+        FROM courses
+        WHERE status IN ('SCHEDULED', 'IN_PROGRESS')
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final CourseRepository courseRepository;
+    private final RedisConcurrencyService redisConcurrencyService;
+    private final CourseRankingService courseRankingService;
+    private final ImportRecordReader recordReader;
+
+    /**
+     * BulkImportService 생성자
+     *
+     * @param jdbcTemplate JDBC 템플릿
+     * @param transactionManager 트랜잭션 매니저
+     * @param courseRepository 강의 Repository
+     * @param redisConcurrencyService Redis 동시성 서비스
+     * @param courseRankingService 강의 랭킹 서비스
+     * @param objectMapper NDJSON 파싱용 ObjectMapper
+     */
+    public BulkImportService(JdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager,
+                             CourseRepository courseRepository,
+                             RedisConcurrencyService redisConcurrencyService,
+                             CourseRankingService courseRankingService,
+                             ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.courseRepository = courseRepository;
+        this.redisConcurrencyService = redisConcurrencyService;
+        this.courseRankingService = courseRankingService;
+        this.recordReader = new ImportRecordReader(objectMapper);
+    }
+
+    /**
+     * 디렉터리의 members / courses / enrollments 파일(.csv 또는 .ndjson)을 순서대로 적재합니다
+     * 적재 후 수강인원 재계산과 Redis 캐시 워밍까지 수행합니다
+     *
+     * @param directory 적재 파일 디렉터리
+     * @return 대상별 적재 결과
+     * @throws IOException 파일 읽기 실패 시
+     */
+    public List<BulkImportResultDto> importDirectory(Path directory) throws IOException {
+        List<BulkImportResultDto> results = new ArrayList<>();
+
+        for (String target : List.of("members", "courses", "enrollments")) {
+            for (ImportFormat format : ImportFormat.values()) {
+                Path file = directory.resolve(target + "." + format.getExtension());
+                if (!Files.isRegularFile(file)) {
+                    continue;
+                }
+                try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                    BulkImportResultDto result = switch (target) {
+                        case "members" -> importMembers(reader, format);
+                        case "courses" -> importCourses(reader, format);
+                        default -> importEnrollments(reader, format);
+                    };
+                    results.add(result);
+                }
+            }
+        }
+
+        refreshCurrentStudents();
+        warmRedisCaches();
+        return results;
+    }
+
+    /**
+     * 회원을 적재합니다
+     * 필드: name, email, phoneNumber, password, memberType (STUDENT | INSTRUCTOR)
+     *
+     * @param reader 입력 스트림
+     * @param format 파일 형식
+     * @return 적재 결과
+     * @throws IOException 읽기 실패 시
+     */
+    public BulkImportResultDto importMembers(Reader reader, ImportFormat format) throws IOException {
+        IdBlock ids = new IdBlock("member_seq");
+        LocalDateTime now = LocalDateTime.now();
+
+        return importRecords("members", reader, format, INSERT_MEMBER_SQL, record -> {
+            String email = required(record, "email");
+            return new Object[] {
+                ids.next(),
+                required(record, "name"),
+                email,
+                required(record, "phoneNumber"),
+                required(record, "password"),
+                MemberType.valueOf(required(record, "memberType").toUpperCase()).name(),
+                now,
+                now,
+                email
+            };
+        });
+    }
+
+    /**
+     * 강의를 적재합니다
+     * 필드: courseName, description, instructorEmail, maxStudents, price, startDate, endDate, status(생략 시 SCHEDULED)
+     *
+     * @param reader 입력 스트림
+     * @param format 파일 형식
+     * @return 적재 결과
+     * @throws IOException 읽기 실패 시
+     */
+    public BulkImportResultDto importCourses(Reader reader, ImportFormat format) throws IOException {
+        IdBlock ids = new IdBlock("course_seq");
+        Map<String, Long> instructorIds = loadIdMap("SELECT email, id FROM members WHERE member_type = 'INSTRUCTOR'");
+        LocalDateTime now = LocalDateTime.now();
+
+        return importRecords("courses", reader, format, INSERT_COURSE_SQL, record -> {
+            String courseName = required(record, "courseName");
+            Long instructorId = resolve(instructorIds, required(record, "instructorEmail"));
+            String status = record.get("status");
+            return new Object[] {
+                ids.next(),
+                courseName,
+                record.get("description"),
+                instructorId,
+                Integer.parseInt(required(record, "maxStudents")),
+                Integer.parseInt(required(record, "price")),
+                parseDate(record.get("startDate")),
+                parseDate(record.get("endDate")),
+                status == null ? CourseStatus.SCHEDULED.name() : CourseStatus.valueOf(status.toUpperCase()).name(),
+                now,
+                now,
+                courseName,
+                instructorId
+            };
+        });
+    }
+
+    /**
+     * 수강신청을 적재합니다
+     * 필드: studentEmail, courseName, status(생략 시 APPROVED), appliedAt(생략 시 현재 시각)
+     * 동일한 강의명이 여러 개면 가장 먼저 생성된 강의로 연결합니다
+     *
+     * @param reader 입력 스트림
+     * @param format 파일 형식
+     * @return 적재 결과
+     * @throws IOException 읽기 실패 시
+     */
+    public BulkImportResultDto importEnrollments(Reader reader, ImportFormat format) throws IOException {
+        IdBlock ids = new IdBlock("enrollment_seq");
+        Map<String, Long> studentIds = loadIdMap("SELECT email, id FROM members WHERE member_type = 'STUDENT'");
+        Map<String, Long> courseIds = loadIdMap("SELECT course_name, id FROM courses ORDER BY id");
+        LocalDateTime now = LocalDateTime.now();
+
+        return importRecords("enrollments", reader, format, INSERT_ENROLLMENT_SQL, record -> {
+            Long studentId = resolve(studentIds, required(record, "studentEmail"));
+            Long courseId = resolve(courseIds, required(record, "courseName"));
+            String status = record.get("status");
+            String appliedAt = record.get("appliedAt");
+            return new Object[] {
+                ids.next(),
+                studentId,
+                courseId,
+                status == null ? EnrollmentStatus.APPROVED.name() : EnrollmentStatus.valueOf(status.toUpperCase()).name(),
+                appliedAt == null ? now : LocalDateTime.parse(appliedAt),
+                now,
+                studentId,
+                courseId
+            };
+        });
+    }
+
+    /**
+     * 승인된 수강신청 수로 강의별 현재 수강인원을 재계산합니다
+     *
+     * @return 변경된 강의 수
+     */
+    public int refreshCurrentStudents() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> updates = new ArrayList<>();
+        for (Object[] row : courseRepository.findAllCourseWithEnrollmentCount()) {
+            int count = ((Number) row[1]).intValue();
+            updates.add(new Object[] {count, now, row[0], count});
+        }
+
+        int changed = 0;
+        for (int from = 0; from < updates.size(); from += CHUNK_SIZE) {
+            List<Object[]> chunk = updates.subList(from, Math.min(from + CHUNK_SIZE, updates.size()));
+            changed += sum(writeChunk(UPDATE_CURRENT_STUDENTS_SQL, chunk));
+        }
+
+        log.info("강의 수강인원 재계산 완료 - 대상: {}개, 변경: {}개", updates.size(), changed);
+        return changed;
+    }
+
+    /**
+     * 수강신청 가능한 강의의 Redis Hash와 랭킹 ZSet을 파이프라인으로 워밍합니다
+     * Redis 장애 시에도 적재 자체는 성공으로 처리합니다 (캐시는 요청 시 다시 채워짐)
+     */
+    public void warmRedisCaches() {
+        List<CourseCacheSnapshot> snapshots = jdbcTemplate.query(SELECT_ENROLLABLE_COURSES_SQL, (rs, rowNum) ->
+            new CourseCacheSnapshot(
+                rs.getLong("id"),
+                rs.getString("course_name"),
+                rs.getInt("current_students"),
+                rs.getInt("max_students"),
+                rs.getLong("instructor_id")
+            ));
+
+        try {
+            int warmed = redisConcurrencyService.warmCourseHashes(snapshots, true);
+            courseRankingService.rebuildRankings(snapshots);
+            log.info("Redis 강의 캐시 워밍 완료 - {}개", warmed);
+        } catch (Exception e) {
+            log.warn("Redis 강의 캐시 워밍 실패 (요청 시 동기화로 대체): {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 레코드를 스트리밍으로 읽어 CHUNK_SIZE 단위 JDBC 배치로 기록합니다
+     * 변환에 실패한 레코드와 NOT EXISTS 조건으로 기록되지 않은 레코드는 건너뛴 것으로 집계합니다
+     *
+     * @param target 적재 대상 이름
+     * @param reader 입력 스트림
+     * @param format 파일 형식
+     * @param sql 배치 SQL
+     * @param mapper 레코드 → SQL 파라미터 변환기
+     * @return 적재 결과
+     * @throws IOException 읽기 실패 시
+     */
+    private BulkImportResultDto importRecords(String target, Reader reader, ImportFormat format, String sql,
+                                              Function<Map<String, String>, Object[]> mapper) throws IOException {
+        long startMillis = System.currentTimeMillis();
+        long[] counts = new long[3]; // [읽은 수, 기록 수, 변환 실패 수]
+        List<Object[]> chunk = new ArrayList<>(CHUNK_SIZE);
+
+        recordReader.forEachRecord(reader, format, record -> {
+            counts[0]++;
+            try {
+                chunk.add(mapper.apply(record));
+            } catch (RuntimeException e) {
+                counts[2]++;
+                log.debug("{} 레코드 {} 건너뜀: {}", target, counts[0], e.getMessage());
+                return;
+            }
+            if (chunk.size() >= CHUNK_SIZE) {
+                counts[1] += sum(writeChunk(sql, chunk));
+                chunk.clear();
+                log.debug("{} 적재 진행 - 읽음: {}, 기록: {}", target, counts[0], counts[1]);
+            }
+        }, error -> {
+            counts[0]++;
+            counts[2]++;
+            log.debug("{} 레코드 {} 건너뜀: {}", target, counts[0], error);
+        });
+        if (!chunk.isEmpty()) {
+            counts[1] += sum(writeChunk(sql, chunk));
+        }
+
+        BulkImportResultDto result = new BulkImportResultDto(
+            target, counts[1], counts[0] - counts[1], System.currentTimeMillis() - startMillis);
+        log.info("{} 대량 적재 완료 - 기록: {}건, 건너뜀: {}건 (형식 오류 {}건), {}ms",
+                target, result.getImportedCount(), result.getSkippedCount(), counts[2], result.getElapsedMillis());
+        return result;
+    }
+
+    /**
+     * 한 청크를 하나의 트랜잭션에서 배치로 실행합니다
+     *
+     * @param sql 배치 SQL
+     * @param chunk SQL 파라미터 목록
+     * @return 문장별 반영 행 수
+     */
+    private int[] writeChunk(String sql, List<Object[]> chunk) {
+        return transactionTemplate.execute(status -> jdbcTemplate.batchUpdate(sql, chunk));
+    }
+
+    private Map<String, Long> loadIdMap(String sql) {
+        Map<String, Long> ids = new HashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            ids.putIfAbsent(rs.getString(1), rs.getLong(2));
+        });
+        return ids;
+    }
+
+    private static String required(Map<String, String> record, String field) {
+        String value = record.get(field);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("필수 필드 누락: " + field);
+        }
+        return value.trim();
+    }
+
+    private static Long resolve(Map<String, Long> ids, String key) {
+        Long id = ids.get(key);
+        if (id == null) {
+            throw new IllegalArgumentException("참조 대상을 찾을 수 없습니다: " + key);
+        }
+        return id;
+    }
+
+    private static LocalDate parseDate(String value) {
+        return value == null ? null : LocalDate.parse(value.trim());
+    }
+
+    private static int sum(int[] rowCounts) {
+        int total = 0;
+        for (int rowCount : rowCounts) {
+            total += Math.max(rowCount, 0);
+        }
+        return total;
+    }
+
+    /**
+     * 시퀀스에서 pooled-lo 방식으로 ID 블록을 예약해 순서대로 나눠주는 할당기
+     * 시퀀스 값 v를 받으면 v ~ v + IdSequences.ALLOCATION_SIZE - 1 구간을 사용하며, 이는 Hibernate pooled-lo 옵티마이저와 같은 규칙입니다
+     */
+    private class IdBlock {
+
+        private final String sequenceName;
+        private long next = 1;
+        private long last = 0;
+
+        IdBlock(String sequenceName) {
+            this.sequenceName = sequenceName;
+        }
+
+        long next() {
+            if (next > last) {
+                Long lo = jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR " + sequenceName, Long.class);
+                next = lo;
+                last = lo + IdSequences.ALLOCATION_SIZE - 1;
+            }
+            return next++;
+        }
+    }
+}
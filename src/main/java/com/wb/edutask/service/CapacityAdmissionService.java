@@ -0,0 +1,189 @@
+package com.wb.edutask.service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import com.wb.edutask.enums.CircuitState;
+import com.wb.edutask.repository.CourseRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 수강신청 정원 확인 서비스
+ * 평소에는 Redis Lua 스크립트로 정원을 확인하고, Redis 회로 차단 중에는 DB 조건부 UPDATE로 확인합니다
+ *
+ * DB 모드는 수강신청 저장과 같은 트랜잭션에서
+ * UPDATE courses SET current_students = current_students + 1 WHERE id = ? AND current_students < max_students
+ * 를 실행하고 변경 행 수(0 또는 1)로 성공 여부를 판단합니다
+ *
+ * 결과 Map 구성은 RedisConcurrencyService.executeEnrollmentLuaScript와 같고, 처리 방식(mode: REDIS/DATABASE)이 추가됩니다
+ *
+ * @author WB Development Team
+ * @version 1.0.0
+ * @since 2025-09-24
+ */
+@Slf4j
+@Service
+public class CapacityAdmissionService {
+
+    public static final String MODE_REDIS = "REDIS";
+    public static final String MODE_DATABASE = "DATABASE";
+
+    private final RedisConcurrencyService redisConcurrencyService;
+    private final RedisCircuitBreaker redisCircuitBreaker;
+    private final CourseRepository courseRepository;
+    private final StudentQuotaService studentQuotaService;
+    private final Timer redisTimer;
+    private final Timer databaseTimer;
+
+    // DB 모드 처리량 보고용 구간 카운터
+    private final LongAdder degradedAdmissions = new LongAdder();
+    private volatile long windowStartMillis = System.currentTimeMillis();
+
+    /**
+     * CapacityAdmissionService 생성자
+     *
+     * @param redisConcurrencyService Redis 동시성 서비스
+     * @param redisCircuitBreaker Redis 회로 차단기
+     * @param courseRepository 강의 Repository
+     * @param studentQuotaService 학생별 수강 한도 서비스
+     * @param meterRegistry Micrometer 레지스트리
+     */
+    public CapacityAdmissionService(RedisConcurrencyService redisConcurrencyService,
+                                    RedisCircuitBreaker redisCircuitBreaker,
+                                    CourseRepository courseRepository,
+                                    StudentQuotaService studentQuotaService,
+                                    MeterRegistry meterRegistry) {
+        this.redisConcurrencyService = redisConcurrencyService;
+        this.redisCircuitBreaker = redisCircuitBreaker;
+        this.courseRepository = courseRepository;
+        this.studentQuotaService = studentQuotaService;
+        this.redisTimer = Timer.builder("enrollment.admission")
+                .description("정원 확인 처리 시간 (처리 방식별)")
+                .tag("mode", MODE_REDIS)
+                .register(meterRegistry);
+        this.databaseTimer = Timer.builder("enrollment.admission")
+                .description("정원 확인 처리 시간 (처리 방식별)")
+                .tag("mode", MODE_DATABASE)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 정원을 확인하고 좌석을 확보합니다
+     * DB 모드는 호출 측 트랜잭션에 참여하므로 수강신청 저장이 롤백되면 좌석 증가도 함께 롤백됩니다
+     *
+     * @param studentId 학생 ID
+     * @param courseId 강의 ID
+     * @return 처리 결과 (success, message, newStudentCount, mode)
+     */
+    public Map<String, Object> admit(Long studentId, Long courseId) {
+        CircuitState circuit = redisCircuitBreaker.getState();
+        if (circuit == CircuitState.HALF_OPEN) {
+            return result(false, "CIRCUIT_SWITCHING", null, null);
+        }
+        if (circuit == CircuitState.OPEN) {
+            return admitWithDatabase(studentId, courseId);
+        }
+
+        long startNanos = System.nanoTime();
+        Map<String, Object> luaResult = redisConcurrencyService.executeEnrollmentLuaScript(studentId, courseId);
+        redisTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+
+        if ("SCRIPT_EXECUTION_ERROR".equals(luaResult.get("message"))) {
+            redisCircuitBreaker.recordFailure();
+        } else {
+            redisCircuitBreaker.recordSuccess();
+        }
+        if (Boolean.TRUE.equals(luaResult.get("success"))) {
+            // 스크립트가 늘린 학생 카운터는 Enrollment 저장이 롤백되면 되돌림
+            studentQuotaService.releaseOnRollback(studentId);
+        }
+        luaResult.put("mode", MODE_REDIS);
+        return luaResult;
+    }
+
+    /**
+     * DB 조건부 UPDATE로 좌석을 확보합니다 (Redis 회로 차단 중)
+     * 학생별 수강 한도는 Redis 카운터 대신 DB COUNT로 확인합니다
+     *
+     * 진행 중 기록을 먼저 남기고 회로 상태를 다시 확인합니다
+     * 차단 상태를 읽은 뒤 기록하기 전에 복구 시도가 대기를 마치고 Hash를 재적재하면,
+     * 이 수강신청의 DB 증가분이 Redis에 반영되지 않아 정원을 넘길 수 있기 때문입니다
+     *
+     * @param studentId 학생 ID
+     * @param courseId 강의 ID
+     * @return 처리 결과
+     */
+    private Map<String, Object> admitWithDatabase(Long studentId, Long courseId) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("DB 정원 확인은 수강신청 트랜잭션 안에서 실행해야 합니다");
+        }
+
+        // 복구 시 진행 중인 DB 모드 수강신청이 커밋/롤백될 때까지 기다릴 수 있도록 기록
+        redisCircuitBreaker.beginDegradedAdmission();
+        boolean endOnCompletion = false;
+        try {
+            // 기록 전에 복구 시도가 시작됐으면 대기 대상에서 빠졌으므로 진행하지 않음
+            if (redisCircuitBreaker.getState() != CircuitState.OPEN) {
+                return result(false, "CIRCUIT_SWITCHING", null, null);
+            }
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    redisCircuitBreaker.endDegradedAdmission();
+                }
+            });
+            endOnCompletion = true;
+
+            if (!studentQuotaService.hasRoomInDatabase(studentId)) {
+                return result(false, "STUDENT_QUOTA_EXCEEDED", null, MODE_DATABASE);
+            }
+
+            long startNanos = System.nanoTime();
+            int updated = courseRepository.incrementCurrentStudentsIfAvailable(courseId);
+            databaseTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+
+            if (updated == 1) {
+                degradedAdmissions.increment();
+                return result(true, "SUCCESS", null, MODE_DATABASE);
+            }
+            return result(false, "CAPACITY_EXCEEDED", null, MODE_DATABASE);
+        } finally {
+            if (!endOnCompletion) {
+                redisCircuitBreaker.endDegradedAdmission();
+            }
+        }
+    }
+
+    /**
+     * DB 모드 처리량을 주기적으로 보고합니다 (DB 모드로 처리된 수강신청이 있을 때만)
+     */
+    @Scheduled(fixedRateString = "${wb.redis.circuit-breaker.report-interval-ms:10000}")
+    public void reportDegradedThroughput() {
+        long now = System.currentTimeMillis();
+        long count = degradedAdmissions.sumThenReset();
+        double seconds = Math.max(1, now - windowStartMillis) / 1000.0;
+        windowStartMillis = now;
+
+        if (count > 0) {
+            log.warn("🟠 DB 정원 모드 처리량 - {}건 / {}초 ({}건/초), 회로 상태: {}",
+                    count, String.format("%.1f", seconds), String.format("%.1f", count / seconds),
+                    redisCircuitBreaker.getState().getDescription());
+        }
+    }
+
+    private static Map<String, Object> result(boolean success, String message, Long newCount, String mode) {
+        Map<String, Object> result = new HashMap<>();
+        result.put("success", success);
+        result.put("message", message);
+        result.put("newStudentCount", newCount);
+        result.put("mode", mode);
+        return result;
+    }
+}
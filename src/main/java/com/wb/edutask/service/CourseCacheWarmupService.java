@@ -0,0 +1,134 @@
+package com.wb.edutask.service;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import com.wb.edutask.dto.CourseCacheSnapshot;
+import com.wb.edutask.repository.CourseRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis 강의 정원 캐시(course:{id} Hash) 워밍 서비스
+ * 수강신청 오픈 순간 첫 요청들이 동시에 캐시 미스를 내고 DB 카운트를 몰아서 조회하지 않도록,
+ * 시작 시와 주기적으로 수강신청 가능한 모든 강의를 한 번의 집계 쿼리로 읽어 파이프라인으로 적재합니다
+ *
+ * 주기 실행은 currentStudents를 비어있을 때만 채우므로(HSETNX) 진행 중인 Redis 카운터를 되돌리지 않습니다
+ *
+ * @author WB Development Team
+ * @version 1.0.0
+ * @since 2025-09-24
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CourseCacheWarmupService {
+
+    private final CourseRepository courseRepository;
+    private final RedisConcurrencyService redisConcurrencyService;
+
+    @Value("${wb.redis.course-cache.warmup-enabled:true}")
+    private boolean warmupEnabled;
+
+    // 직전 워밍 대상 강의 ID (수강신청 불가로 바뀐 강의를 찾기 위함)
+    private volatile Set<Long> lastWarmedCourseIds = Set.of();
+
+    /**
+     * 애플리케이션 시작 완료 시 캐시를 워밍합니다
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpOnStartup() {
+        if (warmupEnabled) {
+            warmUp();
+        }
+    }
+
+    /**
+     * 주기적으로 캐시를 워밍합니다 (만료되었거나 새로 개설된 강의 보충)
+     */
+    @Scheduled(fixedDelayString = "${wb.redis.course-cache.warmup-interval-ms:60000}",
+               initialDelayString = "${wb.redis.course-cache.warmup-interval-ms:60000}")
+    public void scheduledWarmUp() {
+        if (warmupEnabled) {
+            warmUp();
+        }
+    }
+
+    /**
+     * 수강신청 가능한 모든 강의의 Hash를 적재합니다
+     * Redis 장애 시에도 예외를 전파하지 않습니다 (요청 시 동기화로 대체)
+     *
+     * @return 적재한 강의 수
+     */
+    public int warmUp() {
+        long startMillis = System.currentTimeMillis();
+        try {
+            List<CourseCacheSnapshot> snapshots = loadSnapshots();
+
+            int warmed = redisConcurrencyService.warmCourseHashes(snapshots, false);
+
+            // 직전에는 수강신청 가능했지만 지금은 아닌 강의는 고정 TTL로 자연 만료
+            Set<Long> currentIds = snapshots.stream()
+                .map(CourseCacheSnapshot::getCourseId)
+                .collect(Collectors.toSet());
+            Set<Long> closedIds = new HashSet<>(lastWarmedCourseIds);
+            closedIds.removeAll(currentIds);
+            redisConcurrencyService.expireCourseHashes(closedIds);
+            lastWarmedCourseIds = currentIds;
+
+            log.info("강의 캐시 워밍 완료 - {}개, 만료 예약: {}개, {}ms",
+                    warmed, closedIds.size(), System.currentTimeMillis() - startMillis);
+            return warmed;
+        } catch (Exception e) {
+            log.warn("강의 캐시 워밍 실패: {}", e.getMessage());
+            return 0;
+        }
+    }
+
+    /**
+     * 수강신청 가능한 모든 강의의 수강생 수를 DB 기준으로 덮어씁니다 (Redis 장애 복구 시)
+     * 장애 중 DB에서 처리된 수강신청이 Redis 카운터에 없으므로 HSETNX가 아닌 HSET으로 적재합니다
+     * 실패 시 예외를 전파합니다 (회로 차단기가 복구를 미룸)
+     *
+     * @return 적재한 강의 수
+     */
+    public int reloadFromDatabase() {
+        long startMillis = System.currentTimeMillis();
+        List<CourseCacheSnapshot> snapshots = loadSnapshots();
+        int warmed = redisConcurrencyService.warmCourseHashes(snapshots, true);
+        lastWarmedCourseIds = snapshots.stream()
+            .map(CourseCacheSnapshot::getCourseId)
+            .collect(Collectors.toSet());
+
+        log.info("강의 캐시 DB 기준 재적재 완료 - {}개, {}ms", warmed, System.currentTimeMillis() - startMillis);
+        return warmed;
+    }
+
+    private List<CourseCacheSnapshot> loadSnapshots() {
+        return courseRepository.findEnrollableCoursesWithEnrollmentCount().stream()
+            .map(CourseCacheWarmupService::toSnapshot)
+            .toList();
+    }
+
+    /**
+     * 집계 쿼리 결과를 강의 스냅샷으로 변환합니다
+     *
+     * @param row [강의ID, 강의명, 수강신청수, 정원, 강사ID]
+     * @return 강의 스냅샷
+     */
+    private static CourseCacheSnapshot toSnapshot(Object[] row) {
+        return new CourseCacheSnapshot(
+            (Long) row[0],
+            (String) row[1],
+            ((Number) row[2]).intValue(),
+            ((Number) row[3]).intValue(),
+            (Long) row[4]
+        );
+    }
+}
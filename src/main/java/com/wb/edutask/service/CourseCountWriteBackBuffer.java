@@ -0,0 +1,154 @@
+package com.wb.edutask.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import com.wb.edutask.enums.CircuitState;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 강의 수강생 수(currentStudents) 쓰기 지연 버퍼
+ * 수강신청마다 Course 엔티티를 저장하지 않고, 변경된 강의만 표시해 두었다가 주기적으로 한 번에 반영합니다
+ *
+ * - 기록: 강의별 최신 수강생 수만 유지 (같은 강의에 1,000건이 몰려도 항목은 1개)
+ * - 반영: Redis Hash의 현재 값(정원 제어 기준)을 파이프라인으로 읽어 JDBC 배치 UPDATE 1회로 저장
+ *   요청 순서가 뒤바뀌어도 반영 시점의 Redis 값으로 저장하므로 오래된 값이 덮어쓰지 않습니다
+ * - Redis 회로 차단 중에는 DB가 정원 기준이므로 반영을 미루고, Redis 조회가 실패한 항목은 다시 표시합니다
+ *
+ * @author WB Development Team
+ * @version 1.0.0
+ * @since 2025-09-24
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CourseCountWriteBackBuffer {
+
+    private static final String UPDATE_CURRENT_STUDENTS_SQL =
+        "UPDATE courses SET current_students = ?, updated_at = ? WHERE id = ? AND current_students <> ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisConcurrencyService redisConcurrencyService;
+    private final RedisCircuitBreaker redisCircuitBreaker;
+
+    private final Map<Long, Integer> dirtyCounts = new ConcurrentHashMap<>();
+
+    /**
+     * 강의 수강생 수 변경을 기록합니다
+     *
+     * @param courseId 강의 ID
+     * @param currentStudents Redis에서 갱신된 수강생 수 (Redis 값이 없을 때의 대체값)
+     */
+    public void record(Long courseId, int currentStudents) {
+        dirtyCounts.put(courseId, currentStudents);
+    }
+
+    /**
+     * 반영 대기 중인 강의 수를 반환합니다
+     *
+     * @return 대기 중인 강의 수
+     */
+    public int pendingCount() {
+        return dirtyCounts.size();
+    }
+
+    /**
+     * 변경된 강의의 수강생 수를 DB에 일괄 반영합니다
+     *
+     * @return 실제로 값이 바뀐 강의 수
+     */
+    @Scheduled(fixedDelayString = "${wb.enrollment.write-back.flush-interval-ms:500}")
+    public int flush() {
+        if (dirtyCounts.isEmpty() || redisCircuitBreaker.getState() != CircuitState.CLOSED) {
+            return 0;
+        }
+
+        // 1. 대기 항목 가져오기 (가져오는 동안 새로 기록된 강의는 남겨 두고 다음 반영에서 다시 처리)
+        List<Long> courseIds = new ArrayList<>();
+        List<Integer> fallbackCounts = new ArrayList<>();
+        for (Map.Entry<Long, Integer> entry : dirtyCounts.entrySet()) {
+            courseIds.add(entry.getKey());
+            fallbackCounts.add(entry.getValue());
+            dirtyCounts.remove(entry.getKey(), entry.getValue());
+        }
+
+        // 2. Redis 현재 값을 파이프라인으로 조회 (키가 만료된 강의는 기록된 값 사용)
+        List<Object> redisCounts = readRedisCounts(courseIds);
+        if (redisCounts == null) {
+            remark(courseIds, fallbackCounts);
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> batchArgs = new ArrayList<>(courseIds.size());
+        for (int i = 0; i < courseIds.size(); i++) {
+            Object redisCount = redisCounts.get(i);
+            int count = redisCount != null ? Integer.parseInt(redisCount.toString()) : fallbackCounts.get(i);
+            batchArgs.add(new Object[] {count, Timestamp.valueOf(now), courseIds.get(i), count});
+        }
+
+        // 3. JDBC 배치 UPDATE 1회
+        try {
+            int[] results = jdbcTemplate.batchUpdate(UPDATE_CURRENT_STUDENTS_SQL, batchArgs);
+            int updated = 0;
+            for (int result : results) {
+                updated += Math.max(result, 0);
+            }
+            log.debug("currentStudents 일괄 반영 완료 - 대상 강의: {}, 변경: {}", courseIds.size(), updated);
+            return updated;
+        } catch (Exception e) {
+            remark(courseIds, fallbackCounts);
+            log.warn("currentStudents 일괄 반영 실패 - 대상 강의: {}, Error: {}", courseIds.size(), e.getMessage());
+            return 0;
+        }
+    }
+
+    /**
+     * 종료 시 남은 항목을 반영합니다
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        int pending = dirtyCounts.size();
+        if (pending > 0) {
+            flush();
+            log.info("종료 전 currentStudents 반영 완료 - 강의 수: {}", pending);
+        }
+    }
+
+    /**
+     * 반영하지 못한 항목을 다시 표시합니다 (그 사이 들어온 최신 기록은 유지)
+     */
+    private void remark(List<Long> courseIds, List<Integer> fallbackCounts) {
+        for (int i = 0; i < courseIds.size(); i++) {
+            dirtyCounts.putIfAbsent(courseIds.get(i), fallbackCounts.get(i));
+        }
+    }
+
+    private List<Object> readRedisCounts(List<Long> courseIds) {
+        String currentField = redisConcurrencyService.getHashLayout().getCurrentField();
+        try {
+            return stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection conn = (StringRedisConnection) connection;
+                for (Long courseId : courseIds) {
+                    conn.hGet("course:" + courseId, currentField);
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("Redis 수강생 수 조회 실패, 다음 반영으로 미룸 - Error: {}", e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.wb.edutask.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import com.wb.edutask.repository.CourseRepository;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 강의 상태 전환 스케줄러
+ * 강의 상태는 관리자가 한 건씩 바꾸지 않으면 시작일/종료일과 어긋나므로, 날짜 기준으로 일괄 전환합니다
+ *
+ * - 개설 예정 → 진행 중: 시작일이 된 강의 (set-based UPDATE 1회)
+ * - 개설 예정/진행 중 → 종료: 종료일이 지난 강의 (ID 조회 후 배치 단위 UPDATE)
+ * - 커밋 후 종료된 강의의 Redis Hash와 랭킹 ZSet 멤버를 하나의 파이프라인으로 제거
+ *
+ * @author WB Development Team
+ * @version 1.0.0
+ * @since 2025-09-24
+ */
+@Slf4j
+@Service
+public class CourseLifecycleScheduler {
+
+    // 분산락 키
+    private static final String LIFECYCLE_LOCK_KEY = "lock:course-lifecycle";
+
+    // 락 해제용 Lua 스크립트 (안전한 해제를 위해)
+    private static final String UNLOCK_SCRIPT =
+        "if redis.call('get', KEYS[1]) == ARGV[1] then " +
+        "    return redis.call('del', KEYS[1]) " +
+        "else " +
+        "    return 0 " +
+        "end";
+
+    private final DefaultRedisScript<Long> unlockScript = new DefaultRedisScript<>(UNLOCK_SCRIPT, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final CourseRepository courseRepository;
+    private final CourseRankingService courseRankingService;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    /**
+     * CourseLifecycleScheduler 생성자
+     *
+     * @param stringRedisTemplate Redis 템플릿
+     * @param courseRepository 강의 Repository
+     * @param courseRankingService 강의 랭킹 서비스
+     * @param transactionManager 트랜잭션 매니저
+     * @param batchSize 종료 전환 UPDATE 배치 크기
+     */
+    public CourseLifecycleScheduler(StringRedisTemplate stringRedisTemplate,
+                                    CourseRepository courseRepository,
+                                    CourseRankingService courseRankingService,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${wb.course-lifecycle.batch-size:1000}") int batchSize) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.courseRepository = courseRepository;
+        this.courseRankingService = courseRankingService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 날짜 기준으로 강의 상태를 전환합니다 (매일 자정 이후, 분산락 적용)
+     */
+    @Scheduled(cron = "${wb.course-lifecycle.cron:0 5 0 * * *}")
+    public void transitionDueCourses() {
+        String lockValue = UUID.randomUUID().toString();
+        Boolean lockAcquired = stringRedisTemplate.opsForValue()
+            .setIfAbsent(LIFECYCLE_LOCK_KEY, lockValue, Duration.ofMinutes(5));
+
+        if (!Boolean.TRUE.equals(lockAcquired)) {
+            log.debug("다른 서버에서 강의 상태 전환 중입니다. 스킵합니다.");
+            return;
+        }
+
+        try {
+            transition(LocalDate.now());
+        } catch (Exception e) {
+            log.error("강의 상태 전환 중 오류 발생", e);
+        } finally {
+            stringRedisTemplate.execute(unlockScript, List.of(LIFECYCLE_LOCK_KEY), lockValue);
+        }
+    }
+
+    /**
+     * 기준일로 강의 상태를 전환합니다
+     *
+     * @param today 기준일
+     * @return 종료 상태로 전환된 강의 ID 목록
+     */
+    List<Long> transition(LocalDate today) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> completedIds = new ArrayList<>();
+
+        Integer startedCount = transactionTemplate.execute(status -> {
+            int started = courseRepository.startScheduledCourses(today, now);
+
+            List<Long> dueIds = courseRepository.findIdsDueForCompletion(today);
+            for (int from = 0; from < dueIds.size(); from += batchSize) {
+                List<Long> batch = dueIds.subList(from, Math.min(from + batchSize, dueIds.size()));
+                courseRepository.completeCourses(batch, now);
+            }
+            completedIds.addAll(dueIds);
+            return started;
+        });
+
+        // 커밋 후 Redis 정리 (실패해도 TTL 만료와 수강신청 시 상태 검증으로 안전)
+        try {
+            courseRankingService.evictClosedCourses(completedIds);
+        } catch (Exception e) {
+            log.warn("종료 강의 Redis 정리 실패 - 강의 수: {}, Error: {}", completedIds.size(), e.getMessage());
+        }
+
+        if ((startedCount != null && startedCount > 0) || !completedIds.isEmpty()) {
+            log.info("✅ 강의 상태 전환 완료 - 진행중 전환: {}개, 종료 전환: {}개", startedCount, completedIds.size());
+        } else {
+            log.debug("전환할 강의가 없습니다 - 기준일: {}", today);
+        }
+        return completedIds;
+    }
+}
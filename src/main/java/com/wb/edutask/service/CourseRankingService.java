@@ -1,15 +1,22 @@
 package com.wb.edutask.service;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import org.springframework.data.domain.*;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import com.wb.edutask.dto.CourseCacheSnapshot;
 import com.wb.edutask.dto.CourseResponseDto;
 import com.wb.edutask.entity.Course;
 import com.wb.edutask.repository.CourseRepository;
@@ -47,6 +54,7 @@ public class CourseRankingService {
      * @param pageable 페이징 정보
      * @return 정렬된 강의 목록
      */
+    @Transactional(readOnly = true)
     public Page<CourseResponseDto> getRankedCourses(String sortBy, Pageable pageable) {
         try {
             // 1페이지이고 ZSet 지원 정렬이면 ZSet 사용
@@ -181,6 +189,74 @@ public class CourseRankingService {
         }
     }
     
+    /**
+     * 강의 스냅샷으로 랭킹 ZSet을 다시 구성합니다 (대량 적재 후 캐시 워밍용)
+     * 정렬 기준별 상위 40개만 골라 DEL + ZADD + EXPIRE를 하나의 파이프라인으로 보냅니다
+     *
+     * @param snapshots 수강신청 가능한 강의 스냅샷 목록
+     */
+    public void rebuildRankings(List<CourseCacheSnapshot> snapshots) {
+        List<CourseCacheSnapshot> topByApplicants = snapshots.stream()
+            .sorted(Comparator.comparingInt(CourseCacheSnapshot::getCurrentStudents).reversed())
+            .limit(ZSET_MAX_SIZE)
+            .toList();
+        List<CourseCacheSnapshot> topByRate = snapshots.stream()
+            .sorted(Comparator.comparingDouble(this::calculateRate).reversed())
+            .limit(ZSET_MAX_SIZE)
+            .toList();
+
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            long ttlSeconds = TimeUnit.MINUTES.toSeconds(ZSET_TTL_MINUTES);
+
+            conn.del(RANKING_APPLICANTS, RANKING_RATE);
+            for (CourseCacheSnapshot snapshot : topByApplicants) {
+                conn.zAdd(RANKING_APPLICANTS, snapshot.getCurrentStudents(), "course:" + snapshot.getCourseId());
+            }
+            for (CourseCacheSnapshot snapshot : topByRate) {
+                conn.zAdd(RANKING_RATE, calculateRate(snapshot), "course:" + snapshot.getCourseId());
+            }
+            conn.expire(RANKING_APPLICANTS, ttlSeconds);
+            conn.expire(RANKING_RATE, ttlSeconds);
+            return null;
+        });
+
+        log.info("ZSet 랭킹 재구성 완료 - 신청자순: {}개, 신청률순: {}개", topByApplicants.size(), topByRate.size());
+    }
+
+    /**
+     * 수강신청이 끝난 강의를 Redis에서 제거합니다 (강의 상태 일괄 전환 후 호출)
+     * 강의 Hash(course:{id}) DEL과 랭킹 ZSet ZREM을 하나의 파이프라인으로 보냅니다
+     *
+     * @param courseIds 종료된 강의 ID 목록
+     */
+    public void evictClosedCourses(Collection<Long> courseIds) {
+        if (courseIds.isEmpty()) {
+            return;
+        }
+        String[] members = courseIds.stream().map(courseId -> "course:" + courseId).toArray(String[]::new);
+
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            conn.del(members);
+            conn.zRem(RANKING_APPLICANTS, members);
+            conn.zRem(RANKING_RATE, members);
+            return null;
+        });
+
+        log.info("종료 강의 Redis 정리 완료 - 강의 수: {}", courseIds.size());
+    }
+
+    /**
+     * 강의 스냅샷의 신청률을 계산합니다
+     *
+     * @param snapshot 강의 스냅샷
+     * @return 신청률 (currentStudents / maxStudents)
+     */
+    private double calculateRate(CourseCacheSnapshot snapshot) {
+        return snapshot.getMaxStudents() > 0 ? (double) snapshot.getCurrentStudents() / snapshot.getMaxStudents() : 0.0;
+    }
+
     /**
      * ZSet에 이미 있는 강의만 업데이트하거나, 상위 20개에 들 수 있는 경우만 추가
      * 
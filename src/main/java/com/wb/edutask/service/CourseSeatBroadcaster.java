@@ -0,0 +1,264 @@
+package com.wb.edutask.service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 강의 수강인원 실시간 전송기
+ * 수강인원이 바뀔 때 Lua 스크립트(또는 보정 작업)가 PUBLISH 한 "강의ID:수강인원" 메시지를 받아,
+ * 이 노드에 연결된 브라우저들에 SSE(text/event-stream)로 전달합니다
+ *
+ * - 병합: 메시지는 강의별 최신 값만 남기고, flush-interval-ms(기본 100ms)마다 모아서 한 번에 전송
+ *   (인기 강의에 초당 수천 건의 변경이 몰려도 강의당 초당 10회 이하로 전송)
+ * - 전송 이벤트: name "seats", data {"강의ID": 수강인원, ...}
+ * - 연결 유지: 변경이 없어도 heartbeat-interval-ms마다 SSE 주석을 보내 프록시가 연결을 끊지 않게 함
+ * - 전송 분리: 스케줄러 스레드는 구독자별 전송을 전용 Executor(seatBroadcastExecutor)에 넘기기만 하므로
+ *   느린 연결에 쓰기가 막혀도 다른 구독자와 다른 스케줄 작업이 밀리지 않음
+ *   구독자마다 진행 중인 전송은 하나이며, 그동안 바뀐 값은 구독자별로 병합해 두었다가 다음 전송에 보냄
+ *   전송이 실패하거나 send-timeout-ms 넘게 끝나지 않으면 구독을 정리 (브라우저 EventSource가 다시 연결함)
+ *
+ * @author WB Development Team
+ * @version 1.0.0
+ * @since 2025-09-24
+ */
+@Slf4j
+@Component
+public class CourseSeatBroadcaster implements MessageListener {
+
+    /**
+     * 수강인원 변경 채널 (메시지 본문: "강의ID:수강인원")
+     */
+    public static final String CHANNEL = "channel:course-seats";
+
+    private static final String EVENT_NAME = "seats";
+
+    private final ObjectMapper objectMapper;
+    private final Executor sendExecutor;
+    private final long emitterTimeoutMillis;
+    private final int maxSubscribers;
+    private final long heartbeatIntervalMillis;
+    private final long sendTimeoutMillis;
+
+    private final ConcurrentHashMap<Long, Long> pendingCounts = new ConcurrentHashMap<>();
+    private final CopyOnWriteArrayList<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private volatile long lastSentAt = System.currentTimeMillis();
+
+    /**
+     * CourseSeatBroadcaster 생성자
+     *
+     * @param objectMapper 이벤트 데이터 직렬화용 ObjectMapper
+     * @param sendExecutor 구독자 전송 전용 Executor
+     * @param emitterTimeoutMillis SSE 연결 유지 시간 (지나면 브라우저가 자동 재연결)
+     * @param maxSubscribers 노드당 최대 구독자 수
+     * @param heartbeatIntervalMillis 변경이 없을 때 연결 유지 주석 전송 간격
+     * @param sendTimeoutMillis 구독자 한 명에게 보내는 전송의 최대 허용 시간
+     */
+    public CourseSeatBroadcaster(ObjectMapper objectMapper,
+                                 @Qualifier("seatBroadcastExecutor") Executor sendExecutor,
+                                 @Value("${wb.course-seats.push.emitter-timeout-ms:1800000}") long emitterTimeoutMillis,
+                                 @Value("${wb.course-seats.push.max-subscribers:5000}") int maxSubscribers,
+                                 @Value("${wb.course-seats.push.heartbeat-interval-ms:15000}") long heartbeatIntervalMillis,
+                                 @Value("${wb.course-seats.push.send-timeout-ms:5000}") long sendTimeoutMillis) {
+        this.objectMapper = objectMapper;
+        this.sendExecutor = sendExecutor;
+        this.emitterTimeoutMillis = emitterTimeoutMillis;
+        this.maxSubscribers = maxSubscribers;
+        this.heartbeatIntervalMillis = heartbeatIntervalMillis;
+        this.sendTimeoutMillis = sendTimeoutMillis;
+    }
+
+    /**
+     * 수강인원 변경 스트림을 구독합니다
+     *
+     * @return SSE 연결, 노드 구독자 수가 한도에 도달했으면 null
+     */
+    public SseEmitter subscribe() {
+        if (subscribers.size() >= maxSubscribers) {
+            return null;
+        }
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        register(emitter);
+        return emitter;
+    }
+
+    /**
+     * SSE 연결을 구독자로 등록합니다
+     *
+     * @param emitter SSE 연결
+     */
+    void register(SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+    }
+
+    /**
+     * 현재 구독자 수를 반환합니다
+     *
+     * @return 구독자 수
+     */
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * 수강인원 변경 메시지를 받아 강의별 최신 값으로 병합합니다
+     *
+     * @param message 메시지 (본문: "강의ID:수강인원")
+     * @param pattern 구독 패턴
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(':');
+        try {
+            pendingCounts.put(Long.valueOf(body.substring(0, separator)), Long.valueOf(body.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            log.warn("잘못된 수강인원 변경 알림: {}", body);
+        }
+    }
+
+    /**
+     * 병합된 수강인원 변경을 구독자별 전송 작업으로 넘깁니다 (전송 자체는 seatBroadcastExecutor에서 실행)
+     * 구독자가 없으면 변경을 버립니다 (새로 연결한 브라우저는 목록 조회로 현재 값을 받음)
+     */
+    @Scheduled(fixedDelayString = "${wb.course-seats.push.flush-interval-ms:100}")
+    public void flush() {
+        Map<Long, Long> counts = drain();
+        if (subscribers.isEmpty()) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        boolean heartbeat = counts.isEmpty() && now - lastSentAt >= heartbeatIntervalMillis;
+        for (Subscriber subscriber : subscribers) {
+            subscriber.merge(counts);
+            long sendingSince = subscriber.sendingSince;
+            if (sendingSince != 0) {
+                // 이전 전송이 아직 진행 중이면 값만 병합해 두고, 너무 오래 막혀 있으면 구독 정리
+                if (now - sendingSince >= sendTimeoutMillis) {
+                    drop(subscriber);
+                }
+                continue;
+            }
+            if (!subscriber.hasUnsent() && !heartbeat) {
+                continue;
+            }
+            subscriber.sendingSince = now;
+            try {
+                sendExecutor.execute(() -> send(subscriber));
+            } catch (RejectedExecutionException e) {
+                // 병합 값은 남아 있으므로 다음 주기에 다시 시도
+                subscriber.sendingSince = 0;
+            }
+        }
+        if (!counts.isEmpty() || heartbeat) {
+            lastSentAt = now;
+        }
+    }
+
+    /**
+     * 병합된 변경을 꺼냅니다 (꺼내는 동안 새로 들어온 값은 남겨 두고 다음 전송에서 처리)
+     *
+     * @return 강의 ID → 최신 수강인원
+     */
+    Map<Long, Long> drain() {
+        Map<Long, Long> counts = new LinkedHashMap<>();
+        for (Map.Entry<Long, Long> entry : pendingCounts.entrySet()) {
+            counts.put(entry.getKey(), entry.getValue());
+            pendingCounts.remove(entry.getKey(), entry.getValue());
+        }
+        return counts;
+    }
+
+    /**
+     * 구독자 한 명에게 병합된 변경(없으면 연결 유지 주석)을 보냅니다 (seatBroadcastExecutor 스레드에서 실행)
+     *
+     * @param subscriber 구독자
+     */
+    private void send(Subscriber subscriber) {
+        try {
+            Map<Long, Long> counts = subscriber.takeUnsent();
+            SseEmitter.SseEventBuilder event;
+            if (counts.isEmpty()) {
+                event = SseEmitter.event().comment("heartbeat");
+            } else {
+                event = SseEmitter.event().name(EVENT_NAME).data(objectMapper.writeValueAsString(counts));
+            }
+            subscriber.emitter.send(event.build());
+        } catch (JsonProcessingException e) {
+            log.warn("수강인원 변경 직렬화 실패 - Error: {}", e.getMessage());
+        } catch (IOException | IllegalStateException e) {
+            // 끊긴 연결은 정리 (브라우저 EventSource가 다시 연결함)
+            subscribers.remove(subscriber);
+            subscriber.emitter.completeWithError(e);
+            return;
+        } finally {
+            subscriber.sendingSince = 0;
+        }
+        if (subscriber.dropped) {
+            // 전송이 늦어 정리된 구독자는 막혀 있던 전송이 끝난 뒤에 연결을 닫음
+            subscriber.emitter.complete();
+        }
+    }
+
+    /**
+     * 전송이 send-timeout-ms 넘게 막힌 구독자를 목록에서 뺍니다
+     * 연결 종료는 전송 중인 스레드와 같은 잠금을 쓰므로 스케줄러 스레드에서 기다리지 않고, 막힌 전송이 끝날 때 처리합니다
+     *
+     * @param subscriber 구독자
+     */
+    private void drop(Subscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            subscriber.dropped = true;
+            log.debug("전송이 늦은 수강인원 구독자 정리 - 남은 구독자: {}", subscribers.size());
+        }
+    }
+
+    /**
+     * 구독자별 전송 상태 (진행 중인 전송 시작 시각, 아직 보내지 못한 변경)
+     */
+    private static final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final Map<Long, Long> unsent = new LinkedHashMap<>();
+        private volatile long sendingSince; // 0이면 진행 중인 전송 없음
+        private volatile boolean dropped;
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        private synchronized void merge(Map<Long, Long> counts) {
+            unsent.putAll(counts);
+        }
+
+        private synchronized boolean hasUnsent() {
+            return !unsent.isEmpty();
+        }
+
+        private synchronized Map<Long, Long> takeUnsent() {
+            Map<Long, Long> counts = new LinkedHashMap<>(unsent);
+            unsent.clear();
+            return counts;
+        }
+    }
+}
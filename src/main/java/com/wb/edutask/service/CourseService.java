@@ -1,6 +1,7 @@
 package com.wb.edutask.service;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -256,6 +257,30 @@ public class CourseService {
         return CourseResponseDto.from(updatedCourse);
     }
     
+    /**
+     * 강의를 추첨 방식으로 전환합니다
+     * 마감 일시 전까지의 수강신청은 응모로 접수되고, 마감 후 추첨 스케줄러가 정원만큼 당첨자를 등록합니다
+     * 
+     * @param courseId 강의 ID
+     * @param closesAt 추첨 마감 일시
+     * @return 변경된 강의 정보
+     * @throws RuntimeException 강의를 찾을 수 없거나 이미 추첨한 경우
+     */
+    public CourseResponseDto openLottery(Long courseId, LocalDateTime closesAt) {
+        Course course = courseRepository.findById(courseId)
+                .orElseThrow(() -> new RuntimeException("강의를 찾을 수 없습니다: " + courseId));
+        
+        if (course.getLotteryDrawnAt() != null) {
+            throw new RuntimeException("이미 추첨이 완료된 강의입니다");
+        }
+        if (!closesAt.isAfter(LocalDateTime.now())) {
+            throw new IllegalArgumentException("추첨 마감 일시는 현재 이후여야 합니다");
+        }
+        
+        course.setLotteryClosesAt(closesAt);
+        return CourseResponseDto.from(courseRepository.save(course));
+    }
+    
     /**
      * 강의 요청 데이터의 유효성을 검증합니다
      * 
@@ -10,6 +10,7 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import com.wb.edutask.entity.Course;
+import com.wb.edutask.enums.CourseCacheTtlPolicy;
 import com.wb.edutask.repository.CourseRepository;
 import com.wb.edutask.repository.EnrollmentRepository;
 import lombok.RequiredArgsConstructor;
@@ -31,6 +32,8 @@ public class CourseStatsScheduler {
     private final StringRedisTemplate stringRedisTemplate;
     private final CourseRepository courseRepository;
     private final EnrollmentRepository enrollmentRepository;
+    private final RedisConcurrencyService redisConcurrencyService;
+    private final StudentQuotaService studentQuotaService;
     
     // 분산락 키
     private static final String SYNC_LOCK_KEY = "lock:course-stats-sync";
@@ -68,6 +71,9 @@ public class CourseStatsScheduler {
             // 실제 보정 작업 수행
             performCorrection();
             
+            // 학생별 수강 카운터 보정 (학생별 수강 한도 사용 시)
+            studentQuotaService.reconcile();
+            
         } catch (Exception e) {
             log.error("강의 통계 보정 중 오류 발생", e);
         } finally {
@@ -129,10 +135,16 @@ public class CourseStatsScheduler {
                             courseId, course.getCourseName(), currentStudents, actualCount);
                     
                     // Redis Hash도 보정
-                    stringRedisTemplate.opsForHash().put(key, "currentStudents", String.valueOf(actualCount));
+                    stringRedisTemplate.opsForHash().put(key,
+                            redisConcurrencyService.getHashLayout().getCurrentField(), String.valueOf(actualCount));
+                    redisConcurrencyService.publishSeatCount(courseId, actualCount);
                     
-                    // Redis 키 TTL 갱신 (2분)
-                    stringRedisTemplate.expire(key, Duration.ofMinutes(2));
+                    // Redis 키 TTL 갱신 (TTL 정책 적용)
+                    redisConcurrencyService.applyCourseTtl(key, RedisConcurrencyService.isEnrollable(course.getStatus()));
+                } else if (redisConcurrencyService.getTtlPolicy() == CourseCacheTtlPolicy.PERSIST_WHILE_ENROLLABLE
+                        && !RedisConcurrencyService.isEnrollable(course.getStatus())) {
+                    // 수강신청 기간이 끝난 강의는 TTL 없이 남지 않도록 고정 TTL 적용
+                    redisConcurrencyService.applyCourseTtl(key, false);
                 }
                 
             } catch (Exception e) {
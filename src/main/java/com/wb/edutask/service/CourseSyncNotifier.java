@@ -0,0 +1,88 @@
+package com.wb.edutask.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 강의 Hash 재동기화 완료 알림 수신기
+ * 재동기화 리스(lease)를 얻지 못한 요청은 Thread.sleep 재시도 대신 이 수신기에 등록해 두고,
+ * 리스를 가진 노드가 Lua 스크립트에서 PUBLISH 한 완료 메시지를 받으면 즉시 깨어납니다
+ *
+ * 같은 강의를 기다리는 요청들은 하나의 CompletableFuture를 공유합니다
+ *
+ * @author WB Development Team
+ * @version 1.0.0
+ * @since 2025-09-24
+ */
+@Slf4j
+@Component
+public class CourseSyncNotifier implements MessageListener {
+
+    /**
+     * 재동기화 완료 채널 (메시지 본문: 강의 ID)
+     */
+    public static final String CHANNEL = "channel:course-sync";
+
+    private final ConcurrentHashMap<Long, CompletableFuture<Void>> waiters = new ConcurrentHashMap<>();
+
+    /**
+     * 강의 재동기화 완료 대기를 등록합니다
+     * 완료 메시지를 놓치지 않도록 Hash 존재 여부를 다시 확인하기 전에 먼저 등록해야 합니다
+     *
+     * @param courseId 강의 ID
+     * @return 완료 시 끝나는 Future
+     */
+    public CompletableFuture<Void> register(Long courseId) {
+        return waiters.computeIfAbsent(courseId, id -> new CompletableFuture<>());
+    }
+
+    /**
+     * 재동기화 완료를 최대 timeoutMillis 동안 기다립니다
+     *
+     * @param courseId 강의 ID
+     * @param future register로 받은 Future
+     * @param timeoutMillis 최대 대기 시간 (밀리초)
+     * @return 완료 알림을 받았으면 true, 시간 초과면 false
+     */
+    public boolean await(Long courseId, CompletableFuture<Void> future, long timeoutMillis) {
+        try {
+            future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (TimeoutException e) {
+            log.debug("강의 재동기화 완료 대기 시간 초과 - CourseId: {}", courseId);
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 재동기화 완료 메시지를 받아 대기 중인 요청을 깨웁니다
+     *
+     * @param message 메시지 (본문: 강의 ID)
+     * @param pattern 구독 패턴
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            Long courseId = Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8));
+            CompletableFuture<Void> future = waiters.remove(courseId);
+            if (future != null) {
+                future.complete(null);
+            }
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 강의 재동기화 알림: {}", e.getMessage());
+        }
+    }
+}
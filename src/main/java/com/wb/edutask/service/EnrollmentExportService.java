@@ -0,0 +1,159 @@
+package com.wb.edutask.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import com.wb.edutask.enums.EnrollmentStatus;
+import com.wb.edutask.repository.CourseRepository;
+import com.wb.edutask.repository.EnrollmentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 수강생 명단 CSV 내보내기 서비스
+ * 페이지 단위(OFFSET) 조회를 반복하지 않고, 정방향 커서로 읽은 행을 바로 응답 스트림에 씁니다
+ * 행은 엔티티가 아닌 컬럼 값으로만 읽으므로 내보내는 행 수와 관계없이 힙 사용량이 일정합니다
+ *
+ * @author WB Development Team
+ * @version 1.0.0
+ * @since 2025-09-24
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EnrollmentExportService {
+
+    private final EnrollmentRepository enrollmentRepository;
+    private final CourseRepository courseRepository;
+
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    // 스프레드시트가 수식으로 해석하는 첫 글자
+    private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+    // 엑셀에서 한글이 깨지지 않도록 UTF-8 BOM을 앞에 씁니다
+    private static final char UTF8_BOM = '\uFEFF';
+
+    private static final String[] ROSTER_HEADER =
+        {"수강신청ID", "학생ID", "이름", "이메일", "연락처", "상태", "신청일시", "취소일시"};
+
+    private static final String[] ALL_ENROLLMENTS_HEADER =
+        {"수강신청ID", "강의ID", "강의명", "학생ID", "이름", "이메일", "상태", "신청일시", "취소일시"};
+
+    /**
+     * 강의 존재 여부를 확인합니다 (응답 헤더를 쓰기 전에 호출)
+     *
+     * @param courseId 강의 ID
+     * @return 존재 여부
+     */
+    @Transactional(readOnly = true)
+    public boolean courseExists(Long courseId) {
+        return courseRepository.existsById(courseId);
+    }
+
+    /**
+     * 강의별 수강생 명단을 CSV로 씁니다
+     *
+     * @param courseId 강의 ID
+     * @param out 응답 출력 스트림
+     * @return 내보낸 행 수
+     * @throws IOException 출력 실패 시 (클라이언트 연결 종료 등)
+     */
+    @Transactional(readOnly = true)
+    public long writeCourseRoster(Long courseId, OutputStream out) throws IOException {
+        try (Stream<Object[]> rows = enrollmentRepository.streamRosterRowsByCourseId(courseId)) {
+            long count = writeCsv(out, ROSTER_HEADER, rows);
+            log.info("강의 명단 CSV 내보내기 완료 - CourseId: {}, 행 수: {}", courseId, count);
+            return count;
+        }
+    }
+
+    /**
+     * 전체 수강신청을 CSV로 씁니다 (관리자용)
+     *
+     * @param status 수강신청 상태 (null이면 전체)
+     * @param out 응답 출력 스트림
+     * @return 내보낸 행 수
+     * @throws IOException 출력 실패 시 (클라이언트 연결 종료 등)
+     */
+    @Transactional(readOnly = true)
+    public long writeAllEnrollments(EnrollmentStatus status, OutputStream out) throws IOException {
+        try (Stream<Object[]> rows = enrollmentRepository.streamAllEnrollmentRows(status)) {
+            long count = writeCsv(out, ALL_ENROLLMENTS_HEADER, rows);
+            log.info("전체 수강신청 CSV 내보내기 완료 - Status: {}, 행 수: {}", status != null ? status : "전체", count);
+            return count;
+        }
+    }
+
+    /**
+     * 헤더와 행을 CSV로 씁니다
+     * 버퍼가 찰 때마다 응답으로 내보내므로 전체 결과를 메모리에 모으지 않습니다
+     *
+     * @param out 출력 스트림
+     * @param header 헤더 컬럼명
+     * @param rows 행 스트림
+     * @return 내보낸 행 수
+     * @throws IOException 출력 실패 시
+     */
+    private long writeCsv(OutputStream out, String[] header, Stream<Object[]> rows) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 16 * 1024);
+        writer.write(UTF8_BOM);
+        writeLine(writer, header);
+
+        long count = 0;
+        Iterator<Object[]> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            writeLine(writer, iterator.next());
+            count++;
+        }
+        writer.flush();
+        return count;
+    }
+
+    private void writeLine(Writer writer, Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escape(format(values[i])));
+        }
+        writer.write("\r\n");
+    }
+
+    private static String format(Object value) {
+        if (value == null) {
+            return "";
+        }
+        if (value instanceof LocalDateTime dateTime) {
+            return dateTime.format(DATE_TIME_FORMAT);
+        }
+        if (value instanceof EnrollmentStatus status) {
+            return status.name();
+        }
+        return value.toString();
+    }
+
+    /**
+     * RFC 4180 규칙으로 필드를 이스케이프합니다 (쉼표/따옴표/줄바꿈이 있으면 따옴표로 감쌈)
+     * 스프레드시트가 수식으로 실행하지 않도록 =, +, -, @(및 탭/CR)로 시작하는 값은 앞에 '를 붙입니다
+     */
+    private static String escape(String value) {
+        if (!value.isEmpty() && FORMULA_PREFIXES.indexOf(value.charAt(0)) >= 0) {
+            value = "'" + value;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0
+                && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
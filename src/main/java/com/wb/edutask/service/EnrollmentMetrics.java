@@ -0,0 +1,134 @@
+package com.wb.edutask.service;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 수강신청 핫패스 지표 수집 컴포넌트
+ * 요청마다 INFO 로그를 남기는 대신 결과별 카운터로 집계하고,
+ * 구조화 로그(key-value)는 샘플링 비율만큼만 남깁니다
+ *
+ * @author WB Development Team
+ * @version 1.0.0
+ * @since 2025-09-24
+ */
+@Slf4j
+@Component
+public class EnrollmentMetrics {
+
+    /**
+     * 샘플링된 핫패스 이벤트 전용 로거 (운영 프로파일에서 JSON 비동기 Appender로 출력)
+     */
+    private static final Logger HOT_PATH_LOG = LoggerFactory.getLogger("com.wb.edutask.hotpath");
+
+    private final MeterRegistry meterRegistry;
+    private final double sampleRate;
+    private final Timer latencyTimer;
+
+    // 결과별 Micrometer 카운터 캐시 (요청마다 태그 객체를 만들지 않도록)
+    private final ConcurrentMap<String, Counter> outcomeCounters = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Counter> eventCounters = new ConcurrentHashMap<>();
+
+    // 주기적 요약 로그용 구간 카운터
+    private final ConcurrentMap<String, LongAdder> windowCounts = new ConcurrentHashMap<>();
+
+    /**
+     * EnrollmentMetrics 생성자
+     *
+     * @param meterRegistry Micrometer 레지스트리
+     * @param sampleRate 구조화 로그 샘플링 비율 (0.0 ~ 1.0)
+     */
+    public EnrollmentMetrics(MeterRegistry meterRegistry,
+                             @Value("${wb.logging.hot-path.sample-rate:0.01}") double sampleRate) {
+        this.meterRegistry = meterRegistry;
+        this.sampleRate = sampleRate;
+        this.latencyTimer = Timer.builder("enrollment.latency")
+                .description("수강신청 처리 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 수강신청 처리 결과를 기록합니다
+     *
+     * @param outcome 처리 결과 (SUCCESS, CAPACITY_EXCEEDED 등)
+     * @param studentId 학생 ID
+     * @param courseId 강의 ID
+     * @param startNanos 처리 시작 시각 (System.nanoTime)
+     */
+    public void recordOutcome(String outcome, Long studentId, Long courseId, long startNanos) {
+        long elapsedNanos = System.nanoTime() - startNanos;
+
+        outcomeCounters.computeIfAbsent(outcome, key -> Counter.builder("enrollment.outcome")
+                .tag("result", key)
+                .register(meterRegistry))
+            .increment();
+        latencyTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        windowCounts.computeIfAbsent(outcome, key -> new LongAdder()).increment();
+
+        if (HOT_PATH_LOG.isInfoEnabled() && ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            HOT_PATH_LOG.atInfo()
+                .setMessage("enrollment")
+                .addKeyValue("outcome", outcome)
+                .addKeyValue("studentId", studentId)
+                .addKeyValue("courseId", courseId)
+                .addKeyValue("elapsedMicros", TimeUnit.NANOSECONDS.toMicros(elapsedNanos))
+                .log();
+        }
+    }
+
+    /**
+     * 수강신청 외의 수강 변경(선점 확정, 취소 등)을 기록합니다 (처리 시간은 수강신청 지표에 섞지 않음)
+     *
+     * @param event 변경 종류 (HOLD_CONFIRMED, CANCELLED 등)
+     * @param studentId 학생 ID
+     * @param courseId 강의 ID
+     */
+    public void recordEvent(String event, Long studentId, Long courseId) {
+        eventCounters.computeIfAbsent(event, key -> Counter.builder("enrollment.event")
+                .tag("type", key)
+                .register(meterRegistry))
+            .increment();
+        windowCounts.computeIfAbsent(event, key -> new LongAdder()).increment();
+
+        if (HOT_PATH_LOG.isInfoEnabled() && ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            HOT_PATH_LOG.atInfo()
+                .setMessage("enrollment-event")
+                .addKeyValue("event", event)
+                .addKeyValue("studentId", studentId)
+                .addKeyValue("courseId", courseId)
+                .log();
+        }
+    }
+
+    /**
+     * 구간 동안 집계된 결과를 한 줄로 출력하고 구간 카운터를 초기화합니다
+     */
+    @Scheduled(fixedRateString = "${wb.logging.hot-path.summary-interval-ms:60000}")
+    public void logSummary() {
+        Map<String, Long> snapshot = new TreeMap<>();
+        windowCounts.forEach((outcome, counter) -> {
+            long count = counter.sumThenReset();
+            if (count > 0) {
+                snapshot.put(outcome, count);
+            }
+        });
+
+        if (!snapshot.isEmpty()) {
+            log.info("수강신청 처리 집계 - {}", snapshot);
+        }
+    }
+}
@@ -5,21 +5,31 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import com.wb.edutask.dto.BulkEnrollmentRequestDto;
 import com.wb.edutask.dto.BulkEnrollmentResponseDto;
 import com.wb.edutask.dto.EnrollmentRequestDto;
 import com.wb.edutask.dto.EnrollmentResponseDto;
+import com.wb.edutask.dto.SeatHoldDto;
 import com.wb.edutask.entity.Course;
 import com.wb.edutask.entity.Enrollment;
 import com.wb.edutask.entity.Member;
 import com.wb.edutask.enums.CourseStatus;
+import com.wb.edutask.enums.EnrollmentRejectionCode;
 import com.wb.edutask.enums.EnrollmentStatus;
+import com.wb.edutask.exception.EnrollmentRejectedException;
+import com.wb.edutask.exception.LotteryEnteredException;
+import com.wb.edutask.exception.WaitlistedException;
 import com.wb.edutask.repository.CourseRepository;
 import com.wb.edutask.repository.EnrollmentRepository;
 import com.wb.edutask.repository.MemberRepository;
@@ -45,6 +55,17 @@ public class EnrollmentService {
     private final RedisConcurrencyService redisConcurrencyService;
     private final StringRedisTemplate stringRedisTemplate;
     private final CourseRankingService courseRankingService;
+    private final EnrollmentMetrics enrollmentMetrics;
+    private final WaitingRoomService waitingRoomService;
+    private final StudentEnrollmentSummaryService studentEnrollmentSummaryService;
+    private final CourseCountWriteBackBuffer courseCountWriteBackBuffer;
+    private final CapacityAdmissionService capacityAdmissionService;
+    private final SeatHoldService seatHoldService;
+    private final WaitlistService waitlistService;
+    private final LotteryService lotteryService;
+    private final StudentQuotaService studentQuotaService;
+    private final ScheduleConflictService scheduleConflictService;
+    private final TransactionTemplate transactionTemplate;
     
     
     /**
@@ -52,51 +73,79 @@ public class EnrollmentService {
      * 
      * @param enrollmentRequestDto 수강신청 요청 정보
      * @return 생성된 수강신청 정보
+     * @throws EnrollmentRejectedException 중복 신청, 정원 초과 등 업무 규칙으로 거절된 경우
      * @throws RuntimeException 유효하지 않은 요청인 경우
      */
-    @Transactional
+    @Transactional(propagation = Propagation.SUPPORTS)
     public EnrollmentResponseDto enrollCourse(EnrollmentRequestDto enrollmentRequestDto) {
-        log.info("수강신청 처리 시작 - StudentId: {}, CourseId: {}", 
-                enrollmentRequestDto.getStudentId(), enrollmentRequestDto.getCourseId());
+        long startNanos = System.nanoTime();
+        Long studentId = enrollmentRequestDto.getStudentId();
+        Long courseId = enrollmentRequestDto.getCourseId();
+        
+        // 0. 추첨 강의는 응모만 접수 (SADD 한 번, 트랜잭션을 시작하지 않아 몰리는 응모가 DB 커넥션을 잡지 않음)
+        enterLotteryIfPending(courseId, studentId, lotteryService.getPendingCloseTime(courseId), startNanos);
+        
+        // 0-1. 대기실 입장 허가 확인 (대기실 사용 시, 트랜잭션 시작 전에 차단)
+        try {
+            waitingRoomService.checkAdmitted(courseId, studentId);
+        } catch (RuntimeException e) {
+            enrollmentMetrics.recordOutcome("NOT_ADMITTED", studentId, courseId, startNanos);
+            throw e;
+        }
         
+        try {
+            return transactionTemplate.execute(status -> enrollAdmitted(studentId, courseId, startNanos));
+        } finally {
+            // 검증 실패, 정원 초과, DB 오류로 거절돼도 입장 허가를 반납해 다음 대기자에게 넘김
+            waitingRoomService.release(courseId, studentId);
+        }
+    }
+    
+    /**
+     * 트랜잭션 안에서 수강신청을 처리합니다 (추첨 응모, 대기실 입장 확인 이후 단계)
+     * 
+     * @param studentId 학생 ID
+     * @param courseId 강의 ID
+     * @param startNanos 요청 시작 시각 (지표 기록용)
+     * @return 생성된 수강신청 정보
+     */
+    private EnrollmentResponseDto enrollAdmitted(Long studentId, Long courseId, long startNanos) {
         // 1. 기본 검증 (회원 및 강의 존재 확인)
-        Member member = memberRepository.findById(enrollmentRequestDto.getStudentId())
-                .orElseThrow(() -> new RuntimeException("회원을 찾을 수 없습니다: " + enrollmentRequestDto.getStudentId()));
+        Member member = memberRepository.findById(studentId)
+                .orElseThrow(() -> new RuntimeException("회원을 찾을 수 없습니다: " + studentId));
         
-        Course course = courseRepository.findById(enrollmentRequestDto.getCourseId())
-                .orElseThrow(() -> new RuntimeException("강의를 찾을 수 없습니다: " + enrollmentRequestDto.getCourseId()));
+        Course course = courseRepository.findById(courseId)
+                .orElseThrow(() -> new RuntimeException("강의를 찾을 수 없습니다: " + courseId));
         
-        validateEnrollmentBasic(member, course);
+        try {
+            validateEnrollmentBasic(member, course);
+            validateDirectEnrollment(course);
+            scheduleConflictService.reserve(studentId, course);
+        } catch (RuntimeException e) {
+            enrollmentMetrics.recordOutcome("VALIDATION_REJECTED", studentId, courseId, startNanos);
+            throw e;
+        }
         
-        // 2. Lua 스크립트를 통한 원자적 정원 확인 및 처리 (동기 실행)
-        Map<String, Object> luaResult = redisConcurrencyService.executeEnrollmentLuaScript(
-            enrollmentRequestDto.getStudentId(), 
-            enrollmentRequestDto.getCourseId()
-        );
+        // 추첨 목록이 아직 갱신되지 않은 경우 DB 기준으로 한 번 더 확인
+        if (course.isLotteryPending()) {
+            enterLotteryIfPending(courseId, studentId, course.getLotteryClosesAt(), startNanos);
+        }
+        
+        // 2. 원자적 정원 확인 및 처리 (동기 실행, Redis 회로 차단 중에는 DB 조건부 UPDATE)
+        Map<String, Object> luaResult = capacityAdmissionService.admit(studentId, courseId);
         
         Boolean success = (Boolean) luaResult.get("success");
         String message = (String) luaResult.get("message");
         Long newCount = (Long) luaResult.get("newStudentCount");
         
-        log.info("🔍 Lua 결과 확인 - StudentId: {}, Success: {}, Message: {}, NewCount: {}", 
-                enrollmentRequestDto.getStudentId(), success, message, newCount);
-        
         if (!success) {
-            // Lua 스크립트에서 실패 → DB 저장하지 않음
-            String koreanMessage = redisConcurrencyService.convertRedisMessageToKorean(message);
-            log.info("❌ Lua 실패로 DB 저장 안함 - StudentId: {}, Reason: {}", 
-                    enrollmentRequestDto.getStudentId(), koreanMessage);
-            throw new RuntimeException(koreanMessage);
+            // Lua 스크립트에서 실패 → DB 저장하지 않음 (요청별 로그 대신 집계 카운터로 기록)
+            enrollmentMetrics.recordOutcome(message, studentId, courseId, startNanos);
+            throwIfWaitlisted(luaResult, studentId, courseId);
+            throw admissionFailure(message);
         }
         
-        log.info("✅ Lua 성공으로 DB 저장 진행 - StudentId: {}, NewCount: {}", 
-                enrollmentRequestDto.getStudentId(), newCount);
-        
-        // 3. Lua 스크립트 성공 → 즉시 응답 + 비동기 DB 처리
-        log.info("✅ Lua 성공! 비동기 DB 처리 시작 - StudentId: {}, CourseId: {}", 
-                enrollmentRequestDto.getStudentId(), enrollmentRequestDto.getCourseId());
-        
-        // 비동기로 DB 작업들 처리하되, Enrollment 저장은 동기로 처리 (ID 필요)
+        // 3. Lua 스크립트 성공 → Enrollment 저장은 동기로 처리 (ID 필요)
         Enrollment enrollment = Enrollment.builder()
                 .student(member)
                 .course(course)
@@ -105,19 +154,27 @@ public class EnrollmentService {
                 .build();
         
         Enrollment savedEnrollment = enrollmentRepository.save(enrollment);
-        log.debug("✅ Enrollment 저장 완료 - EnrollmentId: {}", savedEnrollment.getId());
+        if (log.isDebugEnabled()) {
+            log.debug("수강신청 저장 완료 - EnrollmentId: {}, StudentId: {}, CourseId: {}, NewCount: {}", 
+                    savedEnrollment.getId(), studentId, courseId, newCount);
+        }
         
-        // currentStudents 업데이트와 ZSet 업데이트는 비동기로 처리
-        CompletableFuture<Void> asyncUpdates = processUpdatesAsync(course, newCount.intValue());
+        // 학생별 수강 요약 반영 (커밋 후, 일정은 충돌 확인 때 이미 추가됨)
+        studentEnrollmentSummaryService.onEnrollmentChanged(savedEnrollment);
         
-        log.info("🚀 수강신청 완료 - StudentId: {}, CourseId: {} (업데이트는 백그라운드 진행)", 
-                enrollmentRequestDto.getStudentId(), enrollmentRequestDto.getCourseId());
+        // currentStudents 업데이트와 ZSet 업데이트는 비동기로 처리 (DB 모드는 UPDATE로 이미 반영됨)
+        if (newCount != null) {
+            processUpdatesAsync(course, newCount.intValue());
+        }
+        
+        enrollmentMetrics.recordOutcome("SUCCESS", studentId, courseId, startNanos);
         
         return EnrollmentResponseDto.from(savedEnrollment, course);
     }
     
     /**
-     * 비동기로 업데이트 작업들을 처리합니다 (currentStudents 업데이트 + ZSet 업데이트)
+     * 비동기로 업데이트 작업들을 처리합니다 (currentStudents 반영 예약 + ZSet 업데이트)
+     * currentStudents는 엔티티 저장 대신 CourseCountWriteBackBuffer에 기록해 강의별로 합쳐서 반영합니다
      * 
      * @param course 강의 정보  
      * @param newCount Redis에서 업데이트된 새로운 수강인원 수
@@ -126,33 +183,21 @@ public class EnrollmentService {
     @Async("enrollmentTaskExecutor")
     public CompletableFuture<Void> processUpdatesAsync(Course course, Integer newCount) {
         try {
-            log.debug("🔄 비동기 업데이트 시작 - CourseId: {}", course.getId());
-            
-            // 1. currentStudents 업데이트 (비동기)
-            try {
-                course.setCurrentStudents(newCount);
-                courseRepository.save(course);
-                log.debug("✅ currentStudents 업데이트 완료 - CourseId: {}, 현재: {}", 
-                        course.getId(), newCount);
-            } catch (Exception e) {
-                log.warn("❌ currentStudents 업데이트 실패 - CourseId: {}, Error: {}", 
-                        course.getId(), e.getMessage());
-            }
+            // 1. currentStudents 반영 예약 (강의별로 모아 주기적으로 일괄 UPDATE)
+            courseCountWriteBackBuffer.record(course.getId(), newCount);
             
             // 2. ZSet 랭킹 업데이트 (비동기)
             try {
                 courseRankingService.updateCourseRanking(course.getId(), newCount, course.getMaxStudents());
-                log.debug("✅ ZSet 랭킹 업데이트 완료 - CourseId: {}", course.getId());
             } catch (Exception e) {
-                log.warn("❌ ZSet 랭킹 업데이트 실패 - CourseId: {}, Error: {}", 
+                log.warn("ZSet 랭킹 업데이트 실패 - CourseId: {}, Error: {}", 
                         course.getId(), e.getMessage());
             }
             
-            log.info("🎉 비동기 업데이트 완료 - CourseId: {}", course.getId());
             return CompletableFuture.completedFuture(null);
             
         } catch (Exception e) {
-            log.error("💥 비동기 업데이트 실패 - CourseId: {}, Error: {}", 
+            log.error("비동기 업데이트 실패 - CourseId: {}, Error: {}", 
                     course.getId(), e.getMessage(), e);
             return CompletableFuture.failedFuture(e);
         }
@@ -166,48 +211,25 @@ public class EnrollmentService {
      * @return CompletableFuture<EnrollmentResponseDto>
      */
     @Async("enrollmentTaskExecutor")
+    @Transactional(propagation = Propagation.SUPPORTS)
     public CompletableFuture<EnrollmentResponseDto> enrollCourseAsync(EnrollmentRequestDto enrollmentRequestDto) {
         try {
-            // 1. 기본 검증 (회원 및 강의 존재 확인)
-            Member member = memberRepository.findById(enrollmentRequestDto.getStudentId())
-                    .orElseThrow(() -> new RuntimeException("회원을 찾을 수 없습니다: " + enrollmentRequestDto.getStudentId()));
-            
-            Course course = courseRepository.findById(enrollmentRequestDto.getCourseId())
-                    .orElseThrow(() -> new RuntimeException("강의를 찾을 수 없습니다: " + enrollmentRequestDto.getCourseId()));
-            
-            validateEnrollmentBasic(member, course);
-            
-            // 2. Lua 스크립트로 Redis 동시성 체크
-            Map<String, Object> luaResult = redisConcurrencyService.executeEnrollmentLuaScript(
-                enrollmentRequestDto.getStudentId(), 
-                enrollmentRequestDto.getCourseId()
-            );
-            
-            Boolean success = (Boolean) luaResult.get("success");
-            String message = (String) luaResult.get("message");
-            
-            if (!success) {
-                String koreanMessage = redisConcurrencyService.convertRedisMessageToKorean(message);
-                throw new RuntimeException(koreanMessage);
+            // 0. 추첨 강의는 응모만 접수 (트랜잭션 시작 전)
+            LocalDateTime lotteryClosesAt = lotteryService.getPendingCloseTime(enrollmentRequestDto.getCourseId());
+            if (lotteryClosesAt != null) {
+                lotteryService.enter(enrollmentRequestDto.getCourseId(), enrollmentRequestDto.getStudentId(), lotteryClosesAt);
             }
             
-            // 3. Lua 스크립트 성공시 즉시 DB 저장
-            Enrollment enrollment = Enrollment.builder()
-                    .student(member)
-                    .course(course)
-                    .status(EnrollmentStatus.APPROVED)
-                    .build();
-            
-            Enrollment savedEnrollment = enrollmentRepository.save(enrollment);
-            
-            
-            log.info("비동기 수강신청 처리 완료 - StudentId: {}, CourseId: {}, EnrollmentId: {}", 
-                    enrollmentRequestDto.getStudentId(), enrollmentRequestDto.getCourseId(), savedEnrollment.getId());
-            
-            // 5. 응답 DTO 생성 (기존 from 메서드 사용)
-            EnrollmentResponseDto responseDto = EnrollmentResponseDto.from(savedEnrollment, course);
+            // 0-1. 대기실 입장 허가 확인 (대기실 사용 시, 트랜잭션 시작 전)
+            waitingRoomService.checkAdmitted(enrollmentRequestDto.getCourseId(), enrollmentRequestDto.getStudentId());
             
-            return CompletableFuture.completedFuture(responseDto);
+            try {
+                return CompletableFuture.completedFuture(
+                        transactionTemplate.execute(status -> enrollAdmittedAsync(enrollmentRequestDto)));
+            } finally {
+                // 거절되거나 실패해도 입장 허가 반납
+                waitingRoomService.release(enrollmentRequestDto.getCourseId(), enrollmentRequestDto.getStudentId());
+            }
             
         } catch (Exception e) {
             log.error("비동기 수강신청 처리 실패 - StudentId: {}, CourseId: {}, Error: {}", 
@@ -217,6 +239,61 @@ public class EnrollmentService {
         }
     }
     
+    /**
+     * 트랜잭션 안에서 비동기 수강신청을 처리합니다 (추첨 응모, 대기실 입장 확인 이후 단계)
+     * 
+     * @param enrollmentRequestDto 수강신청 요청 정보
+     * @return 생성된 수강신청 정보
+     */
+    private EnrollmentResponseDto enrollAdmittedAsync(EnrollmentRequestDto enrollmentRequestDto) {
+        long startNanos = System.nanoTime();
+        // 1. 기본 검증 (회원 및 강의 존재 확인)
+        Member member = memberRepository.findById(enrollmentRequestDto.getStudentId())
+                .orElseThrow(() -> new RuntimeException("회원을 찾을 수 없습니다: " + enrollmentRequestDto.getStudentId()));
+        
+        Course course = courseRepository.findById(enrollmentRequestDto.getCourseId())
+                .orElseThrow(() -> new RuntimeException("강의를 찾을 수 없습니다: " + enrollmentRequestDto.getCourseId()));
+        
+        validateEnrollmentBasic(member, course);
+        validateDirectEnrollment(course);
+        scheduleConflictService.reserve(member.getId(), course);
+        if (course.isLotteryPending()) {
+            lotteryService.enter(course.getId(), member.getId(), course.getLotteryClosesAt());
+        }
+        
+        // 2. 정원 동시성 체크 (Redis 회로 차단 중에는 DB 조건부 UPDATE)
+        Map<String, Object> luaResult = capacityAdmissionService.admit(
+            enrollmentRequestDto.getStudentId(), 
+            enrollmentRequestDto.getCourseId()
+        );
+        
+        Boolean success = (Boolean) luaResult.get("success");
+        String message = (String) luaResult.get("message");
+        
+        if (!success) {
+            enrollmentMetrics.recordOutcome(message, enrollmentRequestDto.getStudentId(), enrollmentRequestDto.getCourseId(), startNanos);
+            throwIfWaitlisted(luaResult, enrollmentRequestDto.getStudentId(), enrollmentRequestDto.getCourseId());
+            throw admissionFailure(message);
+        }
+        
+        // 3. Lua 스크립트 성공시 즉시 DB 저장
+        Enrollment enrollment = Enrollment.builder()
+                .student(member)
+                .course(course)
+                .status(EnrollmentStatus.APPROVED)
+                .build();
+        
+        Enrollment savedEnrollment = enrollmentRepository.save(enrollment);
+        studentEnrollmentSummaryService.onEnrollmentChanged(savedEnrollment);
+        enrollmentMetrics.recordOutcome("SUCCESS", enrollmentRequestDto.getStudentId(), enrollmentRequestDto.getCourseId(), startNanos);
+        
+        log.debug("비동기 수강신청 처리 완료 - StudentId: {}, CourseId: {}, EnrollmentId: {}", 
+                enrollmentRequestDto.getStudentId(), enrollmentRequestDto.getCourseId(), savedEnrollment.getId());
+        
+        // 5. 응답 DTO 생성 (기존 from 메서드 사용)
+        return EnrollmentResponseDto.from(savedEnrollment, course);
+    }
+    
     /**
      * 비동기 수강신청 취소 처리
      * 
@@ -235,7 +312,7 @@ public class EnrollmentService {
             // 기존 취소 로직 호출
             cancelEnrollment(enrollment.getId(), reason);
             
-            log.info("비동기 수강신청 취소 완료 - StudentId: {}, CourseId: {}, EnrollmentId: {}", 
+            log.debug("비동기 수강신청 취소 완료 - StudentId: {}, CourseId: {}, EnrollmentId: {}", 
                     studentId, courseId, enrollment.getId());
             
             return CompletableFuture.completedFuture("수강신청 취소가 완료되었습니다.");
@@ -306,6 +383,100 @@ public class EnrollmentService {
         return enrollments.map(EnrollmentResponseDto::from);
     }
     
+    /**
+     * 유료 강의의 좌석을 선점합니다 (결제 진행 중 좌석 확보)
+     * 
+     * @param enrollmentRequestDto 선점 요청 정보 (학생 ID, 강의 ID)
+     * @return 선점 정보 (만료 시각 포함)
+     * @throws RuntimeException 선점 모드가 꺼져 있거나, 검증 실패, 정원 초과, 학생별 수강 한도 도달 또는 일정이 겹치는 경우
+     */
+    public SeatHoldDto holdSeat(EnrollmentRequestDto enrollmentRequestDto) {
+        Long studentId = enrollmentRequestDto.getStudentId();
+        Long courseId = enrollmentRequestDto.getCourseId();
+        
+        Member member = memberRepository.findById(studentId)
+                .orElseThrow(() -> new RuntimeException("회원을 찾을 수 없습니다: " + studentId));
+        Course course = courseRepository.findById(courseId)
+                .orElseThrow(() -> new RuntimeException("강의를 찾을 수 없습니다: " + courseId));
+        validateEnrollmentBasic(member, course);
+        scheduleConflictService.checkNoConflict(studentId, course);
+        
+        Map<String, Object> holdResult = seatHoldService.hold(studentId, courseId);
+        if (!(Boolean) holdResult.get("success")) {
+            throw admissionFailure((String) holdResult.get("message"));
+        }
+        
+        log.debug("좌석 선점 완료 - StudentId: {}, CourseId: {}, ExpiresAt: {}", studentId, courseId, holdResult.get("expiresAt"));
+        return new SeatHoldDto(courseId, studentId, course.getPrice(), (LocalDateTime) holdResult.get("expiresAt"));
+    }
+    
+    /**
+     * 선점한 좌석을 결제 확인 후 수강신청으로 확정합니다
+     * 확정 시 학생별 수강 한도를 다시 확인하며, 저장 트랜잭션이 롤백되면 Redis에서 늘린 수강생 수와
+     * 학생 카운터를 되돌립니다 (선점은 다시 생기지 않음)
+     * 
+     * @param enrollmentRequestDto 확정 요청 정보 (학생 ID, 강의 ID)
+     * @return 생성된 수강신청 정보
+     * @throws RuntimeException 선점이 없거나 만료된 경우, 학생별 수강 한도에 도달했거나 일정이 겹치는 경우
+     */
+    public EnrollmentResponseDto confirmHold(EnrollmentRequestDto enrollmentRequestDto) {
+        Long studentId = enrollmentRequestDto.getStudentId();
+        Long courseId = enrollmentRequestDto.getCourseId();
+        
+        Member member = memberRepository.findById(studentId)
+                .orElseThrow(() -> new RuntimeException("회원을 찾을 수 없습니다: " + studentId));
+        Course course = courseRepository.findById(courseId)
+                .orElseThrow(() -> new RuntimeException("강의를 찾을 수 없습니다: " + courseId));
+        validateEnrollmentBasic(member, course);
+        // 선점 후 결제하는 동안 겹치는 강의를 신청했을 수 있으므로 다시 확인 (선점을 소진하기 전에)
+        scheduleConflictService.reserve(studentId, course);
+        
+        Map<String, Object> confirmResult = seatHoldService.confirm(studentId, courseId);
+        if (!(Boolean) confirmResult.get("success")) {
+            throw admissionFailure((String) confirmResult.get("message"));
+        }
+        Long newCount = (Long) confirmResult.get("newStudentCount");
+        
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    redisConcurrencyService.decreaseCourseStudents(courseId);
+                }
+            }
+        });
+        studentQuotaService.releaseOnRollback(studentId);
+        
+        Enrollment savedEnrollment = enrollmentRepository.save(Enrollment.builder()
+                .student(member)
+                .course(course)
+                .status(EnrollmentStatus.APPROVED)
+                .appliedAt(LocalDateTime.now())
+                .build());
+        
+        studentEnrollmentSummaryService.onEnrollmentChanged(savedEnrollment);
+        processUpdatesAsync(course, newCount.intValue());
+        
+        enrollmentMetrics.recordEvent("HOLD_CONFIRMED", studentId, courseId);
+        log.debug("좌석 선점 확정 - EnrollmentId: {}, StudentId: {}, CourseId: {}", savedEnrollment.getId(), studentId, courseId);
+        return EnrollmentResponseDto.from(savedEnrollment, course);
+    }
+    
+    /**
+     * 좌석 선점을 해제합니다 (결제 취소)
+     * 
+     * @param studentId 학생 ID
+     * @param courseId 강의 ID
+     * @throws RuntimeException 해제할 선점이 없는 경우
+     */
+    @Transactional(readOnly = true)
+    public void releaseHold(Long studentId, Long courseId) {
+        if (!seatHoldService.release(studentId, courseId)) {
+            throw new RuntimeException(redisConcurrencyService.convertRedisMessageToKorean("HOLD_NOT_FOUND"));
+        }
+        log.debug("좌석 선점 해제 - StudentId: {}, CourseId: {}", studentId, courseId);
+    }
+    
     /**
      * 수강신청을 취소합니다
      * 
@@ -328,28 +499,37 @@ public class EnrollmentService {
         // 3. 수강신청 취소 처리
         enrollment.cancel(reason);
         Enrollment savedEnrollment = enrollmentRepository.save(enrollment);
+        studentEnrollmentSummaryService.onEnrollmentChanged(savedEnrollment);
+        studentQuotaService.adjustAfterCommit(enrollment.getStudent().getId(), -1);
+        scheduleConflictService.invalidateAfterCommit(enrollment.getStudent().getId());
         
         // 4. 강의의 현재 수강생 수 감소
         Course course = enrollment.getCourse();
         
         // 5. Redis에서 수강생 수 처리 (동시성 제어를 위해)
-        try {
-            // Redis에 강의 정보가 있으면 감소, 없으면 DB 기준으로 동기화만
-            String courseKey = "course:" + course.getId();
-            String existingCurrentStudents = (String) stringRedisTemplate.opsForHash().get(courseKey, "currentStudents");
-            
-            if (existingCurrentStudents != null) {
-                // Redis에 데이터가 있으면 감소만
-                redisConcurrencyService.decreaseCourseStudents(course.getId());
-                log.info("Redis 수강생 수 감소 완료 - CourseId: {}", course.getId());
-            } else {
-                // Redis에 데이터가 없으면 DB 기준으로 동기화만 (감소 없이)
-                redisConcurrencyService.syncCourseToRedisIfNeeded(course.getId());
-                log.info("Redis 강의 정보 동기화 완료 - CourseId: {}", course.getId());
+        if (waitlistService.isEnabled()) {
+            // 대기열 사용 시 커밋 후 좌석 반납과 다음 대기자 승급을 한 스크립트로 처리
+            waitlistService.releaseSeatAfterCommit(course.getId());
+        } else {
+            try {
+                // Redis에 강의 정보가 있으면 감소, 없으면 DB 기준으로 동기화만
+                String courseKey = "course:" + course.getId();
+                String existingCurrentStudents = (String) stringRedisTemplate.opsForHash().get(courseKey,
+                        redisConcurrencyService.getHashLayout().getCurrentField());
+                
+                if (existingCurrentStudents != null) {
+                    // Redis에 데이터가 있으면 감소만
+                    redisConcurrencyService.decreaseCourseStudents(course.getId());
+                    log.debug("Redis 수강생 수 감소 완료 - CourseId: {}", course.getId());
+                } else {
+                    // Redis에 데이터가 없으면 DB 기준으로 동기화만 (감소 없이)
+                    redisConcurrencyService.syncCourseToRedisIfNeeded(course.getId());
+                    log.debug("Redis 강의 정보 동기화 완료 - CourseId: {}", course.getId());
+                }
+            } catch (Exception e) {
+                log.warn("Redis 처리 실패 - CourseId: {}, Error: {}", course.getId(), e.getMessage());
+                // Redis 실패는 치명적이지 않으므로 계속 진행
             }
-        } catch (Exception e) {
-            log.warn("Redis 처리 실패 - CourseId: {}, Error: {}", course.getId(), e.getMessage());
-            // Redis 실패는 치명적이지 않으므로 계속 진행
         }
         
         // currentStudents 실시간 감소
@@ -371,7 +551,8 @@ public class EnrollmentService {
             log.warn("ZSet 랭킹 업데이트 실패 (취소) - CourseId: {}, Error: {}", course.getId(), e.getMessage());
         }
         
-        log.info("수강신청이 취소되었습니다 - EnrollmentId: {}, StudentId: {}, CourseId: {}, Reason: {}", 
+        enrollmentMetrics.recordEvent("CANCELLED", enrollment.getStudent().getId(), course.getId());
+        log.debug("수강신청이 취소되었습니다 - EnrollmentId: {}, StudentId: {}, CourseId: {}, Reason: {}", 
                 enrollmentId, enrollment.getStudent().getId(), course.getId(), reason);
         
         return EnrollmentResponseDto.from(savedEnrollment);
@@ -383,34 +564,106 @@ public class EnrollmentService {
      * 
      * @param member 수강신청하는 회원 (학생 또는 강사)
      * @param course 강의
-     * @throws RuntimeException 수강신청할 수 없는 경우
+     * @throws EnrollmentRejectedException 수강신청할 수 없는 경우
      */
     private void validateEnrollmentBasic(Member member, Course course) {
         // 1. 중복 수강신청 확인
         if (enrollmentRepository.existsByStudentAndCourse(member, course)) {
-            throw new RuntimeException("이미 수강신청한 강의입니다");
+            throw EnrollmentRejectedException.of(EnrollmentRejectionCode.ALREADY_ENROLLED);
         }
         
         // 2. 강의 상태 확인 (온라인 강의 특성상 진행 중인 강의도 수강신청 가능)
         if (course.getStatus() == CourseStatus.COMPLETED || course.getStatus() == CourseStatus.CANCELLED) {
-            throw new RuntimeException("수강신청할 수 없는 강의 상태입니다: " + course.getStatus().getDescription());
+            throw EnrollmentRejectedException.of(EnrollmentRejectionCode.COURSE_NOT_ENROLLABLE, course.getStatus().getDescription());
         }
         
         // 3. 자기 자신이 강사인 강의 확인 (강사도 다른 강사의 강의는 수강 가능)
         if (course.getInstructor().getId().equals(member.getId())) {
-            throw new RuntimeException("자신이 강사인 강의는 수강신청할 수 없습니다");
+            throw EnrollmentRejectedException.of(EnrollmentRejectionCode.OWN_COURSE);
         }
         
         // 5. 정원 확인은 DB 원자적 업데이트에서 처리
     }
     
+    /**
+     * 정원 초과로 대기열에 등록된 결과면 대기 순번과 함께 알립니다
+     * 
+     * @param luaResult 정원 확인 결과
+     * @param studentId 학생 ID
+     * @param courseId 강의 ID
+     * @throws WaitlistedException 대기열에 등록된 경우
+     */
+    private void throwIfWaitlisted(Map<String, Object> luaResult, Long studentId, Long courseId) {
+        if ("WAITLISTED".equals(luaResult.get("message"))) {
+            throw new WaitlistedException(courseId, studentId, (Long) luaResult.get("waitlistPosition"));
+        }
+    }
+    
+    /**
+     * 정원 확인 실패 메시지를 예외로 바꿉니다
+     * 정원 초과는 스파이크 때 가장 흔한 결과이므로 스택 트레이스 없는 미리 만든 거절 예외를 사용합니다
+     * 
+     * @param redisMessage 정원 확인 결과 메시지
+     * @return 던질 예외
+     */
+    private RuntimeException admissionFailure(String redisMessage) {
+        if ("CAPACITY_EXCEEDED".equals(redisMessage)) {
+            return EnrollmentRejectedException.of(EnrollmentRejectionCode.CAPACITY_EXCEEDED);
+        }
+        if ("STUDENT_QUOTA_EXCEEDED".equals(redisMessage)) {
+            return EnrollmentRejectedException.of(EnrollmentRejectionCode.STUDENT_QUOTA_EXCEEDED);
+        }
+        return new RuntimeException(redisConcurrencyService.convertRedisMessageToKorean(redisMessage));
+    }
+    
+    /**
+     * 추첨 대기 중인 강의면 응모를 접수합니다
+     * 
+     * @param courseId 강의 ID
+     * @param studentId 학생 ID
+     * @param closesAt 추첨 마감 일시 (추첨 강의가 아니면 null)
+     * @param startNanos 요청 시작 시각 (지표 기록용)
+     * @throws LotteryEnteredException 응모가 접수된 경우
+     */
+    private void enterLotteryIfPending(Long courseId, Long studentId, LocalDateTime closesAt, long startNanos) {
+        if (closesAt == null) {
+            return;
+        }
+        try {
+            lotteryService.enter(courseId, studentId, closesAt);
+        } catch (LotteryEnteredException e) {
+            enrollmentMetrics.recordOutcome("LOTTERY_ENTERED", studentId, courseId, startNanos);
+            throw e;
+        } catch (RuntimeException e) {
+            enrollmentMetrics.recordOutcome("LOTTERY_CLOSED", studentId, courseId, startNanos);
+            throw e;
+        }
+    }
+    
+    /**
+     * 바로 수강신청할 수 있는 강의인지 확인합니다
+     * 좌석 선점 모드에서 유료 강의는 선점 → 결제 확인 순서로만 신청할 수 있습니다
+     * 
+     * @param course 강의 정보
+     */
+    private void validateDirectEnrollment(Course course) {
+        if (seatHoldService.isRequiredFor(course)) {
+            throw EnrollmentRejectedException.of(EnrollmentRejectionCode.HOLD_REQUIRED);
+        }
+    }
+    
     /**
      * 여러 강의에 동시 수강신청을 처리합니다 (Redis Queue 방식으로 H2 락 문제 해결)
      * 일부 강의가 실패해도 나머지 강의는 계속 처리됩니다
+     * 강의마다 enrollCourse가 자기 트랜잭션으로 커밋/롤백하도록 이 메서드는 트랜잭션을 열지 않습니다
+     * (하나의 트랜잭션으로 묶으면 실패한 강의가 전체를 rollback-only로 만들어, 성공한 강의까지 DB에서 롤백되고
+     *  Redis에서 확보한 좌석/수강 한도/일정만 남음)
+     * 일정 충돌 확인 사용 시 학생 일정을 한 번 읽어 두고, 신청 순서대로 기존 일정과 앞서 성공한 강의에 겹치는지 함께 확인합니다
      * 
      * @param bulkRequestDto 여러 강의 수강신청 요청 정보
      * @return 수강신청 결과 (성공/실패 목록 포함)
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public BulkEnrollmentResponseDto enrollMultipleCourses(BulkEnrollmentRequestDto bulkRequestDto) {
         // 빈 강의 목록 검증
         if (bulkRequestDto.getCourseIds() == null || bulkRequestDto.getCourseIds().isEmpty()) {
@@ -421,16 +674,34 @@ public class EnrollmentService {
         List<EnrollmentResponseDto> successfulEnrollments = new ArrayList<>();
         List<BulkEnrollmentResponseDto.EnrollmentFailureDto> failedEnrollments = new ArrayList<>();
         
+        // 장바구니 일정 확인용 (학생 일정 1회 조회 + 강의 일괄 조회)
+        ScheduleIntervalIndex schedule = null;
+        Map<Long, Course> cartCourses = Map.of();
+        if (scheduleConflictService.isEnabled()) {
+            schedule = scheduleConflictService.loadIndex(bulkRequestDto.getStudentId());
+            cartCourses = courseRepository.findAllById(bulkRequestDto.getCourseIds()).stream()
+                    .collect(Collectors.toMap(Course::getId, course -> course));
+        }
+        
         // 각 강의에 대해 동기 방식으로 수강신청 처리
         for (Long courseId : bulkRequestDto.getCourseIds()) {
             try {
+                Course cartCourse = cartCourses.get(courseId);
+                if (schedule != null && cartCourse != null
+                        && schedule.overlaps(cartCourse.getStartDate(), cartCourse.getEndDate())) {
+                    throw EnrollmentRejectedException.of(EnrollmentRejectionCode.SCHEDULE_CONFLICT);
+                }
+                
                 // 동기 방식으로 수강신청 처리
                 EnrollmentRequestDto singleRequest = new EnrollmentRequestDto(
                     bulkRequestDto.getStudentId(), courseId);
                 EnrollmentResponseDto result = enrollCourse(singleRequest);
                 successfulEnrollments.add(result);
+                if (schedule != null && cartCourse != null) {
+                    schedule.add(cartCourse.getStartDate(), cartCourse.getEndDate());
+                }
                 
-                log.info("벌크 수강신청 성공 - StudentId: {}, CourseId: {}", 
+                log.debug("벌크 수강신청 성공 - StudentId: {}, CourseId: {}", 
                         bulkRequestDto.getStudentId(), courseId);
                 
             } catch (RuntimeException e) {
@@ -444,7 +715,7 @@ public class EnrollmentService {
                             courseId, courseName, e.getMessage());
                     failedEnrollments.add(failure);
                     
-                    log.info("벌크 수강신청 실패 - StudentId: {}, CourseId: {}, Reason: {}", 
+                    log.debug("벌크 수강신청 실패 - StudentId: {}, CourseId: {}, Reason: {}", 
                             bulkRequestDto.getStudentId(), courseId, e.getMessage());
                 } catch (Exception ex) {
                     BulkEnrollmentResponseDto.EnrollmentFailureDto failure = 
@@ -0,0 +1,191 @@
+package com.wb.edutask.service;
+
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Idempotency-Key 응답 저장소
+ * 같은 키로 재시도된 요청에 첫 요청의 응답을 그대로 돌려주어, 재시도가 회원/강의 조회와 Lua 스크립트를 다시 실행하지 않게 합니다
+ *
+ * - 선점: SET NX + 짧은 TTL로 처리 중(IN_FLIGHT) 기록을 남김 (동시에 도착한 재시도는 선점 실패)
+ * - 완료: 응답 상태/본문을 긴 TTL로 덮어씀
+ * - 포기: 5xx 등 다시 시도해야 하는 응답은 기록을 지워 다음 재시도가 새로 처리되게 함
+ *
+ * Redis 장애 시에는 키 없이 처리합니다 (fail-open, 중복 신청은 기존 검증으로 막힘)
+ *
+ * @author WB Development Team
+ * @version 1.0.0
+ * @since 2025-09-24
+ */
+@Slf4j
+@Service
+public class IdempotencyService {
+
+    private static final String IDEMPOTENCY_KEY_PREFIX = "idempotency:";
+    private static final long POLL_INTERVAL_MS = 50;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration inFlightTtl;
+    private final Duration responseTtl;
+
+    /**
+     * IdempotencyService 생성자
+     *
+     * @param stringRedisTemplate Redis 템플릿
+     * @param objectMapper 저장 기록 직렬화용 ObjectMapper
+     * @param inFlightTtlSeconds 처리 중 기록의 TTL (처리 노드가 죽어도 이 시간 뒤에는 다시 처리 가능)
+     * @param responseTtlSeconds 완료된 응답 보관 시간
+     */
+    public IdempotencyService(StringRedisTemplate stringRedisTemplate,
+                              ObjectMapper objectMapper,
+                              @Value("${wb.idempotency.in-flight-ttl-seconds:30}") long inFlightTtlSeconds,
+                              @Value("${wb.idempotency.response-ttl-seconds:86400}") long responseTtlSeconds) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.inFlightTtl = Duration.ofSeconds(inFlightTtlSeconds);
+        this.responseTtl = Duration.ofSeconds(responseTtlSeconds);
+    }
+
+    /**
+     * 키를 선점합니다
+     *
+     * @param key Idempotency-Key
+     * @param fingerprint 요청 지문 (메서드 + 경로 + 본문 해시)
+     * @return 선점했으면 null, 이미 기록이 있으면 그 기록 (처리 중 또는 완료)
+     */
+    public StoredResponse begin(String key, String fingerprint) {
+        String redisKey = IDEMPOTENCY_KEY_PREFIX + key;
+        String inFlight = write(new StoredResponse(StoredResponse.IN_FLIGHT, fingerprint, 0, null, null));
+        for (int attempt = 0; attempt < 2; attempt++) {
+            Boolean acquired = stringRedisTemplate.opsForValue().setIfAbsent(redisKey, inFlight, inFlightTtl);
+            if (Boolean.TRUE.equals(acquired)) {
+                return null;
+            }
+            StoredResponse existing = read(stringRedisTemplate.opsForValue().get(redisKey));
+            if (existing != null) {
+                return existing;
+            }
+            // 조회 사이에 만료/삭제된 경우 한 번 더 선점 시도
+        }
+        return null;
+    }
+
+    /**
+     * 처리 중인 요청이 끝날 때까지 기다립니다
+     *
+     * @param key Idempotency-Key
+     * @param timeoutMs 최대 대기 시간
+     * @return 완료된 기록 (시간 내에 끝나지 않았으면 마지막으로 본 처리 중 기록, 기록이 사라졌으면 null)
+     */
+    public StoredResponse awaitCompletion(String key, long timeoutMs) {
+        String redisKey = IDEMPOTENCY_KEY_PREFIX + key;
+        long deadline = System.currentTimeMillis() + timeoutMs;
+        StoredResponse current = read(stringRedisTemplate.opsForValue().get(redisKey));
+        while (current != null && !current.isCompleted() && System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(POLL_INTERVAL_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            current = read(stringRedisTemplate.opsForValue().get(redisKey));
+        }
+        return current;
+    }
+
+    /**
+     * 완료된 응답을 저장합니다
+     *
+     * @param key Idempotency-Key
+     * @param response 저장할 응답
+     */
+    public void complete(String key, StoredResponse response) {
+        stringRedisTemplate.opsForValue().set(IDEMPOTENCY_KEY_PREFIX + key, write(response), responseTtl);
+    }
+
+    /**
+     * 선점을 취소해 다음 재시도가 새로 처리되게 합니다
+     *
+     * @param key Idempotency-Key
+     */
+    public void abandon(String key) {
+        stringRedisTemplate.delete(IDEMPOTENCY_KEY_PREFIX + key);
+    }
+
+    private String write(StoredResponse response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Idempotency 기록 직렬화 실패", e);
+        }
+    }
+
+    private StoredResponse read(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(value, StoredResponse.class);
+        } catch (JsonProcessingException e) {
+            log.warn("Idempotency 기록 역직렬화 실패 - Error: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 키별로 저장되는 처리 상태와 응답
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class StoredResponse {
+
+        public static final String IN_FLIGHT = "IN_FLIGHT";
+        public static final String COMPLETED = "COMPLETED";
+
+        /**
+         * 처리 상태 (IN_FLIGHT, COMPLETED)
+         */
+        private String state;
+
+        /**
+         * 요청 지문 (같은 키를 다른 요청에 재사용했는지 확인)
+         */
+        private String fingerprint;
+
+        /**
+         * HTTP 상태 코드
+         */
+        private int status;
+
+        /**
+         * Content-Type
+         */
+        private String contentType;
+
+        /**
+         * 응답 본문
+         */
+        private String body;
+
+        /**
+         * 완료 여부를 반환합니다
+         *
+         * @return 완료 여부
+         */
+        @JsonIgnore
+        public boolean isCompleted() {
+            return COMPLETED.equals(state);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.wb.edutask.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wb.edutask.enums.ImportFormat;
+
+/**
+ * 대량 적재 파일을 한 줄씩 읽어 레코드(필드명 → 값)로 전달하는 스트리밍 리더
+ * 파일 전체를 메모리에 올리지 않으므로 수백만 건도 일정한 메모리로 처리합니다
+ *
+ * CSV는 첫 줄을 헤더로 사용하며, 큰따옴표로 감싼 값(쉼표, "" 이스케이프)을 지원합니다
+ * (한 레코드가 여러 줄에 걸치는 값은 지원하지 않음)
+ * NDJSON에서 JSON 객체로 읽을 수 없는 줄은 적재를 중단하지 않고 malformedHandler에 알린 뒤 다음 줄로 넘어갑니다
+ *
+ * @author WB Development Team
+ * @version 1.0.0
+ * @since 2025-09-24
+ */
+class ImportRecordReader {
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * ImportRecordReader 생성자
+     *
+     * @param objectMapper NDJSON 파싱용 ObjectMapper
+     */
+    ImportRecordReader(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 모든 레코드를 순서대로 읽어 consumer에 전달합니다
+     *
+     * @param reader 입력 스트림
+     * @param format 파일 형식
+     * @param consumer 레코드 처리기
+     * @param malformedHandler 읽을 수 없는 줄 처리기 (오류 메시지 전달)
+     * @throws IOException 읽기 실패 시
+     */
+    void forEachRecord(Reader reader, ImportFormat format, Consumer<Map<String, String>> consumer,
+                       Consumer<String> malformedHandler) throws IOException {
+        BufferedReader bufferedReader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+        switch (format) {
+            case CSV -> readCsv(bufferedReader, consumer);
+            case NDJSON -> readNdjson(bufferedReader, consumer, malformedHandler);
+        }
+    }
+
+    private void readCsv(BufferedReader reader, Consumer<Map<String, String>> consumer) throws IOException {
+        String headerLine = reader.readLine();
+        if (headerLine == null) {
+            return;
+        }
+        List<String> headers = parseCsvLine(stripBom(headerLine));
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            List<String> values = parseCsvLine(line);
+            Map<String, String> record = new HashMap<>(headers.size() * 2);
+            for (int i = 0; i < headers.size(); i++) {
+                record.put(headers.get(i).trim(), i < values.size() ? values.get(i) : null);
+            }
+            consumer.accept(record);
+        }
+    }
+
+    private void readNdjson(BufferedReader reader, Consumer<Map<String, String>> consumer,
+                            Consumer<String> malformedHandler) throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            JsonNode node;
+            try {
+                node = objectMapper.readTree(stripBom(line));
+            } catch (JsonProcessingException e) {
+                malformedHandler.accept(e.getOriginalMessage());
+                continue;
+            }
+            if (node == null || !node.isObject()) {
+                malformedHandler.accept("JSON 객체가 아닙니다");
+                continue;
+            }
+            Map<String, String> record = new HashMap<>();
+            Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                record.put(field.getKey(), field.getValue().isNull() ? null : field.getValue().asText());
+            }
+            consumer.accept(record);
+        }
+    }
+
+    /**
+     * CSV 한 줄을 값 목록으로 분리합니다
+     *
+     * @param line CSV 한 줄
+     * @return 값 목록 (빈 값은 null)
+     */
+    static List<String> parseCsvLine(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        boolean wasQuoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char ch = line.charAt(i);
+            if (quoted) {
+                if (ch == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (ch == '"') {
+                    quoted = false;
+                } else {
+                    current.append(ch);
+                }
+            } else if (ch == '"') {
+                // 따옴표 앞의 공백은 버림
+                current.setLength(0);
+                quoted = true;
+                wasQuoted = true;
+            } else if (ch == ',') {
+                values.add(toValue(current, wasQuoted));
+                current.setLength(0);
+                wasQuoted = false;
+            } else if (!wasQuoted) {
+                // 닫는 따옴표 뒤의 문자는 무시
+                current.append(ch);
+            }
+        }
+        values.add(toValue(current, wasQuoted));
+        return values;
+    }
+
+    private static String toValue(StringBuilder current, boolean wasQuoted) {
+        String value = wasQuoted ? current.toString() : current.toString().trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static String stripBom(String line) {
+        return !line.isEmpty() && line.charAt(0) == '\uFEFF' ? line.substring(1) : line;
+    }
+}
@@ -0,0 +1,309 @@
+package com.wb.edutask.service;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import com.wb.edutask.dto.CourseCacheSnapshot;
+import com.wb.edutask.entity.Course;
+import com.wb.edutask.entity.Enrollment;
+import com.wb.edutask.entity.Member;
+import com.wb.edutask.enums.EnrollmentStatus;
+import com.wb.edutask.exception.LotteryEnteredException;
+import com.wb.edutask.repository.CourseRepository;
+import com.wb.edutask.repository.EnrollmentRepository;
+import com.wb.edutask.repository.MemberRepository;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 추첨 방식 수강신청 서비스
+ * 선착순은 지연시간이 짧은 요청이 유리하고 부하가 오픈 직후 몇 초에 몰리므로, 추첨 강의는 마감 전까지 응모만 받습니다
+ *
+ * - 응모: course:{id}:lottery SET에 SADD 한 번 (DB 조회/저장 없음, 중복 응모는 자연히 무시)
+ * - 추첨: 마감이 지나면 스케줄러가 응모자를 섞어 정원만큼 당첨자를 뽑고 Enrollment를 일괄 저장
+ * - 반영: 커밋 후 Redis 강의 Hash의 currentStudents와 랭킹을 채우고, 대기열 사용 시 낙첨자를 추첨 순서대로 대기열에 등록
+ *
+ * @author WB Development Team
+ * @version 1.0.0
+ * @since 2025-09-24
+ */
+@Slf4j
+@Service
+public class LotteryService {
+
+    public static final String LOTTERY_KEY_SUFFIX = ":lottery";
+    private static final String COURSE_KEY_PREFIX = "course:";
+
+    // 분산락 키
+    private static final String DRAW_LOCK_KEY = "lock:lottery-draw";
+
+    // 락 해제용 Lua 스크립트 (안전한 해제를 위해)
+    private static final String UNLOCK_SCRIPT =
+        "if redis.call('get', KEYS[1]) == ARGV[1] then " +
+        "    return redis.call('del', KEYS[1]) " +
+        "else " +
+        "    return 0 " +
+        "end";
+
+    private final DefaultRedisScript<Long> unlockScript = new DefaultRedisScript<>(UNLOCK_SCRIPT, Long.class);
+
+    private final SecureRandom random = new SecureRandom();
+
+    // 추첨 대기 중인 강의 ID → 마감 일시 (응모 요청이 DB를 읽지 않도록 주기적으로 갱신)
+    private final Map<Long, LocalDateTime> pendingLotteries = new ConcurrentHashMap<>();
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final CourseRepository courseRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final MemberRepository memberRepository;
+    private final RedisConcurrencyService redisConcurrencyService;
+    private final CourseRankingService courseRankingService;
+    private final StudentEnrollmentSummaryService studentEnrollmentSummaryService;
+    private final WaitlistService waitlistService;
+    private final StudentQuotaService studentQuotaService;
+    private final ScheduleConflictService scheduleConflictService;
+    private final TransactionTemplate transactionTemplate;
+    private final long entryTtlHours;
+
+    /**
+     * LotteryService 생성자
+     *
+     * @param stringRedisTemplate Redis 템플릿
+     * @param courseRepository 강의 Repository
+     * @param enrollmentRepository 수강신청 Repository
+     * @param memberRepository 회원 Repository
+     * @param redisConcurrencyService Redis 동시성 서비스
+     * @param courseRankingService 강의 랭킹 서비스
+     * @param studentEnrollmentSummaryService 학생별 수강 요약 서비스
+     * @param waitlistService 수강 대기열 서비스
+     * @param studentQuotaService 학생별 수강 한도 서비스
+     * @param scheduleConflictService 수강 일정 충돌 확인 서비스
+     * @param transactionManager 트랜잭션 매니저
+     * @param entryTtlHours 추첨이 끝나지 않은 응모 SET의 보존 시간 (마감 후 기준)
+     */
+    public LotteryService(StringRedisTemplate stringRedisTemplate,
+                          CourseRepository courseRepository,
+                          EnrollmentRepository enrollmentRepository,
+                          MemberRepository memberRepository,
+                          RedisConcurrencyService redisConcurrencyService,
+                          CourseRankingService courseRankingService,
+                          StudentEnrollmentSummaryService studentEnrollmentSummaryService,
+                          WaitlistService waitlistService,
+                          StudentQuotaService studentQuotaService,
+                          ScheduleConflictService scheduleConflictService,
+                          PlatformTransactionManager transactionManager,
+                          @Value("${wb.enrollment.lottery.entry-ttl-hours:72}") long entryTtlHours) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.courseRepository = courseRepository;
+        this.enrollmentRepository = enrollmentRepository;
+        this.memberRepository = memberRepository;
+        this.redisConcurrencyService = redisConcurrencyService;
+        this.courseRankingService = courseRankingService;
+        this.studentEnrollmentSummaryService = studentEnrollmentSummaryService;
+        this.waitlistService = waitlistService;
+        this.studentQuotaService = studentQuotaService;
+        this.scheduleConflictService = scheduleConflictService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.entryTtlHours = entryTtlHours;
+    }
+
+    /**
+     * 추첨 대기 중인 강의 목록을 DB에서 다시 읽어 메모리에 반영합니다
+     */
+    @Scheduled(fixedDelayString = "${wb.enrollment.lottery.refresh-interval-ms:5000}")
+    public void refreshPendingLotteries() {
+        try {
+            Map<Long, LocalDateTime> latest = courseRepository.findPendingLotteries().stream()
+                    .collect(Collectors.toMap(row -> (Long) row[0], row -> (LocalDateTime) row[1]));
+            pendingLotteries.keySet().retainAll(latest.keySet());
+            pendingLotteries.putAll(latest);
+        } catch (Exception e) {
+            log.warn("추첨 강의 목록 갱신 실패 - Error: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 추첨 대기 중인 강의의 마감 일시를 메모리에서 조회합니다 (DB 조회 없음)
+     *
+     * @param courseId 강의 ID
+     * @return 추첨 마감 일시 (추첨 강의가 아니거나 이미 추첨했으면 null)
+     */
+    public LocalDateTime getPendingCloseTime(Long courseId) {
+        return pendingLotteries.get(courseId);
+    }
+
+    /**
+     * 추첨 강의에 응모합니다
+     * 응모는 항상 LotteryEnteredException으로 끝나며, 마감 이후 추첨 전까지는 응모를 받지 않습니다
+     *
+     * @param courseId 강의 ID
+     * @param studentId 학생 ID
+     * @param closesAt 추첨 마감 일시
+     * @throws LotteryEnteredException 응모가 접수된 경우
+     * @throws RuntimeException 마감되어 추첨을 기다리는 경우
+     */
+    public void enter(Long courseId, Long studentId, LocalDateTime closesAt) {
+        if (!LocalDateTime.now().isBefore(closesAt)) {
+            throw new RuntimeException("추첨 응모가 마감되어 결과를 집계 중입니다. 잠시 후 다시 시도해주세요");
+        }
+        String key = lotteryKey(courseId);
+        Long added = stringRedisTemplate.opsForSet().add(key, studentId.toString());
+        if (added != null && added > 0) {
+            // 추첨이 어떤 이유로 돌지 않아도 응모 SET이 영구히 남지 않도록 보존 기한 설정
+            stringRedisTemplate.expire(key, Duration.between(LocalDateTime.now(), closesAt).plusHours(entryTtlHours));
+        }
+        throw new LotteryEnteredException(courseId, studentId, closesAt);
+    }
+
+    /**
+     * 마감된 추첨 강의를 추첨합니다 (분산락 적용)
+     */
+    @Scheduled(fixedDelayString = "${wb.enrollment.lottery.draw-interval-ms:10000}")
+    public void drawDueLotteries() {
+        String lockValue = UUID.randomUUID().toString();
+        Boolean lockAcquired = stringRedisTemplate.opsForValue()
+            .setIfAbsent(DRAW_LOCK_KEY, lockValue, Duration.ofMinutes(5));
+
+        if (!Boolean.TRUE.equals(lockAcquired)) {
+            log.debug("다른 서버에서 추첨 중입니다. 스킵합니다.");
+            return;
+        }
+
+        try {
+            for (Long courseId : courseRepository.findIdsDueForLottery(LocalDateTime.now())) {
+                try {
+                    draw(courseId);
+                } catch (Exception e) {
+                    log.error("강의 추첨 실패 - CourseId: {}, Error: {}", courseId, e.getMessage(), e);
+                }
+            }
+        } catch (Exception e) {
+            log.error("추첨 대상 조회 중 오류 발생", e);
+        } finally {
+            stringRedisTemplate.execute(unlockScript, List.of(DRAW_LOCK_KEY), lockValue);
+        }
+    }
+
+    /**
+     * 강의 하나를 추첨합니다
+     * 당첨자 저장과 추첨 완료 표시는 한 트랜잭션으로 처리하고, Redis 반영은 커밋 후에 수행합니다
+     *
+     * @param courseId 강의 ID
+     * @return 당첨자 수
+     */
+    int draw(Long courseId) {
+        String key = lotteryKey(courseId);
+        List<String> entries = new ArrayList<>(stringRedisTemplate.opsForSet().members(key));
+        Collections.shuffle(entries, random);
+        List<Long> drawOrder = entries.stream().map(Long::valueOf).collect(Collectors.toList());
+
+        List<Long> winners = new ArrayList<>();
+        List<Long> losers = new ArrayList<>();
+        Course drawn = transactionTemplate.execute(status -> {
+            Course course = courseRepository.findById(courseId).orElse(null);
+            if (course == null || !course.isLotteryPending()) {
+                return null;
+            }
+
+            // 응모 시에는 회원을 확인하지 않으므로 여기서 없는 회원, 강사 본인, 이미 신청 이력이 있는 회원,
+            // 학생별 수강 한도에 도달한 회원을 제외
+            Set<Long> excluded = new HashSet<>(enrollmentRepository.findStudentIdsByCourseId(courseId));
+            excluded.add(course.getInstructor().getId());
+            excluded.addAll(studentQuotaService.findStudentsAtQuota(drawOrder));
+            Map<Long, Member> students = memberRepository.findAllById(drawOrder).stream()
+                    .collect(Collectors.toMap(Member::getId, member -> member));
+
+            int seats = (int) Math.max(0,
+                    course.getMaxStudents() - enrollmentRepository.countActiveEnrollmentsByCourse(courseId));
+            LocalDateTime now = LocalDateTime.now();
+            List<Enrollment> enrollments = new ArrayList<>();
+            for (Long studentId : drawOrder) {
+                Member student = students.get(studentId);
+                if (student == null || excluded.contains(studentId)) {
+                    continue;
+                }
+                if (enrollments.size() < seats) {
+                    // DB 기준 제외 후에도 진행 중인 선점이나 동시 신청으로 한도에 도달했을 수 있어 카운터로 다시 확인
+                    // (카운터 증가는 트랜잭션이 롤백되면 되돌려짐)
+                    if (!studentQuotaService.tryReserve(studentId)) {
+                        continue;
+                    }
+                    enrollments.add(Enrollment.builder()
+                            .student(student)
+                            .course(course)
+                            .status(EnrollmentStatus.APPROVED)
+                            .appliedAt(now)
+                            .build());
+                    winners.add(studentId);
+                } else {
+                    losers.add(studentId);
+                }
+            }
+
+            // hibernate.jdbc.batch_size 단위로 묶여 INSERT 됨
+            for (Enrollment enrollment : enrollmentRepository.saveAll(enrollments)) {
+                studentEnrollmentSummaryService.onEnrollmentChanged(enrollment);
+                scheduleConflictService.invalidateAfterCommit(enrollment.getStudent().getId());
+            }
+            course.setCurrentStudents((int) enrollmentRepository.countActiveEnrollmentsByCourse(courseId));
+            course.setLotteryDrawnAt(now);
+            return course;
+        });
+
+        if (drawn == null) {
+            return 0;
+        }
+        // Redis 카운터에 당첨자를 반영한 뒤에 이 노드의 선착순 신청을 다시 받음
+        applyToRedis(drawn, winners.size(), losers);
+        pendingLotteries.remove(courseId);
+        log.info("✅ 강의 추첨 완료 - CourseId: {}, 응모: {}명, 당첨: {}명, 낙첨: {}명",
+                courseId, entries.size(), winners.size(), losers.size());
+        return winners.size();
+    }
+
+    /**
+     * 추첨 결과를 Redis에 반영합니다 (실패해도 다음 수강신청 시 DB 기준으로 다시 적재됨)
+     *
+     * @param course 추첨이 끝난 강의
+     * @param winnerCount 당첨자 수
+     * @param losers 낙첨자 ID (추첨 순서)
+     */
+    private void applyToRedis(Course course, int winnerCount, List<Long> losers) {
+        Long courseId = course.getId();
+        try {
+            // Hash가 있으면 당첨자 수만 HINCRBY (추첨 중의 취소 등 다른 변경을 덮어쓰지 않음),
+            // 없으면 currentStudents를 HSETNX로만 채움 (그 사이 먼저 적재된 카운터는 그대로 둠)
+            if (redisConcurrencyService.adjustCourseStudents(courseId, winnerCount) == null) {
+                redisConcurrencyService.warmCourseHashes(List.of(new CourseCacheSnapshot(courseId, course.getCourseName(),
+                        course.getCurrentStudents(), course.getMaxStudents(), course.getInstructor().getId())), false);
+                redisConcurrencyService.publishSeatCount(courseId, course.getCurrentStudents());
+            }
+            courseRankingService.updateCourseRanking(courseId, course.getCurrentStudents(), course.getMaxStudents());
+            if (waitlistService.isEnabled()) {
+                waitlistService.enqueue(courseId, losers);
+            }
+            stringRedisTemplate.delete(lotteryKey(courseId));
+        } catch (Exception e) {
+            log.warn("추첨 결과 Redis 반영 실패 - CourseId: {}, Error: {}", courseId, e.getMessage());
+        }
+    }
+
+    private static String lotteryKey(Long courseId) {
+        return COURSE_KEY_PREFIX + courseId + LOTTERY_KEY_SUFFIX;
+    }
+}
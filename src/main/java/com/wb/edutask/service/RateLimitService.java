@@ -0,0 +1,178 @@
+package com.wb.edutask.service;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import com.wb.edutask.config.RateLimitProperties.Rule;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 요청 속도 제한 서비스
+ *
+ * 1. 로컬 고정 윈도우 카운터 (노드별 한도) - Redis 왕복 없이 먼저 차단
+ * 2. Redis 슬라이딩 윈도우 카운터 (전체 노드 합산 한도) - 직전 윈도우 카운트를 경과 비율만큼 가중 합산
+ *
+ * Redis 장애 시에는 로컬 한도만 적용하고 요청을 통과시킵니다 (fail-open)
+ *
+ * @author WB Development Team
+ * @version 1.0.0
+ * @since 2025-09-24
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RateLimitService {
+
+    private static final String RATE_LIMIT_KEY_PREFIX = "ratelimit:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    // 노드 로컬 윈도우 카운터 (규칙:클라이언트 키 → 카운터)
+    private final ConcurrentMap<String, LocalWindow> localWindows = new ConcurrentHashMap<>();
+
+    // 제한된 요청 Micrometer 카운터 캐시 (규칙:범위 → 카운터)
+    private final ConcurrentMap<String, Counter> throttledCounters = new ConcurrentHashMap<>();
+
+    // Lua Script: 슬라이딩 윈도우 카운터 확인 및 증가 (허용 시 0, 제한 시 재시도까지 남은 ms 반환)
+    private static final String SLIDING_WINDOW_SCRIPT = """
+        local currentKey = KEYS[1]
+        local previousKey = KEYS[2]
+        local limit = tonumber(ARGV[1])
+        local windowMs = tonumber(ARGV[2])
+        local elapsedMs = tonumber(ARGV[3])
+
+        local current = tonumber(redis.call('GET', currentKey) or '0')
+        local previous = tonumber(redis.call('GET', previousKey) or '0')
+        local estimated = previous * (windowMs - elapsedMs) / windowMs + current
+
+        if estimated + 1 > limit then
+            local waitMs
+            if current + 1 > limit or previous == 0 then
+                waitMs = windowMs - elapsedMs
+            else
+                waitMs = math.ceil(windowMs * (1 - (limit - current - 1) / previous)) - elapsedMs
+            end
+            return math.max(waitMs, 1)
+        end
+
+        redis.call('INCR', currentKey)
+        redis.call('PEXPIRE', currentKey, windowMs * 2)
+        return 0
+        """;
+
+    private DefaultRedisScript<Long> slidingWindowScript;
+
+    /**
+     * 초기화 시 Lua 스크립트 설정
+     */
+    @PostConstruct
+    public void init() {
+        this.slidingWindowScript = new DefaultRedisScript<>();
+        this.slidingWindowScript.setScriptText(SLIDING_WINDOW_SCRIPT);
+        this.slidingWindowScript.setResultType(Long.class);
+    }
+
+    /**
+     * 요청 한 건을 규칙에 따라 허용할지 확인하고 카운트합니다
+     *
+     * @param rule 속도 제한 규칙
+     * @param clientKey 클라이언트 키 (IP 또는 학생 ID)
+     * @return 허용 시 0, 제한 시 재시도까지 남은 시간(초, 최소 1)
+     */
+    public long tryAcquire(Rule rule, String clientKey) {
+        long windowMillis = rule.getWindowSeconds() * 1000L;
+        long nowMillis = System.currentTimeMillis();
+        String key = rule.getName() + ":" + clientKey;
+
+        // 1. 노드 로컬 한도 (Redis 왕복 없이 차단)
+        if (rule.getLocalLimit() > 0) {
+            long waitMillis = localWindows
+                .computeIfAbsent(key, k -> new LocalWindow())
+                .tryAcquire(rule.getLocalLimit(), windowMillis, nowMillis);
+            if (waitMillis > 0) {
+                recordThrottled(rule.getName(), "local");
+                return toSeconds(waitMillis);
+            }
+        }
+
+        // 2. 전체 노드 합산 한도 (Redis 슬라이딩 윈도우)
+        if (rule.getLimit() > 0) {
+            long windowIndex = nowMillis / windowMillis;
+            String redisKey = RATE_LIMIT_KEY_PREFIX + key + ":";
+            try {
+                Long waitMillis = stringRedisTemplate.execute(
+                    slidingWindowScript,
+                    List.of(redisKey + windowIndex, redisKey + (windowIndex - 1)),
+                    String.valueOf(rule.getLimit()),
+                    String.valueOf(windowMillis),
+                    String.valueOf(nowMillis - windowIndex * windowMillis)
+                );
+                if (waitMillis != null && waitMillis > 0) {
+                    recordThrottled(rule.getName(), "global");
+                    return toSeconds(waitMillis);
+                }
+            } catch (Exception e) {
+                log.debug("Redis 속도 제한 확인 실패, 로컬 한도만 적용 - Rule: {}, Error: {}",
+                        rule.getName(), e.getMessage());
+            }
+        }
+
+        return 0;
+    }
+
+    /**
+     * 만료된 로컬 윈도우 카운터를 정리합니다 (1분마다)
+     */
+    @Scheduled(fixedDelay = 60000)
+    public void purgeExpiredWindows() {
+        long nowMillis = System.currentTimeMillis();
+        localWindows.values().removeIf(window -> window.isExpired(nowMillis));
+    }
+
+    private void recordThrottled(String ruleName, String scope) {
+        throttledCounters.computeIfAbsent(ruleName + ":" + scope, key -> Counter.builder("ratelimit.throttled")
+                .description("속도 제한으로 거절된 요청 수")
+                .tag("rule", ruleName)
+                .tag("scope", scope)
+                .register(meterRegistry))
+            .increment();
+    }
+
+    private long toSeconds(long millis) {
+        return Math.max(1, (millis + 999) / 1000);
+    }
+
+    /**
+     * 노드 로컬 고정 윈도우 카운터
+     */
+    private static class LocalWindow {
+
+        private long windowEndMillis;
+        private int count;
+
+        synchronized long tryAcquire(int limit, long windowMillis, long nowMillis) {
+            if (nowMillis >= windowEndMillis) {
+                windowEndMillis = (nowMillis / windowMillis + 1) * windowMillis;
+                count = 0;
+            }
+            if (count >= limit) {
+                return windowEndMillis - nowMillis;
+            }
+            count++;
+            return 0;
+        }
+
+        synchronized boolean isExpired(long nowMillis) {
+            return nowMillis >= windowEndMillis;
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.wb.edutask.service;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import com.wb.edutask.enums.CircuitState;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis 정원 제어 회로 차단기
+ * Redis 오류가 연속으로 발생하면 차단(OPEN)으로 전환해 DB 조건부 UPDATE로 정원을 제어하고,
+ * 일정 시간 후 Redis 응답을 확인해 강의 Hash를 DB 기준으로 다시 적재한 뒤 정상(CLOSED)으로 돌아옵니다
+ *
+ * - CLOSED → HALF_OPEN → OPEN: 연속 실패가 기준 횟수에 도달하면 DB currentStudents를 실제 수강신청 수로 맞춘 뒤 차단
+ *   (쓰기 지연 버퍼에 남은 값 때문에 컬럼이 뒤처져 있으면 조건부 UPDATE가 정원을 넘길 수 있음)
+ * - OPEN → HALF_OPEN: 차단 유지 시간이 지나면 진행 중인 DB 모드 수강신청이 끝나기를 기다린 뒤 PING
+ * - HALF_OPEN → CLOSED: PING 성공 후 강의 Hash의 수강생 수를 DB 기준으로 덮어쓰고 전환
+ * - HALF_OPEN → OPEN: PING 또는 재적재 실패 시 차단 유지
+ *
+ * 전환 중(HALF_OPEN)에는 두 정원 값이 어긋나지 않도록 신규 수강신청을 잠시 거절합니다
+ *
+ * @author WB Development Team
+ * @version 1.0.0
+ * @since 2025-09-24
+ */
+@Slf4j
+@Service
+public class RedisCircuitBreaker {
+
+    // 수강신청 가능 강의의 currentStudents를 승인된 수강신청 수로 맞추는 set-based UPDATE
+    private static final String RECONCILE_CURRENT_STUDENTS_SQL = """
+        UPDATE courses c
+        SET current_students = (SELECT COUNT(*) FROM enrollments e WHERE e.course_id = c.id AND e.status = 'APPROVED')
+        WHERE c.status IN ('SCHEDULED', 'IN_PROGRESS')
+        """;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final CourseCacheWarmupService courseCacheWarmupService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate reconcileTransaction;
+    private final int failureThreshold;
+    private final long openDurationMillis;
+    private final long drainTimeoutMillis;
+
+    private final AtomicReference<CircuitState> state = new AtomicReference<>(CircuitState.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicInteger inFlightDegradedAdmissions = new AtomicInteger();
+    private volatile long openedAtMillis;
+
+    /**
+     * RedisCircuitBreaker 생성자
+     *
+     * @param stringRedisTemplate Redis 템플릿
+     * @param courseCacheWarmupService 강의 캐시 워밍 서비스 (복구 시 재적재)
+     * @param jdbcTemplate JDBC 템플릿
+     * @param transactionManager 트랜잭션 매니저
+     * @param meterRegistry Micrometer 레지스트리
+     * @param failureThreshold 차단 전환 연속 실패 횟수
+     * @param openDurationMillis 차단 유지 시간 (복구 시도 전)
+     * @param drainTimeoutMillis 복구 시 DB 모드 수강신청 종료 대기 한도
+     */
+    public RedisCircuitBreaker(StringRedisTemplate stringRedisTemplate,
+                               CourseCacheWarmupService courseCacheWarmupService,
+                               JdbcTemplate jdbcTemplate,
+                               PlatformTransactionManager transactionManager,
+                               MeterRegistry meterRegistry,
+                               @Value("${wb.redis.circuit-breaker.failure-threshold:5}") int failureThreshold,
+                               @Value("${wb.redis.circuit-breaker.open-duration-ms:5000}") long openDurationMillis,
+                               @Value("${wb.redis.circuit-breaker.drain-timeout-ms:3000}") long drainTimeoutMillis) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.courseCacheWarmupService = courseCacheWarmupService;
+        this.jdbcTemplate = jdbcTemplate;
+        // 차단은 실패한 수강신청 트랜잭션 안에서 일어나므로 보정은 별도 트랜잭션으로 커밋
+        this.reconcileTransaction = new TransactionTemplate(transactionManager);
+        this.reconcileTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.failureThreshold = failureThreshold;
+        this.openDurationMillis = openDurationMillis;
+        this.drainTimeoutMillis = drainTimeoutMillis;
+
+        Gauge.builder("redis.circuit.state", state, current -> current.get().ordinal())
+            .description("Redis 회로 차단기 상태 (0: 정상, 1: 차단, 2: 전환중)")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 현재 상태를 반환합니다
+     *
+     * @return 회로 차단기 상태
+     */
+    public CircuitState getState() {
+        return state.get();
+    }
+
+    /**
+     * Redis 호출 성공을 기록합니다
+     */
+    public void recordSuccess() {
+        consecutiveFailures.set(0);
+    }
+
+    /**
+     * Redis 호출 실패를 기록합니다 (연속 실패가 기준에 도달하면 차단)
+     */
+    public void recordFailure() {
+        if (consecutiveFailures.incrementAndGet() >= failureThreshold
+                && state.compareAndSet(CircuitState.CLOSED, CircuitState.HALF_OPEN)) {
+            open();
+        }
+    }
+
+    /**
+     * DB 모드 수강신청 시작을 기록합니다 (트랜잭션 종료 시 반드시 endDegradedAdmission 호출)
+     */
+    public void beginDegradedAdmission() {
+        inFlightDegradedAdmissions.incrementAndGet();
+    }
+
+    /**
+     * DB 모드 수강신청 종료를 기록합니다
+     */
+    public void endDegradedAdmission() {
+        inFlightDegradedAdmissions.decrementAndGet();
+    }
+
+    /**
+     * 차단 유지 시간이 지나면 Redis 복구를 시도합니다
+     */
+    @Scheduled(fixedDelayString = "${wb.redis.circuit-breaker.probe-interval-ms:1000}")
+    public void probe() {
+        if (state.get() != CircuitState.OPEN
+                || System.currentTimeMillis() - openedAtMillis < openDurationMillis
+                || !state.compareAndSet(CircuitState.OPEN, CircuitState.HALF_OPEN)) {
+            return;
+        }
+
+        log.info("🟡 Redis 복구 시도 - DB 모드 수강신청 {}건 종료 대기", inFlightDegradedAdmissions.get());
+        try {
+            awaitDegradedAdmissions();
+            String pong = stringRedisTemplate.execute((RedisCallback<String>) connection -> connection.ping());
+            if (!"PONG".equalsIgnoreCase(pong)) {
+                throw new IllegalStateException("PING 응답 이상: " + pong);
+            }
+
+            int reloaded = courseCacheWarmupService.reloadFromDatabase();
+
+            consecutiveFailures.set(0);
+            state.set(CircuitState.CLOSED);
+            log.info("🟢 Redis 회로 차단 해제 - 강의 {}개 재적재 후 Redis 정원 제어로 복귀", reloaded);
+        } catch (Exception e) {
+            openedAtMillis = System.currentTimeMillis();
+            state.set(CircuitState.OPEN);
+            log.warn("🔴 Redis 복구 실패, 차단 유지 - Error: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 차단으로 전환하고 DB currentStudents를 실제 수강신청 수로 맞춥니다
+     */
+    private void open() {
+        log.error("🔴 Redis 회로 차단 - 연속 실패 {}회, DB 조건부 UPDATE로 정원 제어 전환", consecutiveFailures.get());
+        try {
+            Integer reconciled = reconcileTransaction.execute(status -> jdbcTemplate.update(RECONCILE_CURRENT_STUDENTS_SQL));
+            log.info("DB currentStudents 보정 완료 - 강의 {}개", reconciled);
+        } catch (Exception e) {
+            log.error("DB currentStudents 보정 실패 - Error: {}", e.getMessage(), e);
+        } finally {
+            openedAtMillis = System.currentTimeMillis();
+            state.set(CircuitState.OPEN);
+        }
+    }
+
+    private void awaitDegradedAdmissions() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + drainTimeoutMillis;
+        while (inFlightDegradedAdmissions.get() > 0) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new IllegalStateException("DB 모드 수강신청이 종료되지 않았습니다: " + inFlightDegradedAdmissions.get() + "건");
+            }
+            TimeUnit.MILLISECONDS.sleep(20);
+        }
+    }
+}
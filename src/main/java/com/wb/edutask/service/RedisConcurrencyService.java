@@ -1,14 +1,27 @@
 package com.wb.edutask.service;
 
+import java.util.Collection;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.stereotype.Service;
+import com.wb.edutask.dto.CourseCacheSnapshot;
 import com.wb.edutask.entity.Course;
+import com.wb.edutask.enums.CourseCacheTtlPolicy;
+import com.wb.edutask.enums.CourseHashLayout;
+import com.wb.edutask.enums.CourseStatus;
 import com.wb.edutask.repository.CourseRepository;
 import com.wb.edutask.repository.EnrollmentRepository;
 import jakarta.annotation.PostConstruct;
@@ -29,42 +42,157 @@ import lombok.extern.slf4j.Slf4j;
 public class RedisConcurrencyService {
 
     private static final String COURSE_KEY_PREFIX = "course:";
-    private static final int COURSE_CACHE_TTL_MINUTES = 2; // 강의 정보 캐시 TTL (2분 - 개발용)
-    
+    private static final int WARM_PIPELINE_BATCH_SIZE = 500; // 파이프라인 1회당 강의 수
+    private static final String COURSE_SYNC_LEASE_PREFIX = "lock:course-sync:";
+    private static final long COURSE_SYNC_LEASE_MILLIS = 3000; // 재동기화 리스 유지 시간
+    private static final long COURSE_SYNC_WAIT_MILLIS = 1000; // 다른 노드의 재동기화 완료 대기 시간
+    private static final int MAX_COURSE_LOAD_ATTEMPTS = 3; // COURSE_NOT_FOUND 시 재동기화 시도 횟수
+
     private final StringRedisTemplate stringRedisTemplate;
     private final CourseRepository courseRepository;
     private final EnrollmentRepository enrollmentRepository;
+    private final CourseSyncNotifier courseSyncNotifier;
+    private final StudentQuotaService studentQuotaService;
+    
+    @Value("${wb.redis.course-cache.ttl-policy:FIXED}")
+    private CourseCacheTtlPolicy ttlPolicy;
+    
+    @Value("${wb.redis.course-cache.ttl-minutes:2}")
+    private long courseCacheTtlMinutes; // 강의 정보 캐시 TTL (기본 2분 - 개발용)
+    
+    @Value("${wb.redis.course-cache.layout:VERBOSE}")
+    private CourseHashLayout hashLayout; // 강의 Hash 필드 구성
+    
+    @Value("${wb.enrollment.waitlist.enabled:false}")
+    private boolean waitlistEnabled; // 정원 초과 시 대기열 등록 여부
     
     // Lua Script: 정원 확인 + 수강생 수 증가 (원자적 처리)
+    // 필드명은 Hash 구성(CourseHashLayout)에 따라 ARGV로 전달
+    // 만료되지 않은 좌석 선점(KEYS[2], 만료 시각 점수 ZSET)도 정원에 포함 (ZCOUNT, O(log n))
+    // 대기열 사용 시(ARGV[5] == '1') 정원 초과면 대기열(KEYS[3])에 한 번만 등록하고 순번 반환 (재시도는 같은 순번)
+    // 빈 좌석이 있어도 앞선 대기자 수만큼은 남겨 두어 새 신청이 대기자를 앞지르지 않음 (빈 좌석보다 앞선 대기자가 많으면 대기열 등록)
+    // 학생별 수강 한도 사용 시(ARGV[6] > 0) 학생 카운터(KEYS[4]) + 만료되지 않은 학생 선점(KEYS[5])으로 한도를 확인하고
+    // 성공 시 카운터를 함께 증가 (카운터가 없으면 적재 요청)
+    // 성공 시 바뀐 수강인원을 채널(ARGV[7])에 PUBLISH 해 각 노드가 브라우저로 실시간 전송 (CourseSeatBroadcaster)
     private static final String ENROLLMENT_SCRIPT = """
         local courseKey = KEYS[1]
+        local holdsKey = KEYS[2]
+        local waitlistKey = KEYS[3]
+        local studentKey = KEYS[4]
+        local studentHoldsKey = KEYS[5]
         local studentId = ARGV[1]
         local courseId = ARGV[2]
+        local currentField = ARGV[3]
+        local maxField = ARGV[4]
+        local maxCourses = tonumber(ARGV[6])
         
         -- 강의 정보 조회
-        local courseData = redis.call('HMGET', courseKey, 'currentStudents', 'maxStudents', 'courseId', 'courseName')
+        local courseData = redis.call('HMGET', courseKey, currentField, maxField)
         local currentStudents = tonumber(courseData[1])
         local maxStudents = tonumber(courseData[2])
-        local storedCourseId = courseData[3]
-        local courseName = courseData[4]
         
         -- 강의 정보가 없는 경우
-        if not currentStudents or not maxStudents or not storedCourseId then
+        if not currentStudents or not maxStudents then
             return {0, 'COURSE_NOT_FOUND', 0}
         end
         
-        -- 정원 초과 확인
-        if currentStudents >= maxStudents then
+        local now = redis.call('TIME')
+        local nowMillis = tonumber(now[1]) * 1000 + math.floor(tonumber(now[2]) / 1000)
+        
+        -- 학생별 수강 한도 확인 (선점 중인 강의 포함, 한도에 도달한 학생은 대기열에도 등록하지 않음)
+        if maxCourses > 0 then
+            local enrolled = tonumber(redis.call('GET', studentKey))
+            if not enrolled then
+                return {0, 'STUDENT_QUOTA_UNKNOWN', 0}
+            end
+            local held = redis.call('ZCOUNT', studentHoldsKey, '(' .. nowMillis, '+inf')
+            if enrolled + held >= maxCourses then
+                return {0, 'STUDENT_QUOTA_EXCEEDED', enrolled}
+            end
+        end
+        
+        -- 정원 초과 확인 (선점 중인 좌석 포함)
+        local heldSeats = redis.call('ZCOUNT', holdsKey, '(' .. nowMillis, '+inf')
+        local freeSeats = maxStudents - currentStudents - heldSeats
+        if ARGV[5] == '1' then
+            local ahead = redis.call('ZRANK', waitlistKey, studentId)
+            if not ahead then
+                ahead = redis.call('ZCARD', waitlistKey)
+            end
+            if ahead >= freeSeats then
+                redis.call('ZADD', waitlistKey, 'NX', nowMillis, studentId)
+                return {0, 'WAITLISTED', redis.call('ZRANK', waitlistKey, studentId) + 1}
+            end
+        elseif freeSeats <= 0 then
             return {0, 'CAPACITY_EXCEEDED', currentStudents}
         end
         
-        -- 수강생 수 증가
-        local newCount = redis.call('HINCRBY', courseKey, 'currentStudents', 1)
+        -- 수강생 수 증가 (대기 중이던 학생이면 대기열에서 제외)
+        local newCount = redis.call('HINCRBY', courseKey, currentField, 1)
+        redis.call('ZREM', waitlistKey, studentId)
+        if maxCourses > 0 then
+            redis.call('INCR', studentKey)
+        end
+        
+        redis.call('PUBLISH', ARGV[7], courseId .. ':' .. newCount)
         
         return {1, 'SUCCESS', newCount}
         """;
     
+    // Lua Script: 강의 Hash 초기화 (원자적 처리)
+    // currentStudents는 HSETNX로 비어있을 때만 채워 먼저 증가된 카운터를 DB 값으로 되돌리지 않음
+    // 리스 해제와 완료 알림(PUBLISH)까지 한 번에 처리
+    // ARGV[7]부터는 Hash 구성에 따른 고정 필드/값 쌍
+    private static final String COURSE_INIT_SCRIPT = """
+        local courseKey = KEYS[1]
+        local leaseKey = KEYS[2]
+        local ttlSeconds = tonumber(ARGV[3])
+        
+        redis.call('HSETNX', courseKey, ARGV[1], ARGV[2])
+        redis.call('HSET', courseKey, unpack(ARGV, 7))
+        
+        if ttlSeconds > 0 then
+            redis.call('EXPIRE', courseKey, ttlSeconds)
+        else
+            redis.call('PERSIST', courseKey)
+        end
+        
+        if redis.call('GET', leaseKey) == ARGV[4] then
+            redis.call('DEL', leaseKey)
+        end
+        redis.call('PUBLISH', ARGV[5], ARGV[6])
+        return 1
+        """;
+    
+    // Lua Script: 리스 해제 + 완료 알림 (강의가 DB에 없을 때 대기 중인 요청을 깨우기 위함)
+    private static final String LEASE_RELEASE_SCRIPT = """
+        if redis.call('GET', KEYS[1]) == ARGV[1] then
+            redis.call('DEL', KEYS[1])
+        end
+        redis.call('PUBLISH', ARGV[2], ARGV[3])
+        return 1
+        """;
+    
+    // Lua Script: 캐시된 강의의 수강생 수만 증감 (0 미만으로는 내려가지 않음) + 수강인원 변경 알림
+    // 반환: 변경 후 수강생 수, Hash가 없으면 -1
+    private static final String ADJUST_COUNT_SCRIPT = """
+        local current = tonumber(redis.call('HGET', KEYS[1], ARGV[1]))
+        if not current then
+            return -1
+        end
+        local delta = math.max(tonumber(ARGV[2]), -current)
+        if delta == 0 then
+            return current
+        end
+        local newCount = redis.call('HINCRBY', KEYS[1], ARGV[1], delta)
+        redis.call('PUBLISH', ARGV[3], ARGV[4] .. ':' .. newCount)
+        return newCount
+        """;
+    
     private DefaultRedisScript<List> enrollmentScript;
+    private DefaultRedisScript<Long> courseInitScript;
+    private DefaultRedisScript<Long> leaseReleaseScript;
+    private DefaultRedisScript<Long> adjustCountScript;
     
     /**
      * 초기화 시 Lua 스크립트 설정
@@ -74,53 +202,211 @@ public class RedisConcurrencyService {
         this.enrollmentScript = new DefaultRedisScript<>();
         this.enrollmentScript.setScriptText(ENROLLMENT_SCRIPT);
         this.enrollmentScript.setResultType(List.class);
+        this.courseInitScript = new DefaultRedisScript<>(COURSE_INIT_SCRIPT, Long.class);
+        this.leaseReleaseScript = new DefaultRedisScript<>(LEASE_RELEASE_SCRIPT, Long.class);
+        this.adjustCountScript = new DefaultRedisScript<>(ADJUST_COUNT_SCRIPT, Long.class);
     }
     
     /**
      * 강의 정보를 Redis에 동기화합니다 (필요시)
+     * Hash가 이미 있으면 아무것도 하지 않고, 없으면 재동기화 리스를 통해 한 번만 적재합니다
      * 
      * @param courseId 강의 ID
      */
     public void syncCourseToRedisIfNeeded(Long courseId) {
         try {
-            Course course = courseRepository.findById(courseId).orElse(null);
-            if (course == null) {
-                return;
-            }
-            
             String courseKey = COURSE_KEY_PREFIX + courseId;
-            
-            // Redis에 강의 정보가 없을 때만 동기화 (동시성 문제 방지)
-            String existingCurrentStudents = (String) stringRedisTemplate.opsForHash().get(courseKey, "currentStudents");
-            
-            if (existingCurrentStudents == null) {
-                // Redis에 데이터가 없을 때만 DB에서 동기화
-                // 실제 DB에서 현재 수강생 수 조회
-                long actualCurrentStudents = enrollmentRepository.countActiveEnrollmentsByCourse(courseId);
-                
-                Map<String, String> courseData = new HashMap<>();
-                courseData.put("courseId", courseId.toString());
-                courseData.put("courseName", course.getCourseName());
-                courseData.put("currentStudents", String.valueOf(actualCurrentStudents));
-                courseData.put("maxStudents", course.getMaxStudents().toString());
-                courseData.put("instructorId", course.getInstructor().getId().toString());
-                
-                stringRedisTemplate.opsForHash().putAll(courseKey, courseData);
-                // 강의 정보에 TTL 설정 (1분 - 개발용)
-                stringRedisTemplate.expire(courseKey, COURSE_CACHE_TTL_MINUTES, TimeUnit.MINUTES);
-                log.debug("강의 정보 Redis 동기화 완료: {} (currentStudents: {}, maxStudents: {}, TTL: {}분)", 
-                        courseId, actualCurrentStudents, course.getMaxStudents(), COURSE_CACHE_TTL_MINUTES);
-            } else {
-                log.debug("Redis에 강의 정보가 이미 존재함 - CourseId: {}, CurrentStudents: {}", 
-                        courseId, existingCurrentStudents);
+            if (Boolean.TRUE.equals(stringRedisTemplate.opsForHash().hasKey(courseKey, hashLayout.getCurrentField()))) {
+                log.debug("Redis에 강의 정보가 이미 존재함 - CourseId: {}", courseId);
+                return;
             }
+            loadCourseHash(courseId);
         } catch (Exception e) {
             log.warn("강의 정보 Redis 동기화 실패: {}", e.getMessage());
         }
     }
     
+    /**
+     * 비어있는 강의 Hash를 캐시 스탬피드 없이 적재합니다
+     * 
+     * 1. SET NX 리스(lock:course-sync:{id})를 얻은 요청 하나만 DB를 조회하고 Lua 스크립트로 원자적으로 적재
+     * 2. 리스를 얻지 못한 요청은 완료 알림(Pub/Sub)을 기다린 뒤 돌아감 (DB 조회 없음)
+     * 
+     * @param courseId 강의 ID
+     * @return 강의가 DB에 존재하면 true (적재 완료 또는 대기 후 재시도 가능), 없으면 false
+     */
+    private boolean loadCourseHash(Long courseId) {
+        String courseKey = COURSE_KEY_PREFIX + courseId;
+        String leaseKey = COURSE_SYNC_LEASE_PREFIX + courseId;
+        String leaseToken = UUID.randomUUID().toString();
+        
+        Boolean leaseAcquired = stringRedisTemplate.opsForValue()
+            .setIfAbsent(leaseKey, leaseToken, COURSE_SYNC_LEASE_MILLIS, TimeUnit.MILLISECONDS);
+        
+        if (!Boolean.TRUE.equals(leaseAcquired)) {
+            // 알림을 놓치지 않도록 먼저 등록한 뒤 Hash 존재 여부를 다시 확인
+            CompletableFuture<Void> syncDone = courseSyncNotifier.register(courseId);
+            if (!Boolean.TRUE.equals(stringRedisTemplate.opsForHash().hasKey(courseKey, hashLayout.getCurrentField()))) {
+                courseSyncNotifier.await(courseId, syncDone, COURSE_SYNC_WAIT_MILLIS);
+            }
+            return true;
+        }
+        
+        Course course;
+        long actualCurrentStudents;
+        try {
+            course = courseRepository.findById(courseId).orElse(null);
+            actualCurrentStudents = course == null ? 0 : enrollmentRepository.countActiveEnrollmentsByCourse(courseId);
+        } catch (RuntimeException e) {
+            // DB 조회 실패 시 리스를 바로 풀어 대기 중인 요청이 리스 만료까지 기다리지 않게 함
+            releaseLease(leaseKey, leaseToken, courseId);
+            throw e;
+        }
+        if (course == null) {
+            releaseLease(leaseKey, leaseToken, courseId);
+            return false;
+        }
+        
+        long ttlSeconds = ttlPolicy == CourseCacheTtlPolicy.PERSIST_WHILE_ENROLLABLE && isEnrollable(course.getStatus())
+                ? -1 : TimeUnit.MINUTES.toSeconds(courseCacheTtlMinutes);
+        
+        List<String> args = new ArrayList<>(List.of(
+                hashLayout.getCurrentField(),
+                String.valueOf(actualCurrentStudents),
+                String.valueOf(ttlSeconds),
+                leaseToken,
+                CourseSyncNotifier.CHANNEL,
+                courseId.toString()));
+        hashLayout.staticFields(courseId, course.getCourseName(), course.getMaxStudents(), course.getInstructor().getId())
+                .forEach((field, value) -> {
+                    args.add(field);
+                    args.add(value);
+                });
+        stringRedisTemplate.execute(courseInitScript, List.of(courseKey, leaseKey), args.toArray());
+        
+        log.debug("강의 정보 Redis 동기화 완료: {} (currentStudents: {}, maxStudents: {}, TTL 정책: {})", 
+                courseId, actualCurrentStudents, course.getMaxStudents(), ttlPolicy);
+        return true;
+    }
+    
+    /**
+     * 재동기화 리스를 해제하고 대기 중인 요청에 완료를 알립니다
+     * 
+     * @param leaseKey 리스 키
+     * @param leaseToken 리스 토큰
+     * @param courseId 강의 ID
+     */
+    private void releaseLease(String leaseKey, String leaseToken, Long courseId) {
+        stringRedisTemplate.execute(leaseReleaseScript, Collections.singletonList(leaseKey),
+                leaseToken, CourseSyncNotifier.CHANNEL, courseId.toString());
+    }
+    
+    /**
+     * 수강신청 가능한 강의 정보를 파이프라인으로 Redis에 일괄 적재합니다 (캐시 워밍용)
+     * 배치 단위로 한 번의 왕복으로 처리하며, TTL 정책도 함께 적용합니다
+     *
+     * overwriteCounts가 false면 currentStudents는 HSETNX로 비어있을 때만 채웁니다.
+     * 수강신청이 진행 중인 Redis 카운터는 DB보다 앞서 있으므로 덮어쓰면 정원 초과가 발생할 수 있습니다
+     *
+     * @param snapshots 적재할 강의 스냅샷 목록 (수강신청 가능한 강의)
+     * @param overwriteCounts currentStudents 덮어쓰기 여부 (대량 적재 직후처럼 트래픽이 없을 때만 true)
+     * @return 적재한 강의 수
+     */
+    public int warmCourseHashes(List<CourseCacheSnapshot> snapshots, boolean overwriteCounts) {
+        int warmed = 0;
+        for (int from = 0; from < snapshots.size(); from += WARM_PIPELINE_BATCH_SIZE) {
+            List<CourseCacheSnapshot> batch = snapshots.subList(from, Math.min(from + WARM_PIPELINE_BATCH_SIZE, snapshots.size()));
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection conn = (StringRedisConnection) connection;
+                for (CourseCacheSnapshot snapshot : batch) {
+                    String courseKey = COURSE_KEY_PREFIX + snapshot.getCourseId();
+                    String currentStudents = String.valueOf(snapshot.getCurrentStudents());
+                    if (overwriteCounts) {
+                        conn.hSet(courseKey, hashLayout.getCurrentField(), currentStudents);
+                    } else {
+                        conn.hSetNX(courseKey, hashLayout.getCurrentField(), currentStudents);
+                    }
+                    conn.hMSet(courseKey, hashLayout.staticFields(snapshot));
+                    if (ttlPolicy == CourseCacheTtlPolicy.PERSIST_WHILE_ENROLLABLE) {
+                        conn.persist(courseKey);
+                    } else {
+                        conn.expire(courseKey, TimeUnit.MINUTES.toSeconds(courseCacheTtlMinutes));
+                    }
+                }
+                return null;
+            });
+            warmed += batch.size();
+        }
+        log.debug("강의 정보 Redis 일괄 적재 완료 - {}건 (TTL 정책: {}, Hash 구성: {})", warmed, ttlPolicy, hashLayout);
+        return warmed;
+    }
+
+    /**
+     * 수강신청 가능 상태에서 벗어난 강의의 Hash에 고정 TTL을 적용해 자연 만료되도록 합니다
+     *
+     * @param courseIds 강의 ID 목록
+     */
+    public void expireCourseHashes(Collection<Long> courseIds) {
+        if (courseIds.isEmpty()) {
+            return;
+        }
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long courseId : courseIds) {
+                ((StringRedisConnection) connection).expire(
+                    COURSE_KEY_PREFIX + courseId, TimeUnit.MINUTES.toSeconds(courseCacheTtlMinutes));
+            }
+            return null;
+        });
+        log.debug("수강신청 불가 강의 캐시 만료 예약 - {}건", courseIds.size());
+    }
+
+    /**
+     * 강의 Hash에 TTL 정책을 적용합니다
+     * PERSIST_WHILE_ENROLLABLE 정책에서 수강신청 가능한 강의는 TTL을 제거하고, 그 외에는 고정 TTL을 설정합니다
+     *
+     * @param courseKey 강의 키 (course:{id})
+     * @param enrollable 수강신청 가능 여부
+     */
+    public void applyCourseTtl(String courseKey, boolean enrollable) {
+        if (ttlPolicy == CourseCacheTtlPolicy.PERSIST_WHILE_ENROLLABLE && enrollable) {
+            stringRedisTemplate.persist(courseKey);
+        } else {
+            stringRedisTemplate.expire(courseKey, courseCacheTtlMinutes, TimeUnit.MINUTES);
+        }
+    }
+
+    /**
+     * 현재 적용 중인 TTL 정책을 반환합니다
+     *
+     * @return TTL 정책
+     */
+    public CourseCacheTtlPolicy getTtlPolicy() {
+        return ttlPolicy;
+    }
+
+    /**
+     * 현재 적용 중인 강의 Hash 필드 구성을 반환합니다
+     *
+     * @return Hash 구성
+     */
+    public CourseHashLayout getHashLayout() {
+        return hashLayout;
+    }
+
+    /**
+     * 강의 상태가 수강신청 가능한 상태인지 확인합니다
+     *
+     * @param status 강의 상태
+     * @return 수강신청 가능 여부 (개설예정, 진행중)
+     */
+    public static boolean isEnrollable(CourseStatus status) {
+        return status == CourseStatus.SCHEDULED || status == CourseStatus.IN_PROGRESS;
+    }
+
     /**
      * 수강신청 Lua 스크립트를 동기 실행합니다
+     * Redis 연결/명령 실패만 SCRIPT_EXECUTION_ERROR로 반환하고 (Redis 차단기 실패로 집계됨),
+     * 캐시 적재 중 발생한 DB 오류는 Redis 장애가 아니므로 그대로 전파합니다
      * 
      * @param studentId 학생 ID
      * @param courseId 강의 ID
@@ -129,35 +415,22 @@ public class RedisConcurrencyService {
     public Map<String, Object> executeEnrollmentLuaScript(Long studentId, Long courseId) {
         String courseKey = COURSE_KEY_PREFIX + courseId;
         try {
-            syncCourseToRedisIfNeeded(courseId);
-            List<Object> result = null;
-            int retryCount = 0;
-            int maxRetries = 3;
+            // 캐시가 있으면 DB 조회 없이 바로 처리하고, 없을 때만 스탬피드 방지 적재 후 재시도
+            List<Object> result = runEnrollmentScript(courseKey, studentId, courseId);
             
-            while (retryCount < maxRetries) {
-                result = stringRedisTemplate.execute(
-                    enrollmentScript,
-                    Collections.singletonList(courseKey),
-                    studentId.toString(),
-                    courseId.toString()
-                );
-                
-                if (result != null && result.size() >= 3) {
-                    Long success = (Long) result.get(0);
-                    String message = (String) result.get(1);
-                    
-                    if (success == 0 && "COURSE_NOT_FOUND".equals(message)) {
-                        log.warn("Redis에서 강의 정보를 찾을 수 없음 - 재동기화 시도 {}/{}, CourseId: {}", 
-                                retryCount + 1, maxRetries, courseId);
-                        syncCourseToRedisIfNeeded(courseId);
-                        retryCount++;
-                        if (retryCount < maxRetries) {
-                            Thread.sleep(50);
-                            continue;
-                        }
-                    }
+            for (int attempt = 1; isCourseNotFound(result) && attempt <= MAX_COURSE_LOAD_ATTEMPTS; attempt++) {
+                log.debug("Redis에서 강의 정보를 찾을 수 없음 - 재동기화 시도 {}/{}, CourseId: {}", 
+                        attempt, MAX_COURSE_LOAD_ATTEMPTS, courseId);
+                if (!loadCourseHash(courseId)) {
+                    break;
                 }
-                break;
+                result = runEnrollmentScript(courseKey, studentId, courseId);
+            }
+            
+            if (isStudentQuotaUnknown(result)) {
+                // 학생 카운터가 없을 때만 DB에서 한 번 채우고 재실행
+                studentQuotaService.seed(studentId);
+                result = runEnrollmentScript(courseKey, studentId, courseId);
             }
             
             if (result.size() >= 3) {
@@ -168,44 +441,86 @@ public class RedisConcurrencyService {
                 Map<String, Object> resultMap = new HashMap<>();
                 resultMap.put("success", success == 1);
                 resultMap.put("message", message);
+                if ("WAITLISTED".equals(message)) {
+                    resultMap.put("waitlistPosition", newCount);
+                    newCount = null;
+                }
                 resultMap.put("newStudentCount", newCount);
                 resultMap.put("studentId", studentId);
                 resultMap.put("courseId", courseId);
                 
-                log.info("Lua 스크립트 동기 실행 완료 - StudentId: {}, CourseId: {}, Success: {}, Message: {}, NewCount: {}", 
-                        studentId, courseId, success == 1, message, newCount);
+                if (log.isDebugEnabled()) {
+                    log.debug("Lua 스크립트 동기 실행 완료 - StudentId: {}, CourseId: {}, Success: {}, Message: {}, NewCount: {}", 
+                            studentId, courseId, success == 1, message, newCount);
+                }
                 
                 return resultMap;
-            } else {
-                throw new RuntimeException("Lua Script 실행 결과가 예상과 다릅니다");
             }
-        } catch (Exception e) {
+            log.error("Lua 스크립트 실행 결과가 예상과 다릅니다 - StudentId: {}, CourseId: {}, Result: {}", 
+                    studentId, courseId, result);
+            return scriptExecutionError();
+        } catch (RedisConnectionFailureException | RedisSystemException e) {
             log.error("Lua 스크립트 동기 실행 실패: {}", e.getMessage(), e);
-            Map<String, Object> errorResult = new HashMap<>();
-            errorResult.put("success", false);
-            errorResult.put("message", "SCRIPT_EXECUTION_ERROR");
-            return errorResult;
+            return scriptExecutionError();
         }
     }
     
     /**
-     * Redis에서 강의의 수강생 수를 감소시킵니다 (취소 시 사용)
+     * Redis 실행 실패 결과를 만듭니다
+     * 
+     * @return 실행 실패 결과 (success=false, message=SCRIPT_EXECUTION_ERROR)
+     */
+    private Map<String, Object> scriptExecutionError() {
+        Map<String, Object> errorResult = new HashMap<>();
+        errorResult.put("success", false);
+        errorResult.put("message", "SCRIPT_EXECUTION_ERROR");
+        return errorResult;
+    }
+    
+    /**
+     * 수강신청 Lua 스크립트를 한 번 실행합니다
+     * 
+     * @param courseKey 강의 키
+     * @param studentId 학생 ID
+     * @param courseId 강의 ID
+     * @return 스크립트 결과 [성공여부, 메시지, 수강생 수]
+     */
+    private List<Object> runEnrollmentScript(String courseKey, Long studentId, Long courseId) {
+        return stringRedisTemplate.execute(
+            enrollmentScript,
+            List.of(courseKey, courseKey + SeatHoldService.HOLDS_KEY_SUFFIX, courseKey + WaitlistService.WAITLIST_KEY_SUFFIX,
+                    StudentQuotaService.enrolledKey(studentId), StudentQuotaService.holdsKey(studentId)),
+            studentId.toString(),
+            courseId.toString(),
+            hashLayout.getCurrentField(),
+            hashLayout.getMaxField(),
+            waitlistEnabled ? "1" : "0",
+            String.valueOf(studentQuotaService.getMaxCourses()),
+            CourseSeatBroadcaster.CHANNEL
+        );
+    }
+    
+    private static boolean isCourseNotFound(List<Object> result) {
+        return result != null && result.size() >= 3
+                && ((Long) result.get(0)) == 0 && "COURSE_NOT_FOUND".equals(result.get(1));
+    }
+    
+    private static boolean isStudentQuotaUnknown(List<Object> result) {
+        return result != null && result.size() >= 3
+                && ((Long) result.get(0)) == 0 && "STUDENT_QUOTA_UNKNOWN".equals(result.get(1));
+    }
+    
+    /**
+     * Redis에서 강의의 수강생 수를 감소시킵니다 (취소 및 롤백 보정 시 사용)
+     * 동시에 들어온 수강신청의 증가분을 덮어쓰지 않도록 adjustCourseStudents(Lua)로 감소와 알림을 한 번에 처리합니다
      * 
      * @param courseId 강의 ID
      */
     public void decreaseCourseStudents(Long courseId) {
-        String courseKey = COURSE_KEY_PREFIX + courseId;
         try {
-            // 현재 수강생 수를 1 감소 (0 이하로는 내려가지 않도록)
-            String currentStudentsStr = (String) stringRedisTemplate.opsForHash().get(courseKey, "currentStudents");
-            if (currentStudentsStr != null) {
-                int currentStudents = Integer.parseInt(currentStudentsStr);
-                if (currentStudents > 0) {
-                    stringRedisTemplate.opsForHash().put(courseKey, "currentStudents", String.valueOf(currentStudents - 1));
-                    log.info("Redis 수강생 수 감소 - CourseId: {}, 변경 후: {}", courseId, currentStudents - 1);
-                } else {
-                    log.warn("Redis 수강생 수가 이미 0입니다 - CourseId: {}", courseId);
-                }
+            Long newCount = adjustCourseStudents(courseId, -1);
+            if (newCount != null) {
+                log.debug("Redis 수강생 수 감소 - CourseId: {}, 변경 후: {}", courseId, newCount);
             } else {
                 log.warn("Redis에서 강의 정보를 찾을 수 없습니다 - CourseId: {}", courseId);
             }
@@ -214,6 +529,37 @@ public class RedisConcurrencyService {
         }
     }
     
+    /**
+     * 캐시된 강의의 수강생 수를 원자적으로 증감합니다 (HGET/HSET 대신 Lua 한 번으로 처리해 동시 변경을 잃지 않음)
+     * 
+     * @param courseId 강의 ID
+     * @param delta 증감량 (결과가 0 미만이 되지 않도록 제한)
+     * @return 변경 후 수강생 수, 강의 Hash가 없으면 null
+     */
+    public Long adjustCourseStudents(Long courseId, int delta) {
+        Long newCount = stringRedisTemplate.execute(adjustCountScript,
+                List.of(COURSE_KEY_PREFIX + courseId),
+                hashLayout.getCurrentField(),
+                String.valueOf(delta),
+                CourseSeatBroadcaster.CHANNEL,
+                courseId.toString());
+        return newCount == null || newCount < 0 ? null : newCount;
+    }
+    
+    /**
+     * 바뀐 수강인원을 실시간 전송 채널에 알립니다 (Lua 스크립트 밖에서 수강인원을 바꾼 경우 사용)
+     * 
+     * @param courseId 강의 ID
+     * @param currentStudents 변경 후 수강인원
+     */
+    public void publishSeatCount(Long courseId, long currentStudents) {
+        try {
+            stringRedisTemplate.convertAndSend(CourseSeatBroadcaster.CHANNEL, courseId + ":" + currentStudents);
+        } catch (Exception e) {
+            log.debug("수강인원 변경 알림 실패 - CourseId: {}, Error: {}", courseId, e.getMessage());
+        }
+    }
+    
     /**
      * Redis 메시지를 한글로 변환합니다
      * 
@@ -224,8 +570,14 @@ public class RedisConcurrencyService {
         return switch (redisMessage) {
             case "SUCCESS" -> "수강신청이 완료되었습니다";
             case "CAPACITY_EXCEEDED" -> "강의 정원이 초과되었습니다";
+            case "STUDENT_QUOTA_EXCEEDED" -> "수강 가능한 최대 강의 수를 초과했습니다";
             case "COURSE_NOT_FOUND" -> "강의 정보를 찾을 수 없습니다";
             case "SCRIPT_EXECUTION_ERROR" -> "시스템 오류가 발생했습니다";
+            case "CIRCUIT_SWITCHING" -> "수강신청 처리 방식을 전환 중입니다. 잠시 후 다시 시도해주세요";
+            case "ALREADY_HELD" -> "이미 선점한 좌석이 있습니다";
+            case "HOLD_NOT_FOUND" -> "선점한 좌석이 없습니다";
+            case "HOLD_EXPIRED" -> "좌석 선점 시간이 만료되었습니다";
+            case "WAITLISTED" -> "강의 정원이 초과되어 대기열에 등록되었습니다";
             default -> "알 수 없는 오류가 발생했습니다: " + redisMessage;
         };
     }
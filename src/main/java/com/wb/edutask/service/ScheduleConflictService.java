@@ -0,0 +1,299 @@
+package com.wb.edutask.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import com.wb.edutask.entity.Course;
+import com.wb.edutask.enums.EnrollmentRejectionCode;
+import com.wb.edutask.exception.EnrollmentRejectedException;
+import com.wb.edutask.repository.EnrollmentRepository;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 수강 일정 충돌 확인 서비스
+ * 학생이 수강 중인 강의 기간을 겹치지 않는 구간으로 합쳐 Redis ZSET(student:{id}:schedule)에 두고,
+ * 수강신청 시 SQL 기간 비교 대신 ZREVRANGEBYSCORE ... LIMIT 0 1 한 번(O(log n))으로 충돌을 확인합니다
+ *
+ * - 구간 멤버: "시작일:종료일" (epoch day, 양 끝 포함), 점수: 시작일
+ * - ZSET이 없으면 그 학생의 승인된 수강신청으로 한 번 적재 (적재 표시 멤버로 빈 일정과 미적재를 구분)
+ * - 수강신청/선점 확정은 충돌 확인과 구간 추가를 Lua 스크립트 한 번으로 처리해 같은 학생의 동시 신청이 서로를 놓치지 않게 하고,
+ *   트랜잭션이 롤백되면 추가한 구간을 제거
+ * - 좌석 선점은 확인만 하고 구간은 확정 때 추가 (확정 시 다시 확인)
+ * - 취소/대기자 승급/추첨 당첨은 커밋 후 삭제해 다시 적재
+ *
+ * wb.enrollment.schedule-conflict.enabled가 true일 때만 사용합니다
+ *
+ * @author WB Development Team
+ * @version 1.0.0
+ * @since 2025-09-24
+ */
+@Slf4j
+@Service
+public class ScheduleConflictService {
+
+    public static final String SCHEDULE_KEY_SUFFIX = ":schedule";
+
+    // 적재 완료 표시 (1969-12-31 하루 구간, 어떤 강의 기간과도 겹치지 않음)
+    private static final String LOADED_MARKER = "-1:-1";
+
+    // Lua Script: 충돌 확인 + 구간 추가 (원자적 처리), ARGV: 시작일, 종료일, 멤버
+    // 반환: 1 추가, 0 충돌, -1 일정 미적재 (DB에서 적재 후 재실행)
+    private static final String RESERVE_SCRIPT = """
+        if redis.call('EXISTS', KEYS[1]) == 0 then
+            return -1
+        end
+        local floor = redis.call('ZREVRANGEBYSCORE', KEYS[1], ARGV[2], '-inf', 'LIMIT', 0, 1)[1]
+        if floor then
+            local floorEnd = tonumber(string.sub(floor, string.find(floor, ':', 2, true) + 1))
+            if floorEnd >= tonumber(ARGV[1]) then
+                return 0
+            end
+        end
+        redis.call('ZADD', KEYS[1], ARGV[1], ARGV[3])
+        return 1
+        """;
+
+    // Lua Script: 일정 적재 (다른 요청이 먼저 적재했으면 그대로 둠), ARGV[2]부터는 점수/멤버 쌍
+    private static final String LOAD_IF_ABSENT_SCRIPT = """
+        if redis.call('EXISTS', KEYS[1]) == 1 then
+            return 0
+        end
+        redis.call('ZADD', KEYS[1], unpack(ARGV, 2))
+        redis.call('EXPIRE', KEYS[1], ARGV[1])
+        return 1
+        """;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final EnrollmentRepository enrollmentRepository;
+    private final boolean enabled;
+    private final Duration scheduleTtl;
+
+    private final DefaultRedisScript<Long> reserveScript = new DefaultRedisScript<>(RESERVE_SCRIPT, Long.class);
+    private final DefaultRedisScript<Long> loadScript = new DefaultRedisScript<>(LOAD_IF_ABSENT_SCRIPT, Long.class);
+
+    /**
+     * ScheduleConflictService 생성자
+     *
+     * @param stringRedisTemplate Redis 템플릿
+     * @param enrollmentRepository 수강신청 Repository
+     * @param enabled 일정 충돌 확인 사용 여부
+     * @param ttlHours 학생 일정 ZSET 유지 시간
+     */
+    public ScheduleConflictService(StringRedisTemplate stringRedisTemplate,
+                                   EnrollmentRepository enrollmentRepository,
+                                   @Value("${wb.enrollment.schedule-conflict.enabled:false}") boolean enabled,
+                                   @Value("${wb.enrollment.schedule-conflict.ttl-hours:24}") long ttlHours) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.enrollmentRepository = enrollmentRepository;
+        this.enabled = enabled;
+        this.scheduleTtl = Duration.ofHours(ttlHours);
+    }
+
+    /**
+     * 일정 충돌 확인 사용 여부를 반환합니다
+     *
+     * @return 사용 여부
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 학생 일정 ZSET 키를 반환합니다
+     *
+     * @param studentId 학생 ID
+     * @return Redis 키 (student:{id}:schedule)
+     */
+    public static String scheduleKey(Long studentId) {
+        return StudentQuotaService.STUDENT_KEY_PREFIX + studentId + SCHEDULE_KEY_SUFFIX;
+    }
+
+    /**
+     * 강의 기간이 학생의 수강 중인 강의와 겹치지 않는지 확인합니다 (좌석 선점용, 구간은 추가하지 않음)
+     *
+     * @param studentId 학생 ID
+     * @param course 신청할 강의
+     * @throws EnrollmentRejectedException 일정이 겹치는 경우
+     */
+    public void checkNoConflict(Long studentId, Course course) {
+        if (!enabled || course.getStartDate() == null || course.getEndDate() == null) {
+            return;
+        }
+        long start = course.getStartDate().toEpochDay();
+        long end = course.getEndDate().toEpochDay();
+
+        // 시작일이 새 종료일 이하인 구간 중 가장 늦게 시작한 구간 하나만 확인 (적재돼 있으면 적재 표시가 항상 걸림)
+        Set<String> floor = stringRedisTemplate.opsForZSet()
+                .reverseRangeByScore(scheduleKey(studentId), Double.NEGATIVE_INFINITY, end, 0, 1);
+        boolean conflict = floor == null || floor.isEmpty()
+                ? load(studentId).overlaps(start, end)
+                : parseEnd(floor.iterator().next()) >= start;
+
+        if (conflict) {
+            throw EnrollmentRejectedException.of(EnrollmentRejectionCode.SCHEDULE_CONFLICT);
+        }
+    }
+
+    /**
+     * 학생의 일정 전체를 인덱스로 가져옵니다 (여러 강의 수강신청 시 장바구니 전체를 한 번에 확인하는 용도)
+     *
+     * @param studentId 학생 ID
+     * @return 일정 구간 인덱스
+     */
+    ScheduleIntervalIndex loadIndex(Long studentId) {
+        Set<String> members = stringRedisTemplate.opsForZSet().range(scheduleKey(studentId), 0, -1);
+        if (members == null || members.isEmpty()) {
+            return load(studentId);
+        }
+        ScheduleIntervalIndex index = new ScheduleIntervalIndex();
+        for (String member : members) {
+            if (!LOADED_MARKER.equals(member)) {
+                int separator = member.indexOf(':', 1);
+                index.add(Long.parseLong(member.substring(0, separator)), Long.parseLong(member.substring(separator + 1)));
+            }
+        }
+        return index;
+    }
+
+    /**
+     * 강의 기간이 겹치지 않는지 확인하고 학생 일정에 바로 추가합니다 (수강신청, 선점 확정용)
+     * 확인과 추가가 한 스크립트라 같은 학생이 겹치는 강의를 동시에 신청해도 하나만 통과하며,
+     * 수강신청 트랜잭션이 롤백되면 추가한 구간을 제거합니다
+     * Redis 장애 시에는 DB 기준으로만 확인합니다
+     *
+     * @param studentId 학생 ID
+     * @param course 신청할 강의
+     * @throws EnrollmentRejectedException 일정이 겹치는 경우
+     */
+    public void reserve(Long studentId, Course course) {
+        if (!enabled || course.getStartDate() == null || course.getEndDate() == null) {
+            return;
+        }
+        long start = course.getStartDate().toEpochDay();
+        long end = course.getEndDate().toEpochDay();
+        String member = start + ":" + end;
+
+        Long result = runReserveScript(studentId, start, end, member);
+        if (result != null && result < 0) {
+            load(studentId);
+            result = runReserveScript(studentId, start, end, member);
+        }
+        if (result == null || result < 0) {
+            if (load(studentId).overlaps(start, end)) {
+                throw EnrollmentRejectedException.of(EnrollmentRejectionCode.SCHEDULE_CONFLICT);
+            }
+            return;
+        }
+        if (result == 0) {
+            throw EnrollmentRejectedException.of(EnrollmentRejectionCode.SCHEDULE_CONFLICT);
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_ROLLED_BACK) {
+                        removeQuietly(studentId, member);
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * 커밋 후 학생 일정을 지워 다음 확인 때 DB에서 다시 적재하게 합니다
+     * 취소처럼 구간을 빼야 하거나, 충돌 확인 없이 생긴 신청(대기자 승급, 추첨 당첨)에서 사용합니다
+     *
+     * @param studentId 학생 ID
+     */
+    public void invalidateAfterCommit(Long studentId) {
+        if (!enabled) {
+            return;
+        }
+        afterCommit(() -> invalidateQuietly(studentId));
+    }
+
+    /**
+     * 학생의 승인된 수강신청으로 일정을 만들고 Redis에 적재합니다
+     *
+     * @param studentId 학생 ID
+     * @return 일정 구간 인덱스
+     */
+    private ScheduleIntervalIndex load(Long studentId) {
+        ScheduleIntervalIndex index = new ScheduleIntervalIndex();
+        for (Object[] row : enrollmentRepository.findActiveCourseDatesByStudentId(studentId)) {
+            index.add((LocalDate) row[0], (LocalDate) row[1]);
+        }
+
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(scheduleTtl.getSeconds()));
+        args.add("-1");
+        args.add(LOADED_MARKER);
+        for (Map.Entry<Long, Long> interval : index.intervals().entrySet()) {
+            args.add(String.valueOf(interval.getKey()));
+            args.add(interval.getKey() + ":" + interval.getValue());
+        }
+        try {
+            stringRedisTemplate.execute(loadScript, List.of(scheduleKey(studentId)), args.toArray());
+        } catch (Exception e) {
+            // 적재 실패 시에도 이번 확인은 DB 결과로 진행
+            log.warn("학생 일정 적재 실패 - StudentId: {}, Error: {}", studentId, e.getMessage());
+        }
+        log.debug("학생 일정 적재 - StudentId: {}, 구간: {}개", studentId, index.intervals().size());
+        return index;
+    }
+
+    private Long runReserveScript(Long studentId, long start, long end, String member) {
+        try {
+            return stringRedisTemplate.execute(reserveScript, List.of(scheduleKey(studentId)),
+                    String.valueOf(start), String.valueOf(end), member);
+        } catch (Exception e) {
+            log.warn("학생 일정 구간 추가 실패, DB 기준으로 확인 - StudentId: {}, Error: {}", studentId, e.getMessage());
+            return null;
+        }
+    }
+
+    private void removeQuietly(Long studentId, String member) {
+        try {
+            stringRedisTemplate.opsForZSet().remove(scheduleKey(studentId), member);
+        } catch (Exception e) {
+            log.warn("학생 일정 구간 제거 실패 - StudentId: {}, Error: {}", studentId, e.getMessage());
+            invalidateQuietly(studentId);
+        }
+    }
+
+    private static long parseEnd(String member) {
+        return Long.parseLong(member.substring(member.indexOf(':', 1) + 1));
+    }
+
+    private void invalidateQuietly(Long studentId) {
+        try {
+            stringRedisTemplate.delete(scheduleKey(studentId));
+        } catch (Exception e) {
+            // TTL이 지나면 DB에서 다시 적재됨
+            log.warn("학생 일정 삭제 실패 - StudentId: {}, Error: {}", studentId, e.getMessage());
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.wb.edutask.service;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * 학생별 수강 일정 구간 인덱스
+ * 수강 중인 강의 기간(시작일~종료일, 양 끝 포함)을 겹치지 않는 구간으로 합쳐 시작일 순으로 보관합니다
+ *
+ * 구간이 서로 겹치지 않으므로 새 기간과 겹칠 수 있는 구간은 "시작일이 새 종료일 이하인 구간 중 가장 늦게 시작한 것" 하나뿐이고,
+ * floorEntry 한 번(O(log n))으로 충돌을 판단합니다
+ *
+ * @author WB Development Team
+ * @version 1.0.0
+ * @since 2025-09-24
+ */
+class ScheduleIntervalIndex {
+
+    // 시작일(epoch day) → 종료일(epoch day)
+    private final TreeMap<Long, Long> intervals = new TreeMap<>();
+
+    /**
+     * 기간이 기존 구간과 겹치는지 확인합니다 (시작일/종료일이 없는 강의는 겹치지 않음)
+     *
+     * @param startDate 시작일
+     * @param endDate 종료일
+     * @return 겹치면 true
+     */
+    boolean overlaps(LocalDate startDate, LocalDate endDate) {
+        if (startDate == null || endDate == null) {
+            return false;
+        }
+        return overlaps(startDate.toEpochDay(), endDate.toEpochDay());
+    }
+
+    /**
+     * 기간이 기존 구간과 겹치는지 확인합니다
+     *
+     * @param start 시작일 (epoch day)
+     * @param end 종료일 (epoch day)
+     * @return 겹치면 true
+     */
+    boolean overlaps(long start, long end) {
+        Map.Entry<Long, Long> floor = intervals.floorEntry(end);
+        return floor != null && floor.getValue() >= start;
+    }
+
+    /**
+     * 기간을 추가합니다 (시작일/종료일이 없는 강의는 무시)
+     *
+     * @param startDate 시작일
+     * @param endDate 종료일
+     */
+    void add(LocalDate startDate, LocalDate endDate) {
+        if (startDate == null || endDate == null) {
+            return;
+        }
+        add(startDate.toEpochDay(), endDate.toEpochDay());
+    }
+
+    /**
+     * 기간을 추가합니다 (겹치는 구간과는 하나로 합침)
+     *
+     * @param start 시작일 (epoch day)
+     * @param end 종료일 (epoch day)
+     */
+    void add(long start, long end) {
+        long mergedStart = Math.min(start, end);
+        long mergedEnd = Math.max(start, end);
+        Map.Entry<Long, Long> floor = intervals.floorEntry(mergedEnd);
+        while (floor != null && floor.getValue() >= mergedStart) {
+            mergedStart = Math.min(mergedStart, floor.getKey());
+            mergedEnd = Math.max(mergedEnd, floor.getValue());
+            intervals.remove(floor.getKey());
+            floor = intervals.floorEntry(mergedEnd);
+        }
+        intervals.put(mergedStart, mergedEnd);
+    }
+
+    /**
+     * 합쳐진 구간 목록을 반환합니다
+     *
+     * @return 시작일 → 종료일 (epoch day, 시작일 오름차순, 읽기 전용)
+     */
+    NavigableMap<Long, Long> intervals() {
+        return Collections.unmodifiableNavigableMap(intervals);
+    }
+}
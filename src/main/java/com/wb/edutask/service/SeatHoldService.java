@@ -0,0 +1,385 @@
+package com.wb.edutask.service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import com.wb.edutask.entity.Course;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 유료 강의 결제용 좌석 선점 서비스
+ * 결제하는 동안 DB 행을 잠그지 않고 Redis에서 좌석을 잠시 확보합니다
+ *
+ * - 선점: course:{id}:holds ZSET에 학생 ID를 만료 시각(ms) 점수로 추가 (ZADD, O(log n))
+ *   수강신청 Lua 스크립트는 만료되지 않은 선점 수(ZCOUNT)를 정원에 포함하므로 그만큼 신규 신청이 막힙니다
+ * - 확정: 선점을 제거하고 수강생 수를 1 증가 (ZREM + HINCRBY, O(log n)) 후 Enrollment 저장
+ * - 만료: 만료 시각이 지나면 ZCOUNT에서 즉시 빠지고, 정리 스케줄러가 배치 단위로 ZSET에서 제거 (ZRANGEBYSCORE LIMIT + ZREM)
+ * - 대기열: 선점도 앞선 대기자 수만큼 빈 좌석을 남겨 두고, 만료/해제로 좌석이 나면 다음 대기자를 승급 (좌석 반납 없이)
+ * - 학생별 수강 한도: 선점도 student:{id}:holds ZSET(강의 ID, 만료 시각 점수)에 남겨 한도에 포함하고,
+ *   확정 시 한도를 다시 확인하며 학생 카운터를 함께 증가 (카운터가 없으면 DB에서 채운 뒤 재실행)
+ *
+ * 선점은 수강생 수(currentStudents)를 바꾸지 않으므로 통계 보정, 쓰기 지연 반영, DB 정원 모드와 충돌하지 않습니다
+ * 만료 판단은 노드 간 시계 차이가 없도록 Redis TIME 기준입니다
+ *
+ * @author WB Development Team
+ * @version 1.0.0
+ * @since 2025-09-24
+ */
+@Slf4j
+@Service
+public class SeatHoldService {
+
+    public static final String HOLDS_KEY_SUFFIX = ":holds";
+    private static final String COURSE_KEY_PREFIX = "course:";
+    private static final String HOLDS_INDEX_KEY = "course:holds:index"; // 선점이 남아 있는 강의 ID 목록 (정리 대상)
+
+    // Lua Script: 정원 확인 + 좌석 선점 (원자적 처리)
+    // 대기자(KEYS[4])가 있으면 앞선 대기자 수만큼 좌석을 남겨 두고, 선점에 성공한 대기자는 대기열에서 제외
+    // 학생별 수강 한도 사용 시(ARGV[6] > 0) 학생 카운터(KEYS[5]) + 만료되지 않은 학생 선점(KEYS[6])으로 한도 확인
+    // 반환: {성공여부, 메시지, 만료 시각(ms)}
+    private static final String HOLD_SCRIPT = """
+        local courseKey = KEYS[1]
+        local holdsKey = KEYS[2]
+        local indexKey = KEYS[3]
+        local waitlistKey = KEYS[4]
+        local studentKey = KEYS[5]
+        local studentHoldsKey = KEYS[6]
+        local studentId = ARGV[1]
+        local ttlMillis = tonumber(ARGV[2])
+        local courseId = ARGV[3]
+        local maxCourses = tonumber(ARGV[6])
+
+        local courseData = redis.call('HMGET', courseKey, ARGV[4], ARGV[5])
+        local currentStudents = tonumber(courseData[1])
+        local maxStudents = tonumber(courseData[2])
+        if not currentStudents or not maxStudents then
+            return {0, 'COURSE_NOT_FOUND', 0}
+        end
+
+        local now = redis.call('TIME')
+        local nowMillis = tonumber(now[1]) * 1000 + math.floor(tonumber(now[2]) / 1000)
+
+        local existing = tonumber(redis.call('ZSCORE', holdsKey, studentId))
+        if existing and existing > nowMillis then
+            return {0, 'ALREADY_HELD', existing}
+        end
+
+        if maxCourses > 0 then
+            local enrolled = tonumber(redis.call('GET', studentKey))
+            if not enrolled then
+                return {0, 'STUDENT_QUOTA_UNKNOWN', 0}
+            end
+            redis.call('ZREMRANGEBYSCORE', studentHoldsKey, '-inf', nowMillis)
+            if enrolled + redis.call('ZCARD', studentHoldsKey) >= maxCourses then
+                return {0, 'STUDENT_QUOTA_EXCEEDED', 0}
+            end
+        end
+
+        local heldSeats = redis.call('ZCOUNT', holdsKey, '(' .. nowMillis, '+inf')
+        local ahead = redis.call('ZRANK', waitlistKey, studentId)
+        if not ahead then
+            ahead = redis.call('ZCARD', waitlistKey)
+        end
+        if currentStudents + heldSeats + ahead >= maxStudents then
+            return {0, 'CAPACITY_EXCEEDED', 0}
+        end
+
+        local expiresAt = nowMillis + ttlMillis
+        redis.call('ZADD', holdsKey, expiresAt, studentId)
+        redis.call('SADD', indexKey, courseId)
+        redis.call('ZREM', waitlistKey, studentId)
+        if maxCourses > 0 then
+            redis.call('ZADD', studentHoldsKey, expiresAt, courseId)
+            redis.call('PEXPIRE', studentHoldsKey, ttlMillis)
+        end
+        return {1, 'HELD', expiresAt}
+        """;
+
+    // Lua Script: 선점 확정 (선점 제거 + 수강생 수 증가 + 수강인원 변경 알림)
+    // 학생별 수강 한도 사용 시(ARGV[5] > 0) 학생 카운터(KEYS[3])로 한도를 다시 확인하고 함께 증가, 학생 선점(KEYS[4])에서 제외
+    // 반환: {성공여부, 메시지, 수강생 수}
+    private static final String CONFIRM_SCRIPT = """
+        local courseKey = KEYS[1]
+        local holdsKey = KEYS[2]
+        local studentKey = KEYS[3]
+        local studentHoldsKey = KEYS[4]
+        local studentId = ARGV[1]
+        local currentField = ARGV[2]
+        local maxCourses = tonumber(ARGV[5])
+
+        local expiresAt = tonumber(redis.call('ZSCORE', holdsKey, studentId))
+        if not expiresAt then
+            return {0, 'HOLD_NOT_FOUND', 0}
+        end
+
+        local now = redis.call('TIME')
+        local nowMillis = tonumber(now[1]) * 1000 + math.floor(tonumber(now[2]) / 1000)
+        if expiresAt <= nowMillis then
+            redis.call('ZREM', holdsKey, studentId)
+            return {0, 'HOLD_EXPIRED', 0}
+        end
+
+        if redis.call('HEXISTS', courseKey, currentField) == 0 then
+            return {0, 'COURSE_NOT_FOUND', 0}
+        end
+
+        if maxCourses > 0 then
+            local enrolled = tonumber(redis.call('GET', studentKey))
+            if not enrolled then
+                return {0, 'STUDENT_QUOTA_UNKNOWN', 0}
+            end
+            if enrolled >= maxCourses then
+                return {0, 'STUDENT_QUOTA_EXCEEDED', enrolled}
+            end
+            redis.call('INCR', studentKey)
+            redis.call('ZREM', studentHoldsKey, ARGV[4])
+        end
+
+        redis.call('ZREM', holdsKey, studentId)
+        local newCount = redis.call('HINCRBY', courseKey, currentField, 1)
+        redis.call('PUBLISH', ARGV[3], ARGV[4] .. ':' .. newCount)
+        return {1, 'CONFIRMED', newCount}
+        """;
+
+    // Lua Script: 만료된 선점을 배치 단위로 제거하고, 비면 정리 대상에서 제외
+    private static final String SWEEP_SCRIPT = """
+        local holdsKey = KEYS[1]
+        local indexKey = KEYS[2]
+        local courseId = ARGV[1]
+        local batchSize = tonumber(ARGV[2])
+
+        local now = redis.call('TIME')
+        local nowMillis = tonumber(now[1]) * 1000 + math.floor(tonumber(now[2]) / 1000)
+        local expired = redis.call('ZRANGEBYSCORE', holdsKey, '-inf', nowMillis, 'LIMIT', 0, batchSize)
+        if #expired > 0 then
+            redis.call('ZREM', holdsKey, unpack(expired))
+        end
+        if redis.call('ZCARD', holdsKey) == 0 then
+            redis.call('SREM', indexKey, courseId)
+        end
+        return #expired
+        """;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisConcurrencyService redisConcurrencyService;
+    private final WaitlistService waitlistService;
+    private final StudentQuotaService studentQuotaService;
+    private final boolean enabled;
+    private final long holdTtlMillis;
+    private final int sweepBatchSize;
+
+    @SuppressWarnings("rawtypes")
+    private final DefaultRedisScript<List> holdScript = new DefaultRedisScript<>(HOLD_SCRIPT, List.class);
+    @SuppressWarnings("rawtypes")
+    private final DefaultRedisScript<List> confirmScript = new DefaultRedisScript<>(CONFIRM_SCRIPT, List.class);
+    private final DefaultRedisScript<Long> sweepScript = new DefaultRedisScript<>(SWEEP_SCRIPT, Long.class);
+
+    /**
+     * SeatHoldService 생성자
+     *
+     * @param stringRedisTemplate Redis 템플릿
+     * @param redisConcurrencyService Redis 동시성 서비스 (강의 Hash 적재)
+     * @param waitlistService 대기열 서비스 (선점 만료/해제 시 승급)
+     * @param studentQuotaService 학생별 수강 한도 서비스 (선점/확정 시 한도 확인)
+     * @param enabled 좌석 선점 모드 사용 여부
+     * @param holdTtlSeconds 선점 유지 시간 (초)
+     * @param sweepBatchSize 정리 시 강의당 한 번에 제거할 선점 수
+     */
+    public SeatHoldService(StringRedisTemplate stringRedisTemplate,
+                           RedisConcurrencyService redisConcurrencyService,
+                           WaitlistService waitlistService,
+                           StudentQuotaService studentQuotaService,
+                           @Value("${wb.enrollment.hold.enabled:false}") boolean enabled,
+                           @Value("${wb.enrollment.hold.ttl-seconds:600}") long holdTtlSeconds,
+                           @Value("${wb.enrollment.hold.sweep-batch-size:200}") int sweepBatchSize) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisConcurrencyService = redisConcurrencyService;
+        this.waitlistService = waitlistService;
+        this.studentQuotaService = studentQuotaService;
+        this.enabled = enabled;
+        this.holdTtlMillis = holdTtlSeconds * 1000;
+        this.sweepBatchSize = sweepBatchSize;
+    }
+
+    /**
+     * 좌석 선점 모드 사용 여부를 반환합니다
+     *
+     * @return 사용 여부
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 선점 후 결제 확인을 거쳐야 하는 강의인지 확인합니다 (선점 모드 사용 중인 유료 강의)
+     *
+     * @param course 강의
+     * @return 선점 필요 여부
+     */
+    public boolean isRequiredFor(Course course) {
+        return enabled && course.getPrice() != null && course.getPrice() > 0;
+    }
+
+    /**
+     * 좌석을 선점합니다
+     *
+     * @param studentId 학생 ID
+     * @param courseId 강의 ID
+     * @return 처리 결과 (success, message, expiresAt)
+     */
+    public Map<String, Object> hold(Long studentId, Long courseId) {
+        if (!enabled) {
+            throw new RuntimeException("좌석 선점 모드가 비활성화되어 있습니다");
+        }
+        List<Object> result = runHoldScript(studentId, courseId);
+        if (isCourseNotFound(result)) {
+            redisConcurrencyService.syncCourseToRedisIfNeeded(courseId);
+            result = runHoldScript(studentId, courseId);
+        }
+        if (isStudentQuotaUnknown(result)) {
+            studentQuotaService.seed(studentId);
+            result = runHoldScript(studentId, courseId);
+        }
+
+        Map<String, Object> resultMap = new HashMap<>();
+        resultMap.put("success", (Long) result.get(0) == 1);
+        resultMap.put("message", result.get(1));
+        long expiresAtMillis = (Long) result.get(2);
+        resultMap.put("expiresAt", expiresAtMillis > 0 ? toLocalDateTime(expiresAtMillis) : null);
+        return resultMap;
+    }
+
+    /**
+     * 선점한 좌석을 확정합니다 (선점 제거 + Redis 수강생 수 증가, 학생별 수강 한도 재확인)
+     *
+     * @param studentId 학생 ID
+     * @param courseId 강의 ID
+     * @return 처리 결과 (success, message, newStudentCount)
+     */
+    public Map<String, Object> confirm(Long studentId, Long courseId) {
+        List<Object> result = runConfirmScript(studentId, courseId);
+        if (isCourseNotFound(result)) {
+            redisConcurrencyService.syncCourseToRedisIfNeeded(courseId);
+            result = runConfirmScript(studentId, courseId);
+        }
+        if (isStudentQuotaUnknown(result)) {
+            studentQuotaService.seed(studentId);
+            result = runConfirmScript(studentId, courseId);
+        }
+
+        Map<String, Object> resultMap = new HashMap<>();
+        resultMap.put("success", (Long) result.get(0) == 1);
+        resultMap.put("message", result.get(1));
+        resultMap.put("newStudentCount", result.get(2));
+        return resultMap;
+    }
+
+    /**
+     * 선점을 해제합니다 (결제 취소 등)
+     * 좌석이 나므로 대기자가 있으면 승급합니다
+     *
+     * @param studentId 학생 ID
+     * @param courseId 강의 ID
+     * @return 해제한 선점이 있으면 true
+     */
+    public boolean release(Long studentId, Long courseId) {
+        Long removed = stringRedisTemplate.opsForZSet().remove(holdsKey(courseId), studentId.toString());
+        if (removed == null || removed == 0) {
+            return false;
+        }
+        stringRedisTemplate.opsForZSet().remove(StudentQuotaService.holdsKey(studentId), courseId.toString());
+        waitlistService.promoteWaiting(courseId);
+        return true;
+    }
+
+    /**
+     * 만료된 선점을 정리합니다
+     * 선점이 남아 있는 강의만 돌며, 강의마다 배치 단위로 제거하고 좌석이 난 강의는 대기자를 승급합니다
+     *
+     * @return 제거한 선점 수
+     */
+    @Scheduled(fixedDelayString = "${wb.enrollment.hold.sweep-interval-ms:5000}")
+    public int sweepExpiredHolds() {
+        if (!enabled) {
+            return 0;
+        }
+        int swept = 0;
+        try {
+            Set<String> courseIds = stringRedisTemplate.opsForSet().members(HOLDS_INDEX_KEY);
+            if (courseIds == null || courseIds.isEmpty()) {
+                return 0;
+            }
+            for (String courseId : courseIds) {
+                int sweptForCourse = 0;
+                Long removed;
+                do {
+                    removed = stringRedisTemplate.execute(sweepScript,
+                            List.of(COURSE_KEY_PREFIX + courseId + HOLDS_KEY_SUFFIX, HOLDS_INDEX_KEY),
+                            courseId, String.valueOf(sweepBatchSize));
+                    sweptForCourse += removed != null ? removed.intValue() : 0;
+                } while (removed != null && removed == sweepBatchSize);
+                if (sweptForCourse > 0) {
+                    waitlistService.promoteWaiting(Long.valueOf(courseId));
+                }
+                swept += sweptForCourse;
+            }
+            if (swept > 0) {
+                log.info("만료된 좌석 선점 정리 완료 - {}건", swept);
+            }
+        } catch (Exception e) {
+            log.warn("좌석 선점 정리 실패 - Error: {}", e.getMessage());
+        }
+        return swept;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object> runHoldScript(Long studentId, Long courseId) {
+        return stringRedisTemplate.execute(holdScript,
+                List.of(COURSE_KEY_PREFIX + courseId, holdsKey(courseId), HOLDS_INDEX_KEY,
+                        COURSE_KEY_PREFIX + courseId + WaitlistService.WAITLIST_KEY_SUFFIX,
+                        StudentQuotaService.enrolledKey(studentId), StudentQuotaService.holdsKey(studentId)),
+                studentId.toString(),
+                String.valueOf(holdTtlMillis),
+                courseId.toString(),
+                redisConcurrencyService.getHashLayout().getCurrentField(),
+                redisConcurrencyService.getHashLayout().getMaxField(),
+                String.valueOf(studentQuotaService.getMaxCourses()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object> runConfirmScript(Long studentId, Long courseId) {
+        return stringRedisTemplate.execute(confirmScript,
+                List.of(COURSE_KEY_PREFIX + courseId, holdsKey(courseId),
+                        StudentQuotaService.enrolledKey(studentId), StudentQuotaService.holdsKey(studentId)),
+                studentId.toString(),
+                redisConcurrencyService.getHashLayout().getCurrentField(),
+                CourseSeatBroadcaster.CHANNEL,
+                courseId.toString(),
+                String.valueOf(studentQuotaService.getMaxCourses()));
+    }
+
+    private static String holdsKey(Long courseId) {
+        return COURSE_KEY_PREFIX + courseId + HOLDS_KEY_SUFFIX;
+    }
+
+    private static boolean isCourseNotFound(List<Object> result) {
+        return "COURSE_NOT_FOUND".equals(result.get(1));
+    }
+
+    private static boolean isStudentQuotaUnknown(List<Object> result) {
+        return "STUDENT_QUOTA_UNKNOWN".equals(result.get(1));
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+}
@@ -0,0 +1,357 @@
+package com.wb.edutask.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wb.edutask.dto.StudentEnrollmentSummaryDto;
+import com.wb.edutask.entity.Enrollment;
+import com.wb.edutask.enums.EnrollmentStatus;
+import com.wb.edutask.repository.EnrollmentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 학생별 수강 요약 서비스 ("내 수강 목록" 화면용)
+ * 수강신청 목록을 Redis Hash(student:{id}:enrollments)에 강의명/강사명까지 펼쳐 두고 키 하나로 조회합니다
+ * 필드는 수강신청 ID, 값은 요약 항목 JSON이며 수강신청이 없는 학생도 표식 필드(_v)로 적재 여부를 구분합니다
+ *
+ * - 조회: Hash가 있으면 그대로 반환, 없으면 조인 쿼리 1회로 재구성 후 적재
+ * - 수강신청/취소: 커밋 후 요약을 삭제하고 버전(student:{id}:enrollments:version)을 올림, 다음 조회 시 재구성
+ *   (커밋 전에 DB를 읽은 재구성은 버전이 달라져 적재되지 않으므로 이전 상태가 TTL 동안 남지 않음)
+ * - 전체 재구성: 매일 새벽 분산락을 잡은 한 서버가 수강신청 테이블 기준으로 다시 적재
+ *
+ * @author WB Development Team
+ * @version 1.0.0
+ * @since 2025-09-24
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StudentEnrollmentSummaryService {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final EnrollmentRepository enrollmentRepository;
+    private final ObjectMapper objectMapper;
+
+    private static final String SUMMARY_KEY_PREFIX = "student:";
+    private static final String SUMMARY_KEY_SUFFIX = ":enrollments";
+    private static final String VERSION_KEY_SUFFIX = ":version";
+    private static final String MARKER_FIELD = "_v";
+
+    // 분산락 키
+    private static final String REBUILD_LOCK_KEY = "lock:enrollment-summary-rebuild";
+
+    // 요약 무효화: 버전을 올리고 요약 삭제 (진행 중인 재구성은 버전이 달라져 적재되지 않음)
+    private static final String INVALIDATE_SCRIPT =
+        "redis.call('incr', KEYS[2]) " +
+        "redis.call('expire', KEYS[2], ARGV[1]) " +
+        "return redis.call('del', KEYS[1])";
+
+    // 재구성 적재: DB를 읽기 전에 확인한 버전이 그대로일 때만 교체 (DEL → HSET → EXPIRE)
+    private static final String REPLACE_IF_VERSION_SCRIPT =
+        "if (redis.call('get', KEYS[2]) or '0') ~= ARGV[1] then " +
+        "    return 0 " +
+        "end " +
+        "redis.call('del', KEYS[1]) " +
+        "redis.call('hset', KEYS[1], unpack(ARGV, 3)) " +
+        "redis.call('expire', KEYS[1], ARGV[2]) " +
+        "return 1";
+
+    // 락 해제용 Lua 스크립트 (안전한 해제를 위해)
+    private static final String UNLOCK_SCRIPT =
+        "if redis.call('get', KEYS[1]) == ARGV[1] then " +
+        "    return redis.call('del', KEYS[1]) " +
+        "else " +
+        "    return 0 " +
+        "end";
+
+    private final DefaultRedisScript<Long> invalidateScript = new DefaultRedisScript<>(INVALIDATE_SCRIPT, Long.class);
+    private final DefaultRedisScript<Long> unlockScript = new DefaultRedisScript<>(UNLOCK_SCRIPT, Long.class);
+
+    @Value("${wb.enrollment.summary.ttl-hours:24}")
+    private long ttlHours;
+
+    @Value("${wb.enrollment.summary.rebuild-batch-size:500}")
+    private int rebuildBatchSize;
+
+    /**
+     * 학생별 수강 요약을 조회합니다
+     * Redis에 없으면 DB에서 재구성하며, Redis 장애 시에는 DB 결과만 반환합니다
+     * 재구성 결과가 TTL 동안 유지되므로 복제 지연이 있는 읽기 전용 복제본 대신 주 DB에서 읽습니다
+     *
+     * @param studentId 학생 ID
+     * @return 수강 요약 (신청 일시 내림차순)
+     */
+    @Transactional
+    public StudentEnrollmentSummaryDto getSummary(Long studentId) {
+        List<StudentEnrollmentSummaryDto.Item> items = readCachedItems(studentId);
+        if (items == null) {
+            items = rebuildStudent(studentId);
+        }
+
+        items.sort(Comparator.comparing(StudentEnrollmentSummaryDto.Item::getAppliedAt,
+                Comparator.nullsLast(Comparator.reverseOrder())));
+        int activeCount = (int) items.stream().filter(StudentEnrollmentSummaryDto.Item::isActive).count();
+
+        return StudentEnrollmentSummaryDto.builder()
+                .studentId(studentId)
+                .totalCount(items.size())
+                .activeCount(activeCount)
+                .enrollments(items)
+                .build();
+    }
+
+    /**
+     * 수강신청 생성/취소를 요약에 반영합니다 (트랜잭션 커밋 후 무효화)
+     * 커밋 전에 키 존재 여부를 보고 건너뛰면, 그 사이 커밋 전 DB를 읽은 재구성이 이전 상태를 적재할 수 있으므로
+     * 커밋 후 항상 버전을 올리고 요약을 삭제합니다
+     *
+     * @param enrollment 저장된 수강신청
+     */
+    public void onEnrollmentChanged(Enrollment enrollment) {
+        Long studentId = enrollment.getStudent().getId();
+        String key = summaryKey(studentId);
+        afterCommit(() -> {
+            try {
+                stringRedisTemplate.execute(invalidateScript, List.of(key, versionKey(studentId)),
+                        String.valueOf(TimeUnit.HOURS.toSeconds(ttlHours)));
+            } catch (Exception e) {
+                // 요약은 재구성 가능한 보조 데이터이므로 수강신청 처리는 계속 진행 (TTL 또는 새벽 재구성으로 복구)
+                log.warn("수강 요약 무효화 실패 - Key: {}, EnrollmentId: {}, Error: {}", key, enrollment.getId(), e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 한 학생의 요약을 DB 기준으로 다시 적재합니다
+     *
+     * @param studentId 학생 ID
+     * @return 재구성된 항목 목록
+     */
+    @Transactional
+    public List<StudentEnrollmentSummaryDto.Item> rebuildStudent(Long studentId) {
+        Map<Long, String> versions;
+        try {
+            versions = readVersions(List.of(studentId));
+        } catch (Exception e) {
+            log.warn("수강 요약 버전 조회 실패 - StudentId: {}, Error: {}", studentId, e.getMessage());
+            versions = null;
+        }
+        Map<Long, List<StudentEnrollmentSummaryDto.Item>> itemsByStudent = loadItems(List.of(studentId));
+        if (versions == null) {
+            return itemsByStudent.get(studentId);
+        }
+        try {
+            writeSummaries(itemsByStudent, versions);
+        } catch (Exception e) {
+            log.warn("수강 요약 적재 실패 - StudentId: {}, Error: {}", studentId, e.getMessage());
+        }
+        return itemsByStudent.get(studentId);
+    }
+
+    /**
+     * 전체 학생의 수강 요약을 재구성합니다 (매일 새벽, 분산락 적용)
+     * 이벤트 반영 누락(Redis 장애, 벌크 적재 등)을 수강신청 테이블 기준으로 바로잡습니다
+     */
+    @Scheduled(cron = "${wb.enrollment.summary.rebuild-cron:0 30 4 * * *}")
+    public void rebuildAll() {
+        String lockValue = UUID.randomUUID().toString();
+        Boolean lockAcquired = stringRedisTemplate.opsForValue()
+            .setIfAbsent(REBUILD_LOCK_KEY, lockValue, Duration.ofMinutes(30));
+
+        if (!Boolean.TRUE.equals(lockAcquired)) {
+            log.debug("다른 서버에서 수강 요약 재구성 중입니다. 스킵합니다.");
+            return;
+        }
+
+        long startTime = System.currentTimeMillis();
+        int studentCount = 0;
+        try {
+            Long lastStudentId = 0L;
+            while (true) {
+                List<Long> studentIds = enrollmentRepository.findStudentIdsWithEnrollmentsAfter(
+                        lastStudentId, PageRequest.of(0, rebuildBatchSize));
+                if (studentIds.isEmpty()) {
+                    break;
+                }
+                Map<Long, String> versions = readVersions(studentIds);
+                writeSummaries(loadItems(studentIds), versions);
+                studentCount += studentIds.size();
+                lastStudentId = studentIds.get(studentIds.size() - 1);
+            }
+            log.info("✅ 수강 요약 전체 재구성 완료 - 학생 수: {}, 소요시간: {}ms",
+                    studentCount, System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            log.error("수강 요약 전체 재구성 중 오류 발생 - 처리된 학생 수: {}", studentCount, e);
+        } finally {
+            stringRedisTemplate.execute(unlockScript, List.of(REBUILD_LOCK_KEY), lockValue);
+        }
+    }
+
+    /**
+     * Redis에 적재된 요약 항목을 읽습니다
+     *
+     * @param studentId 학생 ID
+     * @return 항목 목록 (적재되지 않았거나 Redis 장애 시 null)
+     */
+    private List<StudentEnrollmentSummaryDto.Item> readCachedItems(Long studentId) {
+        Map<Object, Object> entries;
+        try {
+            entries = stringRedisTemplate.opsForHash().entries(summaryKey(studentId));
+        } catch (Exception e) {
+            log.warn("수강 요약 조회 실패 - StudentId: {}, Error: {}", studentId, e.getMessage());
+            return null;
+        }
+        if (entries.isEmpty()) {
+            return null;
+        }
+
+        List<StudentEnrollmentSummaryDto.Item> items = new ArrayList<>(entries.size());
+        for (Map.Entry<Object, Object> entry : entries.entrySet()) {
+            if (MARKER_FIELD.equals(entry.getKey())) {
+                continue;
+            }
+            try {
+                items.add(objectMapper.readValue((String) entry.getValue(), StudentEnrollmentSummaryDto.Item.class));
+            } catch (JsonProcessingException e) {
+                log.warn("수강 요약 항목 파싱 실패 - StudentId: {}, Field: {}", studentId, entry.getKey());
+                return null;
+            }
+        }
+        return items;
+    }
+
+    /**
+     * 학생별 요약 항목을 조인 쿼리 1회로 조회합니다
+     *
+     * @param studentIds 학생 ID 목록
+     * @return 학생 ID별 항목 목록 (수강신청이 없는 학생은 빈 목록)
+     */
+    private Map<Long, List<StudentEnrollmentSummaryDto.Item>> loadItems(List<Long> studentIds) {
+        Map<Long, List<StudentEnrollmentSummaryDto.Item>> itemsByStudent = new LinkedHashMap<>();
+        studentIds.forEach(studentId -> itemsByStudent.put(studentId, new ArrayList<>()));
+
+        for (Object[] row : enrollmentRepository.findSummaryRowsByStudentIds(studentIds)) {
+            StudentEnrollmentSummaryDto.Item item = StudentEnrollmentSummaryDto.Item.builder()
+                    .enrollmentId((Long) row[0])
+                    .courseId((Long) row[2])
+                    .courseName((String) row[3])
+                    .instructorName((String) row[4])
+                    .description((String) row[5])
+                    .startDate((LocalDate) row[6])
+                    .endDate((LocalDate) row[7])
+                    .status((EnrollmentStatus) row[8])
+                    .appliedAt((LocalDateTime) row[9])
+                    .build();
+            itemsByStudent.get((Long) row[1]).add(item);
+        }
+        return itemsByStudent;
+    }
+
+    /**
+     * 학생별 요약 버전을 읽습니다 (DB 조회 전에 호출해야 커밋과의 경합을 감지할 수 있음)
+     *
+     * @param studentIds 학생 ID 목록
+     * @return 학생 ID별 버전 (없으면 "0")
+     */
+    private Map<Long, String> readVersions(List<Long> studentIds) {
+        List<String> values = stringRedisTemplate.opsForValue()
+                .multiGet(studentIds.stream().map(StudentEnrollmentSummaryService::versionKey).toList());
+        Map<Long, String> versions = new HashMap<>();
+        for (int i = 0; i < studentIds.size(); i++) {
+            String value = values != null ? values.get(i) : null;
+            versions.put(studentIds.get(i), value != null ? value : "0");
+        }
+        return versions;
+    }
+
+    /**
+     * 학생별 요약을 Pipeline으로 교체 적재합니다 (버전이 그대로인 학생만 DEL → HSET → EXPIRE)
+     *
+     * @param itemsByStudent 학생 ID별 항목 목록
+     * @param versions DB 조회 전에 읽은 학생 ID별 버전
+     */
+    private void writeSummaries(Map<Long, List<StudentEnrollmentSummaryDto.Item>> itemsByStudent,
+                                Map<Long, String> versions) {
+        String ttlSeconds = String.valueOf(TimeUnit.HOURS.toSeconds(ttlHours));
+        Map<Long, String[]> keysAndArgs = new HashMap<>();
+        itemsByStudent.forEach((studentId, items) -> {
+            List<String> values = new ArrayList<>();
+            values.add(summaryKey(studentId));
+            values.add(versionKey(studentId));
+            values.add(versions.get(studentId));
+            values.add(ttlSeconds);
+            values.add(MARKER_FIELD);
+            values.add("1");
+            items.forEach(item -> {
+                values.add(item.getEnrollmentId().toString());
+                values.add(toJson(item));
+            });
+            keysAndArgs.put(studentId, values.toArray(new String[0]));
+        });
+
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            keysAndArgs.values().forEach(values ->
+                    conn.eval(REPLACE_IF_VERSION_SCRIPT, ReturnType.INTEGER, 2, values));
+            return null;
+        });
+    }
+
+    /**
+     * 트랜잭션이 있으면 커밋 후, 없으면 즉시 실행합니다
+     * 롤백된 수강신청이 요약에 남지 않도록 합니다
+     *
+     * @param action 실행할 작업
+     */
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private String toJson(StudentEnrollmentSummaryDto.Item item) {
+        try {
+            return objectMapper.writeValueAsString(item);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("수강 요약 항목 직렬화 실패: " + item.getEnrollmentId(), e);
+        }
+    }
+
+    private static String summaryKey(Long studentId) {
+        return SUMMARY_KEY_PREFIX + studentId + SUMMARY_KEY_SUFFIX;
+    }
+
+    private static String versionKey(Long studentId) {
+        return summaryKey(studentId) + VERSION_KEY_SUFFIX;
+    }
+}
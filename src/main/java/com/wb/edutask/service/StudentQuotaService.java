@@ -0,0 +1,351 @@
+package com.wb.edutask.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import com.wb.edutask.repository.EnrollmentRepository;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 학생별 최대 수강 강의 수 관리 서비스
+ * 학생별 수강 중인 강의 수를 Redis 카운터(student:{id}:enrolled)로 유지해, 수강신청 Lua 스크립트가 DB COUNT 없이 한도를 확인합니다
+ *
+ * - 한도 계산: 수강 중인 강의 수 + 만료되지 않은 좌석 선점 수(student:{id}:holds, 만료 시각 점수 ZSET)
+ *   (선점은 결제 후 확정되므로 선점만으로 한도를 넘겨 여러 강의를 잡아 둘 수 없음)
+ * - 수강신청/좌석 선점/선점 확정: Lua 스크립트에서 한도 확인과 증가를 정원 확인과 함께 원자적으로 처리
+ * - 대기자 승급/추첨 당첨: 저장 전에 tryReserve로 한도를 다시 확인하며 증가, 취소: 커밋 후 감소 (카운터가 있을 때만)
+ * - 스크립트나 tryReserve로 증가시킨 뒤 수강신청 트랜잭션이 롤백되면 감소로 되돌림
+ * - 카운터가 없으면 (첫 신청, 만료, Redis 유실) 그 학생에 한해 DB에서 한 번 채움
+ * - 강의 통계 보정 스케줄러가 주기적으로 DB 기준으로 보정
+ *
+ * wb.enrollment.student-quota.max-courses가 0이면 사용하지 않습니다
+ *
+ * @author WB Development Team
+ * @version 1.0.0
+ * @since 2025-09-24
+ */
+@Slf4j
+@Service
+public class StudentQuotaService {
+
+    public static final String STUDENT_KEY_PREFIX = "student:";
+    public static final String ENROLLED_KEY_SUFFIX = ":enrolled";
+    public static final String HOLDS_KEY_SUFFIX = ":holds";
+    private static final int RECONCILE_BATCH_SIZE = 500;
+
+    // Lua Script: 카운터가 있을 때만 증감 (없으면 다음 신청 시 DB에서 채움), 0 아래로는 내려가지 않음
+    private static final String ADJUST_IF_EXISTS_SCRIPT = """
+        local current = tonumber(redis.call('GET', KEYS[1]))
+        if not current then
+            return -1
+        end
+        if current + tonumber(ARGV[1]) < 0 then
+            return current
+        end
+        return redis.call('INCRBY', KEYS[1], ARGV[1])
+        """;
+
+    // Lua Script: 한도(ARGV[1]) 안이면 증가 (만료되지 않은 좌석 선점 포함), 카운터가 없으면 -1
+    private static final String RESERVE_SCRIPT = """
+        local enrolled = tonumber(redis.call('GET', KEYS[1]))
+        if not enrolled then
+            return -1
+        end
+        local now = redis.call('TIME')
+        local nowMillis = tonumber(now[1]) * 1000 + math.floor(tonumber(now[2]) / 1000)
+        local held = redis.call('ZCOUNT', KEYS[2], '(' .. nowMillis, '+inf')
+        if enrolled + held >= tonumber(ARGV[1]) then
+            return 0
+        end
+        redis.call('INCR', KEYS[1])
+        return 1
+        """;
+
+    // Lua Script: 조회 시점 값 그대로일 때만 DB 값으로 보정 (그 사이 신청/취소가 반영됐으면 다음 주기에 보정)
+    private static final String CORRECT_IF_UNCHANGED_SCRIPT = """
+        if redis.call('GET', KEYS[1]) == ARGV[1] then
+            redis.call('SET', KEYS[1], ARGV[2], 'EX', ARGV[3])
+            return 1
+        end
+        return 0
+        """;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final EnrollmentRepository enrollmentRepository;
+    private final int maxCourses;
+    private final Duration counterTtl;
+
+    private final DefaultRedisScript<Long> adjustScript = new DefaultRedisScript<>(ADJUST_IF_EXISTS_SCRIPT, Long.class);
+    private final DefaultRedisScript<Long> reserveScript = new DefaultRedisScript<>(RESERVE_SCRIPT, Long.class);
+    private final DefaultRedisScript<Long> correctScript = new DefaultRedisScript<>(CORRECT_IF_UNCHANGED_SCRIPT, Long.class);
+
+    /**
+     * StudentQuotaService 생성자
+     *
+     * @param stringRedisTemplate Redis 템플릿
+     * @param enrollmentRepository 수강신청 Repository
+     * @param maxCourses 학생별 최대 수강 강의 수 (0이면 제한 없음)
+     * @param ttlHours 카운터 유지 시간 (신청이 없는 학생의 카운터는 만료 후 다음 신청 때 DB에서 다시 채움)
+     */
+    public StudentQuotaService(StringRedisTemplate stringRedisTemplate,
+                               EnrollmentRepository enrollmentRepository,
+                               @Value("${wb.enrollment.student-quota.max-courses:0}") int maxCourses,
+                               @Value("${wb.enrollment.student-quota.ttl-hours:24}") long ttlHours) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.enrollmentRepository = enrollmentRepository;
+        this.maxCourses = maxCourses;
+        this.counterTtl = Duration.ofHours(ttlHours);
+    }
+
+    /**
+     * 학생별 수강 한도 사용 여부를 반환합니다
+     *
+     * @return 사용 여부
+     */
+    public boolean isEnabled() {
+        return maxCourses > 0;
+    }
+
+    /**
+     * 학생별 최대 수강 강의 수를 반환합니다
+     *
+     * @return 최대 수강 강의 수 (0이면 제한 없음)
+     */
+    public int getMaxCourses() {
+        return maxCourses;
+    }
+
+    /**
+     * 학생의 수강 강의 수 카운터 키를 반환합니다
+     *
+     * @param studentId 학생 ID
+     * @return Redis 키 (student:{id}:enrolled)
+     */
+    public static String enrolledKey(Long studentId) {
+        return STUDENT_KEY_PREFIX + studentId + ENROLLED_KEY_SUFFIX;
+    }
+
+    /**
+     * 학생의 좌석 선점 목록 키를 반환합니다 (강의 ID, 만료 시각 점수)
+     *
+     * @param studentId 학생 ID
+     * @return Redis 키 (student:{id}:holds)
+     */
+    public static String holdsKey(Long studentId) {
+        return STUDENT_KEY_PREFIX + studentId + HOLDS_KEY_SUFFIX;
+    }
+
+    /**
+     * 카운터가 없을 때 DB의 승인된 수강신청 수로 채웁니다 (이미 있으면 그대로 둠)
+     *
+     * @param studentId 학생 ID
+     */
+    public void seed(Long studentId) {
+        long enrolled = enrollmentRepository.countApprovedEnrollmentsByStudent(studentId);
+        stringRedisTemplate.opsForValue().setIfAbsent(enrolledKey(studentId), String.valueOf(enrolled), counterTtl);
+        log.debug("학생 수강 카운터 적재 - StudentId: {}, 수강 중: {}", studentId, enrolled);
+    }
+
+    /**
+     * 한도 안에서 카운터를 1 증가시킵니다 (Lua 스크립트를 거치지 않는 대기자 승급/추첨 당첨용)
+     * 만료되지 않은 좌석 선점도 한도에 포함하며, 트랜잭션 안에서 호출하면 롤백 시 증가분을 되돌립니다
+     * Redis 장애 시에는 DB 기준으로만 확인합니다 (카운터는 보정 주기에 맞춰짐)
+     *
+     * @param studentId 학생 ID
+     * @return 한도 안이면 true (한도를 사용하지 않으면 항상 true)
+     */
+    public boolean tryReserve(Long studentId) {
+        if (!isEnabled()) {
+            return true;
+        }
+        Long result;
+        try {
+            List<String> keys = List.of(enrolledKey(studentId), holdsKey(studentId));
+            result = stringRedisTemplate.execute(reserveScript, keys, String.valueOf(maxCourses));
+            if (result != null && result < 0) {
+                seed(studentId);
+                result = stringRedisTemplate.execute(reserveScript, keys, String.valueOf(maxCourses));
+            }
+        } catch (Exception e) {
+            log.warn("학생 수강 카운터 확인 실패, DB 기준으로 확인 - StudentId: {}, Error: {}", studentId, e.getMessage());
+            return hasRoomInDatabase(studentId);
+        }
+        if (result == null || result < 0) {
+            return hasRoomInDatabase(studentId);
+        }
+        if (result == 1) {
+            releaseOnRollback(studentId);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 이미 증가시킨 카운터를 트랜잭션이 롤백되면 되돌립니다
+     * 수강신청/선점 확정 Lua 스크립트가 증가시킨 뒤 Enrollment 저장이 실패한 경우에 사용합니다
+     *
+     * @param studentId 학생 ID
+     */
+    public void releaseOnRollback(Long studentId) {
+        if (!isEnabled() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    adjust(studentId, -1);
+                }
+            }
+        });
+    }
+
+    /**
+     * DB 기준으로 수강 한도에 여유가 있는지 확인합니다 (Redis 회로 차단 중 DB 정원 모드용)
+     *
+     * @param studentId 학생 ID
+     * @return 여유가 있거나 한도를 사용하지 않으면 true
+     */
+    public boolean hasRoomInDatabase(Long studentId) {
+        return !isEnabled() || enrollmentRepository.countApprovedEnrollmentsByStudent(studentId) < maxCourses;
+    }
+
+    /**
+     * DB 기준으로 수강 한도에 도달한 학생을 골라냅니다 (추첨 당첨자 선정용, 집계 쿼리는 배치 단위 1회)
+     *
+     * @param studentIds 학생 ID 목록
+     * @return 한도에 도달한 학생 ID (한도를 사용하지 않으면 빈 집합)
+     */
+    public Set<Long> findStudentsAtQuota(List<Long> studentIds) {
+        Set<Long> atQuota = new HashSet<>();
+        if (!isEnabled()) {
+            return atQuota;
+        }
+        for (int from = 0; from < studentIds.size(); from += RECONCILE_BATCH_SIZE) {
+            List<Long> batch = studentIds.subList(from, Math.min(from + RECONCILE_BATCH_SIZE, studentIds.size()));
+            for (Object[] row : enrollmentRepository.countApprovedEnrollmentsByStudentIds(batch)) {
+                if ((Long) row[1] >= maxCourses) {
+                    atQuota.add((Long) row[0]);
+                }
+            }
+        }
+        return atQuota;
+    }
+
+    /**
+     * 트랜잭션 커밋 후 카운터를 증감합니다 (카운터가 없으면 건너뜀)
+     * 수강신청 취소에서 사용합니다
+     *
+     * @param studentId 학생 ID
+     * @param delta 증감 값
+     */
+    public void adjustAfterCommit(Long studentId, int delta) {
+        if (!isEnabled()) {
+            return;
+        }
+        afterCommit(() -> adjust(studentId, delta));
+    }
+
+    /**
+     * Redis에 있는 학생 수강 카운터를 DB의 승인된 수강신청 수로 보정합니다
+     *
+     * @return 보정된 카운터 수
+     */
+    public int reconcile() {
+        if (!isEnabled()) {
+            return 0;
+        }
+        Set<String> keys = stringRedisTemplate.keys(STUDENT_KEY_PREFIX + "*" + ENROLLED_KEY_SUFFIX);
+        if (keys == null || keys.isEmpty()) {
+            return 0;
+        }
+
+        List<String> keyList = new ArrayList<>(keys);
+        int corrected = 0;
+        for (int from = 0; from < keyList.size(); from += RECONCILE_BATCH_SIZE) {
+            corrected += reconcileBatch(keyList.subList(from, Math.min(from + RECONCILE_BATCH_SIZE, keyList.size())));
+        }
+
+        if (corrected > 0) {
+            log.info("✅ 학생 수강 카운터 보정 완료: {}명 보정됨 (확인: {}명)", corrected, keyList.size());
+        }
+        return corrected;
+    }
+
+    /**
+     * 카운터 한 묶음을 보정합니다 (DB 집계 쿼리 1회)
+     *
+     * @param keys 카운터 키 목록
+     * @return 보정된 카운터 수
+     */
+    private int reconcileBatch(List<String> keys) {
+        Map<Long, String> keyByStudent = new HashMap<>();
+        for (String key : keys) {
+            String id = key.substring(STUDENT_KEY_PREFIX.length(), key.length() - ENROLLED_KEY_SUFFIX.length());
+            if (!id.isEmpty() && id.chars().allMatch(Character::isDigit)) {
+                keyByStudent.put(Long.parseLong(id), key);
+            }
+        }
+        if (keyByStudent.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> studentIds = new ArrayList<>(keyByStudent.keySet());
+        List<String> cached = stringRedisTemplate.opsForValue().multiGet(
+            studentIds.stream().map(keyByStudent::get).toList());
+        Map<Long, Long> actualByStudent = new HashMap<>();
+        for (Object[] row : enrollmentRepository.countApprovedEnrollmentsByStudentIds(studentIds)) {
+            actualByStudent.put((Long) row[0], (Long) row[1]);
+        }
+
+        int corrected = 0;
+        String ttlSeconds = String.valueOf(counterTtl.getSeconds());
+        for (int i = 0; i < studentIds.size(); i++) {
+            Long studentId = studentIds.get(i);
+            String current = cached == null ? null : cached.get(i);
+            String actual = String.valueOf(actualByStudent.getOrDefault(studentId, 0L));
+            if (current == null || current.equals(actual)) {
+                continue;
+            }
+            Long result = stringRedisTemplate.execute(correctScript, List.of(keyByStudent.get(studentId)),
+                current, actual, ttlSeconds);
+            if (Long.valueOf(1).equals(result)) {
+                corrected++;
+                log.warn("학생 수강 카운터 보정 - StudentId: {}, 기존: {}, 실제: {}", studentId, current, actual);
+            }
+        }
+        return corrected;
+    }
+
+    private void adjust(Long studentId, int delta) {
+        try {
+            stringRedisTemplate.execute(adjustScript, List.of(enrolledKey(studentId)), String.valueOf(delta));
+        } catch (Exception e) {
+            // 다음 보정 주기에 DB 기준으로 맞춰짐
+            log.warn("학생 수강 카운터 갱신 실패 - StudentId: {}, Delta: {}, Error: {}", studentId, delta, e.getMessage());
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.wb.edutask.service;
+
+/**
+ * 노드 로컬 토큰 버킷
+ * 초당 ratePerSecond 개씩 토큰이 채워지고 최대 burst 개까지 쌓입니다
+ *
+ * @author WB Development Team
+ * @version 1.0.0
+ * @since 2025-09-24
+ */
+class TokenBucket {
+
+    private final double ratePerNano;
+    private final double burst;
+    private double tokens;
+    private long lastRefillNanos;
+
+    /**
+     * TokenBucket 생성자 (가득 찬 상태로 시작)
+     *
+     * @param ratePerSecond 초당 충전 토큰 수
+     * @param burst 최대 토큰 수
+     */
+    TokenBucket(double ratePerSecond, double burst) {
+        this.ratePerNano = ratePerSecond / 1_000_000_000.0;
+        this.burst = burst;
+        this.tokens = burst;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * 토큰 하나를 사용합니다
+     *
+     * @return 토큰이 있으면 true
+     */
+    synchronized boolean tryAcquire() {
+        long now = System.nanoTime();
+        tokens = Math.min(burst, tokens + (now - lastRefillNanos) * ratePerNano);
+        lastRefillNanos = now;
+        if (tokens < 1.0) {
+            return false;
+        }
+        tokens -= 1.0;
+        return true;
+    }
+}
@@ -0,0 +1,257 @@
+package com.wb.edutask.service;
+
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+import com.wb.edutask.dto.WaitingRoomTicketDto;
+import com.wb.edutask.enums.WaitingRoomStatus;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 수강신청 가상 대기실(waiting room) 서비스
+ * 인기 강의 오픈 시 모든 요청이 동시에 수강신청 로직으로 몰리지 않도록 입장을 제어합니다
+ *
+ * - 강의별 대기열: waitroom:{courseId} ZSET (도착 시각 순, FIFO)
+ * - 강의별 입장 속도: waitroom:{courseId}:bucket 토큰 버킷 (클러스터 공통)
+ * - 노드별 입장 속도: 로컬 토큰 버킷 (토큰이 없으면 대기열 등록/순번 조회만 수행)
+ * - 입장 허가: waitroom:{courseId}:admitted ZSET (점수 = 입장 만료 시각), 잔여 좌석 수를 넘지 않게 허가
+ * - 좌석이 0이 되면 대기 없이 즉시 SOLD_OUT 반환
+ *
+ * wb.waiting-room.enabled=false(기본)이면 항상 ADMITTED를 반환하고 수강신청도 제한하지 않습니다
+ *
+ * @author WB Development Team
+ * @version 1.0.0
+ * @since 2025-09-24
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WaitingRoomService {
+
+    private static final String WAITROOM_KEY_PREFIX = "waitroom:";
+    private static final String COURSE_KEY_PREFIX = "course:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisConcurrencyService redisConcurrencyService;
+
+    @Value("${wb.waiting-room.enabled:false}")
+    private boolean enabled;
+
+    @Value("${wb.waiting-room.admission-rate-per-second:50}")
+    private double admissionRatePerSecond; // 강의별 초당 입장 인원
+
+    @Value("${wb.waiting-room.burst:50}")
+    private int burst; // 강의별 순간 최대 입장 인원
+
+    @Value("${wb.waiting-room.node-rate-per-second:200}")
+    private double nodeRatePerSecond; // 노드별 초당 입장 처리 횟수
+
+    @Value("${wb.waiting-room.admission-ttl-seconds:60}")
+    private long admissionTtlSeconds; // 입장 후 수강신청 가능 시간
+
+    @Value("${wb.waiting-room.queue-ttl-seconds:1800}")
+    private long queueTtlSeconds; // 대기열 키 유지 시간 (마지막 입장 이후)
+
+    // Lua Script: 마감 확인 + 대기열 등록 + 토큰 버킷 입장 처리 (원자적 처리)
+    private static final String ADMISSION_SCRIPT = """
+        local queueKey = KEYS[1]
+        local admittedKey = KEYS[2]
+        local bucketKey = KEYS[3]
+        local courseKey = KEYS[4]
+        local studentId = ARGV[1]
+        local rate = tonumber(ARGV[2])
+        local burst = tonumber(ARGV[3])
+        local admissionTtlMs = tonumber(ARGV[4])
+        local queueTtl = tonumber(ARGV[5])
+        local nodeAllowed = ARGV[6] == '1'
+        local currentField = ARGV[7]
+        local maxField = ARGV[8]
+
+        local time = redis.call('TIME')
+        local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+        -- 잔여 좌석이 없으면 즉시 마감
+        local courseData = redis.call('HMGET', courseKey, currentField, maxField)
+        local current = tonumber(courseData[1])
+        local max = tonumber(courseData[2])
+        if current and max and current >= max then
+            redis.call('ZREM', queueKey, studentId)
+            return {'SOLD_OUT', 0}
+        end
+
+        -- 이미 입장한 학생
+        redis.call('ZREMRANGEBYSCORE', admittedKey, '-inf', now)
+        if redis.call('ZSCORE', admittedKey, studentId) then
+            return {'ADMITTED', 0}
+        end
+
+        -- 대기열 등록 (이미 있으면 기존 순번 유지)
+        redis.call('ZADD', queueKey, 'NX', now, studentId)
+        redis.call('EXPIRE', queueKey, queueTtl)
+
+        -- 토큰 버킷 충전 후 대기열 앞에서부터 입장 (잔여 좌석 - 입장 중 인원 이하로만)
+        if nodeAllowed then
+            local bucket = redis.call('HMGET', bucketKey, 'tokens', 'ts')
+            local tokens = tonumber(bucket[1]) or burst
+            local ts = tonumber(bucket[2]) or now
+            tokens = math.min(burst, tokens + (now - ts) * rate / 1000)
+
+            local admitCount = math.floor(tokens)
+            if current and max then
+                admitCount = math.min(admitCount, math.max(0, (max - current) - redis.call('ZCARD', admittedKey)))
+            end
+
+            if admitCount > 0 then
+                local heads = redis.call('ZPOPMIN', queueKey, admitCount)
+                for i = 1, #heads, 2 do
+                    redis.call('ZADD', admittedKey, now + admissionTtlMs, heads[i])
+                end
+                tokens = tokens - (#heads / 2)
+                redis.call('PEXPIRE', admittedKey, admissionTtlMs)
+            end
+
+            redis.call('HSET', bucketKey, 'tokens', tostring(tokens), 'ts', tostring(now))
+            redis.call('EXPIRE', bucketKey, queueTtl)
+
+            if redis.call('ZSCORE', admittedKey, studentId) then
+                return {'ADMITTED', 0}
+            end
+        end
+
+        local rank = redis.call('ZRANK', queueKey, studentId)
+        return {'WAITING', rank + 1}
+        """;
+
+    private DefaultRedisScript<List> admissionScript;
+    private TokenBucket nodeBucket;
+
+    /**
+     * 초기화 시 Lua 스크립트와 노드 토큰 버킷 설정
+     */
+    @PostConstruct
+    public void init() {
+        this.admissionScript = new DefaultRedisScript<>();
+        this.admissionScript.setScriptText(ADMISSION_SCRIPT);
+        this.admissionScript.setResultType(List.class);
+        this.nodeBucket = new TokenBucket(nodeRatePerSecond, nodeRatePerSecond);
+    }
+
+    /**
+     * 대기실 사용 여부를 반환합니다
+     *
+     * @return 사용 여부
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 대기열에 입장합니다 (이미 대기 중이면 기존 순번 유지)
+     * 강의 캐시가 없으면 먼저 적재해 마감 여부와 잔여 좌석을 판단할 수 있게 합니다
+     *
+     * @param courseId 강의 ID
+     * @param studentId 학생 ID
+     * @return 대기열 티켓
+     */
+    public WaitingRoomTicketDto join(Long courseId, Long studentId) {
+        if (!enabled) {
+            return admittedTicket(courseId, studentId);
+        }
+        redisConcurrencyService.syncCourseToRedisIfNeeded(courseId);
+        return admit(courseId, studentId);
+    }
+
+    /**
+     * 대기 상태를 조회합니다 (입장 가능한 토큰이 있으면 이 호출에서 입장 처리)
+     *
+     * @param courseId 강의 ID
+     * @param studentId 학생 ID
+     * @return 대기열 티켓
+     */
+    public WaitingRoomTicketDto getTicket(Long courseId, Long studentId) {
+        if (!enabled) {
+            return admittedTicket(courseId, studentId);
+        }
+        return admit(courseId, studentId);
+    }
+
+    /**
+     * 입장 허가를 받은 학생인지 확인합니다 (수강신청 처리 전 호출)
+     *
+     * @param courseId 강의 ID
+     * @param studentId 학생 ID
+     * @throws RuntimeException 입장 허가가 없거나 만료된 경우
+     */
+    public void checkAdmitted(Long courseId, Long studentId) {
+        if (!enabled) {
+            return;
+        }
+        Double admittedUntil = stringRedisTemplate.opsForZSet()
+            .score(admittedKey(courseId), studentId.toString());
+        if (admittedUntil == null || admittedUntil < System.currentTimeMillis()) {
+            throw new RuntimeException("대기열 입장 순서가 되지 않았습니다. 대기열에서 순서를 기다려 주세요");
+        }
+    }
+
+    /**
+     * 사용한 입장 허가를 반납합니다 (수강신청 시도 후 호출, 입장 인원 자리를 다음 대기자에게 넘김)
+     *
+     * @param courseId 강의 ID
+     * @param studentId 학생 ID
+     */
+    public void release(Long courseId, Long studentId) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            stringRedisTemplate.opsForZSet().remove(admittedKey(courseId), studentId.toString());
+        } catch (Exception e) {
+            log.warn("대기열 입장 허가 반납 실패 - CourseId: {}, StudentId: {}, Error: {}",
+                    courseId, studentId, e.getMessage());
+        }
+    }
+
+    /**
+     * 입장 스크립트를 실행하고 티켓으로 변환합니다
+     *
+     * @param courseId 강의 ID
+     * @param studentId 학생 ID
+     * @return 대기열 티켓
+     */
+    private WaitingRoomTicketDto admit(Long courseId, Long studentId) {
+        String queueKey = WAITROOM_KEY_PREFIX + courseId;
+        List<Object> result = stringRedisTemplate.execute(
+            admissionScript,
+            List.of(queueKey, admittedKey(courseId), queueKey + ":bucket", COURSE_KEY_PREFIX + courseId),
+            studentId.toString(),
+            String.valueOf(admissionRatePerSecond),
+            String.valueOf(burst),
+            String.valueOf(admissionTtlSeconds * 1000),
+            String.valueOf(queueTtlSeconds),
+            nodeBucket.tryAcquire() ? "1" : "0",
+            redisConcurrencyService.getHashLayout().getCurrentField(),
+            redisConcurrencyService.getHashLayout().getMaxField()
+        );
+
+        WaitingRoomStatus status = WaitingRoomStatus.valueOf((String) result.get(0));
+        long position = (Long) result.get(1);
+        long estimatedWaitSeconds = (long) Math.ceil(position / admissionRatePerSecond);
+        long retryAfterSeconds = status == WaitingRoomStatus.WAITING
+            ? Math.max(1, Math.min(estimatedWaitSeconds, 10))
+            : 0;
+
+        return new WaitingRoomTicketDto(courseId, studentId, status, position, estimatedWaitSeconds, retryAfterSeconds);
+    }
+
+    private WaitingRoomTicketDto admittedTicket(Long courseId, Long studentId) {
+        return new WaitingRoomTicketDto(courseId, studentId, WaitingRoomStatus.ADMITTED, 0, 0, 0);
+    }
+
+    private String admittedKey(Long courseId) {
+        return WAITROOM_KEY_PREFIX + courseId + ":admitted";
+    }
+}
@@ -0,0 +1,108 @@
+package com.wb.edutask.service;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import com.wb.edutask.entity.Course;
+import com.wb.edutask.entity.Enrollment;
+import com.wb.edutask.entity.Member;
+import com.wb.edutask.enums.EnrollmentStatus;
+import com.wb.edutask.repository.CourseRepository;
+import com.wb.edutask.repository.EnrollmentRepository;
+import com.wb.edutask.repository.MemberRepository;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 대기열에서 승급된 학생의 수강신청을 비동기로 저장합니다
+ * 좌석은 Redis 스크립트에서 이미 확보했으므로 저장만 하고, 저장할 수 없으면 false를 반환해 좌석을 반납하게 합니다
+ *
+ * @author WB Development Team
+ * @version 1.0.0
+ * @since 2025-09-24
+ */
+@Slf4j
+@Service
+public class WaitlistPromotionWriter {
+
+    private final MemberRepository memberRepository;
+    private final CourseRepository courseRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final StudentEnrollmentSummaryService studentEnrollmentSummaryService;
+    private final StudentQuotaService studentQuotaService;
+    private final ScheduleConflictService scheduleConflictService;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * WaitlistPromotionWriter 생성자
+     *
+     * @param memberRepository 회원 Repository
+     * @param courseRepository 강의 Repository
+     * @param enrollmentRepository 수강신청 Repository
+     * @param studentEnrollmentSummaryService 학생별 수강 요약 서비스
+     * @param studentQuotaService 학생별 수강 한도 서비스
+     * @param scheduleConflictService 수강 일정 충돌 확인 서비스
+     * @param transactionManager 트랜잭션 매니저
+     */
+    public WaitlistPromotionWriter(MemberRepository memberRepository,
+                                   CourseRepository courseRepository,
+                                   EnrollmentRepository enrollmentRepository,
+                                   StudentEnrollmentSummaryService studentEnrollmentSummaryService,
+                                   StudentQuotaService studentQuotaService,
+                                   ScheduleConflictService scheduleConflictService,
+                                   PlatformTransactionManager transactionManager) {
+        this.memberRepository = memberRepository;
+        this.courseRepository = courseRepository;
+        this.enrollmentRepository = enrollmentRepository;
+        this.studentEnrollmentSummaryService = studentEnrollmentSummaryService;
+        this.studentQuotaService = studentQuotaService;
+        this.scheduleConflictService = scheduleConflictService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 승급된 학생의 수강신청을 저장합니다
+     * 대기하는 동안 다른 강의를 신청했을 수 있으므로 학생별 수강 한도를 다시 확인합니다
+     *
+     * @param courseId 강의 ID
+     * @param studentId 승급된 학생 ID
+     * @return 저장했으면 true, 회원/강의가 없거나 이미 신청한 경우, 수강 한도에 도달한 경우 또는 저장 실패 시 false
+     */
+    @Async("enrollmentTaskExecutor")
+    public CompletableFuture<Boolean> persist(Long courseId, Long studentId) {
+        try {
+            Boolean saved = transactionTemplate.execute(status -> {
+                Member member = memberRepository.findById(studentId).orElse(null);
+                Course course = courseRepository.findById(courseId).orElse(null);
+                if (member == null || course == null || enrollmentRepository.existsByStudentAndCourse(member, course)) {
+                    log.warn("대기자 승급 저장 불가 - CourseId: {}, StudentId: {}", courseId, studentId);
+                    return false;
+                }
+                // 카운터 증가는 저장이 롤백되면 되돌려짐
+                if (!studentQuotaService.tryReserve(studentId)) {
+                    log.info("대기자 승급 취소 (수강 한도 도달) - CourseId: {}, StudentId: {}", courseId, studentId);
+                    return false;
+                }
+
+                Enrollment enrollment = enrollmentRepository.save(Enrollment.builder()
+                        .student(member)
+                        .course(course)
+                        .status(EnrollmentStatus.APPROVED)
+                        .appliedAt(LocalDateTime.now())
+                        .build());
+                studentEnrollmentSummaryService.onEnrollmentChanged(enrollment);
+                scheduleConflictService.invalidateAfterCommit(studentId);
+                return true;
+            });
+            if (Boolean.TRUE.equals(saved)) {
+                log.info("대기자 승급 저장 완료 - CourseId: {}, StudentId: {}", courseId, studentId);
+            }
+            return CompletableFuture.completedFuture(Boolean.TRUE.equals(saved));
+        } catch (Exception e) {
+            log.error("대기자 승급 저장 실패 - CourseId: {}, StudentId: {}, Error: {}", courseId, studentId, e.getMessage(), e);
+            return CompletableFuture.completedFuture(false);
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package com.wb.edutask.service;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 강의별 수강 대기열 서비스
+ * 정원이 찬 뒤의 재시도 폭주를 대기열 등록 한 번으로 줄이고, 취소로 좌석이 나면 다음 대기자를 자동으로 승급합니다
+ *
+ * - 등록: 수강신청 Lua 스크립트가 정원 초과 시 course:{id}:waitlist ZSET에 ZADD NX (재시도는 기존 순번 유지)
+ * - 승급: 좌석 반납과 다음 대기자 꺼내기(ZPOPMIN)를 한 스크립트에서 처리하므로 그 사이 다른 신청이 좌석을 가져갈 수 없음
+ *   좌석 선점이 만료/해제되어 좌석이 난 경우에는 반납 없이 빈 좌석만큼 승급
+ * - 순서: 수강신청/선점 스크립트는 앞선 대기자 수만큼 빈 좌석을 남겨 두므로 새 신청이 대기자를 앞지르지 않음
+ * - 저장: 승급된 학생의 Enrollment는 WaitlistPromotionWriter가 비동기로 저장하고, 실패하면 좌석을 다시 반납해 다음 대기자에게 넘김
+ *
+ * @author WB Development Team
+ * @version 1.0.0
+ * @since 2025-09-24
+ */
+@Slf4j
+@Service
+public class WaitlistService {
+
+    public static final String WAITLIST_KEY_SUFFIX = ":waitlist";
+    private static final String COURSE_KEY_PREFIX = "course:";
+
+    // Lua Script: 좌석 반납(ARGV[3] == '1') + 빈 좌석이 있으면 다음 대기자 승급 (원자적 처리)
+    // 수강생 수가 바뀌면 채널(ARGV[4])에 "강의ID:수강생 수"를 PUBLISH
+    // 반환: {승급여부, 승급된 학생 ID 또는 메시지, 수강생 수}
+    private static final String RELEASE_AND_PROMOTE_SCRIPT = """
+        local courseKey = KEYS[1]
+        local holdsKey = KEYS[2]
+        local waitlistKey = KEYS[3]
+        local currentField = ARGV[1]
+        local maxField = ARGV[2]
+
+        local courseData = redis.call('HMGET', courseKey, currentField, maxField)
+        local currentStudents = tonumber(courseData[1])
+        local maxStudents = tonumber(courseData[2])
+        if not currentStudents or not maxStudents then
+            return {0, 'COURSE_NOT_FOUND', 0}
+        end
+
+        local released = false
+        if ARGV[3] == '1' and currentStudents > 0 then
+            currentStudents = redis.call('HINCRBY', courseKey, currentField, -1)
+            released = true
+        end
+
+        local now = redis.call('TIME')
+        local nowMillis = tonumber(now[1]) * 1000 + math.floor(tonumber(now[2]) / 1000)
+        local heldSeats = redis.call('ZCOUNT', holdsKey, '(' .. nowMillis, '+inf')
+        if currentStudents + heldSeats < maxStudents then
+            local promoted = redis.call('ZPOPMIN', waitlistKey)
+            if #promoted > 0 then
+                currentStudents = redis.call('HINCRBY', courseKey, currentField, 1)
+                redis.call('PUBLISH', ARGV[4], ARGV[5] .. ':' .. currentStudents)
+                return {1, promoted[1], currentStudents}
+            end
+        end
+        if released then
+            redis.call('PUBLISH', ARGV[4], ARGV[5] .. ':' .. currentStudents)
+        end
+        return {0, 'RELEASED', currentStudents}
+        """;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisConcurrencyService redisConcurrencyService;
+    private final CourseCountWriteBackBuffer courseCountWriteBackBuffer;
+    private final WaitlistPromotionWriter waitlistPromotionWriter;
+    private final boolean enabled;
+
+    @SuppressWarnings("rawtypes")
+    private final DefaultRedisScript<List> releaseAndPromoteScript =
+            new DefaultRedisScript<>(RELEASE_AND_PROMOTE_SCRIPT, List.class);
+
+    /**
+     * WaitlistService 생성자
+     *
+     * @param stringRedisTemplate Redis 템플릿
+     * @param redisConcurrencyService Redis 동시성 서비스
+     * @param courseCountWriteBackBuffer currentStudents 쓰기 지연 버퍼
+     * @param waitlistPromotionWriter 승급 수강신청 비동기 저장
+     * @param enabled 대기열 사용 여부
+     */
+    public WaitlistService(StringRedisTemplate stringRedisTemplate,
+                           RedisConcurrencyService redisConcurrencyService,
+                           CourseCountWriteBackBuffer courseCountWriteBackBuffer,
+                           WaitlistPromotionWriter waitlistPromotionWriter,
+                           @Value("${wb.enrollment.waitlist.enabled:false}") boolean enabled) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisConcurrencyService = redisConcurrencyService;
+        this.courseCountWriteBackBuffer = courseCountWriteBackBuffer;
+        this.waitlistPromotionWriter = waitlistPromotionWriter;
+        this.enabled = enabled;
+    }
+
+    /**
+     * 대기열 사용 여부를 반환합니다
+     *
+     * @return 사용 여부
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 대기 순번을 조회합니다
+     *
+     * @param courseId 강의 ID
+     * @param studentId 학생 ID
+     * @return 대기 순번 (1부터 시작, 대기 중이 아니면 null)
+     */
+    public Long getPosition(Long courseId, Long studentId) {
+        Long rank = stringRedisTemplate.opsForZSet().rank(waitlistKey(courseId), studentId.toString());
+        return rank != null ? rank + 1 : null;
+    }
+
+    /**
+     * 대기열에서 나갑니다
+     *
+     * @param courseId 강의 ID
+     * @param studentId 학생 ID
+     * @return 대기 중이었으면 true
+     */
+    public boolean leave(Long courseId, Long studentId) {
+        Long removed = stringRedisTemplate.opsForZSet().remove(waitlistKey(courseId), studentId.toString());
+        return removed != null && removed > 0;
+    }
+
+    /**
+     * 여러 학생을 주어진 순서대로 대기열 뒤에 등록합니다 (추첨 낙첨자 등록용)
+     * 이미 대기 중인 학생은 기존 순번을 유지합니다
+     *
+     * @param courseId 강의 ID
+     * @param studentIds 학생 ID 목록 (앞쪽이 먼저 승급)
+     */
+    public void enqueue(Long courseId, List<Long> studentIds) {
+        if (studentIds.isEmpty()) {
+            return;
+        }
+        long base = System.currentTimeMillis();
+        Set<ZSetOperations.TypedTuple<String>> tuples = new LinkedHashSet<>();
+        for (int i = 0; i < studentIds.size(); i++) {
+            tuples.add(ZSetOperations.TypedTuple.of(studentIds.get(i).toString(), (double) (base + i)));
+        }
+        stringRedisTemplate.opsForZSet().addIfAbsent(waitlistKey(courseId), tuples);
+    }
+
+    /**
+     * 취소 트랜잭션이 커밋된 뒤 좌석을 반납하고 다음 대기자를 승급합니다
+     * 취소가 롤백되면 좌석도 반납하지 않습니다
+     *
+     * @param courseId 강의 ID
+     */
+    public void releaseSeatAfterCommit(Long courseId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    releaseSeat(courseId);
+                }
+            });
+        } else {
+            releaseSeat(courseId);
+        }
+    }
+
+    /**
+     * 좌석을 반납하고 다음 대기자를 승급합니다
+     *
+     * @param courseId 강의 ID
+     */
+    void releaseSeat(Long courseId) {
+        try {
+            List<Object> result = runReleaseAndPromote(courseId, true);
+            if ("COURSE_NOT_FOUND".equals(result.get(1))) {
+                // Hash가 만료된 경우 DB 기준(취소 반영)으로 적재한 뒤 빈 좌석만 확인
+                redisConcurrencyService.syncCourseToRedisIfNeeded(courseId);
+                result = runReleaseAndPromote(courseId, false);
+            }
+            if ((Long) result.get(0) == 1) {
+                promote(courseId, Long.valueOf((String) result.get(1)), (Long) result.get(2));
+            }
+        } catch (Exception e) {
+            log.warn("좌석 반납/대기자 승급 실패 - CourseId: {}, Error: {}", courseId, e.getMessage());
+        }
+    }
+
+    /**
+     * 좌석 반납 없이 빈 좌석만큼 대기자를 승급합니다 (좌석 선점 만료/해제 시)
+     *
+     * @param courseId 강의 ID
+     */
+    public void promoteWaiting(Long courseId) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            List<Object> result = runReleaseAndPromote(courseId, false);
+            while ((Long) result.get(0) == 1) {
+                promote(courseId, Long.valueOf((String) result.get(1)), (Long) result.get(2));
+                result = runReleaseAndPromote(courseId, false);
+            }
+        } catch (Exception e) {
+            log.warn("대기자 승급 실패 - CourseId: {}, Error: {}", courseId, e.getMessage());
+        }
+    }
+
+    private void promote(Long courseId, Long studentId, Long currentStudents) {
+        log.info("대기자 승급 - CourseId: {}, StudentId: {}", courseId, studentId);
+        // 취소 시 감소시킨 DB currentStudents를 Redis 값으로 다시 맞춤
+        courseCountWriteBackBuffer.record(courseId, currentStudents.intValue());
+
+        waitlistPromotionWriter.persist(courseId, studentId).thenAccept(saved -> {
+            if (!Boolean.TRUE.equals(saved)) {
+                // 저장하지 못한 승급은 좌석을 다시 반납해 다음 대기자에게 넘김
+                releaseSeat(courseId);
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object> runReleaseAndPromote(Long courseId, boolean releaseSeat) {
+        return stringRedisTemplate.execute(releaseAndPromoteScript,
+                List.of(COURSE_KEY_PREFIX + courseId,
+                        COURSE_KEY_PREFIX + courseId + SeatHoldService.HOLDS_KEY_SUFFIX,
+                        waitlistKey(courseId)),
+                redisConcurrencyService.getHashLayout().getCurrentField(),
+                redisConcurrencyService.getHashLayout().getMaxField(),
+                releaseSeat ? "1" : "0",
+                CourseSeatBroadcaster.CHANNEL,
+                courseId.toString());
+    }
+
+    private static String waitlistKey(Long courseId) {
+        return COURSE_KEY_PREFIX + courseId + WAITLIST_KEY_SUFFIX;
+    }
+}
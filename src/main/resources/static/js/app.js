@@ -6,6 +6,7 @@ let currentPage = 0;
 let totalPages = 0;
 let isLoading = false;
 let currentMember = null;
+let seatStream = null; // 수강인원 실시간 구독 (SSE)
 
 // DOM 요소
 const courseList = document.getElementById('courseList');
@@ -33,6 +34,46 @@ document.addEventListener('DOMContentLoaded', function() {
 function initializeApp() {
     updateEnrollButton(); // 초기 버튼 상태 설정
     loadCourses();
+    connectSeatStream();
+}
+
+/**
+ * 수강인원 실시간 구독 (목록을 다시 조회하지 않고 변경된 강의 카드만 갱신)
+ * 연결이 끊기면 EventSource가 자동으로 다시 연결합니다
+ */
+function connectSeatStream() {
+    if (!window.EventSource) return;
+    
+    seatStream = new EventSource('/api/v1/courses/seats/stream');
+    seatStream.addEventListener('seats', function(e) {
+        const counts = JSON.parse(e.data);
+        Object.entries(counts).forEach(([courseId, count]) => updateSeatCount(Number(courseId), count));
+    });
+}
+
+/**
+ * 강의 카드의 수강인원/수강률만 갱신
+ */
+function updateSeatCount(courseId, count) {
+    const course = allCourses.find(c => c.id === courseId);
+    if (!course) return;
+    
+    course.currentEnrollments = count;
+    processEnrollmentData([course]);
+    
+    const card = courseList.querySelector(`.course-card[data-course-id="${courseId}"]`);
+    if (!card) return;
+    card.querySelector('.seat-count').textContent = `${count}/${course.maxStudents}명`;
+    card.querySelector('.seat-rate').textContent = `${course.enrollmentRate}%`;
+}
+
+/**
+ * 실시간 구독이 연결되어 있지 않을 때만 목록을 다시 조회해 수강인원 갱신
+ */
+function refreshSeatCounts() {
+    if (!seatStream || seatStream.readyState !== EventSource.OPEN) {
+        loadCourses(0, false);
+    }
 }
 
 /**
@@ -208,11 +249,11 @@ function createCourseHTML(course) {
                     </div>
                     <div class="detail-row">
                         <span class="label">👥 수강인원:</span>
-                        <span class="value">${course.currentEnrollments || 0}/${course.maxStudents}명</span>
+                        <span class="value seat-count">${course.currentEnrollments || 0}/${course.maxStudents}명</span>
                     </div>
                     <div class="detail-row">
                         <span class="label">📊 수강률:</span>
-                        <span class="value">${Math.round(((course.currentEnrollments || 0) / course.maxStudents) * 100)}%</span>
+                        <span class="value seat-rate">${Math.round(((course.currentEnrollments || 0) / course.maxStudents) * 100)}%</span>
                     </div>
                     <div class="detail-row">
                         <span class="label">📋 상태:</span>
@@ -275,16 +316,30 @@ async function handleEnrollment() {
         if (selectedCourses.size === 1) {
             // 단일 강의 수강 신청
             const courseId = Array.from(selectedCourses)[0];
-            await enrollSingleCourse(studentId, courseId);
+            const result = await enrollSingleCourse(studentId, courseId);
+            if (result.waitlisted) {
+                // 202 응답 → 추첨 응모(closesAt) 또는 대기열 등록(position), 다시 신청할 필요 없음
+                selectedCourses.clear();
+                updateEnrollButton();
+                showNotification(result.closesAt
+                    ? `추첨 응모가 접수되었습니다 (마감: ${new Date(result.closesAt).toLocaleString()})`
+                    : `정원이 가득 차 대기열에 등록되었습니다 (대기 순번: ${result.position}번)`, 'info');
+                return;
+            }
         } else {
             // 다중 강의 수강 신청
             await enrollMultipleCourses(studentId, Array.from(selectedCourses));
         }
         
-        // 성공 시 선택 초기화 및 목록 새로고침
+        // 성공 시 선택 초기화 (수강인원은 실시간 구독으로 갱신)
         selectedCourses.clear();
+        document.querySelectorAll('.course-card.selected').forEach(card => {
+            card.classList.remove('selected');
+            const checkbox = card.querySelector('.course-checkbox');
+            if (checkbox) checkbox.checked = false;
+        });
         updateEnrollButton();
-        await loadCourses();
+        refreshSeatCounts();
         
         showNotification('수강 신청이 완료되었습니다!', 'success');
         
@@ -300,15 +355,9 @@ async function handleEnrollment() {
  * 단일 강의 수강 신청
  */
 async function enrollSingleCourse(studentId, courseId) {
-    const response = await fetch('/api/v1/enrollments', {
-        method: 'POST',
-        headers: {
-            'Content-Type': 'application/json',
-        },
-        body: JSON.stringify({
-            studentId: studentId,
-            courseId: courseId
-        })
+    const response = await postEnrollment('/api/v1/enrollments', {
+        studentId: studentId,
+        courseId: courseId
     });
     
     if (!response.ok) {
@@ -316,6 +365,11 @@ async function enrollSingleCourse(studentId, courseId) {
         throw new Error(errorData.message || `HTTP error! status: ${response.status}`);
     }
     
+    // 202: 정원 초과로 대기열에 등록되었거나 추첨 응모가 접수됨
+    if (response.status === 202) {
+        return { waitlisted: true, ...(await response.json()) };
+    }
+    
     return await response.json();
 }
 
@@ -323,15 +377,9 @@ async function enrollSingleCourse(studentId, courseId) {
  * 다중 강의 수강 신청
  */
 async function enrollMultipleCourses(studentId, courseIds) {
-    const response = await fetch('/api/v1/enrollments/bulk', {
-        method: 'POST',
-        headers: {
-            'Content-Type': 'application/json',
-        },
-        body: JSON.stringify({
-            studentId: studentId,
-            courseIds: courseIds
-        })
+    const response = await postEnrollment('/api/v1/enrollments/bulk', {
+        studentId: studentId,
+        courseIds: courseIds
     });
     
     if (!response.ok) {
@@ -342,6 +390,50 @@ async function enrollMultipleCourses(studentId, courseIds) {
     return await response.json();
 }
 
+/**
+ * 수강 신청 POST (시간 초과/네트워크 오류 시 같은 Idempotency-Key로 재시도)
+ * 서버가 첫 응답을 저장해 두므로 재시도해도 중복 신청되지 않고 같은 결과를 받습니다
+ */
+async function postEnrollment(url, payload, maxAttempts = 3, timeoutMs = 10000) {
+    const idempotencyKey = (window.crypto && crypto.randomUUID)
+        ? crypto.randomUUID()
+        : `${Date.now()}-${Math.random().toString(36).slice(2)}`;
+    
+    for (let attempt = 1; ; attempt++) {
+        const controller = new AbortController();
+        const timer = setTimeout(() => controller.abort(), timeoutMs);
+        try {
+            const response = await fetch(url, {
+                method: 'POST',
+                headers: {
+                    'Content-Type': 'application/json',
+                    'Idempotency-Key': idempotencyKey,
+                },
+                body: JSON.stringify(payload),
+                signal: controller.signal
+            });
+            // 409 IDEMPOTENCY_IN_FLIGHT: 같은 키의 첫 요청이 아직 처리 중 → Retry-After 후 재시도
+            // (정원 초과/중복 신청 등 업무 규칙 409는 다시 보내도 결과가 같으므로 그대로 반환)
+            if (response.status === 409 && attempt < maxAttempts) {
+                const errorData = await response.clone().json().catch(() => ({}));
+                if (errorData.errorCode === 'IDEMPOTENCY_IN_FLIGHT') {
+                    const retryAfter = Number(response.headers.get('Retry-After')) || 1;
+                    await new Promise(resolve => setTimeout(resolve, retryAfter * 1000));
+                    continue;
+                }
+            }
+            return response;
+        } catch (error) {
+            if (attempt >= maxAttempts) {
+                throw error;
+            }
+            console.warn(`수강 신청 요청 재시도 (${attempt}/${maxAttempts - 1})`, error);
+        } finally {
+            clearTimeout(timer);
+        }
+    }
+}
+
 /**
  * 빈 상태 표시
  */
@@ -607,13 +699,7 @@ async function handleEnrollment() {
             courseIds: courseIds
         };
         
-        const response = await fetch('/api/v1/enrollments/bulk', {
-            method: 'POST',
-            headers: {
-                'Content-Type': 'application/json',
-            },
-            body: JSON.stringify(enrollmentData)
-        });
+        const response = await postEnrollment('/api/v1/enrollments/bulk', enrollmentData);
         
         if (!response.ok) {
             const errorData = await response.json();
@@ -632,8 +718,8 @@ async function handleEnrollment() {
         
         updateEnrollButton();
         
-        // 강의 목록 새로고침 (수강인원 업데이트)
-        loadCourses(0, false);
+        // 수강인원 업데이트 (실시간 구독이 없을 때만 목록 새로고침)
+        refreshSeatCounts();
         
         showNotification(`${courseIds.length}개 강의 수강신청이 완료되었습니다!`, 'success');
         
@@ -143,12 +143,13 @@ async function loadStudentEnrollments() {
     try {
         showEnrollmentsLoading(true);
         
-        const response = await fetch(`/api/v1/enrollments/student/${currentStudent.id}?size=100`);
+        // 강의명/강사명이 펼쳐진 학생별 수강 요약 (Redis 키 하나로 조회)
+        const response = await fetch(`/api/v1/enrollments/student/${currentStudent.id}/summary`);
         
         if (response.ok) {
             const data = await response.json();
             console.log('수강신청 목록 데이터:', data); // 디버깅용 로그
-            studentEnrollments = data.content || [];
+            studentEnrollments = data.enrollments || [];
             displayEnrollments();
         } else {
             console.error('API 호출 실패:', response.status, response.statusText);
@@ -182,11 +183,10 @@ function displayEnrollments() {
     const searchTerm = searchInput.value.trim().toLowerCase();
     if (searchTerm) {
         filteredEnrollments = filteredEnrollments.filter(enrollment => {
-            const course = enrollment.course;
-            const instructorName = (course.instructor && course.instructor.name) || course.instructorName || '';
+            const instructorName = enrollment.instructorName || '';
             
-            return course.courseName.toLowerCase().includes(searchTerm) ||
-                   (course.description && course.description.toLowerCase().includes(searchTerm)) ||
+            return enrollment.courseName.toLowerCase().includes(searchTerm) ||
+                   (enrollment.description && enrollment.description.toLowerCase().includes(searchTerm)) ||
                    instructorName.toLowerCase().includes(searchTerm);
         });
     }
@@ -203,13 +203,12 @@ function displayEnrollments() {
     }
     
     const enrollmentsHtml = filteredEnrollments.map(enrollment => {
-        const course = enrollment.course;
         const canCancel = enrollment.status === 'APPROVED'; // 온라인 강의는 APPROVED 상태만 취소 가능
         
         return `
-            <div class="enrollment-card" data-enrollment-id="${enrollment.id}">
+            <div class="enrollment-card" data-enrollment-id="${enrollment.enrollmentId}">
                 <div class="enrollment-header">
-                    <h4 class="course-title">${escapeHtml(course.courseName)}</h4>
+                    <h4 class="course-title">${escapeHtml(enrollment.courseName)}</h4>
                     <div class="enrollment-status">
                         <span class="status-badge ${enrollment.status.toLowerCase()}">${getEnrollmentStatusText(enrollment.status)}</span>
                     </div>
@@ -218,11 +217,11 @@ function displayEnrollments() {
                 <div class="course-info">
                     <div class="info-row">
                         <span class="label">강사:</span>
-                        <span class="value">${escapeHtml((course.instructor && course.instructor.name) || course.instructorName || '미정')}</span>
+                        <span class="value">${escapeHtml(enrollment.instructorName || '미정')}</span>
                     </div>
                     <div class="info-row">
                         <span class="label">기간:</span>
-                        <span class="value">${formatDate(course.startDate)} ~ ${formatDate(course.endDate)}</span>
+                        <span class="value">${formatDate(enrollment.startDate)} ~ ${formatDate(enrollment.endDate)}</span>
                     </div>
                     <div class="info-row">
                         <span class="label">신청일:</span>
@@ -237,12 +236,12 @@ function displayEnrollments() {
                 </div>
                 
                 <div class="course-description">
-                    <p>${escapeHtml(course.description)}</p>
+                    <p>${escapeHtml(enrollment.description)}</p>
                 </div>
                 
                 <div class="enrollment-actions">
                     ${canCancel ? `
-                        <button class="cancel-btn" onclick="showCancelConfirm(${enrollment.id}, '${escapeHtml(course.courseName)}')">
+                        <button class="cancel-btn" onclick="showCancelConfirm(${enrollment.enrollmentId}, '${escapeHtml(enrollment.courseName)}')">
                             수강신청 취소
                         </button>
                     ` : `
@@ -0,0 +1,121 @@
+package com.wb.edutask.controller;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+import com.wb.edutask.entity.Course;
+import com.wb.edutask.entity.Enrollment;
+import com.wb.edutask.entity.Member;
+import com.wb.edutask.enums.EnrollmentStatus;
+import com.wb.edutask.enums.MemberType;
+import com.wb.edutask.repository.CourseRepository;
+import com.wb.edutask.repository.EnrollmentRepository;
+import com.wb.edutask.repository.MemberRepository;
+import jakarta.servlet.Filter;
+
+/**
+ * 관리자 컨트롤러 테스트
+ * 전체 수강신청 CSV 내보내기의 인증 요구와 수식 실행 방지를 검증합니다
+ *
+ * @author WB Development Team
+ * @version 1.0.0
+ * @since 2025-09-24
+ */
+@SpringBootTest(properties = {"wb.admin.username=admin", "wb.admin.password=admin-test-pass"})
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class AdminApiControllerTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    @Qualifier("springSecurityFilterChain")
+    private Filter springSecurityFilterChain;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext)
+            .addFilters(springSecurityFilterChain)
+            .build();
+    }
+
+    @Test
+    @DisplayName("인증 없이 전체 수강신청 CSV를 요청하면 401을 반환하는지 테스트")
+    void exportAllEnrollments_WithoutCredentials_ShouldBeUnauthorized() throws Exception {
+        mockMvc.perform(get("/api/v1/admin/enrollments/export.csv"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("잘못된 관리자 비밀번호로 요청하면 401을 반환하는지 테스트")
+    void exportAllEnrollments_WithWrongPassword_ShouldBeUnauthorized() throws Exception {
+        mockMvc.perform(get("/api/v1/admin/enrollments/export.csv")
+                .header(HttpHeaders.AUTHORIZATION, basic("admin", "wrong-pass")))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("관리자 인증 시 수식으로 시작하는 값 앞에 '를 붙여 내보내는지 테스트")
+    void exportAllEnrollments_WithAdmin_ShouldNeutralizeFormulas() throws Exception {
+        // Given
+        Member instructor = memberRepository.save(new Member(
+            "내보내기강사", "admin-export-instructor@test.com", "010-9900-0001", "Pass123", MemberType.INSTRUCTOR));
+        Member student = memberRepository.save(new Member(
+            "내보내기학생", "admin-export-student@test.com", "010-9900-0002", "Pass123", MemberType.STUDENT));
+        Course course = courseRepository.save(Course.builder()
+            .courseName("=HYPERLINK(\"http://example.com\")")
+            .description("수식 실행 방지 검증용 강의")
+            .instructor(instructor)
+            .maxStudents(10)
+            .price(0)
+            .startDate(LocalDate.now().plusDays(7))
+            .endDate(LocalDate.now().plusDays(37))
+            .build());
+        enrollmentRepository.save(Enrollment.builder()
+            .student(student)
+            .course(course)
+            .status(EnrollmentStatus.APPROVED)
+            .build());
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/admin/enrollments/export.csv")
+                .header(HttpHeaders.AUTHORIZATION, basic("admin", "admin-test-pass")))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("\"'=HYPERLINK(\"\"http://example.com\"\")\"")))
+                .andExpect(content().string(not(containsString(",=HYPERLINK"))));
+    }
+
+    private static String basic(String username, String password) {
+        return "Basic " + Base64.getEncoder()
+            .encodeToString((username + ":" + password).getBytes(StandardCharsets.UTF_8));
+    }
+}
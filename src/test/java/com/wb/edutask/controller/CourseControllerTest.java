@@ -1,8 +1,11 @@
 package com.wb.edutask.controller;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import java.time.LocalDate;
@@ -23,9 +26,12 @@ import org.springframework.web.context.WebApplicationContext;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.wb.edutask.dto.CourseRequestDto;
 import com.wb.edutask.entity.Course;
+import com.wb.edutask.entity.Enrollment;
 import com.wb.edutask.entity.Member;
+import com.wb.edutask.enums.EnrollmentStatus;
 import com.wb.edutask.enums.MemberType;
 import com.wb.edutask.repository.CourseRepository;
+import com.wb.edutask.repository.EnrollmentRepository;
 import com.wb.edutask.repository.MemberRepository;
 import lombok.extern.slf4j.Slf4j;
 
@@ -56,6 +62,9 @@ class CourseControllerTest {
     @Autowired
     private CourseRepository courseRepository;
     
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+    
     private MockMvc mockMvc;
     private Member instructor;
     private Member student;
@@ -271,4 +280,40 @@ class CourseControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.length()").value(greaterThanOrEqualTo(1)));
     }
+    
+    @Test
+    @DisplayName("강의 수강생 명단 CSV 내려받기 성공 테스트")
+    void exportRoster_Success() throws Exception {
+        // Given
+        Course course = courseRepository.save(new Course(
+            "CSV 강의",
+            "명단 내보내기 강의",
+            instructor,
+            20,
+            100000,
+            LocalDate.now().plusDays(7),
+            LocalDate.now().plusDays(30)
+        ));
+        enrollmentRepository.save(Enrollment.builder()
+                .student(student)
+                .course(course)
+                .status(EnrollmentStatus.APPROVED)
+                .build());
+        
+        // When & Then
+        mockMvc.perform(get("/api/v1/courses/" + course.getId() + "/roster.csv"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", containsString("text/csv")))
+                .andExpect(header().string("Content-Disposition", containsString("attachment")))
+                .andExpect(content().string(containsString("수강신청ID,학생ID,이름")))
+                .andExpect(content().string(containsString(student.getId() + ",홍학생,student@test.com")))
+                .andExpect(content().string(containsString("APPROVED")));
+    }
+    
+    @Test
+    @DisplayName("존재하지 않는 강의 명단 CSV 내려받기 실패 테스트")
+    void exportRoster_CourseNotFound() throws Exception {
+        mockMvc.perform(get("/api/v1/courses/999999/roster.csv"))
+                .andExpect(status().isNotFound());
+    }
 }
@@ -0,0 +1,176 @@
+package com.wb.edutask.controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import java.time.LocalDate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wb.edutask.dto.EnrollmentRequestDto;
+import com.wb.edutask.entity.Course;
+import com.wb.edutask.entity.Member;
+import com.wb.edutask.enums.CourseStatus;
+import com.wb.edutask.enums.EnrollmentRejectionCode;
+import com.wb.edutask.enums.MemberType;
+import com.wb.edutask.repository.CourseRepository;
+import com.wb.edutask.repository.MemberRepository;
+
+/**
+ * 수강신청 거절 응답 테스트 클래스
+ * 거절 사유(EnrollmentRejectionCode)별로 HTTP 상태 코드와 errorCode가 약속대로 내려가는지 검증합니다
+ * (클라이언트는 409 중 IDEMPOTENCY_IN_FLIGHT만 재시도하므로 errorCode가 바뀌면 재시도 동작도 바뀜)
+ *
+ * @author WB Development Team
+ * @version 1.0.0
+ * @since 2025-09-24
+ */
+@SpringBootTest(properties = {
+    "wb.enrollment.student-quota.max-courses=2",
+    "wb.enrollment.schedule-conflict.enabled=true",
+    "wb.enrollment.hold.enabled=true"
+})
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class EnrollmentRejectionResponseTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    private MockMvc mockMvc;
+    private Member instructor;
+    private Member student;
+    private Member otherStudent;
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate.getConnectionFactory().getConnection().flushAll();
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+
+        instructor = memberRepository.save(new Member(
+            "거절강사", "reject-instructor@test.com", "010-9600-0001", "Pass123", MemberType.INSTRUCTOR));
+        student = memberRepository.save(new Member(
+            "거절학생1", "reject-student1@test.com", "010-9600-0002", "Pass123", MemberType.STUDENT));
+        otherStudent = memberRepository.save(new Member(
+            "거절학생2", "reject-student2@test.com", "010-9600-0003", "Pass123", MemberType.STUDENT));
+    }
+
+    @AfterEach
+    void tearDown() {
+        try {
+            stringRedisTemplate.getConnectionFactory().getConnection().flushAll();
+        } catch (Exception e) {
+            // Redis 연결 실패 시 무시
+        }
+    }
+
+    @Test
+    @DisplayName("이미 신청한 강의는 409 ALREADY_ENROLLED로 응답하는지 테스트")
+    void alreadyEnrolled_ShouldReturn409() throws Exception {
+        Course course = course("중복 신청 강의", 10, 20, 10, 0);
+        enroll(student, course).andExpect(status().isCreated());
+
+        expectRejected(enroll(student, course), 409, EnrollmentRejectionCode.ALREADY_ENROLLED);
+    }
+
+    @Test
+    @DisplayName("정원이 찬 강의는 409 CAPACITY_EXCEEDED로 응답하는지 테스트")
+    void capacityExceeded_ShouldReturn409() throws Exception {
+        Course course = course("정원 강의", 10, 20, 1, 0);
+        enroll(otherStudent, course).andExpect(status().isCreated());
+
+        expectRejected(enroll(student, course), 409, EnrollmentRejectionCode.CAPACITY_EXCEEDED);
+    }
+
+    @Test
+    @DisplayName("최대 수강 강의 수를 넘기면 409 STUDENT_QUOTA_EXCEEDED로 응답하는지 테스트")
+    void studentQuotaExceeded_ShouldReturn409() throws Exception {
+        enroll(student, course("한도 강의 A", 10, 20, 10, 0)).andExpect(status().isCreated());
+        enroll(student, course("한도 강의 B", 30, 40, 10, 0)).andExpect(status().isCreated());
+
+        expectRejected(enroll(student, course("한도 강의 C", 50, 60, 10, 0)),
+            409, EnrollmentRejectionCode.STUDENT_QUOTA_EXCEEDED);
+    }
+
+    @Test
+    @DisplayName("기간이 겹치는 강의는 409 SCHEDULE_CONFLICT로 응답하는지 테스트")
+    void scheduleConflict_ShouldReturn409() throws Exception {
+        enroll(student, course("일정 강의 A", 10, 40, 10, 0)).andExpect(status().isCreated());
+
+        expectRejected(enroll(student, course("일정 강의 B", 35, 60, 10, 0)),
+            409, EnrollmentRejectionCode.SCHEDULE_CONFLICT);
+    }
+
+    @Test
+    @DisplayName("종료된 강의는 422 COURSE_NOT_ENROLLABLE로 응답하는지 테스트")
+    void courseNotEnrollable_ShouldReturn422() throws Exception {
+        Course course = course("종료 강의", 10, 20, 10, 0);
+        course.setStatus(CourseStatus.COMPLETED);
+        courseRepository.save(course);
+
+        expectRejected(enroll(student, course), 422, EnrollmentRejectionCode.COURSE_NOT_ENROLLABLE);
+    }
+
+    @Test
+    @DisplayName("자신이 강사인 강의는 422 OWN_COURSE로 응답하는지 테스트")
+    void ownCourse_ShouldReturn422() throws Exception {
+        Course course = course("본인 강의", 10, 20, 10, 0);
+
+        expectRejected(enroll(instructor, course), 422, EnrollmentRejectionCode.OWN_COURSE);
+    }
+
+    @Test
+    @DisplayName("선점 모드에서 유료 강의를 바로 신청하면 422 HOLD_REQUIRED로 응답하는지 테스트")
+    void holdRequired_ShouldReturn422() throws Exception {
+        Course course = course("유료 강의", 10, 20, 10, 50000);
+
+        expectRejected(enroll(student, course), 422, EnrollmentRejectionCode.HOLD_REQUIRED);
+    }
+
+    private ResultActions enroll(Member member, Course course) throws Exception {
+        return mockMvc.perform(post("/api/v1/enrollments")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new EnrollmentRequestDto(member.getId(), course.getId()))));
+    }
+
+    private static void expectRejected(ResultActions result, int httpStatus, EnrollmentRejectionCode code) throws Exception {
+        result.andExpect(status().is(httpStatus))
+              .andExpect(jsonPath("$.errorCode").value(code.name()));
+    }
+
+    private Course course(String name, int startInDays, int endInDays, int maxStudents, int price) {
+        return courseRepository.save(Course.builder()
+            .courseName(name)
+            .description("거절 응답 검증용 강의")
+            .instructor(instructor)
+            .maxStudents(maxStudents)
+            .price(price)
+            .startDate(LocalDate.now().plusDays(startInDays))
+            .endDate(LocalDate.now().plusDays(endInDays))
+            .build());
+    }
+}
@@ -0,0 +1,127 @@
+package com.wb.edutask.controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import java.time.LocalDate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wb.edutask.dto.EnrollmentRequestDto;
+import com.wb.edutask.entity.Course;
+import com.wb.edutask.entity.Member;
+import com.wb.edutask.enums.MemberType;
+import com.wb.edutask.repository.CourseRepository;
+import com.wb.edutask.repository.EnrollmentRepository;
+import com.wb.edutask.repository.MemberRepository;
+
+/**
+ * EnrollmentV2ApiController 테스트 클래스
+ * 요청이 가상 스레드에서 처리되므로 테스트 데이터는 트랜잭션 없이 커밋합니다
+ *
+ * @author WB Development Team
+ * @version 1.0.0
+ * @since 2025-09-24
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class EnrollmentV2ControllerTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    private MockMvc mockMvc;
+    private Member student;
+    private Course course;
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate.getConnectionFactory().getConnection().flushAll();
+        enrollmentRepository.deleteAll();
+        courseRepository.deleteAll();
+        memberRepository.deleteAll();
+
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+
+        student = memberRepository.save(new Member(
+            "김학생", "v2-student@test.com", "010-4000-0001", "Pass123", MemberType.STUDENT));
+        Member instructor = memberRepository.save(new Member(
+            "이강사", "v2-instructor@test.com", "010-4000-0002", "Pass456", MemberType.INSTRUCTOR));
+        course = courseRepository.save(Course.builder()
+            .courseName("Spring Boot 실전")
+            .description("비동기 수강신청 검증용 강의")
+            .instructor(instructor)
+            .maxStudents(10)
+            .price(150000)
+            .startDate(LocalDate.now().plusDays(7))
+            .endDate(LocalDate.now().plusDays(37))
+            .build());
+    }
+
+    @Test
+    @DisplayName("v2 수강신청 성공 테스트")
+    void enrollCourse_Success() throws Exception {
+        // Given
+        String requestJson = objectMapper.writeValueAsString(new EnrollmentRequestDto(student.getId(), course.getId()));
+
+        // When
+        MvcResult pending = mockMvc.perform(post("/api/v2/enrollments")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestJson))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(pending))
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.student.id").value(student.getId()))
+            .andExpect(jsonPath("$.course.id").value(course.getId()));
+    }
+
+    @Test
+    @DisplayName("v2 존재하지 않는 학생으로 수강신청 실패 테스트")
+    void enrollCourse_StudentNotFound() throws Exception {
+        // Given
+        String requestJson = objectMapper.writeValueAsString(new EnrollmentRequestDto(999999L, course.getId()));
+
+        // When
+        MvcResult pending = mockMvc.perform(post("/api/v2/enrollments")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestJson))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(pending))
+            .andExpect(status().isBadRequest());
+    }
+}
@@ -19,6 +19,7 @@ import com.wb.edutask.dto.EnrollmentRequestDto;
 import com.wb.edutask.dto.EnrollmentResponseDto;
 import com.wb.edutask.entity.Course;
 import com.wb.edutask.entity.Member;
+import com.wb.edutask.enums.CourseHashLayout;
 import com.wb.edutask.enums.MemberType;
 import com.wb.edutask.repository.CourseRepository;
 import com.wb.edutask.repository.EnrollmentRepository;
@@ -54,6 +55,9 @@ class AsyncEnrollmentTest {
     @Autowired
     private StringRedisTemplate stringRedisTemplate;
     
+    @Autowired
+    private RedisConcurrencyService redisConcurrencyService;
+    
     private Course limitedCourse;
     private List<Member> students;
     
@@ -99,11 +103,10 @@ class AsyncEnrollmentTest {
         
         // Redis에 강의 정보 동기화 (TTL 1분)
         String courseKey = "course:" + limitedCourse.getId();
-        stringRedisTemplate.opsForHash().put(courseKey, "courseId", limitedCourse.getId().toString());
-        stringRedisTemplate.opsForHash().put(courseKey, "courseName", "@Async 테스트 강의");
-        stringRedisTemplate.opsForHash().put(courseKey, "currentStudents", "0");
-        stringRedisTemplate.opsForHash().put(courseKey, "maxStudents", "5");
-        stringRedisTemplate.opsForHash().put(courseKey, "instructorId", instructor.getId().toString());
+        CourseHashLayout layout = redisConcurrencyService.getHashLayout();
+        stringRedisTemplate.opsForHash().put(courseKey, layout.getCurrentField(), "0");
+        stringRedisTemplate.opsForHash().putAll(courseKey,
+            layout.staticFields(limitedCourse.getId(), "@Async 테스트 강의", 5, instructor.getId()));
         stringRedisTemplate.expire(courseKey, 1, TimeUnit.MINUTES);
     }
     
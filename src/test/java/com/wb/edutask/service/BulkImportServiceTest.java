@@ -0,0 +1,153 @@
+package com.wb.edutask.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import java.io.StringReader;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import com.wb.edutask.dto.BulkImportResultDto;
+import com.wb.edutask.entity.Course;
+import com.wb.edutask.entity.Member;
+import com.wb.edutask.enums.ImportFormat;
+import com.wb.edutask.enums.MemberType;
+import com.wb.edutask.repository.CourseRepository;
+import com.wb.edutask.repository.EnrollmentRepository;
+import com.wb.edutask.repository.MemberRepository;
+import jakarta.persistence.EntityManager;
+
+/**
+ * BulkImportService 테스트 클래스
+ *
+ * @author WB Development Team
+ * @version 1.0.0
+ * @since 2025-09-24
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class BulkImportServiceTest {
+
+    private static final String MEMBERS_CSV = """
+        name,email,phoneNumber,password,memberType
+        적재강사,import-instructor@test.com,010-6000-0001,Pass123,INSTRUCTOR
+        적재학생1,import-student1@test.com,010-6000-0101,Pass123,STUDENT
+        "적재학생, 2",import-student2@test.com,010-6000-0102,Pass123,STUDENT
+        형식오류,import-invalid@test.com,010-6000-0199,Pass123,UNKNOWN
+        """;
+
+    private static final String COURSES_NDJSON = """
+        {"courseName":"대량 적재 강의","description":"적재 검증","instructorEmail":"import-instructor@test.com","maxStudents":30,"price":10000,"startDate":"2099-01-01","endDate":"2099-02-01"}
+        {"courseName":"강사 없는 강의","instructorEmail":"nobody@test.com","maxStudents":30,"price":10000}
+        """;
+
+    private static final String ENROLLMENTS_CSV = """
+        studentEmail,courseName
+        import-student1@test.com,대량 적재 강의
+        import-student2@test.com,대량 적재 강의
+        import-student2@test.com,대량 적재 강의
+        """;
+
+    @Autowired
+    private BulkImportService bulkImportService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("CSV/NDJSON 대량 적재 후 수강인원 재계산 테스트")
+    void importAll_ShouldInsertAndRefreshCurrentStudents() throws Exception {
+        // When
+        BulkImportResultDto members = bulkImportService.importMembers(new StringReader(MEMBERS_CSV), ImportFormat.CSV);
+        BulkImportResultDto courses = bulkImportService.importCourses(new StringReader(COURSES_NDJSON), ImportFormat.NDJSON);
+        BulkImportResultDto enrollments = bulkImportService.importEnrollments(new StringReader(ENROLLMENTS_CSV), ImportFormat.CSV);
+        bulkImportService.refreshCurrentStudents();
+        entityManager.clear();
+
+        // Then - 형식 오류, 참조 대상 없음, 중복 레코드는 건너뜀
+        assertThat(members.getImportedCount()).isEqualTo(3);
+        assertThat(members.getSkippedCount()).isEqualTo(1);
+        assertThat(courses.getImportedCount()).isEqualTo(1);
+        assertThat(courses.getSkippedCount()).isEqualTo(1);
+        assertThat(enrollments.getImportedCount()).isEqualTo(2);
+        assertThat(enrollments.getSkippedCount()).isEqualTo(1);
+
+        assertThat(memberRepository.findByEmail("import-student2@test.com"))
+            .hasValueSatisfying(member -> assertThat(member.getName()).isEqualTo("적재학생, 2"));
+
+        Course course = courseRepository.findAll().stream()
+            .filter(c -> "대량 적재 강의".equals(c.getCourseName()))
+            .findFirst()
+            .orElseThrow();
+        assertThat(course.getCurrentStudents()).isEqualTo(2);
+        assertThat(enrollmentRepository.countActiveEnrollmentsByCourse(course.getId())).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("같은 파일을 다시 적재하면 기존 레코드를 건너뛰는지 테스트")
+    void importMembersTwice_ShouldSkipExisting() throws Exception {
+        // Given
+        bulkImportService.importMembers(new StringReader(MEMBERS_CSV), ImportFormat.CSV);
+
+        // When
+        BulkImportResultDto again = bulkImportService.importMembers(new StringReader(MEMBERS_CSV), ImportFormat.CSV);
+
+        // Then
+        assertThat(again.getImportedCount()).isZero();
+        assertThat(again.getSkippedCount()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("NDJSON 중간에 깨진 줄이 있어도 건너뛰고 나머지를 적재하는지 테스트")
+    void importMembersNdjson_WithMalformedLine_ShouldSkipAndContinue() throws Exception {
+        // Given - 2번째 줄은 JSON이 아니고 3번째 줄은 배열
+        String ndjson = """
+            {"name":"NDJSON학생1","email":"ndjson-student1@test.com","phoneNumber":"010-6100-0001","password":"Pass123","memberType":"STUDENT"}
+            {"name":"깨진 줄","email":
+            ["not","an","object"]
+            {"name":"NDJSON학생2","email":"ndjson-student2@test.com","phoneNumber":"010-6100-0002","password":"Pass123","memberType":"STUDENT"}
+            """;
+
+        // When
+        BulkImportResultDto result = bulkImportService.importMembers(new StringReader(ndjson), ImportFormat.NDJSON);
+
+        // Then
+        assertThat(result.getImportedCount()).isEqualTo(2);
+        assertThat(result.getSkippedCount()).isEqualTo(2);
+        assertThat(memberRepository.findByEmail("ndjson-student2@test.com")).isPresent();
+    }
+
+    @Test
+    @DisplayName("적재 ID와 JPA 저장 ID가 충돌하지 않는지 테스트")
+    void importMembers_ShouldNotCollideWithEntityIds() throws Exception {
+        // When
+        bulkImportService.importMembers(new StringReader(MEMBERS_CSV), ImportFormat.CSV);
+        memberRepository.save(new Member(
+            "JPA학생", "jpa-student@test.com", "010-6000-0500", "Pass123", MemberType.STUDENT));
+        entityManager.flush();
+
+        // Then
+        assertThat(memberRepository.findByEmail("jpa-student@test.com")).isPresent();
+        assertThat(memberRepository.findByEmail("import-student1@test.com")).isPresent();
+    }
+
+    @Test
+    @DisplayName("CSV 한 줄 파싱 시 따옴표와 빈 값을 처리하는지 테스트")
+    void parseCsvLine_ShouldHandleQuotesAndEmptyValues() {
+        assertThat(ImportRecordReader.parseCsvLine("a, \"b,c\" ,,\"d \"\"e\"\"\""))
+            .containsExactly("a", "b,c", null, "d \"e\"");
+    }
+}
@@ -0,0 +1,220 @@
+package com.wb.edutask.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import com.wb.edutask.entity.Course;
+import com.wb.edutask.entity.Member;
+import com.wb.edutask.enums.CircuitState;
+import com.wb.edutask.enums.MemberType;
+import com.wb.edutask.repository.CourseRepository;
+import com.wb.edutask.repository.MemberRepository;
+
+/**
+ * CapacityAdmissionService 테스트 클래스
+ * 회로 차단기를 강제로 열어 DB 조건부 UPDATE 정원 제어를 검증합니다 (복구 시도가 끼어들지 않도록 차단 유지 시간을 길게 설정)
+ *
+ * @author WB Development Team
+ * @version 1.0.0
+ * @since 2025-09-24
+ */
+@SpringBootTest(properties = {
+    "wb.redis.circuit-breaker.failure-threshold=3",
+    "wb.redis.circuit-breaker.open-duration-ms=600000",
+    "wb.redis.circuit-breaker.drain-timeout-ms=10000"
+})
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class CapacityAdmissionServiceTest {
+
+    @Autowired
+    private CapacityAdmissionService capacityAdmissionService;
+
+    @Autowired
+    private RedisCircuitBreaker redisCircuitBreaker;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private Course course;
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate.getConnectionFactory().getConnection().flushAll();
+        transactionTemplate = new TransactionTemplate(transactionManager);
+
+        Member instructor = memberRepository.save(new Member(
+            "차단강사", "circuit-instructor@test.com", "010-9100-0001", "Pass123", MemberType.INSTRUCTOR));
+        course = courseRepository.save(Course.builder()
+            .courseName("차단 강의")
+            .description("DB 정원 모드 검증용 강의")
+            .instructor(instructor)
+            .maxStudents(2)
+            .price(10000)
+            .startDate(LocalDate.now().plusDays(7))
+            .endDate(LocalDate.now().plusDays(37))
+            .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        try {
+            stringRedisTemplate.getConnectionFactory().getConnection().flushAll();
+        } catch (Exception e) {
+            // Redis 연결 실패 시 무시
+        }
+    }
+
+    @Test
+    @DisplayName("연속 실패로 차단되면 DB 조건부 UPDATE로 정원까지만 허용하는지 테스트")
+    void admit_WhenCircuitOpen_ShouldUseDatabaseCapacity() {
+        // Given
+        openCircuit();
+        assertThat(redisCircuitBreaker.getState()).isEqualTo(CircuitState.OPEN);
+
+        // When
+        Map<String, Object> first = admitInTransaction(1L);
+        Map<String, Object> second = admitInTransaction(2L);
+        Map<String, Object> third = admitInTransaction(3L);
+
+        // Then
+        assertThat(first.get("success")).isEqualTo(true);
+        assertThat(first.get("mode")).isEqualTo(CapacityAdmissionService.MODE_DATABASE);
+        assertThat(second.get("success")).isEqualTo(true);
+        assertThat(third.get("success")).isEqualTo(false);
+        assertThat(third.get("message")).isEqualTo("CAPACITY_EXCEEDED");
+        assertThat(currentStudentsInDb()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("DB 모드에서 수강신청 트랜잭션이 롤백되면 확보한 좌석도 롤백되는지 테스트")
+    void admit_WhenTransactionRollsBack_ShouldReleaseSeat() {
+        // Given
+        openCircuit();
+
+        // When
+        transactionTemplate.executeWithoutResult(status -> {
+            capacityAdmissionService.admit(1L, course.getId());
+            status.setRollbackOnly();
+        });
+
+        // Then
+        assertThat(currentStudentsInDb()).isZero();
+        assertThat(admitInTransaction(2L).get("success")).isEqualTo(true);
+        assertThat(currentStudentsInDb()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("복구 시도는 진행 중인 DB 모드 수강신청을 기다리고, 그동안 새 수강신청은 거절하는지 테스트")
+    void probe_WhenDegradedAdmissionInFlight_ShouldWaitAndRejectNewAdmissions() throws Exception {
+        // Given - DB 모드로 좌석을 확보한 트랜잭션이 아직 커밋되지 않은 상태
+        openCircuit();
+        CountDownLatch admitted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Map<String, Object>> inFlight = CompletableFuture.supplyAsync(() ->
+            transactionTemplate.execute(status -> {
+                Map<String, Object> result = capacityAdmissionService.admit(1L, course.getId());
+                admitted.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return result;
+            }));
+        assertThat(admitted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When - 차단 유지 시간이 지난 것으로 만들고 복구 시도
+        ReflectionTestUtils.setField(redisCircuitBreaker, "openedAtMillis", 0L);
+        CompletableFuture<Void> probe = CompletableFuture.runAsync(redisCircuitBreaker::probe);
+        awaitState(CircuitState.HALF_OPEN);
+
+        // Then - 전환 중에는 새 수강신청이 DB 모드로 들어오지 않음
+        Map<String, Object> duringProbe = admitInTransaction(2L);
+        assertThat(duringProbe.get("success")).isEqualTo(false);
+        assertThat(duringProbe.get("message")).isEqualTo("CIRCUIT_SWITCHING");
+        assertThat(redisCircuitBreaker.getState()).isEqualTo(CircuitState.HALF_OPEN);
+
+        // 진행 중인 수강신청이 커밋된 뒤에야 재적재 후 정상 복귀
+        release.countDown();
+        assertThat(inFlight.get(5, TimeUnit.SECONDS).get("success")).isEqualTo(true);
+        probe.get(10, TimeUnit.SECONDS);
+        awaitState(CircuitState.CLOSED);
+        assertThat(currentStudentsInDb()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("캐시 적재 중 DB 오류는 Redis 장애로 집계하지 않고 그대로 전파하는지 테스트")
+    void admit_WhenDatabaseFailsDuringCacheLoad_ShouldNotOpenCircuit() {
+        // Given - 강의 캐시가 비어 있고, 적재에 필요한 수강신청 테이블 조회가 실패하는 상황
+        stringRedisTemplate.getConnectionFactory().getConnection().flushAll();
+        jdbcTemplate.execute("ALTER TABLE enrollments RENAME TO enrollments_unavailable");
+        try {
+            // When & Then - 차단 임계치(3회)만큼 실패해도 DB 오류만 전파되고 차단기는 닫힌 상태 유지
+            for (long studentId = 1L; studentId <= 3L; studentId++) {
+                long id = studentId;
+                assertThatThrownBy(() -> admitInTransaction(id))
+                    .isInstanceOf(DataAccessException.class);
+            }
+            assertThat(redisCircuitBreaker.getState()).isEqualTo(CircuitState.CLOSED);
+        } finally {
+            jdbcTemplate.execute("ALTER TABLE enrollments_unavailable RENAME TO enrollments");
+        }
+
+        // DB가 돌아오면 같은 경로로 정상 처리
+        assertThat(admitInTransaction(1L).get("success")).isEqualTo(true);
+    }
+
+    private void awaitState(CircuitState expected) throws InterruptedException {
+        for (int i = 0; i < 50 && redisCircuitBreaker.getState() != expected; i++) {
+            Thread.sleep(100);
+        }
+        assertThat(redisCircuitBreaker.getState()).isEqualTo(expected);
+    }
+
+    private void openCircuit() {
+        for (int i = 0; i < 3; i++) {
+            redisCircuitBreaker.recordFailure();
+        }
+    }
+
+    private Map<String, Object> admitInTransaction(Long studentId) {
+        return transactionTemplate.execute(status -> capacityAdmissionService.admit(studentId, course.getId()));
+    }
+
+    private int currentStudentsInDb() {
+        return jdbcTemplate.queryForObject(
+            "SELECT current_students FROM courses WHERE id = ?", Integer.class, course.getId());
+    }
+}
@@ -22,6 +22,7 @@ import org.springframework.test.context.ActiveProfiles;
 import com.wb.edutask.dto.EnrollmentRequestDto;
 import com.wb.edutask.entity.Course;
 import com.wb.edutask.entity.Member;
+import com.wb.edutask.enums.CourseHashLayout;
 import com.wb.edutask.enums.MemberType;
 import com.wb.edutask.repository.CourseRepository;
 import com.wb.edutask.repository.EnrollmentRepository;
@@ -57,6 +58,9 @@ class ConcurrencyTest {
     @Autowired
     private StringRedisTemplate stringRedisTemplate;
     
+    @Autowired
+    private RedisConcurrencyService redisConcurrencyService;
+    
     private Course limitedCourse;
     private List<Member> students;
     
@@ -94,10 +98,10 @@ class ConcurrencyTest {
         
         // Redis에서 강의 정보 미리 동기화 (테스트 안정성을 위해)
         String courseKey = "course:" + limitedCourse.getId();
-        stringRedisTemplate.opsForHash().put(courseKey, "currentStudents", "0");
-        stringRedisTemplate.opsForHash().put(courseKey, "maxStudents", "5");
-        stringRedisTemplate.opsForHash().put(courseKey, "courseId", limitedCourse.getId().toString());
-        stringRedisTemplate.opsForHash().put(courseKey, "courseName", "인기 강의");
+        CourseHashLayout layout = redisConcurrencyService.getHashLayout();
+        stringRedisTemplate.opsForHash().put(courseKey, layout.getCurrentField(), "0");
+        stringRedisTemplate.opsForHash().putAll(courseKey,
+            layout.staticFields(limitedCourse.getId(), "인기 강의", 5, instructor.getId()));
         stringRedisTemplate.expire(courseKey, 1, java.util.concurrent.TimeUnit.MINUTES);
         
         // 학생 10명 생성 (정원보다 많음)
@@ -238,7 +242,8 @@ class ConcurrencyTest {
         Course updatedCourse = courseRepository.findById(limitedCourse.getId()).orElseThrow();
         
         // Redis에서 실제 카운트 확인
-        String redisCount = (String) stringRedisTemplate.opsForHash().get("course:" + limitedCourse.getId(), "currentStudents");
+        String redisCount = (String) stringRedisTemplate.opsForHash().get("course:" + limitedCourse.getId(),
+            redisConcurrencyService.getHashLayout().getCurrentField());
         
         log.info("=== 스트레스 테스트 결과 ===");
         log.info("동시 요청: {}개", THREAD_COUNT);
@@ -253,4 +258,42 @@ class ConcurrencyTest {
         assertThat(successCount.get()).isEqualTo(COURSE_CAPACITY);
         assertThat(failureCount.get()).isEqualTo(THREAD_COUNT - COURSE_CAPACITY);
     }
+    
+    @Test
+    @Order(3)
+    @DisplayName("캐시가 만료된 강의에 동시 수강신청 시 재동기화가 카운터를 되돌리지 않는지 테스트")
+    void concurrentEnrollment_OnExpiredCache_ShouldNotExceedCapacity() throws Exception {
+        // Given - 강의 Hash가 만료된 상태
+        final int THREAD_COUNT = 10;
+        final int COURSE_CAPACITY = 5;
+        String courseKey = "course:" + limitedCourse.getId();
+        stringRedisTemplate.delete(courseKey);
+        
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        AtomicInteger successCount = new AtomicInteger(0);
+        
+        // When - 모든 요청이 동시에 COURSE_NOT_FOUND를 보고 재동기화 경쟁
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            final int studentIndex = i;
+            futures.add(CompletableFuture.runAsync(() -> {
+                try {
+                    enrollmentService.enrollCourse(new EnrollmentRequestDto(
+                        students.get(studentIndex).getId(), limitedCourse.getId()));
+                    successCount.incrementAndGet();
+                } catch (Exception e) {
+                    log.info("학생{} 수강신청 실패: {}", studentIndex + 1, e.getMessage());
+                }
+            }, executorService));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        executorService.shutdown();
+        
+        // Then - 정원만큼만 성공하고 Redis 카운터도 정원과 일치
+        assertThat(successCount.get()).isEqualTo(COURSE_CAPACITY);
+        assertThat(enrollmentRepository.countActiveEnrollmentsByCourse(limitedCourse.getId())).isEqualTo(COURSE_CAPACITY);
+        assertThat(stringRedisTemplate.opsForHash().get(courseKey, redisConcurrencyService.getHashLayout().getCurrentField()))
+            .isEqualTo(String.valueOf(COURSE_CAPACITY));
+        assertThat(stringRedisTemplate.hasKey("lock:course-sync:" + limitedCourse.getId())).isFalse();
+    }
 }
@@ -0,0 +1,118 @@
+package com.wb.edutask.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import java.time.LocalDate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import com.wb.edutask.entity.Course;
+import com.wb.edutask.entity.Member;
+import com.wb.edutask.enums.MemberType;
+import com.wb.edutask.repository.CourseRepository;
+import com.wb.edutask.repository.MemberRepository;
+
+/**
+ * CourseCountWriteBackBuffer 테스트 클래스
+ * 주기 반영이 테스트 중간에 끼어들지 않도록 반영 주기를 길게 설정합니다
+ *
+ * @author WB Development Team
+ * @version 1.0.0
+ * @since 2025-09-24
+ */
+@SpringBootTest(properties = "wb.enrollment.write-back.flush-interval-ms=600000")
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class CourseCountWriteBackBufferTest {
+
+    @Autowired
+    private CourseCountWriteBackBuffer courseCountWriteBackBuffer;
+
+    @Autowired
+    private RedisConcurrencyService redisConcurrencyService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Course course;
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate.getConnectionFactory().getConnection().flushAll();
+        courseCountWriteBackBuffer.flush();
+
+        Member instructor = memberRepository.save(new Member(
+            "반영강사", "writeback-instructor@test.com", "010-9000-0001", "Pass123", MemberType.INSTRUCTOR));
+        course = courseRepository.save(Course.builder()
+            .courseName("반영 강의")
+            .description("수강생 수 일괄 반영 검증용 강의")
+            .instructor(instructor)
+            .maxStudents(100)
+            .price(10000)
+            .startDate(LocalDate.now().plusDays(7))
+            .endDate(LocalDate.now().plusDays(37))
+            .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        try {
+            stringRedisTemplate.getConnectionFactory().getConnection().flushAll();
+        } catch (Exception e) {
+            // Redis 연결 실패 시 무시
+        }
+    }
+
+    @Test
+    @DisplayName("같은 강의의 여러 기록이 하나로 합쳐져 Redis 현재 값으로 반영되는지 테스트")
+    void flush_ShouldCoalesceAndWriteRedisCount() {
+        // Given - 순서가 뒤바뀐 기록 (마지막 기록 3보다 Redis 값 5가 최신)
+        courseCountWriteBackBuffer.record(course.getId(), 4);
+        courseCountWriteBackBuffer.record(course.getId(), 5);
+        courseCountWriteBackBuffer.record(course.getId(), 3);
+        stringRedisTemplate.opsForHash().put("course:" + course.getId(),
+            redisConcurrencyService.getHashLayout().getCurrentField(), "5");
+
+        // When
+        assertThat(courseCountWriteBackBuffer.pendingCount()).isEqualTo(1);
+        int updated = courseCountWriteBackBuffer.flush();
+
+        // Then
+        assertThat(updated).isEqualTo(1);
+        assertThat(courseCountWriteBackBuffer.pendingCount()).isZero();
+        assertThat(currentStudentsInDb()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Redis 값이 없으면 마지막 기록 값으로 반영되는지 테스트")
+    void flush_ShouldFallBackToRecordedCount() {
+        // Given
+        courseCountWriteBackBuffer.record(course.getId(), 7);
+
+        // When
+        courseCountWriteBackBuffer.flush();
+
+        // Then
+        assertThat(currentStudentsInDb()).isEqualTo(7);
+    }
+
+    private int currentStudentsInDb() {
+        return jdbcTemplate.queryForObject(
+            "SELECT current_students FROM courses WHERE id = ?", Integer.class, course.getId());
+    }
+}
@@ -0,0 +1,120 @@
+package com.wb.edutask.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import com.wb.edutask.entity.Course;
+import com.wb.edutask.entity.Member;
+import com.wb.edutask.enums.CourseStatus;
+import com.wb.edutask.enums.MemberType;
+import com.wb.edutask.repository.CourseRepository;
+import com.wb.edutask.repository.MemberRepository;
+
+/**
+ * CourseLifecycleScheduler 테스트 클래스
+ * 커밋 후 Redis 정리를 확인하기 위해 테스트 트랜잭션 없이 실행합니다
+ *
+ * @author WB Development Team
+ * @version 1.0.0
+ * @since 2025-09-24
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class CourseLifecycleSchedulerTest {
+
+    @Autowired
+    private CourseLifecycleScheduler courseLifecycleScheduler;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    private Member instructor;
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate.getConnectionFactory().getConnection().flushAll();
+        instructor = memberRepository.save(new Member(
+            "상태강사", "lifecycle-instructor@test.com", "010-8000-0001", "Pass123", MemberType.INSTRUCTOR));
+    }
+
+    @AfterEach
+    void tearDown() {
+        try {
+            stringRedisTemplate.getConnectionFactory().getConnection().flushAll();
+        } catch (Exception e) {
+            // Redis 연결 실패 시 무시
+        }
+    }
+
+    @Test
+    @DisplayName("날짜에 따라 개설예정 → 진행중 → 종료로 일괄 전환되는지 테스트")
+    void transition_ShouldMoveCoursesByDate() {
+        // Given
+        LocalDate today = LocalDate.now();
+        Course upcoming = saveCourse("예정 강의", today.plusDays(3), today.plusDays(30), CourseStatus.SCHEDULED);
+        Course started = saveCourse("시작 강의", today, today.plusDays(30), CourseStatus.SCHEDULED);
+        Course ended = saveCourse("종료 강의", today.minusDays(30), today.minusDays(1), CourseStatus.IN_PROGRESS);
+        Course cancelled = saveCourse("취소 강의", today.minusDays(30), today.minusDays(1), CourseStatus.CANCELLED);
+
+        // When
+        List<Long> completedIds = courseLifecycleScheduler.transition(today);
+
+        // Then
+        assertThat(completedIds).contains(ended.getId()).doesNotContain(cancelled.getId());
+        assertThat(statusOf(upcoming)).isEqualTo(CourseStatus.SCHEDULED);
+        assertThat(statusOf(started)).isEqualTo(CourseStatus.IN_PROGRESS);
+        assertThat(statusOf(ended)).isEqualTo(CourseStatus.COMPLETED);
+        assertThat(statusOf(cancelled)).isEqualTo(CourseStatus.CANCELLED);
+    }
+
+    @Test
+    @DisplayName("종료된 강의의 Redis Hash와 랭킹 멤버가 제거되는지 테스트")
+    void transition_ShouldEvictCompletedCoursesFromRedis() {
+        // Given
+        LocalDate today = LocalDate.now();
+        Course ended = saveCourse("정리 강의", today.minusDays(30), today.minusDays(1), CourseStatus.IN_PROGRESS);
+        String courseKey = "course:" + ended.getId();
+        stringRedisTemplate.opsForHash().put(courseKey, "c", "3");
+        stringRedisTemplate.opsForZSet().add("course:ranking:applicants", courseKey, 3);
+
+        // When
+        courseLifecycleScheduler.transition(today);
+
+        // Then
+        assertThat(stringRedisTemplate.hasKey(courseKey)).isFalse();
+        assertThat(stringRedisTemplate.opsForZSet().score("course:ranking:applicants", courseKey)).isNull();
+    }
+
+    private Course saveCourse(String name, LocalDate startDate, LocalDate endDate, CourseStatus status) {
+        return courseRepository.save(Course.builder()
+            .courseName(name)
+            .description("상태 전환 검증용 강의")
+            .instructor(instructor)
+            .maxStudents(30)
+            .price(10000)
+            .startDate(startDate)
+            .endDate(endDate)
+            .status(status)
+            .build());
+    }
+
+    private CourseStatus statusOf(Course course) {
+        return courseRepository.findById(course.getId()).orElseThrow().getStatus();
+    }
+}
@@ -0,0 +1,196 @@
+package com.wb.edutask.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import com.wb.edutask.dto.EnrollmentRequestDto;
+import com.wb.edutask.dto.EnrollmentResponseDto;
+import com.wb.edutask.entity.Course;
+import com.wb.edutask.entity.Member;
+import com.wb.edutask.enums.MemberType;
+import com.wb.edutask.repository.CourseRepository;
+import com.wb.edutask.repository.MemberRepository;
+
+/**
+ * CourseSeatBroadcaster 테스트 클래스
+ * 수강신청/취소 시 수강인원 변경이 PUBLISH 되고 강의별 최신 값으로 병합되는지,
+ * 쓰기가 막힌 구독자가 전송 주기와 다른 구독자를 밀어내지 않는지 검증합니다
+ * (주기 전송이 병합 값을 먼저 가져가지 않도록 전송 주기를 길게 설정)
+ *
+ * @author WB Development Team
+ * @version 1.0.0
+ * @since 2025-09-24
+ */
+@SpringBootTest(properties = {
+    "wb.course-seats.push.flush-interval-ms=3600000",
+    "wb.course-seats.push.send-timeout-ms=500"
+})
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class CourseSeatBroadcasterTest {
+
+    @Autowired
+    private CourseSeatBroadcaster courseSeatBroadcaster;
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate.getConnectionFactory().getConnection().flushAll();
+        courseSeatBroadcaster.drain();
+    }
+
+    @AfterEach
+    void tearDown() {
+        try {
+            stringRedisTemplate.getConnectionFactory().getConnection().flushAll();
+        } catch (Exception e) {
+            // Redis 연결 실패 시 무시
+        }
+    }
+
+    @Test
+    @DisplayName("같은 강의의 연속 변경은 마지막 값 하나로 병합되는지 테스트")
+    void onMessage_ShouldKeepLatestCountPerCourse() {
+        // Given
+        courseSeatBroadcaster.onMessage(message("1:10"), null);
+        courseSeatBroadcaster.onMessage(message("2:3"), null);
+        courseSeatBroadcaster.onMessage(message("1:11"), null);
+        courseSeatBroadcaster.onMessage(message("1:9"), null);
+
+        // When
+        Map<Long, Long> counts = courseSeatBroadcaster.drain();
+
+        // Then
+        assertThat(counts).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 9L, 2L, 3L));
+        assertThat(courseSeatBroadcaster.drain()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("수강신청과 취소 시 바뀐 수강인원이 전송 대기 값에 반영되는지 테스트")
+    void enrollAndCancel_ShouldPublishSeatCounts() throws InterruptedException {
+        // Given
+        Member instructor = memberRepository.save(new Member(
+            "실시간강사", "seats-instructor@test.com", "010-9800-0001", "Pass123", MemberType.INSTRUCTOR));
+        Member student1 = memberRepository.save(new Member(
+            "실시간학생1", "seats-student1@test.com", "010-9800-0002", "Pass123", MemberType.STUDENT));
+        Member student2 = memberRepository.save(new Member(
+            "실시간학생2", "seats-student2@test.com", "010-9800-0003", "Pass123", MemberType.STUDENT));
+        Course course = courseRepository.save(Course.builder()
+            .courseName("실시간 수강인원 강의")
+            .description("수강인원 실시간 전송 검증용 강의")
+            .instructor(instructor)
+            .maxStudents(10)
+            .price(0)
+            .startDate(LocalDate.now().plusDays(7))
+            .endDate(LocalDate.now().plusDays(37))
+            .build());
+
+        // When & Then - 구독은 비동기이므로 값이 들어올 때까지 잠시 대기
+        EnrollmentResponseDto first = enrollmentService.enrollCourse(new EnrollmentRequestDto(student1.getId(), course.getId()));
+        assertThat(awaitCount(course.getId(), 1L)).containsEntry(course.getId(), 1L);
+
+        enrollmentService.enrollCourse(new EnrollmentRequestDto(student2.getId(), course.getId()));
+        assertThat(awaitCount(course.getId(), 2L)).containsEntry(course.getId(), 2L);
+
+        enrollmentService.cancelEnrollment(first.getId(), "실시간 전송 테스트");
+        assertThat(awaitCount(course.getId(), 1L)).containsEntry(course.getId(), 1L);
+    }
+
+    @Test
+    @DisplayName("쓰기가 막힌 구독자가 있어도 전송 주기와 다른 구독자 전송이 밀리지 않고, 막힌 구독자는 정리되는지 테스트")
+    void flush_WhenSubscriberBlocked_ShouldNotDelayOtherSubscribers() throws InterruptedException {
+        // Given
+        CountDownLatch blockedEntered = new CountDownLatch(1);
+        CountDownLatch unblock = new CountDownLatch(1);
+        BlockingQueue<String> received = new LinkedBlockingQueue<>();
+        courseSeatBroadcaster.register(new SseEmitter() {
+            @Override
+            public void send(Set<ResponseBodyEmitter.DataWithMediaType> items) {
+                blockedEntered.countDown();
+                try {
+                    unblock.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        courseSeatBroadcaster.register(new SseEmitter() {
+            @Override
+            public void send(Set<ResponseBodyEmitter.DataWithMediaType> items) {
+                received.add(items.stream().map(item -> String.valueOf(item.getData())).collect(Collectors.joining()));
+            }
+        });
+
+        try {
+            // When - 막힌 구독자의 첫 전송이 끝나지 않는 동안 두 번 전송
+            courseSeatBroadcaster.onMessage(message("1:5"), null);
+            assertThat(timedFlushMillis()).isLessThan(1000);
+            assertThat(blockedEntered.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(received.poll(5, TimeUnit.SECONDS)).contains("{\"1\":5}");
+
+            courseSeatBroadcaster.onMessage(message("1:6"), null);
+            assertThat(timedFlushMillis()).isLessThan(1000);
+
+            // Then - 다른 구독자는 계속 받고, send-timeout-ms가 지나면 막힌 구독자만 정리됨
+            assertThat(received.poll(5, TimeUnit.SECONDS)).contains("{\"1\":6}");
+            assertThat(courseSeatBroadcaster.subscriberCount()).isEqualTo(2);
+
+            Thread.sleep(600);
+            assertThat(timedFlushMillis()).isLessThan(1000);
+            assertThat(courseSeatBroadcaster.subscriberCount()).isEqualTo(1);
+        } finally {
+            unblock.countDown();
+        }
+    }
+
+    private long timedFlushMillis() {
+        long startNanos = System.nanoTime();
+        courseSeatBroadcaster.flush();
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    private Map<Long, Long> awaitCount(Long courseId, Long expected) throws InterruptedException {
+        Map<Long, Long> counts = new HashMap<>();
+        for (int i = 0; i < 50 && !expected.equals(counts.get(courseId)); i++) {
+            counts.putAll(courseSeatBroadcaster.drain());
+            Thread.sleep(100);
+        }
+        return counts;
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(CourseSeatBroadcaster.CHANNEL.getBytes(StandardCharsets.UTF_8),
+            body.getBytes(StandardCharsets.UTF_8));
+    }
+}
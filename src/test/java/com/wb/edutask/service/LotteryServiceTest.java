@@ -0,0 +1,150 @@
+package com.wb.edutask.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import com.wb.edutask.dto.EnrollmentRequestDto;
+import com.wb.edutask.entity.Course;
+import com.wb.edutask.entity.Member;
+import com.wb.edutask.enums.MemberType;
+import com.wb.edutask.exception.LotteryEnteredException;
+import com.wb.edutask.repository.CourseRepository;
+import com.wb.edutask.repository.EnrollmentRepository;
+import com.wb.edutask.repository.MemberRepository;
+
+/**
+ * LotteryService 테스트 클래스
+ * 추첨 기간의 수강신청이 응모로만 접수되고, 마감 후 추첨에서 정원만큼 당첨되는지 검증합니다
+ *
+ * @author WB Development Team
+ * @version 1.0.0
+ * @since 2025-09-24
+ */
+@SpringBootTest(properties = "wb.enrollment.lottery.draw-interval-ms=3600000")
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class LotteryServiceTest {
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    @Autowired
+    private LotteryService lotteryService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private RedisConcurrencyService redisConcurrencyService;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    private Course course;
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate.getConnectionFactory().getConnection().flushAll();
+
+        Member instructor = memberRepository.save(new Member(
+            "추첨강사", "lottery-instructor@test.com", "010-9400-0001", "Pass123", MemberType.INSTRUCTOR));
+        course = courseRepository.save(Course.builder()
+            .courseName("추첨 강의")
+            .description("추첨 검증용 강의")
+            .instructor(instructor)
+            .maxStudents(2)
+            .price(0)
+            .startDate(LocalDate.now().plusDays(7))
+            .endDate(LocalDate.now().plusDays(37))
+            .lotteryClosesAt(LocalDateTime.now().plusHours(1))
+            .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        try {
+            stringRedisTemplate.getConnectionFactory().getConnection().flushAll();
+        } catch (Exception e) {
+            // Redis 연결 실패 시 무시
+        }
+    }
+
+    @Test
+    @DisplayName("추첨 기간의 신청은 응모만 되고 마감 후 정원만큼 당첨되어 Redis 카운터가 채워지는지 테스트")
+    void draw_ShouldEnrollWinnersUpToMaxStudents() {
+        // Given - 정원 2명 강의에 5명 응모 (한 명은 중복 응모)
+        for (int i = 1; i <= 5; i++) {
+            Member student = memberRepository.save(new Member(
+                "추첨학생" + i, "lottery-student" + i + "@test.com", "010-9400-010" + i, "Pass123", MemberType.STUDENT));
+            EnrollmentRequestDto request = new EnrollmentRequestDto(student.getId(), course.getId());
+            assertThatThrownBy(() -> enrollmentService.enrollCourse(request))
+                .isInstanceOf(LotteryEnteredException.class);
+            if (i == 1) {
+                assertThatThrownBy(() -> enrollmentService.enrollCourse(request))
+                    .isInstanceOf(LotteryEnteredException.class);
+            }
+        }
+        assertThat(enrollmentRepository.countActiveEnrollmentsByCourse(course.getId())).isZero();
+        assertThat(stringRedisTemplate.opsForSet().size("course:" + course.getId() + LotteryService.LOTTERY_KEY_SUFFIX))
+            .isEqualTo(5);
+
+        // When - 마감 후 추첨
+        Course closed = courseRepository.findById(course.getId()).orElseThrow();
+        closed.setLotteryClosesAt(LocalDateTime.now().minusSeconds(1));
+        courseRepository.save(closed);
+        int winners = lotteryService.draw(course.getId());
+
+        // Then
+        assertThat(winners).isEqualTo(2);
+        assertThat(enrollmentRepository.countActiveEnrollmentsByCourse(course.getId())).isEqualTo(2);
+        Course drawn = courseRepository.findById(course.getId()).orElseThrow();
+        assertThat(drawn.getLotteryDrawnAt()).isNotNull();
+        assertThat(drawn.getCurrentStudents()).isEqualTo(2);
+        assertThat(stringRedisTemplate.opsForHash().get("course:" + course.getId(),
+            redisConcurrencyService.getHashLayout().getCurrentField())).isEqualTo("2");
+        assertThat(stringRedisTemplate.hasKey("course:" + course.getId() + LotteryService.LOTTERY_KEY_SUFFIX)).isFalse();
+
+        // 다시 돌려도 중복 추첨되지 않음
+        assertThat(lotteryService.draw(course.getId())).isZero();
+    }
+
+    @Test
+    @DisplayName("강의 Hash가 이미 있으면 덮어쓰지 않고 당첨자 수만큼 카운터를 올리는지 테스트")
+    void draw_WhenCourseHashCached_ShouldIncrementCounter() {
+        // Given - 추첨 전에 강의 Hash가 적재되어 있음 (수강생 0명)
+        redisConcurrencyService.syncCourseToRedisIfNeeded(course.getId());
+        for (int i = 1; i <= 3; i++) {
+            Member student = memberRepository.save(new Member(
+                "캐시추첨학생" + i, "lottery-cached" + i + "@test.com", "010-9400-020" + i, "Pass123", MemberType.STUDENT));
+            EnrollmentRequestDto request = new EnrollmentRequestDto(student.getId(), course.getId());
+            assertThatThrownBy(() -> enrollmentService.enrollCourse(request))
+                .isInstanceOf(LotteryEnteredException.class);
+        }
+
+        // When
+        Course closed = courseRepository.findById(course.getId()).orElseThrow();
+        closed.setLotteryClosesAt(LocalDateTime.now().minusSeconds(1));
+        courseRepository.save(closed);
+
+        // Then
+        assertThat(lotteryService.draw(course.getId())).isEqualTo(2);
+        assertThat(stringRedisTemplate.opsForHash().get("course:" + course.getId(),
+            redisConcurrencyService.getHashLayout().getCurrentField())).isEqualTo("2");
+    }
+}
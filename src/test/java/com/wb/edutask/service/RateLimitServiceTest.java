@@ -0,0 +1,98 @@
+package com.wb.edutask.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import com.wb.edutask.config.RateLimitProperties.Rule;
+import com.wb.edutask.enums.RateLimitKeyType;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * RateLimitService 테스트 클래스
+ *
+ * @author WB Development Team
+ * @version 1.0.0
+ * @since 2025-09-24
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class RateLimitServiceTest {
+
+    @Autowired
+    private RateLimitService rateLimitService;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate.getConnectionFactory().getConnection().flushAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        try {
+            stringRedisTemplate.getConnectionFactory().getConnection().flushAll();
+        } catch (Exception e) {
+            // Redis 연결 실패 시 무시
+        }
+    }
+
+    @Test
+    @DisplayName("노드 로컬 한도를 넘으면 Redis 확인 없이 제한되는지 테스트")
+    void tryAcquire_ShouldThrottleOnLocalLimit() {
+        // Given
+        Rule rule = rule("local-test", 0, 2);
+
+        // When
+        long first = rateLimitService.tryAcquire(rule, "student:1");
+        long second = rateLimitService.tryAcquire(rule, "student:1");
+        long third = rateLimitService.tryAcquire(rule, "student:1");
+        long otherStudent = rateLimitService.tryAcquire(rule, "student:2");
+
+        // Then
+        assertThat(first).isZero();
+        assertThat(second).isZero();
+        assertThat(third).isBetween(1L, 60L);
+        assertThat(otherStudent).isZero();
+        assertThat(meterRegistry.counter("ratelimit.throttled", "rule", "local-test", "scope", "local").count())
+            .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Redis 전체 한도를 넘으면 제한되는지 테스트")
+    void tryAcquire_ShouldThrottleOnGlobalLimit() {
+        // Given
+        Rule rule = rule("global-test", 2, 0);
+
+        // When
+        long first = rateLimitService.tryAcquire(rule, "ip:127.0.0.1");
+        long second = rateLimitService.tryAcquire(rule, "ip:127.0.0.1");
+        long third = rateLimitService.tryAcquire(rule, "ip:127.0.0.1");
+
+        // Then
+        assertThat(first).isZero();
+        assertThat(second).isZero();
+        assertThat(third).isBetween(1L, 60L);
+    }
+
+    private Rule rule(String name, int limit, int localLimit) {
+        Rule rule = new Rule();
+        rule.setName(name);
+        rule.setPath("/api/v1/enrollments/**");
+        rule.setKey(RateLimitKeyType.STUDENT);
+        rule.setLimit(limit);
+        rule.setLocalLimit(localLimit);
+        rule.setWindowSeconds(60);
+        return rule;
+    }
+}
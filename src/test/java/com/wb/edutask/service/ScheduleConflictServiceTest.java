@@ -0,0 +1,207 @@
+package com.wb.edutask.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import com.wb.edutask.dto.BulkEnrollmentRequestDto;
+import com.wb.edutask.dto.BulkEnrollmentResponseDto;
+import com.wb.edutask.dto.EnrollmentRequestDto;
+import com.wb.edutask.dto.EnrollmentResponseDto;
+import com.wb.edutask.entity.Course;
+import com.wb.edutask.entity.Member;
+import com.wb.edutask.enums.EnrollmentRejectionCode;
+import com.wb.edutask.enums.MemberType;
+import com.wb.edutask.exception.EnrollmentRejectedException;
+import com.wb.edutask.repository.CourseRepository;
+import com.wb.edutask.repository.MemberRepository;
+
+/**
+ * ScheduleConflictService 테스트 클래스
+ * 일정 충돌 확인을 켜고 단건 신청, 취소 후 재신청, 여러 강의 신청의 장바구니 확인,
+ * 겹치는 강의 동시 신청, 실패한 신청의 구간 제거, 선점 확정 시 재확인을 검증합니다
+ *
+ * @author WB Development Team
+ * @version 1.0.0
+ * @since 2025-09-24
+ */
+@SpringBootTest(properties = {
+    "wb.enrollment.schedule-conflict.enabled=true",
+    "wb.enrollment.hold.enabled=true"
+})
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class ScheduleConflictServiceTest {
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    private Member instructor;
+    private Member student;
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate.getConnectionFactory().getConnection().flushAll();
+
+        instructor = memberRepository.save(new Member(
+            "일정강사", "schedule-instructor@test.com", "010-9700-0001", "Pass123", MemberType.INSTRUCTOR));
+        student = memberRepository.save(new Member(
+            "일정학생", "schedule-student@test.com", "010-9700-0002", "Pass123", MemberType.STUDENT));
+    }
+
+    @AfterEach
+    void tearDown() {
+        try {
+            stringRedisTemplate.getConnectionFactory().getConnection().flushAll();
+        } catch (Exception e) {
+            // Redis 연결 실패 시 무시
+        }
+    }
+
+    @Test
+    @DisplayName("기간이 겹치는 강의는 거절되고 기존 강의를 취소하면 신청할 수 있는지 테스트")
+    void enrollCourse_WhenScheduleOverlaps_ShouldRejectUntilCancelled() {
+        // Given
+        Course first = course("10월 강의", 10, 40);
+        Course overlapping = course("10월 말 강의", 35, 60);
+        Course later = course("12월 강의", 61, 90);
+        EnrollmentResponseDto enrolled = enrollmentService.enrollCourse(request(first));
+
+        // When & Then
+        assertThatThrownBy(() -> enrollmentService.enrollCourse(request(overlapping)))
+            .isInstanceOfSatisfying(EnrollmentRejectedException.class,
+                e -> assertThat(e.getCode()).isEqualTo(EnrollmentRejectionCode.SCHEDULE_CONFLICT));
+        enrollmentService.enrollCourse(request(later));
+
+        enrollmentService.cancelEnrollment(enrolled.getId(), "일정 충돌 테스트");
+        assertThat(enrollmentService.enrollCourse(request(overlapping)).getId()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("여러 강의 수강신청 시 장바구니 안에서 겹치는 강의는 앞선 강의만 신청되는지 테스트")
+    void enrollMultipleCourses_ShouldCheckCartAgainstItself() {
+        // Given
+        Course a = course("장바구니 강의 A", 10, 20);
+        Course b = course("장바구니 강의 B", 15, 25);
+        Course c = course("장바구니 강의 C", 21, 30);
+
+        // When
+        BulkEnrollmentResponseDto response = enrollmentService.enrollMultipleCourses(
+            new BulkEnrollmentRequestDto(student.getId(), List.of(a.getId(), b.getId(), c.getId())));
+
+        // Then
+        assertThat(response.getSuccessCount()).isEqualTo(2);
+        assertThat(response.getFailedEnrollments()).hasSize(1);
+        assertThat(response.getFailedEnrollments().get(0).getCourseId()).isEqualTo(b.getId());
+        assertThat(response.getFailedEnrollments().get(0).getReason())
+            .isEqualTo(EnrollmentRejectionCode.SCHEDULE_CONFLICT.getDefaultMessage());
+    }
+
+    @Test
+    @DisplayName("같은 학생이 겹치는 강의들을 동시에 신청하면 하나만 신청되는지 테스트")
+    void enrollCourse_WhenOverlappingRequestsConcurrent_ShouldAdmitOnlyOne() {
+        // Given
+        final int THREAD_COUNT = 5;
+        List<Course> courses = new ArrayList<>();
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            courses.add(course("동시 신청 강의 " + (i + 1), 10 + i, 40 + i));
+        }
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        AtomicInteger successCount = new AtomicInteger(0);
+
+        // When
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (Course course : courses) {
+            futures.add(CompletableFuture.runAsync(() -> {
+                try {
+                    enrollmentService.enrollCourse(request(course));
+                    successCount.incrementAndGet();
+                } catch (EnrollmentRejectedException e) {
+                    assertThat(e.getCode()).isEqualTo(EnrollmentRejectionCode.SCHEDULE_CONFLICT);
+                }
+            }, executorService));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        executorService.shutdown();
+
+        // Then
+        assertThat(successCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("정원 초과로 실패한 신청의 기간은 일정에 남지 않는지 테스트")
+    void enrollCourse_WhenAdmissionFails_ShouldRemoveReservedInterval() {
+        // Given
+        Member other = memberRepository.save(new Member(
+            "일정학생2", "schedule-student2@test.com", "010-9700-0003", "Pass123", MemberType.STUDENT));
+        Course full = course("정원 1명 강의", 10, 40, 1, 0);
+        Course overlapping = course("겹치는 강의", 35, 60);
+        enrollmentService.enrollCourse(new EnrollmentRequestDto(other.getId(), full.getId()));
+
+        // When
+        assertThatThrownBy(() -> enrollmentService.enrollCourse(request(full)))
+            .isInstanceOfSatisfying(EnrollmentRejectedException.class,
+                e -> assertThat(e.getCode()).isEqualTo(EnrollmentRejectionCode.CAPACITY_EXCEEDED));
+
+        // Then
+        assertThat(enrollmentService.enrollCourse(request(overlapping)).getId()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("선점 후 겹치는 강의를 신청했으면 선점 확정이 거절되는지 테스트")
+    void confirmHold_WhenOverlappingEnrolledDuringHold_ShouldReject() {
+        // Given
+        Course paid = course("유료 강의", 10, 40, 10, 50000);
+        Course overlapping = course("겹치는 무료 강의", 35, 60);
+        enrollmentService.holdSeat(request(paid));
+        enrollmentService.enrollCourse(request(overlapping));
+
+        // When & Then
+        assertThatThrownBy(() -> enrollmentService.confirmHold(request(paid)))
+            .isInstanceOfSatisfying(EnrollmentRejectedException.class,
+                e -> assertThat(e.getCode()).isEqualTo(EnrollmentRejectionCode.SCHEDULE_CONFLICT));
+    }
+
+    private Course course(String name, int startOffset, int endOffset) {
+        return course(name, startOffset, endOffset, 10, 0);
+    }
+
+    private Course course(String name, int startOffset, int endOffset, int maxStudents, int price) {
+        return courseRepository.save(Course.builder()
+            .courseName(name)
+            .description("일정 충돌 검증용 강의")
+            .instructor(instructor)
+            .maxStudents(maxStudents)
+            .price(price)
+            .startDate(LocalDate.now().plusDays(startOffset))
+            .endDate(LocalDate.now().plusDays(endOffset))
+            .build());
+    }
+
+    private EnrollmentRequestDto request(Course course) {
+        return new EnrollmentRequestDto(student.getId(), course.getId());
+    }
+}
@@ -0,0 +1,61 @@
+package com.wb.edutask.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import java.time.LocalDate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * ScheduleIntervalIndex 테스트 클래스
+ *
+ * @author WB Development Team
+ * @version 1.0.0
+ * @since 2025-09-24
+ */
+class ScheduleIntervalIndexTest {
+
+    private static final LocalDate BASE = LocalDate.of(2025, 10, 1);
+
+    @Test
+    @DisplayName("양 끝을 포함해 겹치는 기간만 충돌로 판단하는지 테스트")
+    void overlaps_ShouldTreatBoundariesAsInclusive() {
+        // Given
+        ScheduleIntervalIndex index = new ScheduleIntervalIndex();
+        index.add(day(10), day(20));
+        index.add(day(40), day(50));
+
+        // When & Then
+        assertThat(index.overlaps(day(0), day(9))).isFalse();
+        assertThat(index.overlaps(day(0), day(10))).isTrue();
+        assertThat(index.overlaps(day(12), day(15))).isTrue();
+        assertThat(index.overlaps(day(20), day(25))).isTrue();
+        assertThat(index.overlaps(day(21), day(39))).isFalse();
+        assertThat(index.overlaps(day(5), day(60))).isTrue();
+        assertThat(index.overlaps(day(51), day(60))).isFalse();
+        assertThat(index.overlaps(null, day(60))).isFalse();
+    }
+
+    @Test
+    @DisplayName("겹치는 기간을 추가하면 하나의 구간으로 합쳐지는지 테스트")
+    void add_ShouldMergeOverlappingIntervals() {
+        // Given
+        ScheduleIntervalIndex index = new ScheduleIntervalIndex();
+        index.add(day(10), day(20));
+        index.add(day(30), day(40));
+        index.add(day(50), day(60));
+
+        // When - 앞의 두 구간에 걸치는 기간
+        index.add(day(15), day(35));
+
+        // Then
+        assertThat(index.intervals()).hasSize(2);
+        assertThat(index.intervals().firstEntry().getKey()).isEqualTo(day(10).toEpochDay());
+        assertThat(index.intervals().firstEntry().getValue()).isEqualTo(day(40).toEpochDay());
+        assertThat(index.overlaps(day(41), day(49))).isFalse();
+        assertThat(index.overlaps(day(41), day(50))).isTrue();
+    }
+
+    private static LocalDate day(int offset) {
+        return BASE.plusDays(offset);
+    }
+}
@@ -0,0 +1,178 @@
+package com.wb.edutask.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import java.time.LocalDate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import com.wb.edutask.dto.EnrollmentRequestDto;
+import com.wb.edutask.dto.EnrollmentResponseDto;
+import com.wb.edutask.dto.SeatHoldDto;
+import com.wb.edutask.entity.Course;
+import com.wb.edutask.entity.Member;
+import com.wb.edutask.enums.EnrollmentStatus;
+import com.wb.edutask.enums.MemberType;
+import com.wb.edutask.repository.CourseRepository;
+import com.wb.edutask.repository.EnrollmentRepository;
+import com.wb.edutask.repository.MemberRepository;
+
+/**
+ * SeatHoldService 테스트 클래스
+ * 좌석 선점 모드를 켜고 선점 → 확정/만료 흐름을 검증합니다 (정리 주기는 테스트 중간에 끼어들지 않도록 길게 설정)
+ *
+ * @author WB Development Team
+ * @version 1.0.0
+ * @since 2025-09-24
+ */
+@SpringBootTest(properties = {
+    "wb.enrollment.hold.enabled=true",
+    "wb.enrollment.hold.sweep-interval-ms=600000"
+})
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class SeatHoldServiceTest {
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    @Autowired
+    private SeatHoldService seatHoldService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private RedisConcurrencyService redisConcurrencyService;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    private Course course;
+    private Member student1;
+    private Member student2;
+    private Member student3;
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate.getConnectionFactory().getConnection().flushAll();
+
+        Member instructor = memberRepository.save(new Member(
+            "선점강사", "hold-instructor@test.com", "010-9200-0001", "Pass123", MemberType.INSTRUCTOR));
+        student1 = memberRepository.save(new Member(
+            "선점학생1", "hold-student1@test.com", "010-9200-0002", "Pass123", MemberType.STUDENT));
+        student2 = memberRepository.save(new Member(
+            "선점학생2", "hold-student2@test.com", "010-9200-0003", "Pass123", MemberType.STUDENT));
+        student3 = memberRepository.save(new Member(
+            "선점학생3", "hold-student3@test.com", "010-9200-0004", "Pass123", MemberType.STUDENT));
+        course = courseRepository.save(Course.builder()
+            .courseName("유료 강의")
+            .description("좌석 선점 검증용 유료 강의")
+            .instructor(instructor)
+            .maxStudents(2)
+            .price(50000)
+            .startDate(LocalDate.now().plusDays(7))
+            .endDate(LocalDate.now().plusDays(37))
+            .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        try {
+            stringRedisTemplate.getConnectionFactory().getConnection().flushAll();
+        } catch (Exception e) {
+            // Redis 연결 실패 시 무시
+        }
+    }
+
+    @Test
+    @DisplayName("선점한 좌석이 정원에 포함되고, 확정하면 수강신청으로 전환되는지 테스트")
+    void holdAndConfirm_ShouldReserveSeatUntilConfirmed() {
+        // Given - 두 학생이 정원 2석을 모두 선점
+        SeatHoldDto hold = enrollmentService.holdSeat(request(student1));
+        enrollmentService.holdSeat(request(student2));
+
+        // When & Then - 세 번째 학생은 선점 불가
+        assertThat(hold.getExpiresAt()).isNotNull();
+        assertThatThrownBy(() -> enrollmentService.holdSeat(request(student3)))
+            .isInstanceOf(RuntimeException.class)
+            .hasMessageContaining("정원");
+
+        // When - 첫 번째 학생 결제 확인
+        EnrollmentResponseDto enrollment = enrollmentService.confirmHold(request(student1));
+
+        // Then
+        assertThat(enrollment.getStatus()).isEqualTo(EnrollmentStatus.APPROVED);
+        assertThat(enrollmentRepository.countActiveEnrollmentsByCourse(course.getId())).isEqualTo(1);
+        assertThat(stringRedisTemplate.opsForHash().get("course:" + course.getId(),
+            redisConcurrencyService.getHashLayout().getCurrentField())).isEqualTo("1");
+        assertThatThrownBy(() -> enrollmentService.confirmHold(request(student1)))
+            .isInstanceOf(RuntimeException.class);
+    }
+
+    @Test
+    @DisplayName("만료된 선점은 좌석을 돌려주고 확정할 수 없으며 정리 스케줄러가 제거하는지 테스트")
+    void expiredHold_ShouldReturnSeatAndBeSwept() {
+        // Given - 두 좌석 선점 후 한 건을 만료 시각이 지난 상태로 변경
+        enrollmentService.holdSeat(request(student1));
+        enrollmentService.holdSeat(request(student2));
+        stringRedisTemplate.opsForZSet().add("course:" + course.getId() + SeatHoldService.HOLDS_KEY_SUFFIX,
+            student1.getId().toString(), System.currentTimeMillis() - 1000);
+
+        // When & Then - 만료된 좌석은 즉시 다른 학생이 선점 가능
+        assertThat(enrollmentService.holdSeat(request(student3)).getExpiresAt()).isNotNull();
+        assertThatThrownBy(() -> enrollmentService.confirmHold(request(student1)))
+            .isInstanceOf(RuntimeException.class)
+            .hasMessageContaining("만료");
+
+        // When - 정리 (확정 시도에서 이미 제거된 건 제외, 남은 만료 건 없음)
+        int swept = seatHoldService.sweepExpiredHolds();
+
+        // Then
+        assertThat(swept).isZero();
+        assertThat(stringRedisTemplate.opsForZSet().zCard(
+            "course:" + course.getId() + SeatHoldService.HOLDS_KEY_SUFFIX)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("정리 스케줄러가 만료된 선점만 제거하는지 테스트")
+    void sweepExpiredHolds_ShouldRemoveOnlyExpired() {
+        // Given
+        enrollmentService.holdSeat(request(student1));
+        enrollmentService.holdSeat(request(student2));
+        stringRedisTemplate.opsForZSet().add("course:" + course.getId() + SeatHoldService.HOLDS_KEY_SUFFIX,
+            student2.getId().toString(), System.currentTimeMillis() - 1000);
+
+        // When
+        int swept = seatHoldService.sweepExpiredHolds();
+
+        // Then
+        assertThat(swept).isEqualTo(1);
+        assertThat(seatHoldService.release(student2.getId(), course.getId())).isFalse();
+        assertThat(seatHoldService.release(student1.getId(), course.getId())).isTrue();
+    }
+
+    @Test
+    @DisplayName("선점 모드에서 유료 강의는 바로 수강신청할 수 없는지 테스트")
+    void enrollCourse_PaidCourseWithoutHold_ShouldFail() {
+        assertThatThrownBy(() -> enrollmentService.enrollCourse(request(student1)))
+            .isInstanceOf(RuntimeException.class)
+            .hasMessageContaining("좌석 선점");
+    }
+
+    private EnrollmentRequestDto request(Member student) {
+        return new EnrollmentRequestDto(student.getId(), course.getId());
+    }
+}
@@ -0,0 +1,140 @@
+package com.wb.edutask.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import java.time.LocalDate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import com.wb.edutask.dto.EnrollmentRequestDto;
+import com.wb.edutask.dto.EnrollmentResponseDto;
+import com.wb.edutask.dto.StudentEnrollmentSummaryDto;
+import com.wb.edutask.entity.Course;
+import com.wb.edutask.entity.Member;
+import com.wb.edutask.enums.EnrollmentStatus;
+import com.wb.edutask.enums.MemberType;
+import com.wb.edutask.repository.CourseRepository;
+import com.wb.edutask.repository.MemberRepository;
+
+/**
+ * StudentEnrollmentSummaryService 테스트 클래스
+ * 커밋 후 요약 갱신을 확인하기 위해 테스트 트랜잭션 없이 실행합니다
+ *
+ * @author WB Development Team
+ * @version 1.0.0
+ * @since 2025-09-24
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class StudentEnrollmentSummaryServiceTest {
+
+    @Autowired
+    private StudentEnrollmentSummaryService studentEnrollmentSummaryService;
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    private Member student;
+    private Course course;
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate.getConnectionFactory().getConnection().flushAll();
+
+        Member instructor = memberRepository.save(new Member(
+            "요약강사", "summary-instructor@test.com", "010-7000-0001", "Pass123", MemberType.INSTRUCTOR));
+        student = memberRepository.save(new Member(
+            "요약학생", "summary-student@test.com", "010-7000-0002", "Pass123", MemberType.STUDENT));
+        course = courseRepository.save(Course.builder()
+            .courseName("요약 강의")
+            .description("수강 요약 검증용 강의")
+            .instructor(instructor)
+            .maxStudents(30)
+            .price(10000)
+            .startDate(LocalDate.now().plusDays(7))
+            .endDate(LocalDate.now().plusDays(37))
+            .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        try {
+            stringRedisTemplate.getConnectionFactory().getConnection().flushAll();
+        } catch (Exception e) {
+            // Redis 연결 실패 시 무시
+        }
+    }
+
+    @Test
+    @DisplayName("요약이 없으면 DB에서 강의명/강사명까지 재구성해 적재하는지 테스트")
+    void getSummary_ShouldRebuildFromDatabaseOnMiss() {
+        // Given
+        enrollmentService.enrollCourse(new EnrollmentRequestDto(student.getId(), course.getId()));
+
+        // When
+        StudentEnrollmentSummaryDto summary = studentEnrollmentSummaryService.getSummary(student.getId());
+
+        // Then
+        assertThat(summary.getTotalCount()).isEqualTo(1);
+        assertThat(summary.getActiveCount()).isEqualTo(1);
+        StudentEnrollmentSummaryDto.Item item = summary.getEnrollments().get(0);
+        assertThat(item.getCourseName()).isEqualTo("요약 강의");
+        assertThat(item.getInstructorName()).isEqualTo("요약강사");
+        assertThat(item.getStatus()).isEqualTo(EnrollmentStatus.APPROVED);
+        assertThat(stringRedisTemplate.hasKey("student:" + student.getId() + ":enrollments")).isTrue();
+    }
+
+    @Test
+    @DisplayName("수강신청 취소가 커밋 후 요약을 무효화하고 다음 조회에 반영되는지 테스트")
+    void cancelEnrollment_ShouldInvalidateCachedSummary() {
+        // Given
+        EnrollmentResponseDto enrollment = enrollmentService.enrollCourse(
+            new EnrollmentRequestDto(student.getId(), course.getId()));
+        studentEnrollmentSummaryService.getSummary(student.getId());
+        String summaryKey = "student:" + student.getId() + ":enrollments";
+        assertThat(stringRedisTemplate.hasKey(summaryKey)).isTrue();
+
+        // When
+        enrollmentService.cancelEnrollment(enrollment.getId(), "일정 변경");
+
+        // Then - 요약은 삭제되고 버전이 올라가 진행 중인 재구성도 적재되지 않음
+        assertThat(stringRedisTemplate.hasKey(summaryKey)).isFalse();
+        assertThat(stringRedisTemplate.opsForValue().get(summaryKey + ":version")).isNotNull();
+
+        StudentEnrollmentSummaryDto summary = studentEnrollmentSummaryService.getSummary(student.getId());
+        assertThat(summary.getTotalCount()).isEqualTo(1);
+        assertThat(summary.getActiveCount()).isZero();
+        assertThat(summary.getEnrollments().get(0).getStatus()).isEqualTo(EnrollmentStatus.CANCELLED);
+    }
+
+    @Test
+    @DisplayName("전체 재구성 작업이 수강신청 테이블 기준으로 요약을 적재하는지 테스트")
+    void rebuildAll_ShouldLoadSummariesFromEnrollments() {
+        // Given - 요약이 없는 상태에서 수강신청 (이벤트 반영 대상 아님)
+        enrollmentService.enrollCourse(new EnrollmentRequestDto(student.getId(), course.getId()));
+        String summaryKey = "student:" + student.getId() + ":enrollments";
+        assertThat(stringRedisTemplate.hasKey(summaryKey)).isFalse();
+
+        // When
+        studentEnrollmentSummaryService.rebuildAll();
+
+        // Then
+        assertThat(stringRedisTemplate.opsForHash().size(summaryKey)).isEqualTo(2L); // 표식 필드 + 항목 1개
+        assertThat(stringRedisTemplate.getExpire(summaryKey)).isPositive();
+    }
+}
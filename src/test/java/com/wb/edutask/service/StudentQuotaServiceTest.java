@@ -0,0 +1,213 @@
+package com.wb.edutask.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import com.wb.edutask.dto.BulkEnrollmentRequestDto;
+import com.wb.edutask.dto.BulkEnrollmentResponseDto;
+import com.wb.edutask.dto.EnrollmentRequestDto;
+import com.wb.edutask.dto.EnrollmentResponseDto;
+import com.wb.edutask.entity.Course;
+import com.wb.edutask.entity.Member;
+import com.wb.edutask.enums.EnrollmentRejectionCode;
+import com.wb.edutask.enums.MemberType;
+import com.wb.edutask.exception.EnrollmentRejectedException;
+import com.wb.edutask.repository.CourseRepository;
+import com.wb.edutask.repository.EnrollmentRepository;
+import com.wb.edutask.repository.MemberRepository;
+
+/**
+ * StudentQuotaService 테스트 클래스
+ * 학생별 수강 한도를 켜고 Lua 스크립트의 한도 확인(좌석 선점 포함), 취소 시 감소, 롤백 시 복구, 스케줄러 보정,
+ * 여러 강의 수강신청의 강의별 커밋을 검증합니다
+ *
+ * @author WB Development Team
+ * @version 1.0.0
+ * @since 2025-09-24
+ */
+@SpringBootTest(properties = {
+    "wb.enrollment.student-quota.max-courses=2",
+    "wb.enrollment.hold.enabled=true"
+})
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class StudentQuotaServiceTest {
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    @Autowired
+    private StudentQuotaService studentQuotaService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Member student;
+    private Member instructor;
+    private Course course1;
+    private Course course2;
+    private Course course3;
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate.getConnectionFactory().getConnection().flushAll();
+
+        instructor = memberRepository.save(new Member(
+            "한도강사", "quota-instructor@test.com", "010-9600-0001", "Pass123", MemberType.INSTRUCTOR));
+        student = memberRepository.save(new Member(
+            "한도학생", "quota-student@test.com", "010-9600-0002", "Pass123", MemberType.STUDENT));
+        course1 = courseRepository.save(course(instructor, "수강 한도 강의 1"));
+        course2 = courseRepository.save(course(instructor, "수강 한도 강의 2"));
+        course3 = courseRepository.save(course(instructor, "수강 한도 강의 3"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        try {
+            stringRedisTemplate.getConnectionFactory().getConnection().flushAll();
+        } catch (Exception e) {
+            // Redis 연결 실패 시 무시
+        }
+    }
+
+    @Test
+    @DisplayName("수강 한도에 도달하면 거절되고 취소하면 다시 신청할 수 있는지 테스트")
+    void enrollCourse_WhenQuotaReached_ShouldRejectUntilCancelled() {
+        // Given
+        EnrollmentResponseDto first = enrollmentService.enrollCourse(request(course1));
+        enrollmentService.enrollCourse(request(course2));
+
+        // When & Then
+        assertThatThrownBy(() -> enrollmentService.enrollCourse(request(course3)))
+            .isInstanceOfSatisfying(EnrollmentRejectedException.class,
+                e -> assertThat(e.getCode()).isEqualTo(EnrollmentRejectionCode.STUDENT_QUOTA_EXCEEDED));
+        assertThat(enrolledCounter()).isEqualTo("2");
+
+        enrollmentService.cancelEnrollment(first.getId(), "수강 한도 테스트");
+        assertThat(enrolledCounter()).isEqualTo("1");
+
+        enrollmentService.enrollCourse(request(course3));
+        assertThat(enrolledCounter()).isEqualTo("2");
+    }
+
+    @Test
+    @DisplayName("좌석 선점도 수강 한도에 포함되고 선점을 해제하면 다시 신청할 수 있는지 테스트")
+    void enrollCourse_WhenHoldPending_ShouldCountHoldTowardQuota() {
+        // Given
+        enrollmentService.enrollCourse(request(course1));
+        enrollmentService.holdSeat(request(course2));
+
+        // When & Then
+        assertThatThrownBy(() -> enrollmentService.enrollCourse(request(course3)))
+            .isInstanceOfSatisfying(EnrollmentRejectedException.class,
+                e -> assertThat(e.getCode()).isEqualTo(EnrollmentRejectionCode.STUDENT_QUOTA_EXCEEDED));
+        assertThatThrownBy(() -> enrollmentService.holdSeat(request(course3)))
+            .isInstanceOfSatisfying(EnrollmentRejectedException.class,
+                e -> assertThat(e.getCode()).isEqualTo(EnrollmentRejectionCode.STUDENT_QUOTA_EXCEEDED));
+
+        enrollmentService.releaseHold(student.getId(), course2.getId());
+        enrollmentService.enrollCourse(request(course3));
+        assertThat(enrolledCounter()).isEqualTo("2");
+    }
+
+    @Test
+    @DisplayName("한도 안에서 늘린 카운터가 트랜잭션 롤백 시 되돌려지는지 테스트")
+    void tryReserve_WhenTransactionRolledBack_ShouldRestoreCounter() {
+        // Given
+        enrollmentService.enrollCourse(request(course1));
+
+        // When
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            assertThat(studentQuotaService.tryReserve(student.getId())).isTrue();
+            assertThat(enrolledCounter()).isEqualTo("2");
+            assertThat(studentQuotaService.tryReserve(student.getId())).isFalse();
+            status.setRollbackOnly();
+        });
+
+        // Then
+        assertThat(enrolledCounter()).isEqualTo("1");
+    }
+
+    @Test
+    @DisplayName("여러 강의 수강신청 중 일부가 실패해도 성공한 강의는 커밋되고 카운터가 DB와 같은지 테스트")
+    void enrollMultipleCourses_WhenOneFails_ShouldCommitOthers() {
+        // Given - 정원 1명이 이미 찬 강의를 장바구니 가운데에 넣음
+        Member other = memberRepository.save(new Member(
+            "한도학생2", "quota-student2@test.com", "010-9600-0003", "Pass123", MemberType.STUDENT));
+        Course full = course(instructor, "정원 1명 강의");
+        full.setMaxStudents(1);
+        full = courseRepository.save(full);
+        enrollmentService.enrollCourse(new EnrollmentRequestDto(other.getId(), full.getId()));
+
+        // When
+        BulkEnrollmentResponseDto response = enrollmentService.enrollMultipleCourses(
+            new BulkEnrollmentRequestDto(student.getId(), List.of(course1.getId(), full.getId(), course2.getId())));
+
+        // Then
+        assertThat(response.getSuccessCount()).isEqualTo(2);
+        assertThat(response.getFailedEnrollments()).hasSize(1);
+        assertThat(response.getFailedEnrollments().get(0).getCourseId()).isEqualTo(full.getId());
+        assertThat(enrollmentRepository.countApprovedEnrollmentsByStudent(student.getId())).isEqualTo(2);
+        assertThat(enrolledCounter()).isEqualTo("2");
+    }
+
+    @Test
+    @DisplayName("어긋난 학생 수강 카운터가 DB 기준으로 보정되는지 테스트")
+    void reconcile_ShouldCorrectDriftedCounter() {
+        // Given
+        enrollmentService.enrollCourse(request(course1));
+        stringRedisTemplate.opsForValue().set(StudentQuotaService.enrolledKey(student.getId()), "2");
+
+        // When
+        int corrected = studentQuotaService.reconcile();
+
+        // Then
+        assertThat(corrected).isEqualTo(1);
+        assertThat(enrolledCounter()).isEqualTo("1");
+        enrollmentService.enrollCourse(request(course2));
+    }
+
+    private Course course(Member instructor, String name) {
+        return Course.builder()
+            .courseName(name)
+            .description("학생별 수강 한도 검증용 강의")
+            .instructor(instructor)
+            .maxStudents(10)
+            .price(0)
+            .startDate(LocalDate.now().plusDays(7))
+            .endDate(LocalDate.now().plusDays(37))
+            .build();
+    }
+
+    private String enrolledCounter() {
+        return stringRedisTemplate.opsForValue().get(StudentQuotaService.enrolledKey(student.getId()));
+    }
+
+    private EnrollmentRequestDto request(Course course) {
+        return new EnrollmentRequestDto(student.getId(), course.getId());
+    }
+}
@@ -0,0 +1,152 @@
+package com.wb.edutask.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import java.time.LocalDate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import com.wb.edutask.dto.EnrollmentRequestDto;
+import com.wb.edutask.dto.WaitingRoomTicketDto;
+import com.wb.edutask.entity.Course;
+import com.wb.edutask.entity.Member;
+import com.wb.edutask.enums.CourseHashLayout;
+import com.wb.edutask.enums.MemberType;
+import com.wb.edutask.enums.WaitingRoomStatus;
+import com.wb.edutask.repository.CourseRepository;
+import com.wb.edutask.repository.MemberRepository;
+
+/**
+ * WaitingRoomService 테스트 클래스
+ * 강의별 입장 속도를 초당 1명, 버스트 1명으로 낮춰 대기열 동작을 확인합니다
+ *
+ * @author WB Development Team
+ * @version 1.0.0
+ * @since 2025-09-24
+ */
+@SpringBootTest(properties = {
+    "wb.waiting-room.enabled=true",
+    "wb.waiting-room.admission-rate-per-second=1",
+    "wb.waiting-room.burst=1"
+})
+@ActiveProfiles("test")
+@Transactional
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class WaitingRoomServiceTest {
+
+    @Autowired
+    private WaitingRoomService waitingRoomService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Autowired
+    private RedisConcurrencyService redisConcurrencyService;
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    private Course course;
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate.getConnectionFactory().getConnection().flushAll();
+
+        Member instructor = memberRepository.save(new Member(
+            "대기실강사", "waitroom-instructor@test.com", "010-6000-0001", "Pass123", MemberType.INSTRUCTOR));
+        course = courseRepository.save(Course.builder()
+            .courseName("대기실 강의")
+            .description("대기열 검증용 강의")
+            .instructor(instructor)
+            .maxStudents(30)
+            .price(10000)
+            .startDate(LocalDate.now().plusDays(7))
+            .endDate(LocalDate.now().plusDays(37))
+            .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        try {
+            stringRedisTemplate.getConnectionFactory().getConnection().flushAll();
+        } catch (Exception e) {
+            // Redis 연결 실패 시 무시
+        }
+    }
+
+    @Test
+    @DisplayName("버스트만큼 입장하고 나머지는 순번을 받아 대기하는지 테스트")
+    void join_ShouldAdmitBurstAndQueueRest() {
+        // When
+        WaitingRoomTicketDto first = waitingRoomService.join(course.getId(), 1L);
+        WaitingRoomTicketDto second = waitingRoomService.join(course.getId(), 2L);
+
+        // Then
+        assertThat(first.getStatus()).isEqualTo(WaitingRoomStatus.ADMITTED);
+        assertThat(second.getStatus()).isEqualTo(WaitingRoomStatus.WAITING);
+        assertThat(second.getPosition()).isEqualTo(1L);
+        assertThat(second.getRetryAfterSeconds()).isGreaterThan(0L);
+    }
+
+    @Test
+    @DisplayName("입장 허가가 없는 학생은 수강신청 단계에서 차단되는지 테스트")
+    void checkAdmitted_ShouldRejectWaitingStudent() {
+        // Given
+        waitingRoomService.join(course.getId(), 1L);
+        waitingRoomService.join(course.getId(), 2L);
+
+        // When & Then
+        waitingRoomService.checkAdmitted(course.getId(), 1L);
+        assertThatThrownBy(() -> waitingRoomService.checkAdmitted(course.getId(), 2L))
+            .isInstanceOf(RuntimeException.class)
+            .hasMessageContaining("대기열");
+    }
+
+    @Test
+    @DisplayName("수강신청이 거절돼도 입장 허가를 반납해 다음 대기자에게 넘기는지 테스트")
+    void enrollCourse_WhenRejected_ShouldReleaseAdmission() {
+        // Given - 입장 허가를 받았지만 수강신청 검증에서 거절되는 학생 (존재하지 않는 회원)
+        Long unknownStudentId = 999999L;
+        waitingRoomService.join(course.getId(), unknownStudentId);
+        waitingRoomService.checkAdmitted(course.getId(), unknownStudentId);
+
+        // When
+        assertThatThrownBy(() -> enrollmentService.enrollCourse(
+                new EnrollmentRequestDto(unknownStudentId, course.getId())))
+            .isInstanceOf(RuntimeException.class);
+
+        // Then - 입장 허가가 반납되어 같은 허가로 다시 들어올 수 없음
+        assertThatThrownBy(() -> waitingRoomService.checkAdmitted(course.getId(), unknownStudentId))
+            .isInstanceOf(RuntimeException.class)
+            .hasMessageContaining("대기열");
+    }
+
+    @Test
+    @DisplayName("정원이 찬 강의는 대기 없이 마감을 반환하는지 테스트")
+    void join_ShouldReturnSoldOutWhenNoSeatsLeft() {
+        // Given
+        String courseKey = "course:" + course.getId();
+        CourseHashLayout layout = redisConcurrencyService.getHashLayout();
+        stringRedisTemplate.opsForHash().put(courseKey, layout.getCurrentField(), "30");
+        stringRedisTemplate.opsForHash().put(courseKey, layout.getMaxField(), "30");
+
+        // When
+        WaitingRoomTicketDto ticket = waitingRoomService.join(course.getId(), 1L);
+
+        // Then
+        assertThat(ticket.getStatus()).isEqualTo(WaitingRoomStatus.SOLD_OUT);
+    }
+}
@@ -0,0 +1,192 @@
+package com.wb.edutask.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import java.time.LocalDate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import com.wb.edutask.dto.EnrollmentRequestDto;
+import com.wb.edutask.dto.EnrollmentResponseDto;
+import com.wb.edutask.entity.Course;
+import com.wb.edutask.entity.Member;
+import com.wb.edutask.enums.MemberType;
+import com.wb.edutask.exception.WaitlistedException;
+import com.wb.edutask.repository.CourseRepository;
+import com.wb.edutask.repository.EnrollmentRepository;
+import com.wb.edutask.repository.MemberRepository;
+
+/**
+ * WaitlistService 테스트 클래스
+ * 대기열을 켜고 정원 초과 시 등록, 취소/선점 만료 시 자동 승급을 검증합니다
+ * (무료 강의라 선점 모드를 켜도 바로 수강신청하며, 정리 주기는 테스트 중간에 끼어들지 않도록 길게 설정)
+ *
+ * @author WB Development Team
+ * @version 1.0.0
+ * @since 2025-09-24
+ */
+@SpringBootTest(properties = {
+    "wb.enrollment.waitlist.enabled=true",
+    "wb.enrollment.hold.enabled=true",
+    "wb.enrollment.hold.sweep-interval-ms=600000"
+})
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class WaitlistServiceTest {
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    @Autowired
+    private WaitlistService waitlistService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private RedisConcurrencyService redisConcurrencyService;
+
+    @Autowired
+    private SeatHoldService seatHoldService;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    private Course course;
+    private Member student1;
+    private Member student2;
+    private Member student3;
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate.getConnectionFactory().getConnection().flushAll();
+
+        Member instructor = memberRepository.save(new Member(
+            "대기강사", "waitlist-instructor@test.com", "010-9300-0001", "Pass123", MemberType.INSTRUCTOR));
+        student1 = memberRepository.save(new Member(
+            "대기학생1", "waitlist-student1@test.com", "010-9300-0002", "Pass123", MemberType.STUDENT));
+        student2 = memberRepository.save(new Member(
+            "대기학생2", "waitlist-student2@test.com", "010-9300-0003", "Pass123", MemberType.STUDENT));
+        student3 = memberRepository.save(new Member(
+            "대기학생3", "waitlist-student3@test.com", "010-9300-0004", "Pass123", MemberType.STUDENT));
+        course = courseRepository.save(Course.builder()
+            .courseName("대기열 강의")
+            .description("대기열 승급 검증용 강의")
+            .instructor(instructor)
+            .maxStudents(1)
+            .price(0)
+            .startDate(LocalDate.now().plusDays(7))
+            .endDate(LocalDate.now().plusDays(37))
+            .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        try {
+            stringRedisTemplate.getConnectionFactory().getConnection().flushAll();
+        } catch (Exception e) {
+            // Redis 연결 실패 시 무시
+        }
+    }
+
+    @Test
+    @DisplayName("정원 초과 시 대기열에 한 번만 등록되고 재시도는 같은 순번을 받는지 테스트")
+    void enrollCourse_WhenFull_ShouldJoinWaitlistOnce() {
+        // Given
+        enrollmentService.enrollCourse(request(student1));
+
+        // When & Then
+        assertThatThrownBy(() -> enrollmentService.enrollCourse(request(student2)))
+            .isInstanceOfSatisfying(WaitlistedException.class, e -> assertThat(e.getPosition()).isEqualTo(1));
+        assertThatThrownBy(() -> enrollmentService.enrollCourse(request(student2)))
+            .isInstanceOfSatisfying(WaitlistedException.class, e -> assertThat(e.getPosition()).isEqualTo(1));
+        assertThatThrownBy(() -> enrollmentService.enrollCourse(request(student3)))
+            .isInstanceOfSatisfying(WaitlistedException.class, e -> assertThat(e.getPosition()).isEqualTo(2));
+        assertThat(waitlistService.getPosition(course.getId(), student3.getId())).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("취소로 좌석이 나면 첫 번째 대기자가 승급되어 수강신청이 저장되는지 테스트")
+    void cancelEnrollment_ShouldPromoteNextWaitlistedStudent() throws InterruptedException {
+        // Given
+        EnrollmentResponseDto enrollment = enrollmentService.enrollCourse(request(student1));
+        assertThatThrownBy(() -> enrollmentService.enrollCourse(request(student2)))
+            .isInstanceOf(WaitlistedException.class);
+        assertThatThrownBy(() -> enrollmentService.enrollCourse(request(student3)))
+            .isInstanceOf(WaitlistedException.class);
+
+        // When
+        enrollmentService.cancelEnrollment(enrollment.getId(), "대기열 승급 테스트");
+
+        // Then - 승급 저장은 비동기이므로 잠시 대기
+        for (int i = 0; i < 50 && !enrollmentRepository.existsByStudentAndCourse(student2, course); i++) {
+            Thread.sleep(100);
+        }
+        assertThat(enrollmentRepository.existsByStudentAndCourse(student2, course)).isTrue();
+        assertThat(waitlistService.getPosition(course.getId(), student2.getId())).isNull();
+        assertThat(waitlistService.getPosition(course.getId(), student3.getId())).isEqualTo(1);
+        assertThat(stringRedisTemplate.opsForHash().get("course:" + course.getId(),
+            redisConcurrencyService.getHashLayout().getCurrentField())).isEqualTo("1");
+    }
+
+    @Test
+    @DisplayName("빈 좌석이 있어도 대기자가 있으면 새 신청은 대기자를 앞지르지 못하는지 테스트")
+    void enrollCourse_WhenWaitlistNotEmpty_ShouldNotJumpQueue() {
+        // Given - 정원이 찬 뒤 대기자가 생기고, 승급 없이 좌석 하나가 빈 상황
+        enrollmentService.enrollCourse(request(student1));
+        assertThatThrownBy(() -> enrollmentService.enrollCourse(request(student2)))
+            .isInstanceOf(WaitlistedException.class);
+        stringRedisTemplate.opsForHash().increment("course:" + course.getId(),
+            redisConcurrencyService.getHashLayout().getCurrentField(), -1);
+
+        // When & Then - 새 신청은 대기열 뒤로, 맨 앞 대기자는 빈 좌석을 가져감
+        assertThatThrownBy(() -> enrollmentService.enrollCourse(request(student3)))
+            .isInstanceOfSatisfying(WaitlistedException.class, e -> assertThat(e.getPosition()).isEqualTo(2));
+        enrollmentService.enrollCourse(request(student2));
+        assertThat(enrollmentRepository.existsByStudentAndCourse(student2, course)).isTrue();
+        assertThat(waitlistService.getPosition(course.getId(), student2.getId())).isNull();
+        assertThat(waitlistService.getPosition(course.getId(), student3.getId())).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("좌석 선점이 만료되어 정리되면 대기자가 승급되는지 테스트")
+    void sweepExpiredHolds_ShouldPromoteNextWaitlistedStudent() throws InterruptedException {
+        // Given - 곧 만료될 선점이 유일한 좌석을 차지하고 있어 신청이 대기열에 등록됨
+        String courseKey = "course:" + course.getId();
+        redisConcurrencyService.syncCourseToRedisIfNeeded(course.getId());
+        stringRedisTemplate.opsForZSet().add(courseKey + SeatHoldService.HOLDS_KEY_SUFFIX, "999999",
+            System.currentTimeMillis() + 300);
+        stringRedisTemplate.opsForSet().add("course:holds:index", course.getId().toString());
+        assertThatThrownBy(() -> enrollmentService.enrollCourse(request(student2)))
+            .isInstanceOf(WaitlistedException.class);
+
+        // When
+        Thread.sleep(500);
+        assertThat(seatHoldService.sweepExpiredHolds()).isEqualTo(1);
+
+        // Then - 승급 저장은 비동기이므로 잠시 대기
+        for (int i = 0; i < 50 && !enrollmentRepository.existsByStudentAndCourse(student2, course); i++) {
+            Thread.sleep(100);
+        }
+        assertThat(enrollmentRepository.existsByStudentAndCourse(student2, course)).isTrue();
+        assertThat(waitlistService.getPosition(course.getId(), student2.getId())).isNull();
+        assertThat(stringRedisTemplate.opsForHash().get(courseKey,
+            redisConcurrencyService.getHashLayout().getCurrentField())).isEqualTo("1");
+    }
+
+    private EnrollmentRequestDto request(Member student) {
+        return new EnrollmentRequestDto(student.getId(), course.getId());
+    }
+}